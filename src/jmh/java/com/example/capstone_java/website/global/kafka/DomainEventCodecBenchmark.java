@@ -0,0 +1,108 @@
+package com.example.capstone_java.website.global.kafka;
+
+import com.example.capstone_java.website.domain.event.DiscoveredUrlsEvent;
+import com.example.capstone_java.website.domain.event.UrlCrawlEvent;
+import com.example.capstone_java.website.domain.vo.CrawlBudget;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 이벤트 직렬화 비교 (Jackson vs 바이너리 코덱)
+ *
+ * - UrlCrawlEvent: 가장 많이 발행되는 단건 이벤트
+ * - DiscoveredUrlsEvent: 같은 호스트 URL 100개 묶음
+ * 셋업 시 메시지 크기(bytes)를 출력
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainEventCodecBenchmark {
+
+    // JsonSerializer/JsonDeserializer가 내부에서 쓰는 것과 같은 설정
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    private UrlCrawlEvent crawlEvent;
+    private DiscoveredUrlsEvent discoveredEvent;
+    private byte[] crawlJson;
+    private byte[] crawlBinary;
+    private byte[] discoveredJson;
+    private byte[] discoveredBinary;
+
+    @Setup
+    public void setUp() throws Exception {
+        WebsiteId websiteId = WebsiteId.generate();
+        String parentUrl = "https://www.example.go.kr/portal/board/notice/list.do";
+        CrawlBudget budget = new CrawlBudget(System.currentTimeMillis() + 3_600_000L, 4, false);
+
+        crawlEvent = UrlCrawlEvent.createChildCrawl(websiteId,
+                "https://www.example.go.kr/portal/board/notice/view.do?nttId=12345", parentUrl, 2, budget);
+
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            urls.add("https://www.example.go.kr/portal/board/notice/view.do?nttId=" + (12000 + i * 7));
+        }
+        discoveredEvent = DiscoveredUrlsEvent.create(websiteId, parentUrl, urls, 2, budget);
+
+        crawlJson = objectMapper.writeValueAsBytes(crawlEvent);
+        crawlBinary = DomainEventCodec.encode(crawlEvent);
+        discoveredJson = objectMapper.writeValueAsBytes(discoveredEvent);
+        discoveredBinary = DomainEventCodec.encode(discoveredEvent);
+
+        System.out.printf("%nUrlCrawlEvent: json=%dB, binary=%dB%n", crawlJson.length, crawlBinary.length);
+        System.out.printf("DiscoveredUrlsEvent(100): json=%dB, binary=%dB%n", discoveredJson.length, discoveredBinary.length);
+    }
+
+    @Benchmark
+    public byte[] crawlEncodeJson() throws Exception {
+        return objectMapper.writeValueAsBytes(crawlEvent);
+    }
+
+    @Benchmark
+    public byte[] crawlEncodeBinary() {
+        return DomainEventCodec.encode(crawlEvent);
+    }
+
+    @Benchmark
+    public Object crawlDecodeJson() throws Exception {
+        return objectMapper.readValue(crawlJson, UrlCrawlEvent.class);
+    }
+
+    @Benchmark
+    public Object crawlDecodeBinary() {
+        return DomainEventCodec.decode(crawlBinary);
+    }
+
+    @Benchmark
+    public byte[] discoveredEncodeJson() throws Exception {
+        return objectMapper.writeValueAsBytes(discoveredEvent);
+    }
+
+    @Benchmark
+    public byte[] discoveredEncodeBinary() {
+        return DomainEventCodec.encode(discoveredEvent);
+    }
+
+    @Benchmark
+    public Object discoveredDecodeJson() throws Exception {
+        return objectMapper.readValue(discoveredJson, DiscoveredUrlsEvent.class);
+    }
+
+    @Benchmark
+    public Object discoveredDecodeBinary() {
+        return DomainEventCodec.decode(discoveredBinary);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.capstone_java.website.global.sse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SSE 전송 부하 벤치마크 (연결 10,000개 시뮬레이션)
+ *
+ * - enqueueFanOut: 이벤트 수신 스레드가 전체 연결에 큐잉하는 비용 (수신 스레드가 블로킹되지 않는지)
+ * - deliverFanOut: 느린 연결(slowRatio)이 섞여 있을 때 정상 연결 전체에 전달되기까지의 시간
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SseDispatchBenchmark {
+
+    @Param({"10000"})
+    int connections;
+
+    @Param({"0.01"})
+    double slowRatio;
+
+    @Param({"4"})
+    int dispatchThreads;
+
+    private SseDispatcher dispatcher;
+    private List<SseConnection> fastConnections;
+    private List<SseConnection> allConnections;
+    private volatile CountDownLatch delivered;
+    private long sequence;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        dispatcher = new SseDispatcher(dispatchThreads);
+        fastConnections = new ArrayList<>();
+        allConnections = new ArrayList<>();
+
+        int slowEvery = slowRatio > 0 ? (int) Math.round(1 / slowRatio) : Integer.MAX_VALUE;
+        for (int i = 0; i < connections; i++) {
+            boolean slow = i % slowEvery == 0;
+            SseConnection connection = new SseConnection("client-" + i, new SimulatedEmitter(slow), 32);
+            allConnections.add(connection);
+            if (!slow) {
+                fastConnections.add(connection);
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        allConnections.forEach(SseConnection::close);
+        dispatcher.shutdown();
+    }
+
+    @Benchmark
+    public void enqueueFanOut() {
+        SseFrame frame = progress();
+        for (SseConnection connection : allConnections) {
+            dispatcher.enqueue(connection, frame);
+        }
+    }
+
+    @Benchmark
+    public void deliverFanOut() throws InterruptedException {
+        delivered = new CountDownLatch(fastConnections.size());
+        SseFrame frame = SseFrame.of(new SseEventMessage(++sequence, "bench", "complete-check", "{}", false));
+        for (SseConnection connection : allConnections) {
+            dispatcher.enqueue(connection, frame);
+        }
+        if (!delivered.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("30초 안에 전달되지 않은 연결: " + delivered.getCount());
+        }
+    }
+
+    private SseFrame progress() {
+        return SseFrame.of(new SseEventMessage(++sequence, "bench", "progress",
+                "{\"stage\":\"ANALYZING\",\"percentage\":" + (sequence % 100) + "}", false));
+    }
+
+    /**
+     * 네트워크 쓰기를 흉내내는 에미터 (느린 연결은 전송마다 5ms 지연)
+     */
+    private final class SimulatedEmitter extends SseEmitter {
+        private final boolean slow;
+
+        private SimulatedEmitter(boolean slow) {
+            super(0L);
+            this.slow = slow;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            builder.build();
+            if (slow) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+                return;
+            }
+            CountDownLatch latch = delivered;
+            if (latch != null) {
+                latch.countDown();
+            }
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.capstone_java.website.adapter.in.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import org.hibernate.validator.constraints.URL;
 
+import java.util.Set;
+
 @Schema(description = "크롤링 시작 요청 정보")
 public record CrawlStartRequest(
         @Schema(
@@ -26,7 +30,32 @@ public record CrawlStartRequest(
                 regexp = "^(http|https)://.*",
                 message = "URL은 http:// 또는 https://로 시작해야 합니다."
         )
-        String mainUrl
+        String mainUrl,
+
+        @Schema(
+                description = "URL 중복 판단 시 무시할 사이트별 쿼리 파라미터 (세션 id, utm_* 등은 기본 제거)",
+                example = "[\"menuNo\", \"searchWrd\"]",
+                requiredMode = Schema.RequiredMode.NOT_REQUIRED
+        )
+        Set<String> ignoredQueryParams,
+
+        @Schema(
+                description = "템플릿 샘플링 모드: 같은 모양의 페이지(경로 + DOM 구조)마다 AI 분석할 대표 페이지 수. "
+                        + "비우거나 0이면 모든 페이지 분석, 보고서 통계는 템플릿 크기로 가중한 추정치",
+                example = "3",
+                requiredMode = Schema.RequiredMode.NOT_REQUIRED
+        )
+        @Min(value = 0, message = "템플릿당 분석 페이지 수는 0 이상이어야 합니다.")
+        @Max(value = 100, message = "템플릿당 분석 페이지 수는 100 이하여야 합니다.")
+        Integer samplesPerTemplate,
+
+        @Schema(
+                description = "증분 재크롤링 모드: 같은 사이트의 이전 완료 분석이 있으면 "
+                        + "바뀌지 않은 페이지(ETag/Last-Modified/본문 해시 기준)는 렌더링과 AI 분석 없이 이전 결과 재사용",
+                example = "true",
+                requiredMode = Schema.RequiredMode.NOT_REQUIRED
+        )
+        Boolean incremental
 ) {
     //::todo:: 생성 시에 mainUrl에 아무값도 없으면 예외
 }
@@ -6,6 +6,7 @@ public record CrawledUrlResponse(
         int depth,
         String status,
         java.time.LocalDateTime discoveredAt,
-        java.time.LocalDateTime crawledAt
+        java.time.LocalDateTime crawledAt,
+        String duplicateOf  // DUPLICATE 상태일 때 분석 결과를 공유하는 페이지
 ) {
 }
@@ -0,0 +1,84 @@
+package com.example.capstone_java.website.adapter.in.dto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화된 최종 보고서 본문
+ *
+ * 완료 후 변경되지 않는 보고서를 gzip 바이트로 한 번만 만들어 두고,
+ * 조회 시에는 재직렬화 없이 그대로 내려보낸다.
+ *
+ * @param gzipBody gzip 압축된 JSON 본문
+ * @param contentHash 압축 전 JSON의 SHA-256 (ETag로 사용)
+ * @param rawSize 압축 전 JSON 크기 (bytes)
+ */
+public record FinalReportContent(byte[] gzipBody, String contentHash, int rawSize) {
+
+    public static FinalReportContent of(byte[] json) {
+        return new FinalReportContent(gzip(json), sha256(json), json.length);
+    }
+
+    public String etag() {
+        // gzip/비압축 두 표현이 같은 태그를 공유하므로 weak ETag 사용
+        return "W/\"" + contentHash + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더와 weak 비교
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("\"" + contentHash + "\"")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * gzip을 받지 않는 클라이언트용 원본 JSON
+     */
+    public byte[] decompress() {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipBody))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("최종 보고서 압축 해제 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(512, json.length / 6));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("최종 보고서 압축 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String sha256(byte[] json) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원 JVM", e);
+        }
+    }
+}
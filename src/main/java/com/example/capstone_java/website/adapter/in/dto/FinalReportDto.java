@@ -14,7 +14,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Schema(description = "최종 분석 결과 보고서 (event: complete)")
 public class FinalReportDto {
     @Schema(description = "분석 대상 웹사이트 URL", example = "https://www.example.com")
@@ -44,6 +44,66 @@ public class FinalReportDto {
     @Schema(description = "개선 권장 사항 목록")
     private List<String> recommendations;
 
+    @Schema(description = "크롤링 중 탐지되어 상한/샘플링이 적용된 URL 공간 (페이지네이션, 달력, 반복 경로 등)")
+    private List<CrawlTrapDto> crawlTraps;
+
+    @Schema(description = "템플릿 샘플링 범위 (샘플링 모드가 아니면 null)")
+    private SamplingCoverageDto samplingCoverage;
+
+    @Schema(description = "내용이 거의 같아 AI 분석을 생략하고 다른 페이지의 결과를 공유한 페이지")
+    private List<DuplicatePageDto> duplicatePages;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "탐지된 크롤러 트랩")
+    public static class CrawlTrapDto {
+        @Schema(description = "URL 템플릿 (숫자는 {n}, 긴 값은 {v})", example = "/board/list.do?page={n}")
+        private String template;
+
+        @Schema(description = "탐지 사유 (UNBOUNDED_GROWTH, RECURSIVE_PATH)", example = "UNBOUNDED_GROWTH")
+        private String reason;
+
+        @Schema(description = "이 템플릿으로 발견된 새 URL 수", example = "840")
+        private long discoveredUrls;
+
+        @Schema(description = "크롤링하지 않은 URL 수", example = "765")
+        private long skippedUrls;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "유사 중복 페이지 (통계에는 duplicateOf 페이지의 결과로 포함됨)")
+    public static class DuplicatePageDto {
+        @Schema(description = "분석을 생략한 페이지 URL", example = "https://www.example.com/board/view.do?id=12&print=Y")
+        private String url;
+
+        @Schema(description = "결과를 공유하는 분석 페이지 URL", example = "https://www.example.com/board/view.do?id=12")
+        private String duplicateOf;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "템플릿 샘플링 범위 - 통계는 대표 페이지 결과를 템플릿 크기만큼 가중해 추정한 값")
+    public static class SamplingCoverageDto {
+        @Schema(description = "발견된 페이지 템플릿 수 (경로 모양 + DOM 구조)", example = "12")
+        private int templateCount;
+
+        @Schema(description = "실제 AI 분석한 대표 페이지 수", example = "36")
+        private long analyzedPages;
+
+        @Schema(description = "통계가 대표하는 크롤링 페이지 수", example = "1480")
+        private long representedPages;
+
+        @Schema(description = "분석 비율 (analyzedPages / representedPages)", example = "0.024")
+        private double coverageRatio;
+    }
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
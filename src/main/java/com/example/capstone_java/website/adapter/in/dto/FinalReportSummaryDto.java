@@ -0,0 +1,70 @@
+package com.example.capstone_java.website.adapter.in.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 최종 보고서 요약 DTO (페이지별 상세 보고서 제외)
+ *
+ * 프론트엔드가 대시보드를 먼저 그릴 수 있도록 통계만 담는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "최종 분석 결과 요약 (페이지별 보고서 제외)")
+public class FinalReportSummaryDto {
+    @Schema(description = "분석 대상 웹사이트 URL", example = "https://www.example.com")
+    private String websiteUrl;
+
+    @Schema(description = "클라이언트 ID", example = "client_12345")
+    private String clientId;
+
+    @Schema(description = "총 분석된 페이지 수", example = "100")
+    private int totalAnalyzedUrls;
+
+    @Schema(description = "전체 평균 접근성 점수", example = "85.5")
+    private Double averageScore;
+
+    @Schema(description = "전체 접근성 등급", example = "Good")
+    private String overallLevel;
+
+    @Schema(description = "심각도 수준", example = "Low")
+    private String severityLevel;
+
+    @Schema(description = "상세 통계 정보")
+    private FinalReportDto.StatisticsDto statistics;
+
+    @Schema(description = "개선 권장 사항 목록")
+    private List<String> recommendations;
+
+    @Schema(description = "크롤링 중 탐지된 크롤러 트랩")
+    private List<FinalReportDto.CrawlTrapDto> crawlTraps;
+
+    @Schema(description = "템플릿 샘플링 범위 (샘플링 모드가 아니면 null)")
+    private FinalReportDto.SamplingCoverageDto samplingCoverage;
+
+    @Schema(description = "분석 결과를 공유한 유사 중복 페이지")
+    private List<FinalReportDto.DuplicatePageDto> duplicatePages;
+
+    public static FinalReportSummaryDto from(FinalReportDto report) {
+        return FinalReportSummaryDto.builder()
+                .websiteUrl(report.getWebsiteUrl())
+                .clientId(report.getClientId())
+                .totalAnalyzedUrls(report.getTotalAnalyzedUrls())
+                .averageScore(report.getAverageScore())
+                .overallLevel(report.getOverallLevel())
+                .severityLevel(report.getSeverityLevel())
+                .statistics(report.getStatistics())
+                .recommendations(report.getRecommendations())
+                .crawlTraps(report.getCrawlTraps())
+                .samplingCoverage(report.getSamplingCoverage())
+                .duplicatePages(report.getDuplicatePages())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.capstone_java.website.adapter.in.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -7,11 +8,14 @@ import lombok.NoArgsConstructor;
 
 /**
  * URL별 상세 분석 보고서 DTO
+ *
+ * AI 분석 결과 수신 시점에 한 번 계산되어 accessibility_report.detail_report 컬럼에 저장된다.
+ * textReport는 저장하지 않고 조회 시 필요할 때만 렌더링한다.
  */
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class UrlDetailReportDto {
 
     // === 기본 정보 ===
@@ -45,7 +49,8 @@ public class UrlDetailReportDto {
     private String accessibilityLevel;      // 접근성 수준
     private String severityLevel;           // 심각도 수준
 
-    // === 텍스트 보고서 ===
+    // === 텍스트 보고서 (조회 시 렌더링, 저장하지 않음) ===
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String textReport;              // 생성된 텍스트 보고서
 
     /**
@@ -0,0 +1,76 @@
+package com.example.capstone_java.website.adapter.in.dto;
+
+import java.util.function.Function;
+
+/**
+ * 페이지별 상세 보고서 조회 조건
+ *
+ * - band: 최종 점수 구간 (통계의 excellent/good/fair/poor 구간과 동일, DB에서 필터링)
+ * - category + level: 상세 항목 등급 필터 (예: fontSize 항목이 Low인 페이지)
+ *
+ * @param band 점수 구간 (null이면 전체)
+ * @param category 상세 항목 (null이면 전체)
+ * @param level 상세 항목 등급 (High/Medium/Low)
+ */
+public record UrlReportFilter(ScoreBand band, ReportCategory category, String level) {
+
+    public static UrlReportFilter none() {
+        return new UrlReportFilter(null, null, null);
+    }
+
+    public Double minScore() {
+        return band != null ? band.minScore : null;
+    }
+
+    public Double maxScore() {
+        return band != null ? band.maxScore : null;
+    }
+
+    /**
+     * DB에서 거를 수 없는 항목 등급 조건 검사
+     */
+    public boolean matches(UrlDetailReportDto detail) {
+        if (category == null || level == null) {
+            return true;
+        }
+        UrlDetailReportDto.DetailScoreDto score = category.extractor.apply(detail);
+        return score != null && level.equalsIgnoreCase(score.getLevel());
+    }
+
+    /**
+     * 최종 점수 구간 (하한 포함, 상한 미포함)
+     */
+    public enum ScoreBand {
+        EXCELLENT(80.0, null),
+        GOOD(60.0, 80.0),
+        FAIR(40.0, 60.0),
+        POOR(null, 40.0);
+
+        private final Double minScore;
+        private final Double maxScore;
+
+        ScoreBand(Double minScore, Double maxScore) {
+            this.minScore = minScore;
+            this.maxScore = maxScore;
+        }
+    }
+
+    /**
+     * 상세 점수 항목
+     */
+    public enum ReportCategory {
+        BUTTON_DETECTION(UrlDetailReportDto::getButtonDetection),
+        BUTTON_VISUAL_FEEDBACK(UrlDetailReportDto::getButtonVisualFeedback),
+        BUTTON_SIZE(UrlDetailReportDto::getButtonSize),
+        BUTTON_CONTRAST(UrlDetailReportDto::getButtonContrast),
+        FONT_SIZE(UrlDetailReportDto::getFontSize),
+        OVERALL_CONTRAST(UrlDetailReportDto::getOverallContrast),
+        KOREAN_RATIO(UrlDetailReportDto::getKoreanRatio);
+
+        private final Function<UrlDetailReportDto, UrlDetailReportDto.DetailScoreDto> extractor;
+
+        ReportCategory(Function<UrlDetailReportDto, UrlDetailReportDto.DetailScoreDto> extractor) {
+            this.extractor = extractor;
+        }
+    }
+}
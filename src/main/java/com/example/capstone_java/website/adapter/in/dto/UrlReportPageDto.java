@@ -0,0 +1,21 @@
+package com.example.capstone_java.website.adapter.in.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 페이지별 상세 보고서 커서 페이지 응답
+ */
+@Schema(description = "페이지별 상세 보고서 목록 (커서 기반 페이지네이션)")
+public record UrlReportPageDto(
+        @Schema(description = "이번 페이지의 보고서 목록")
+        List<UrlDetailReportDto> items,
+
+        @Schema(description = "다음 페이지 요청 시 cursor 값 (마지막 페이지면 null)", example = "1532")
+        Long nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
+) {
+}
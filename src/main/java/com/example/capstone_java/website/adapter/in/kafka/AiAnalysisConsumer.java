@@ -2,6 +2,7 @@ package com.example.capstone_java.website.adapter.in.kafka;
 
 import com.example.capstone_java.website.adapter.out.AiAnalysisAdapter;
 import com.example.capstone_java.website.application.port.out.RequestAiAnalysisPort;
+import com.example.capstone_java.website.application.service.CrawlCancellationGuard;
 import com.example.capstone_java.website.domain.event.UrlAnalysisRequestEvent;
 import com.example.capstone_java.website.global.common.KafkaGroups;
 import com.example.capstone_java.website.global.common.KafkaTopics;
@@ -35,6 +36,7 @@ import org.springframework.stereotype.Component;
 public class AiAnalysisConsumer {
 
     private final RequestAiAnalysisPort requestAiAnalysisPort;
+    private final CrawlCancellationGuard crawlCancellationGuard;
 
     @RetryableTopic(
         attempts = "3",
@@ -53,6 +55,13 @@ public class AiAnalysisConsumer {
         @Header(KafkaHeaders.OFFSET) Long offset,
         Acknowledgment acknowledgment
     ) {
+        // 취소된 웹사이트는 AI 서버에 요청하지 않음
+        if (crawlCancellationGuard.isCancelled(event.websiteId())) {
+            log.info("취소된 웹사이트 AI 분석 요청 스킵 - WebsiteId: {}, URL: {}", event.websiteId().getId(), event.url());
+            acknowledgment.acknowledge();
+            return;
+        }
+
         try {
             log.info("AI 분석 요청 처리 시작 - Topic: {}, WebsiteId: {}, URL: {}, Partition: {}, Offset: {}",
                     topic, event.websiteId().getId(), event.url(), partition, offset);
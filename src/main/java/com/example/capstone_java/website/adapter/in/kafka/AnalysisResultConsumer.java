@@ -3,6 +3,7 @@ package com.example.capstone_java.website.adapter.in.kafka;
 import com.example.capstone_java.website.adapter.in.dto.AiAnalysisResponse;
 import com.example.capstone_java.website.application.port.out.GetWebsitePort;
 import com.example.capstone_java.website.application.port.out.SaveAccessibilityReportPort;
+import com.example.capstone_java.website.application.service.ReportGenerationService;
 import com.example.capstone_java.website.domain.entity.AccessibilityReport;
 import com.example.capstone_java.website.domain.entity.Website;
 import com.example.capstone_java.website.domain.event.AnalysisCompletedEvent;
@@ -32,8 +33,9 @@ import java.util.UUID;
  * 주요 책임:
  * 1. AnalysisCallbackController가 발행한 AI 분석 결과 수신
  * 2. 거대한 JSON 결과를 도메인 객체로 변환
- * 3. AccessibilityReport로 DB에 저장
- * 4. 트랜잭션으로 데이터 일관성 보장
+ * 3. URL별 상세 보고서를 이 시점에 한 번 계산하여 함께 저장
+ * 4. AccessibilityReport로 DB에 저장
+ * 5. 트랜잭션으로 데이터 일관성 보장
  *
  * 병렬 처리:
  * - concurrency = "3": EC2 Large 최적화 (DB 쓰기)
@@ -48,6 +50,7 @@ public class AnalysisResultConsumer {
     private final GetWebsitePort getWebsitePort;
     private final ObjectMapper objectMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final ReportGenerationService reportGenerationService;
 
     @RetryableTopic(
         attempts = "3",
@@ -97,6 +100,8 @@ public class AnalysisResultConsumer {
             AccessibilityReport report = AccessibilityReport.create(
                     websiteId, url, analysisResult, aiResponse, taskId
             );
+            // 최종 보고서 조립 시 다시 파싱하지 않도록 상세 보고서를 미리 계산
+            report = report.withDetailReport(reportGenerationService.generateUrlDetailReport(report));
             AccessibilityReport savedReport = saveAccessibilityReportPort.save(report);
 
             log.info("AI 분석 결과 저장 완료 (커밋 대기 중) - Report ID: {}, WebsiteId: {}, URL: {}, Score: {}",
@@ -7,9 +7,11 @@ import com.example.capstone_java.website.domain.event.ExtractionStartedEvent;
 import com.example.capstone_java.website.domain.event.UrlCrawlEvent;
 import com.example.capstone_java.website.global.common.KafkaGroups;
 import com.example.capstone_java.website.global.common.KafkaTopics;
-import com.example.capstone_java.website.application.event.EventDispatcher;
+import com.example.capstone_java.website.application.service.AnalysisProgressService;
+import com.example.capstone_java.website.application.service.FrontierSeeder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
 import org.springframework.kafka.support.Acknowledgment;
@@ -18,6 +20,7 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Component
@@ -26,7 +29,10 @@ public class ExtractionEventConsumer {
 
     private final GetWebsitePort getWebsitePort;
     private final SaveWebsitePort saveWebsitePort;
-    private final EventDispatcher eventDispatcher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final AnalysisProgressService analysisProgressService;
+    private final FrontierSeeder frontierSeeder;
 
     @RetryableTopic(
         attempts = "1",
@@ -54,6 +60,13 @@ public class ExtractionEventConsumer {
             Website website = getWebsitePort.findById(event.websiteId())
                     .orElseThrow(() -> new IllegalStateException("Website 도메인을 찾을 수 없습니다"));
 
+            // 시작 전에 취소된 분석: 에러가 아니므로 재시도/DLT 없이 커밋
+            if (website.isCancelled()) {
+                log.info("시작 전에 취소된 웹사이트 - 크롤링 시작 생략: WebsiteId={}", event.websiteId().getId());
+                acknowledgment.acknowledge();
+                return;
+            }
+
             // 크롤링 시작 가능 여부 검증 혹시라고 pending이 아니라 시작중인 url일 수 있으니
             if (!website.canStartCrawling()) {
                 throw new IllegalStateException("크롤링을 시작할 수 없는 상태입니다: " + website.getExtractionStatus());
@@ -70,14 +83,31 @@ public class ExtractionEventConsumer {
              */
             UrlCrawlEvent rootCrawlEvent = UrlCrawlEvent.createRootCrawl(
                     website.getWebsiteId(),
-                    website.getMainUrl()
+                    website.getMainUrl(),
+                    website.crawlBudget(analysisProgressService.analyzesAfterCrawl(website))
             );
 
             // 상태를 PROGRESS로 변경 (크롤링 시작)
+            // 조회 후 그 사이 취소됐으면 PENDING이 아니므로 변경되지 않음
+            // 루트 크롤 이벤트는 상태 변경과 같은 트랜잭션에서 아웃박스에 저장 → 커밋 후 릴레이가 전송
             Website inProgressWebsite = website.startExtraction();
-            saveWebsitePort.save(inProgressWebsite);
+            Boolean started = transactionTemplate.execute(status -> {
+                if (!saveWebsitePort.changeStatus(inProgressWebsite)) {
+                    return false;
+                }
+                // 진행 카운터 초기화 (이후 진행률/완료 판정은 카운터 기준, 루트 크롤 이벤트 전송 전에 준비)
+                analysisProgressService.startTracking(inProgressWebsite);
+                eventPublisher.publishEvent(rootCrawlEvent);
+                return true;
+            });
+            if (!Boolean.TRUE.equals(started)) {
+                log.info("시작 직전에 상태 변경됨(취소 등) - 크롤링 시작 생략: WebsiteId={}", event.websiteId().getId());
+                acknowledgment.acknowledge();
+                return;
+            }
 
-            eventDispatcher.dispatch(rootCrawlEvent);
+            // 루트 렌더링과 동시에 sitemap / 이전 크롤링 그래프로 프론티어 채우기 (백그라운드)
+            frontierSeeder.seedAsync(inProgressWebsite);
             acknowledgment.acknowledge();
 
             log.info("루트 URL 크롤링 이벤트 발행 완료 - WebsiteId: {}, MaxDepth: {}",
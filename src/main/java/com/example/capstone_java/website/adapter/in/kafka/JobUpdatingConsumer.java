@@ -4,14 +4,24 @@ import com.example.capstone_java.website.application.port.out.CrawlCachePort;
 import com.example.capstone_java.website.application.port.out.GetWebsitePort;
 import com.example.capstone_java.website.application.port.out.SaveCrawledUrlPort;
 import com.example.capstone_java.website.application.port.out.SaveWebsitePort;
+import com.example.capstone_java.website.application.service.ContentTypePrefilter;
+import com.example.capstone_java.website.application.service.CrawlCancellationGuard;
+import com.example.capstone_java.website.application.service.RedirectResolver;
+import com.example.capstone_java.website.application.service.CrawlTrapDetector;
+import com.example.capstone_java.website.application.service.FetchFailureGuard;
 import com.example.capstone_java.website.domain.entity.CrawledUrl;
 import com.example.capstone_java.website.domain.entity.Website;
 import com.example.capstone_java.website.domain.event.DiscoveredUrlsEvent;
 import com.example.capstone_java.website.domain.event.UrlCrawlEvent;
 import com.example.capstone_java.website.domain.event.UrlAnalysisRequestEvent;
+import com.example.capstone_java.website.domain.vo.CrawlBudget;
+import com.example.capstone_java.website.domain.vo.CrawlPriority;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 import com.example.capstone_java.website.global.common.KafkaGroups;
 import com.example.capstone_java.website.global.common.KafkaTopics;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -23,12 +33,17 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -38,7 +53,7 @@ import java.util.stream.Collectors;
  * 1. 배치 단위로 발견된 URL들을 수신
  * 2. 데이터베이스에서 중복 URL 체크 (배치 쿼리)
  * 3. 새로운 URL만 DB에 저장하고 크롤링 이벤트 발행
- * 4. 트랜잭션으로 데이터 일관성 보장
+ * 4. 트랜잭션으로 데이터 일관성 보장 (콘텐츠 타입 확인 같은 네트워크 요청은 트랜잭션 밖에서)
  */
 @Slf4j
 @Component
@@ -51,6 +66,18 @@ public class JobUpdatingConsumer {
     private final SaveWebsitePort saveWebsitePort;
     private final ApplicationEventPublisher eventPublisher;
     private final com.example.capstone_java.website.application.service.AnalysisProgressService analysisProgressService;
+    private final CrawlTrapDetector crawlTrapDetector;
+    private final FetchFailureGuard fetchFailureGuard;
+    private final ContentTypePrefilter contentTypePrefilter;
+    private final RedirectResolver redirectResolver;
+    private final CrawlCancellationGuard crawlCancellationGuard;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한도 초과로 크롤링 완료 전환을 이미 시도한 웹사이트 (노드당 한 번만 DB 조회)
+    private final Cache<WebsiteId, Boolean> budgetClosedWebsites = CacheBuilder.newBuilder()
+            .expireAfterWrite(3, TimeUnit.HOURS)
+            .build();
 
     @org.springframework.beans.factory.annotation.Value("${app.callback.base-url:http://localhost:8080}")
     private String callbackBaseUrl;
@@ -65,7 +92,6 @@ public class JobUpdatingConsumer {
         groupId = KafkaGroups.JOB_UPDATING_GROUP,
         concurrency = "3"  // m7i-flex.large: DB+Redis 배치 I/O
     )
-    @Transactional
     public void handleDiscoveredUrls(
         @Payload DiscoveredUrlsEvent event,
         @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
@@ -77,6 +103,23 @@ public class JobUpdatingConsumer {
             log.info("발견된 URL 배치 처리 시작 - Topic: {}, WebsiteId: {}, URL 개수: {}, Depth: {}, Partition: {}, Offset: {}",
                     topic, event.websiteId().getId(), event.urlCount(), event.depth(), partition, offset);
 
+            // 이벤트에 실린 한도(종료 시각 / 깊이)를 넘은 배치: DB/Redis 조회 없이 버림
+            String exceeded = exceededBudget(event);
+            if (exceeded != null) {
+                meterRegistry.counter("crawl.events.dropped", "event", "discovered-urls", "reason", exceeded).increment();
+                log.debug("크롤링 한도 초과 배치 스킵 - WebsiteId: {}, 사유: {}", event.websiteId().getId(), exceeded);
+                markCrawlingCompleteOnce(event.websiteId());
+                acknowledgment.acknowledge();
+                return;
+            }
+
+            // 취소된 웹사이트: DB 조회 없이 무시
+            if (crawlCancellationGuard.isCancelled(event.websiteId())) {
+                log.info("취소된 웹사이트의 URL 발견 이벤트입니다. 무시합니다. - WebsiteId: {}", event.websiteId().getId());
+                acknowledgment.acknowledge();
+                return;
+            }
+
             // Website 존재 여부 확인 (삭제된 데이터면 무시)
             var websiteOptional = getWebsitePort.findById(event.websiteId());
             if (websiteOptional.isEmpty()) {
@@ -87,6 +130,11 @@ public class JobUpdatingConsumer {
             }
 
             Website website = websiteOptional.get();
+            if (website.isCancelled()) {
+                log.info("취소된 웹사이트의 URL 발견 이벤트입니다. 무시합니다. - WebsiteId: {}", event.websiteId().getId());
+                acknowledgment.acknowledge();
+                return;
+            }
 
             // 도메인 로직: 깊이 확인
             // jobupdating에서 다시 이벤트를 받아 확인해야 되기 때문에 크롤링하기 전에 먼저 검사해야한다
@@ -99,8 +147,8 @@ public class JobUpdatingConsumer {
                 return;
             }
 
-            // 도메인 로직: 전체 URL 수 제한 확인 (DB에서 실제 누적 개수 조회)
-            long currentTotalUrls = saveCrawledUrlPort.countByWebsiteId(event.websiteId());
+            // 도메인 로직: 전체 URL 수 제한 확인 (진행 카운터의 누적 행 수, 없으면 DB로 재조정)
+            long currentTotalUrls = analysisProgressService.currentCounts(event.websiteId()).crawled();
             if (website.hasReachedCrawlLimits(currentTotalUrls)) {
                 log.info("크롤링 URL 수 제한 도달. 처리 중단 - WebsiteId: {}, 현재 URL 수: {}, 최대: {}",
                         event.websiteId().getId(), currentTotalUrls, website.getCrawlConfig().maxTotalUrls());
@@ -122,18 +170,25 @@ public class JobUpdatingConsumer {
             // 도메인이 직접 URL 필터링 (진짜 DDD 방식)
             List<String> validUrls = website.filterValidUrls(event.discoveredUrls());
 
+            // 리다이렉트 맵: 렌더링으로 확인된 리다이렉트 URL은 최종 URL로 바꿔서 중복 체크
+            validUrls = redirectResolver.resolveDiscovered(website, validUrls);
+
             // 인프라 레이어 작업: DB 중복 체크 (도메인에서 할 수 없는 작업)
-            List<String> newUrls = filterNewUrlsFromCache(validUrls, event.websiteId());
+            List<String> unseenUrls = filterNewUrlsFromCache(validUrls, event.websiteId());
 
-            if (newUrls.isEmpty()) {
-                log.info("모든 URL이 이미 발견됨. 새로운 작업 없음 - WebsiteId: {}", event.websiteId().getId());
+            // 네거티브 캐시: 최근 실패한 URL / 차단기가 열린 호스트의 URL은 대기열에 올리지 않음
+            List<String> reachableUrls = fetchFailureGuard.rejectKnownBad(unseenUrls);
+
+            if (reachableUrls.isEmpty()) {
+                log.info("새로 크롤링할 URL 없음 (이미 발견됨 / 실패 기록) - WebsiteId: {}", event.websiteId().getId());
                 checkAndMarkCrawlingComplete(event.websiteId());
                 acknowledgment.acknowledge();
                 return;
             }
 
             // maxTotalUrls 제한 적용: 현재 개수 + 새로 추가할 개수가 제한을 초과하면 잘라냄
-            long currentTotal = saveCrawledUrlPort.countByWebsiteId(event.websiteId());
+            // 잘라낼 URL까지 확인 요청을 보내지 않도록 콘텐츠 타입 사전 필터보다 먼저 적용
+            long currentTotal = currentTotalUrls;
             int maxAllowed = (int) (website.getCrawlConfig().maxTotalUrls() - currentTotal);
 
             if (maxAllowed <= 0) {
@@ -144,36 +199,84 @@ public class JobUpdatingConsumer {
                 return;
             }
 
-            if (newUrls.size() > maxAllowed) {
-                newUrls = newUrls.subList(0, maxAllowed);
+            if (reachableUrls.size() > maxAllowed) {
+                // 잘라낼 때는 중요한 URL(짧은 경로, 페이지네이션 아님)부터 남김
+                int childDepth = event.depth() + 1;
+                reachableUrls = reachableUrls.stream()
+                    .sorted(Comparator.comparing(url -> CrawlPriority.of(url, childDepth, 0)))
+                    .limit(maxAllowed)
+                    .collect(Collectors.toList());
                 log.info("URL 수 제한으로 {}개만 추가 - WebsiteId: {}", maxAllowed, event.websiteId().getId());
             }
 
-            // 새로운 CrawledUrl 엔티티들을 배치로 생성 및 저장
-            List<CrawledUrl> crawledUrls = newUrls.stream()
-                .map(url -> CrawledUrl.discovered(event.websiteId(), url, event.parentUrl(), event.depth() + 1))
-                .collect(Collectors.toList());
+            // 콘텐츠 타입 사전 필터: HTML이 아닌 URL 제외, 리다이렉트는 최종 URL로 바꿔 다시 중복 체크
+            // 네트워크 요청이므로 트랜잭션 밖에서 수행 (확인하는 동안 DB 커넥션을 잡지 않도록)
+            List<String> candidateUrls = prefilterContentType(website, reachableUrls);
 
-            saveCrawledUrlPort.saveAll(crawledUrls);
-            log.info("새로운 URL {} 개를 DB에 저장 완료", newUrls.size());
+            if (candidateUrls.isEmpty()) {
+                log.info("새로 크롤링할 URL 없음 (HTML 아님) - WebsiteId: {}", event.websiteId().getId());
+                checkAndMarkCrawlingComplete(event.websiteId());
+                acknowledgment.acknowledge();
+                return;
+            }
 
-            // SSE로 크롤링 진행 상황 실시간 알림 (저장된 개수 전송)
-            analysisProgressService.notifyCrawlingProgress(event.websiteId());
+            // 트랩 탐지 / 저장 / 이벤트 발행만 하나의 트랜잭션으로 (이벤트는 커밋 후 전송)
+            transactionTemplate.executeWithoutResult(status -> enqueue(event, website, candidateUrls, currentTotal));
 
-            // 크롤링 이벤트들 생성 및 발행 (트랜잭션 커밋 후 처리됨)
-            List<UrlCrawlEvent> crawlEvents = newUrls.stream()
-                .map(url -> UrlCrawlEvent.createChildCrawl(
-                    event.websiteId(),
-                    url,
-                    event.parentUrl(),
-                    event.depth() + 1
-                ))
-                .collect(Collectors.toList());
+            // 모든 처리 완료 후 마지막에 한 번만 acknowledge (메시지 처리 완료를 Kafka에 알림)
+            acknowledgment.acknowledge();
+
+        } catch (Exception e) {
+            log.error("발견된 URL 배치 처리 실패 (재시도 예정) - WebsiteId: {}, URL 개수: {}, Error: {}",
+                    event.websiteId().getId(), event.urlCount(), e.getMessage(), e);
+            throw e;  // acknowledge 없이 throw → Kafka가 메시지 재시도
+        }
+    }
+
+    /**
+     * 트랩 탐지 후 새 URL 저장 + 크롤링/분석 이벤트 발행 (트랜잭션 안에서 호출)
+     */
+    private void enqueue(DiscoveredUrlsEvent event, Website website, List<String> candidateUrls, long currentTotal) {
+        // 트랩 탐지: 템플릿별 누적 수가 상한을 넘는 URL(페이지네이션, 달력, 반복 경로)은 샘플링/제외
+        // 실제로 저장할 URL만 템플릿 누적 수에 반영되도록 잘라낸 뒤 마지막에 적용
+        List<String> newUrls = crawlTrapDetector.admit(event.websiteId(), batchId(event), candidateUrls);
+        if (newUrls.isEmpty()) {
+            log.info("트랩 필터 후 새로 크롤링할 URL 없음 - WebsiteId: {}", event.websiteId().getId());
+            checkAndMarkCrawlingComplete(event.websiteId());
+            return;
+        }
+
+        // 새로운 CrawledUrl 엔티티들을 배치로 생성 및 저장
+        List<CrawledUrl> crawledUrls = newUrls.stream()
+            .map(url -> CrawledUrl.discovered(event.websiteId(), url, event.parentUrl(), event.depth() + 1))
+            .collect(Collectors.toList());
+
+        saveCrawledUrlPort.saveAll(crawledUrls);
+        log.info("새로운 URL {} 개를 DB에 저장 완료", newUrls.size());
+
+        // 템플릿 샘플링 / 유사 중복 제거 / 증분 재크롤링: 발견 시점에는 분석 요청하지 않고 크롤링 후 요청 (CrawlExecutionService)
+        boolean requestAnalysis = !analysisProgressService.analyzesAfterCrawl(website);
+
+        // 진행 카운터 증가 + SSE 크롤링 진행 상황 알림 (트랜잭션 커밋 후)
+        analysisProgressService.onUrlsDiscovered(event.websiteId(), newUrls.size());
+
+        // 크롤링 이벤트들 생성 및 발행 (트랜잭션 커밋 후 처리됨, 한도는 이전 버전 메시지도 채우도록 Website 기준으로 다시 계산)
+        CrawlBudget budget = website.crawlBudget(!requestAnalysis);
+        List<UrlCrawlEvent> crawlEvents = newUrls.stream()
+            .map(url -> UrlCrawlEvent.createChildCrawl(
+                event.websiteId(),
+                url,
+                event.parentUrl(),
+                event.depth() + 1,
+                budget
+            ))
+            .collect(Collectors.toList());
 
-            // 크롤링 이벤트 발행
-            crawlEvents.forEach(eventPublisher::publishEvent);
+        // 크롤링 이벤트 발행
+        crawlEvents.forEach(eventPublisher::publishEvent);
 
-            // AI 분석 이벤트들 생성 및 발행 (각 URL마다 AI 분석 요청)
+        // AI 분석 이벤트들 생성 및 발행 (각 URL마다 AI 분석 요청)
+        if (requestAnalysis) {
             String callbackUrl = callbackBaseUrl + "/api/analysis/callback";
             List<UrlAnalysisRequestEvent> analysisEvents = newUrls.stream()
                 .map(url -> UrlAnalysisRequestEvent.create(
@@ -187,27 +290,34 @@ public class JobUpdatingConsumer {
             // AI 분석 이벤트 발행
             analysisEvents.forEach(eventPublisher::publishEvent);
             log.info("AI 분석 요청 이벤트 {} 개 발행 완료", analysisEvents.size());
+        }
 
-            log.info("발견된 URL 배치 처리 완료 - WebsiteId: {}, 처리된 새 URL: {}/{}",
-                    event.websiteId().getId(), newUrls.size(), event.urlCount());
-
-            // 크롤링 완료 체크: 새로운 URL이 없거나 maxTotalUrls 도달 시
-            // 주의: 저장 후 다시 조회하여 정확한 개수 확인
-            long updatedTotal = saveCrawledUrlPort.countByWebsiteId(event.websiteId());
-            if (newUrls.isEmpty() || updatedTotal >= website.getCrawlConfig().maxTotalUrls()) {
-                checkAndMarkCrawlingComplete(event.websiteId());
-                log.info("크롤링 완료 조건 만족 - WebsiteId: {}, 현재 URL 수: {}, 최대: {}",
-                        event.websiteId().getId(), updatedTotal, website.getCrawlConfig().maxTotalUrls());
-            }
+        log.info("발견된 URL 배치 처리 완료 - WebsiteId: {}, 처리된 새 URL: {}/{}",
+                event.websiteId().getId(), newUrls.size(), event.urlCount());
 
-            // 모든 처리 완료 후 마지막에 한 번만 acknowledge (메시지 처리 완료를 Kafka에 알림)
-            acknowledgment.acknowledge();
+        // 크롤링 완료 체크: 새로운 URL이 없거나 maxTotalUrls 도달 시
+        // 카운터는 커밋 후 증가하므로 이번 배치 개수를 더해 판단
+        long updatedTotal = currentTotal + newUrls.size();
+        if (newUrls.isEmpty() || updatedTotal >= website.getCrawlConfig().maxTotalUrls()) {
+            checkAndMarkCrawlingComplete(event.websiteId());
+            log.info("크롤링 완료 조건 만족 - WebsiteId: {}, 현재 URL 수: {}, 최대: {}",
+                    event.websiteId().getId(), updatedTotal, website.getCrawlConfig().maxTotalUrls());
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("발견된 URL 배치 처리 실패 (재시도 예정) - WebsiteId: {}, URL 개수: {}, Error: {}",
-                    event.websiteId().getId(), event.urlCount(), e.getMessage(), e);
-            throw e;  // acknowledge 없이 throw → Kafka가 메시지 재시도
+    /**
+     * 브라우저 렌더링 전에 HTML 페이지만 남김
+     * 원래 URL은 이미 캐시에 기록되었으므로 같은 링크는 다시 확인하지 않고, 최종 URL만 새로 중복 체크
+     */
+    private List<String> prefilterContentType(Website website, List<String> urls) {
+        ContentTypePrefilter.Result result = contentTypePrefilter.filter(website, urls);
+        if (result.redirectTargets().isEmpty()) {
+            return result.pages();
         }
+
+        List<String> pages = new ArrayList<>(result.pages());
+        pages.addAll(filterNewUrlsFromCache(result.redirectTargets(), website.getWebsiteId()));
+        return pages;
     }
 
     /**
@@ -244,6 +354,36 @@ public class JobUpdatingConsumer {
         return finalNewUrls;
     }
 
+    /**
+     * @return 넘은 한도 (deadline / depth), 한도 안이면 null
+     */
+    private String exceededBudget(DiscoveredUrlsEvent event) {
+        if (event.budget().isExpired()) {
+            return "deadline";
+        }
+        if (!event.budget().allowsDepth(event.depth() + 1)) {
+            return "depth";
+        }
+        return null;
+    }
+
+    /**
+     * 배치 식별자 - 재시도/재전달된 같은 이벤트는 같은 값 (retry 토픽을 거치면 오프셋이 바뀌므로 이벤트 내용으로 만듦)
+     */
+    private static String batchId(DiscoveredUrlsEvent event) {
+        String identity = event.parentUrl() + "|" + event.depth() + "|" + event.eventOccurredAt();
+        return UUID.nameUUIDFromBytes(identity.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * 한도 초과 배치마다 DB를 읽지 않도록 크롤링 완료 전환은 웹사이트별로 한 번만 시도
+     */
+    private void markCrawlingCompleteOnce(WebsiteId websiteId) {
+        if (budgetClosedWebsites.asMap().putIfAbsent(websiteId, Boolean.TRUE) == null) {
+            checkAndMarkCrawlingComplete(websiteId);
+        }
+    }
+
     /**
      * 크롤링 완료 여부 체크 및 Website 상태 변경
      *
@@ -269,7 +409,10 @@ public class JobUpdatingConsumer {
             // PROGRESS 상태면 ANALYZING으로 변경 (크롤링 완료, AI 분석 시작)
             if (website.isInProgress()) {
                 Website analyzingWebsite = website.markAnalyzing();
-                saveWebsitePort.save(analyzingWebsite);
+                if (!saveWebsitePort.changeStatus(analyzingWebsite)) {
+                    log.info("상태가 이미 변경됨(취소 등) - ANALYZING 전환 생략: WebsiteId={}", websiteId.getId());
+                    return;
+                }
                 log.info("✅ 크롤링 완료! Website 상태를 ANALYZING으로 변경 - WebsiteId: {}", websiteId.getId());
 
                 // SSE로 ANALYZING 단계 시작 알림 (CRAWLING → ANALYZING)
@@ -1,45 +1,67 @@
 package com.example.capstone_java.website.adapter.in.kafka;
 
-import com.example.capstone_java.website.application.service.CrawlExecutionService;
+import com.example.capstone_java.website.application.service.CrawlCancellationGuard;
+import com.example.capstone_java.website.application.service.ExpiredCrawlReleaser;
+import com.example.capstone_java.website.application.service.FairCrawlScheduler;
 import com.example.capstone_java.website.domain.event.UrlCrawlEvent;
 import com.example.capstone_java.website.global.common.KafkaGroups;
 import com.example.capstone_java.website.global.common.KafkaTopics;
-import com.microsoft.playwright.PlaywrightException;
-import com.microsoft.playwright.TimeoutError;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.retry.annotation.Backoff;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * URL 크롤링 이벤트 수신
+ *
+ * 리스너 스레드는 FairCrawlScheduler에 작업을 넘기기만 하고 바로 다음 레코드를 받음
+ * - 커밋: 크롤링이 끝난 레코드부터 비동기 ack (crawlListenerContainerFactory의 asyncAcks가 순서를 맞춰 커밋)
+ * - 실패: 워커 스레드에서 DLT로 직접 전송 후 ack (비동기 처리라 @RetryableTopic 경로를 타지 않음)
+ * - 역압: 스케줄러 대기 작업이 상한에 닿으면 컨테이너 일시 정지, 절반 아래로 줄면 재개
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class UrlCrawlEventConsumer {
 
-    private final CrawlExecutionService crawlExecutionService;
+    static final String LISTENER_ID = "url-crawl-listener";
+    private static final String DLT_TOPIC = KafkaTopics.URL_CRAWL_EVENTS + ".dlt";
 
+    private final FairCrawlScheduler fairCrawlScheduler;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final CrawlCancellationGuard crawlCancellationGuard;
+    private final ExpiredCrawlReleaser expiredCrawlReleaser;
+    private final MeterRegistry meterRegistry;
+
+    // 웹사이트별 파티션이라 큰 사이트 뒤의 작은 사이트 이벤트까지 읽어 들일 수 있도록 넉넉하게 둠
+    @Value("${app.crawl.fair.max-buffered:5000}")
+    private int maxBuffered;
+
+    // 크롤링 실패는 handleFailure가 DLT로 직접 보내므로 리스너는 예외를 던지지 않음
+    // 남겨 두는 이유: .dlt 토픽 생성 + 메서드에 닿기 전 실패(역직렬화 오류 등)를 DLT로 보내기 위함
     @RetryableTopic(
             attempts = "1",
-            backoff = @Backoff(delay = 1000, multiplier = 2.0),
-            dltTopicSuffix = ".dlt",
-            // [중요] 아래 예외들이 발생하면 재시도하지 말고 즉시 포기(DLT로 직행)해라!
-            exclude = {
-                    PlaywrightException.class, // Playwright 관련 모든 에러 (브라우저 크래시, 객체 손상 등)
-                    TimeoutError.class, // Playwright 타임아웃 (느린 페이지, 무응답 등)
-                    IllegalArgumentException.class, // 잘못된 URL 등
-                    NullPointerException.class // 코드 버그 등
-            }
+            dltTopicSuffix = ".dlt"
     )
     @KafkaListener(
+        id = LISTENER_ID,
+        idIsGroup = false,
         topics = KafkaTopics.URL_CRAWL_EVENTS,
         groupId = KafkaGroups.URL_PROCESSING_GROUP,
-        concurrency = "4"  // Playwright 브라우저 풀 크기와 동일
+        containerFactory = "crawlListenerContainerFactory",
+        concurrency = "2"  // 수신은 큐 적재만 하므로 적게, 실제 동시 크롤링 수는 스케줄러 워커 수
     )
     public void handleUrlCrawlEvent(
         @Payload UrlCrawlEvent event,
@@ -48,28 +70,87 @@ public class UrlCrawlEventConsumer {
         @Header(KafkaHeaders.OFFSET) Long offset,
         Acknowledgment acknowledgment
     ) {
-        try {
-            log.info("URL 크롤링 이벤트 수신 - Topic: {}, WebsiteId: {}, URL: {}, Depth: {}, Partition: {}, Offset: {}",
-                    topic, event.websiteId().getId(), event.url(), event.depth(), partition, offset);
+        log.info("URL 크롤링 이벤트 수신 - Topic: {}, WebsiteId: {}, URL: {}, Depth: {}, Partition: {}, Offset: {}",
+                topic, event.websiteId().getId(), event.url(), event.depth(), partition, offset);
 
-            // 도메인 로직 중심의 크롤링 실행
-            crawlExecutionService.executeCrawl(event);
+        // 크롤링 시간 한도가 지난 하위 URL은 DB/Redis 조회 없이 바로 커밋 (밀린 대기열을 수신 속도로 비움)
+        // 분석 자리를 잡아둔 URL(크롤링 후 분석 모드)은 FAILED 저장 + 자리 반납을 모아서 처리하고 저장 후 커밋 (ExpiredCrawlReleaser)
+        if (!event.isRoot() && event.budget().isExpired()) {
+            meterRegistry.counter("crawl.events.dropped", "event", "url-crawl", "reason", "deadline").increment();
+            log.debug("크롤링 시간 한도 초과 이벤트 스킵 - URL: {}", event.url());
+            if (event.budget().reservesAnalysis()) {
+                expiredCrawlReleaser.release(event, acknowledgment::acknowledge);
+            } else {
+                acknowledgment.acknowledge();
+            }
+            return;
+        }
 
-            // 수동 커밋
+        // 취소된 웹사이트의 이벤트는 스케줄러에 올리지 않고 바로 커밋
+        if (crawlCancellationGuard.isCancelled(event.websiteId())) {
+            log.debug("취소된 웹사이트 크롤링 이벤트 스킵 - URL: {}", event.url());
             acknowledgment.acknowledge();
+            return;
+        }
+
+        fairCrawlScheduler.submit(
+                event,
+                () -> {
+                    acknowledgment.acknowledge();
+                    log.debug("URL 크롤링 이벤트 처리 완료 - URL: {}, Depth: {}", event.url(), event.depth());
+                },
+                e -> handleFailure(event, acknowledgment, e)
+        );
 
-            log.debug("URL 크롤링 이벤트 처리 완료 - URL: {}, Depth: {}", event.url(), event.depth());
+        if (fairCrawlScheduler.pending() >= maxBuffered) {
+            pauseListener();
+        }
+    }
 
-        } catch (IllegalArgumentException e) {
+    /**
+     * 대기 작업이 줄었으면 일시 정지한 컨테이너 재개
+     */
+    @Scheduled(fixedDelay = 500)
+    public void resumeIfDrained() {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        if (container == null || !container.isPauseRequested()) {
+            return;
+        }
+        if (fairCrawlScheduler.pending() <= maxBuffered / 2) {
+            container.resume();
+            log.info("크롤링 이벤트 수신 재개 - 대기 작업: {}개, 활성 웹사이트: {}개",
+                    fairCrawlScheduler.pending(), fairCrawlScheduler.activeWebsites());
+        }
+    }
+
+    private void pauseListener() {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        if (container != null && !container.isPauseRequested()) {
+            container.pause();
+            log.info("크롤링 이벤트 수신 일시 정지 - 대기 작업: {}개, 활성 웹사이트: {}개",
+                    fairCrawlScheduler.pending(), fairCrawlScheduler.activeWebsites());
+        }
+    }
+
+    private void handleFailure(UrlCrawlEvent event, Acknowledgment acknowledgment, Exception e) {
+        if (e instanceof IllegalArgumentException) {
             log.error("잘못된 URL 크롤링 요청 - WebsiteId: {}, URL: {}, Error: {}",
                     event.websiteId().getId(), event.url(), e.getMessage());
-            // 잘못된 요청은 재시도하지 않고 바로 커밋
+            // 잘못된 요청은 DLT 없이 바로 커밋
             acknowledgment.acknowledge();
-        } catch (Exception e) {
-            log.error("URL 크롤링 처리 실패 (재시도 예정) - WebsiteId: {}, URL: {}, Depth: {}, Error: {}",
-                    event.websiteId().getId(), event.url(), event.depth(), e.getMessage(), e);
-            // @RetryableTopic이 재시도 처리
-            throw e;
+            return;
         }
+
+        log.error("URL 크롤링 처리 실패 (DLT 전송) - WebsiteId: {}, URL: {}, Depth: {}, Error: {}",
+                event.websiteId().getId(), event.url(), event.depth(), e.getMessage(), e);
+        kafkaTemplate.send(DLT_TOPIC, event.getPartitionKey(), event)
+                .whenComplete((result, sendError) -> {
+                    if (sendError != null) {
+                        // ack하지 않으면 재시작/리밸런스 후 원본 이벤트가 다시 수신됨
+                        log.error("크롤링 실패 이벤트 DLT 전송 실패 - URL: {}, Error: {}", event.url(), sendError.getMessage());
+                        return;
+                    }
+                    acknowledgment.acknowledge();
+                });
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,16 @@
 package com.example.capstone_java.website.adapter.in.web;
 
+import com.example.capstone_java.website.adapter.in.dto.FinalReportContent;
 import com.example.capstone_java.website.adapter.in.dto.FinalReportDto;
+import com.example.capstone_java.website.adapter.in.dto.FinalReportSummaryDto;
+import com.example.capstone_java.website.adapter.in.dto.UrlReportFilter;
+import com.example.capstone_java.website.adapter.in.dto.UrlReportPageDto;
+import com.example.capstone_java.website.application.port.in.usecase.GetReportUseCase;
 import com.example.capstone_java.website.application.port.out.GetFinalReportPort;
+import com.example.capstone_java.website.application.service.ReportGenerationService;
+import com.example.capstone_java.website.application.service.ReportQueryService;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,15 +19,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.UUID;
 
 /**
  * 최종 보고서 조회 API
  *
  * 책임: 완료된 분석 보고서를 프론트엔드에 제공
+ * - 요약(통계)만 먼저 조회 후 페이지별 보고서는 커서/NDJSON으로 나눠서 조회
  */
 @Slf4j
 @Tag(name = "Report", description = "분석 결과 보고서 API")
@@ -29,6 +46,14 @@ import java.util.UUID;
 public class ReportController {
 
     private final GetFinalReportPort getFinalReportPort;
+    private final ReportGenerationService reportGenerationService;
+    private final GetReportUseCase getReportUseCase;
+    private final ObjectMapper objectMapper;
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    // 보고서는 완료 후 변경되지 않으므로 브라우저 캐시 + ETag 재검증
+    private static final CacheControl REPORT_CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
 
     /**
      * 최종 보고서 조회
@@ -47,6 +72,11 @@ public class ReportController {
             4. 이 API 호출: GET /api/reports/{websiteId}
             5. 최종 보고서 다운로드
 
+            **캐싱:**
+            - 완료 시 한 번 직렬화/압축된 본문을 그대로 전송합니다 (Accept-Encoding: gzip 지원).
+            - ETag를 내려주므로 If-None-Match로 재요청하면 304를 받습니다.
+            - includeTextReport=false는 저장본을 변환해야 하므로 캐시 대상이 아닙니다.
+
             **장점:**
             - SSE 안정성 향상 (작은 신호만 전송)
             - 네트워크 오류 시 재시도 가능
@@ -61,28 +91,190 @@ public class ReportController {
                     schema = @Schema(implementation = FinalReportDto.class)
             )
     )
+    @ApiResponse(responseCode = "304", description = "If-None-Match와 ETag가 일치 (본문 없음)")
     @ApiResponse(responseCode = "404", description = "보고서를 찾을 수 없음 (아직 분석 완료 안 됨)")
     @GetMapping("/{websiteId}")
-    public ResponseEntity<FinalReportDto> getFinalReport(
+    public ResponseEntity<?> getFinalReport(
             @Parameter(description = "웹사이트 ID (UUID)", example = "550e8400-e29b-41d4-a716-446655440000")
-            @PathVariable String websiteId) {
+            @PathVariable String websiteId,
+            @Parameter(description = "페이지별 텍스트 보고서 포함 여부")
+            @RequestParam(defaultValue = "true") boolean includeTextReport,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
-        log.info("최종 보고서 조회 요청: websiteId={}", websiteId);
+        log.info("최종 보고서 조회 요청: websiteId={}, includeTextReport={}", websiteId, includeTextReport);
 
         UUID uuid = UUID.fromString(websiteId);
         WebsiteId id = WebsiteId.of(uuid);
 
-        return getFinalReportPort.findByWebsiteId(id)
-                .map(report -> {
-                    log.info("최종 보고서 조회 성공: websiteId={}, urls={}, score={}",
-                            websiteId,
-                            report.getUrlReports() != null ? report.getUrlReports().size() : 0,
-                            report.getAverageScore());
-                    return ResponseEntity.ok(report);
-                })
+        if (!includeTextReport) {
+            return getFinalReportPort.findByWebsiteId(id)
+                    .<ResponseEntity<?>>map(report -> ResponseEntity.ok(reportGenerationService.withoutTextReports(report)))
+                    .orElseGet(() -> {
+                        log.warn("최종 보고서 없음: websiteId={}", websiteId);
+                        return ResponseEntity.notFound().build();
+                    });
+        }
+
+        return getFinalReportPort.findContentByWebsiteId(id)
+                .<ResponseEntity<?>>map(content -> serveContent(websiteId, content, ifNoneMatch, acceptEncoding))
                 .orElseGet(() -> {
                     log.warn("최종 보고서 없음: websiteId={}", websiteId);
                     return ResponseEntity.notFound().build();
                 });
     }
+
+    /**
+     * 미리 압축된 본문을 그대로 전송 (재직렬화 없음)
+     */
+    private ResponseEntity<byte[]> serveContent(String websiteId, FinalReportContent content,
+                                                String ifNoneMatch, String acceptEncoding) {
+        if (content.matches(ifNoneMatch)) {
+            log.debug("최종 보고서 변경 없음 (304): websiteId={}", websiteId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(content.etag())
+                    .cacheControl(REPORT_CACHE_CONTROL)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(content.etag())
+                .cacheControl(REPORT_CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (acceptsGzip(acceptEncoding)) {
+            log.info("최종 보고서 조회 성공 (gzip): websiteId={}, json={}B, gzip={}B",
+                    websiteId, content.rawSize(), content.gzipBody().length);
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(content.gzipBody());
+        }
+
+        log.info("최종 보고서 조회 성공: websiteId={}, json={}B", websiteId, content.rawSize());
+        return response.body(content.decompress());
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean disabled = parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            return !disabled;
+        }
+        return false;
+    }
+
+    /**
+     * 최종 보고서 요약 조회 (페이지별 보고서 제외)
+     */
+    @Operation(
+            summary = "최종 보고서 요약 조회",
+            description = "평균 점수, 등급, 통계, 권장사항만 반환합니다. 페이지별 보고서는 /urls 또는 /urls/stream으로 조회합니다."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "요약 조회 성공",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = FinalReportSummaryDto.class)
+            )
+    )
+    @ApiResponse(responseCode = "404", description = "보고서를 찾을 수 없음 (아직 분석 완료 안 됨)")
+    @GetMapping("/{websiteId}/summary")
+    public ResponseEntity<FinalReportSummaryDto> getReportSummary(
+            @Parameter(description = "웹사이트 ID (UUID)", example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable String websiteId) {
+
+        WebsiteId id = WebsiteId.of(UUID.fromString(websiteId));
+
+        return getReportUseCase.getSummary(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> {
+                    log.warn("최종 보고서 요약 없음: websiteId={}", websiteId);
+                    return ResponseEntity.notFound().build();
+                });
+    }
+
+    /**
+     * 페이지별 상세 보고서 커서 페이지 조회
+     */
+    @Operation(
+            summary = "페이지별 상세 보고서 조회 (커서 페이지네이션)",
+            description = """
+            보고서 ID 순으로 페이지별 상세 보고서를 반환합니다.
+            응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회합니다.
+
+            **필터:**
+            - band: EXCELLENT(80~), GOOD(60~80), FAIR(40~60), POOR(~40)
+            - category + level: 상세 항목 등급 (예: category=FONT_SIZE&level=Low)
+            """
+    )
+    @GetMapping("/{websiteId}/urls")
+    public ResponseEntity<UrlReportPageDto> getUrlReports(
+            @Parameter(description = "웹사이트 ID (UUID)", example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable String websiteId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (최대 " + ReportQueryService.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "" + ReportQueryService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) UrlReportFilter.ScoreBand band,
+            @RequestParam(required = false) UrlReportFilter.ReportCategory category,
+            @Parameter(description = "상세 항목 등급 (High/Medium/Low)")
+            @RequestParam(defaultValue = "Low") String level,
+            @RequestParam(defaultValue = "false") boolean includeTextReport) {
+
+        WebsiteId id = WebsiteId.of(UUID.fromString(websiteId));
+        UrlReportFilter filter = new UrlReportFilter(band, category, level);
+
+        return ResponseEntity.ok(getReportUseCase.getUrlReports(id, filter, cursor, size, includeTextReport));
+    }
+
+    /**
+     * 페이지별 상세 보고서 NDJSON 스트리밍
+     *
+     * 한 줄에 보고서 하나씩 내려보내며, 서버는 배치 단위로만 메모리에 올린다.
+     */
+    @Operation(
+            summary = "페이지별 상세 보고서 스트리밍 (NDJSON)",
+            description = "application/x-ndjson 형식으로 한 줄에 페이지 보고서 하나씩 전송합니다. 필터는 /urls와 동일합니다."
+    )
+    @GetMapping(value = "/{websiteId}/urls/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamUrlReports(
+            @Parameter(description = "웹사이트 ID (UUID)", example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable String websiteId,
+            @RequestParam(required = false) UrlReportFilter.ScoreBand band,
+            @RequestParam(required = false) UrlReportFilter.ReportCategory category,
+            @RequestParam(defaultValue = "Low") String level,
+            @RequestParam(defaultValue = "false") boolean includeTextReport) {
+
+        WebsiteId id = WebsiteId.of(UUID.fromString(websiteId));
+        UrlReportFilter filter = new UrlReportFilter(band, category, level);
+
+        StreamingResponseBody body = outputStream -> {
+            try {
+                getReportUseCase.streamUrlReports(id, filter, includeTextReport, detail -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(detail));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                outputStream.flush();
+            } catch (UncheckedIOException e) {
+                log.warn("보고서 스트리밍 중단: websiteId={}, error={}", websiteId, e.getMessage());
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
+    }
 }
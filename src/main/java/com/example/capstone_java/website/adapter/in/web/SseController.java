@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -45,6 +46,11 @@ public class SseController {
             2. **크롤링 중**: event=`progress`, data=`SseProgressDto` (stage="CRAWLING") -> **URL 개수만 표시**
             3. **분석 중**: event=`progress`, data=`SseProgressDto` (stage="ANALYZING") -> **퍼센트(%) 표시**
             4. **완료 시**: event=`complete`, data=`FinalReportDto` -> **최종 결과 리포트**
+            5. **취소 시**: event=`cancelled`, data=`{"websiteId", "status": "CANCELLED"}` -> 연결 종료
+
+            **[재연결]**
+            모든 이벤트에는 `id`가 붙습니다. 재연결 시 `Last-Event-ID` 헤더를 보내면 그 이후 이벤트를 재전송하며,
+            `complete` 이벤트는 연결이 끊긴 뒤에도 항상 재전송됩니다.
             """
     )
     @ApiResponse(
@@ -62,12 +68,15 @@ public class SseController {
      * SSE 연결 생성
      *
      * @param clientId 클라이언트 ID (프론트에서 생성)
+     * @param lastEventId 재연결 시 브라우저가 보내는 마지막 수신 이벤트 id
      * @return SseEmitter
      */
     @GetMapping(value = "/connect/{clientId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter connect(
             @Parameter(description = "웹사이트 등록 시 발급받은 클라이언트 ID", example = "client_12345")
             @PathVariable String clientId,
+            @Parameter(description = "마지막으로 받은 이벤트 id (재연결 시 브라우저가 자동 전송)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
             HttpServletResponse response) throws IOException {
 
         // SSE 필수 헤더 명시적 설정
@@ -76,11 +85,18 @@ public class SseController {
         response.setHeader("Connection", "keep-alive");
         response.setHeader("X-Accel-Buffering", "no");  // Nginx 프록시용
 
-        SseEmitter emitter = sseEmitters.add(clientId);
-
-        // 연결 직후 더미 데이터 전송 (연결 즉시 성립)
-        emitter.send(SseEmitter.event().name("connect").data("connected"));
+        // 연결 직후 connect 전송 + Last-Event-ID 이후 놓친 이벤트 재전송
+        return sseEmitters.connect(clientId, parseEventId(lastEventId));
+    }
 
-        return emitter;
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
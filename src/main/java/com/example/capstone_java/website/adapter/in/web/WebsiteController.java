@@ -4,6 +4,7 @@ import com.example.capstone_java.website.adapter.in.dto.CrawlStartRequest;
 import com.example.capstone_java.website.adapter.in.dto.CrawlStartResponse;
 import com.example.capstone_java.website.adapter.in.dto.CrawledUrlResponse;
 import com.example.capstone_java.website.adapter.in.dto.WebsiteStatusResponse;
+import com.example.capstone_java.website.application.port.in.usecase.CancelCrawlUseCase;
 import com.example.capstone_java.website.application.port.in.usecase.ExtractUrlsUseCase;
 import com.example.capstone_java.website.application.port.out.GetWebsitePort;
 import com.example.capstone_java.website.application.port.out.SaveCrawledUrlPort;
@@ -19,6 +20,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -33,6 +35,7 @@ import java.util.UUID;
 public class WebsiteController {
 
     private final ExtractUrlsUseCase extractUrlsUseCase;
+    private final CancelCrawlUseCase cancelCrawlUseCase;
     private final GetWebsitePort getWebsitePort;
     private final SaveCrawledUrlPort saveCrawledUrlPort;
 
@@ -57,7 +60,9 @@ public class WebsiteController {
         try {
             log.info("크롤링 시작 요청: clientId={}, URL={}", request.clientId(), request.mainUrl());
 
-            WebsiteId websiteId = extractUrlsUseCase.execute(request.clientId(), request.mainUrl());
+            WebsiteId websiteId = extractUrlsUseCase.execute(
+                    request.clientId(), request.mainUrl(), request.ignoredQueryParams(), request.samplesPerTemplate(),
+                    Boolean.TRUE.equals(request.incremental()));
 
             return ResponseEntity.ok(new CrawlStartResponse(
                 websiteId.getId(),
@@ -72,6 +77,34 @@ public class WebsiteController {
         }
     }
 
+    /**
+     * 웹사이트 크롤링 취소
+     */
+    @Operation(
+            summary = "크롤링 취소 요청",
+            description = "진행 중인 크롤링/AI 분석을 취소합니다. 대기 중인 크롤링과 분석 요청은 더 이상 처리되지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "취소 성공"),
+            @ApiResponse(responseCode = "404", description = "웹사이트를 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "이미 완료/실패/취소된 분석")
+    })
+    @PostMapping("/{websiteId}/cancel")
+    public ResponseEntity<Void> cancelCrawling(@PathVariable UUID websiteId) {
+        try {
+            log.info("크롤링 취소 요청: websiteId={}", websiteId);
+            cancelCrawlUseCase.cancel(new WebsiteId(websiteId));
+            return ResponseEntity.noContent().build();
+
+        } catch (IllegalArgumentException e) {
+            log.warn("크롤링 취소 실패 (웹사이트 없음): websiteId={}", websiteId);
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            log.warn("크롤링 취소 실패: websiteId={}, Error={}", websiteId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
     /**
      * 웹사이트 상태 조회
      */
@@ -113,7 +146,8 @@ public class WebsiteController {
                         url.getDepth(),
                         url.getStatus().name(),
                         url.getDiscoveredAt(),
-                        url.getCrawledAt()
+                        url.getCrawledAt(),
+                        url.getDuplicateOf()
                     ))
                     .toList();
 
@@ -3,15 +3,18 @@ package com.example.capstone_java.website.adapter.out;
 import com.example.capstone_java.website.adapter.out.mapper.AccessibilityReportMapper;
 import com.example.capstone_java.website.adapter.out.persistence.entity.AccessibilityReportEntity;
 import com.example.capstone_java.website.adapter.out.persistence.repository.AccessibilityReportJpaRepository;
+import com.example.capstone_java.website.adapter.out.persistence.repository.AccessibilityReportListRow;
 import com.example.capstone_java.website.application.port.out.GetAccessibilityReportPort;
 import com.example.capstone_java.website.application.port.out.SaveAccessibilityReportPort;
 import com.example.capstone_java.website.domain.entity.AccessibilityReport;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -63,6 +66,12 @@ public class AccessibilityReportAdapter implements SaveAccessibilityReportPort,
                 .map(mapper::toDomainWithId);
     }
 
+    @Override
+    public Optional<AccessibilityReport> findLatestByWebsiteIdAndUrl(WebsiteId websiteId, String url) {
+        return repository.findFirstByWebsiteIdAndUrlOrderByIdDesc(websiteId.getId(), url)
+                .map(mapper::toDomainWithId);
+    }
+
     @Override
     public long countByWebsiteId(WebsiteId websiteId) {
         return repository.countByWebsiteId(websiteId.getId());
@@ -78,4 +87,24 @@ public class AccessibilityReportAdapter implements SaveAccessibilityReportPort,
                 .map(mapper::toDomainWithId)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<AccessibilityReport> findPageByWebsiteId(WebsiteId websiteId, long afterId,
+                                                         Double minScore, Double maxScore, int limit) {
+        List<AccessibilityReportListRow> rows =
+                repository.findPageByWebsiteId(websiteId.getId(), afterId, minScore, maxScore, PageRequest.of(0, limit));
+
+        // 상세 보고서가 미리 계산되지 않은 이전 행만 analysis_result까지 다시 읽음
+        List<Long> legacyIds = rows.stream()
+                .filter(row -> row.detailReport() == null)
+                .map(AccessibilityReportListRow::id)
+                .toList();
+        Map<Long, AccessibilityReport> legacy = legacyIds.isEmpty() ? Map.of()
+                : repository.findAllById(legacyIds).stream()
+                        .collect(Collectors.toMap(AccessibilityReportEntity::getId, mapper::toDomainWithId));
+
+        return rows.stream()
+                .map(row -> legacy.getOrDefault(row.id(), mapper.toDomainFromListRow(row)))
+                .toList();
+    }
 }
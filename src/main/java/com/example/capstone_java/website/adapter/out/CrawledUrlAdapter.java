@@ -10,9 +10,11 @@ import com.example.capstone_java.website.domain.entity.CrawledUrl;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -94,4 +96,38 @@ public class CrawledUrlAdapter implements SaveCrawledUrlPort, GetCrawledUrlPort
     public long countFailedByWebsiteId(WebsiteId websiteId) {
         return crawledUrlRepository.countByWebsiteIdAndStatus(websiteId.getId(), CrawlStatus.FAILED);
     }
+
+    @Override
+    public long countDiscoveredUrls(WebsiteId websiteId) {
+        return crawledUrlRepository.countByWebsiteIdAndStatus(websiteId.getId(), CrawlStatus.DISCOVERED);
+    }
+
+    @Override
+    public Optional<CrawledUrl> findCrawledUrl(WebsiteId websiteId, String url) {
+        return crawledUrlRepository.findFirstByWebsiteIdAndUrlAndStatusOrderByIdDesc(websiteId.getId(), url, CrawlStatus.CRAWLED)
+                .map(crawledUrlMapper::toDomain);
+    }
+
+    @Override
+    public List<String> findChildUrls(WebsiteId websiteId, String parentUrl) {
+        return crawledUrlRepository.findDiscoveredUrlsByParentUrl(websiteId.getId(), parentUrl);
+    }
+
+    @Override
+    public List<CrawledUrl> findCrawledUrls(WebsiteId websiteId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return crawledUrlRepository.findByWebsiteIdAndStatusOrderByDepthAscIdAsc(
+                        websiteId.getId(), CrawlStatus.CRAWLED, PageRequest.of(0, limit)).stream()
+                .map(crawledUrlMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CrawledUrl> findDuplicates(WebsiteId websiteId) {
+        return crawledUrlRepository.findByWebsiteIdAndStatus(websiteId.getId(), CrawlStatus.DUPLICATE).stream()
+                .map(crawledUrlMapper::toDomain)
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
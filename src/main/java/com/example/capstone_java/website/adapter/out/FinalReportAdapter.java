@@ -1,23 +1,34 @@
 package com.example.capstone_java.website.adapter.out;
 
+import com.example.capstone_java.website.adapter.in.dto.FinalReportContent;
 import com.example.capstone_java.website.adapter.in.dto.FinalReportDto;
+import com.example.capstone_java.website.adapter.in.dto.FinalReportSummaryDto;
+import com.example.capstone_java.website.adapter.out.cache.FinalReportContentCache;
 import com.example.capstone_java.website.adapter.out.persistence.entity.FinalReportEntity;
 import com.example.capstone_java.website.adapter.out.persistence.repository.FinalReportJpaRepository;
 import com.example.capstone_java.website.application.port.out.GetFinalReportPort;
 import com.example.capstone_java.website.application.port.out.SaveFinalReportPort;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Map;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * 최종 보고서 Adapter
  *
- * 책임: FinalReportDto와 FinalReportEntity 간 변환 및 DB 저장/조회
+ * 책임: FinalReportDto를 한 번만 직렬화/압축하여 저장하고, 조회 시 압축 본문을 그대로 제공
+ * - 조회 경로: 인메모리 LRU → DB
+ * - 저장 시 커밋 후 모든 노드의 LRU 항목 무효화
+ * - report_gzip 도입 이전 보고서(report_json)도 동일하게 제공
  */
 @Slf4j
 @Component
@@ -25,46 +36,100 @@ import java.util.Optional;
 public class FinalReportAdapter implements SaveFinalReportPort, GetFinalReportPort {
 
     private final FinalReportJpaRepository finalReportRepository;
+    private final FinalReportContentCache contentCache;
     private final ObjectMapper objectMapper;
 
     @Override
     public void save(WebsiteId websiteId, FinalReportDto finalReport) {
-        log.info("🔍 FinalReport 저장 시작 - websiteId={}", websiteId.getId());
-        log.info("🔍 Input FinalReport: websiteUrl={}, clientId={}, totalUrls={}, avgScore={}",
-                finalReport.getWebsiteUrl(), finalReport.getClientId(),
-                finalReport.getTotalAnalyzedUrls(), finalReport.getAverageScore());
-        log.info("🔍 urlReports 개수: {}", finalReport.getUrlReports() != null ? finalReport.getUrlReports().size() : "null");
+        UUID uuid = websiteId.getId();
 
-        // DTO를 Map으로 변환 (JSON 저장용)
-        @SuppressWarnings("unchecked")
-        Map<String, Object> reportJson = objectMapper.convertValue(finalReport, Map.class);
+        FinalReportContent content = FinalReportContent.of(writeJson(finalReport));
+        int urlCount = finalReport.getUrlReports() != null ? finalReport.getUrlReports().size() : 0;
+        FinalReportSummaryDto summary = FinalReportSummaryDto.from(finalReport);
 
-        log.info("🔍 변환된 Map 키: {}", reportJson.keySet());
-        log.info("🔍 변환된 Map - websiteUrl: {}", reportJson.get("websiteUrl"));
-        log.info("🔍 변환된 Map - averageScore: {}", reportJson.get("averageScore"));
-
-        // 기존 보고서가 있으면 삭제 (덮어쓰기)
-        finalReportRepository.findByWebsiteId(websiteId.getId()).ifPresent(existing -> {
-            log.info("🔄 기존 보고서 발견 - 삭제 후 재생성: existingId={}", existing.getId());
-            finalReportRepository.delete(existing);
-        });
-
-        FinalReportEntity entity = FinalReportEntity.create(
-                websiteId.getId(),
-                reportJson,
-                finalReport.getAverageScore(),
-                finalReport.getUrlReports() != null ? finalReport.getUrlReports().size() : 0
-        );
+        // 기존 보고서가 있으면 덮어쓰기 (재생성된 보고서가 이전 본문/ETag로 제공되지 않도록 캐시도 비움)
+        FinalReportEntity entity = finalReportRepository.findByWebsiteId(uuid)
+                .map(existing -> {
+                    log.info("🔄 기존 보고서 발견 - 덮어쓰기: existingId={}", existing.getId());
+                    existing.overwrite(content.gzipBody(), content.contentHash(), content.rawSize(),
+                            summary, finalReport.getAverageScore(), urlCount);
+                    return existing;
+                })
+                .orElseGet(() -> FinalReportEntity.create(
+                        uuid,
+                        content.gzipBody(),
+                        content.contentHash(),
+                        content.rawSize(),
+                        summary,
+                        finalReport.getAverageScore(),
+                        urlCount
+                ));
 
         finalReportRepository.save(entity);
-        log.info("✅ 최종 보고서 DB 저장 완료: websiteId={}, score={}, urls={}",
-                websiteId.getId(), finalReport.getAverageScore(),
-                finalReport.getUrlReports() != null ? finalReport.getUrlReports().size() : 0);
+        // 커밋 전에 비우면 동시 조회가 이전 행을 다시 캐싱할 수 있으므로 커밋 후 모든 노드에서 비움
+        invalidateAfterCommit(uuid);
+        log.info("✅ 최종 보고서 DB 저장 완료: websiteId={}, score={}, urls={}, json={}B, gzip={}B",
+                uuid, finalReport.getAverageScore(), urlCount, content.rawSize(), content.gzipBody().length);
     }
 
     @Override
     public Optional<FinalReportDto> findByWebsiteId(WebsiteId websiteId) {
-        return finalReportRepository.findByWebsiteId(websiteId.getId())
-                .map(entity -> objectMapper.convertValue(entity.getReportJson(), FinalReportDto.class));
+        return findContentByWebsiteId(websiteId)
+                .map(content -> readJson(content.decompress()));
+    }
+
+    @Override
+    public Optional<FinalReportSummaryDto> findSummaryByWebsiteId(WebsiteId websiteId) {
+        Optional<FinalReportSummaryDto> summary = finalReportRepository.findSummaryByWebsiteId(websiteId.getId());
+        if (summary.isPresent()) {
+            return summary;
+        }
+        // summary_json 컬럼 추가 이전에 저장된 보고서는 전체 JSON에서 추출
+        return findByWebsiteId(websiteId).map(FinalReportSummaryDto::from);
+    }
+
+    @Override
+    public Optional<FinalReportContent> findContentByWebsiteId(WebsiteId websiteId) {
+        return contentCache.get(websiteId.getId(), this::loadContent);
+    }
+
+    private void invalidateAfterCommit(UUID websiteId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            contentCache.invalidate(websiteId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                contentCache.invalidate(websiteId);
+            }
+        });
+    }
+
+    private Optional<FinalReportContent> loadContent(UUID websiteId) {
+        return finalReportRepository.findByWebsiteId(websiteId)
+                .map(entity -> {
+                    if (entity.getReportGzip() != null) {
+                        return new FinalReportContent(entity.getReportGzip(), entity.getContentHash(), entity.getRawSize());
+                    }
+                    // 레거시 보고서: 최초 조회 시 한 번 직렬화하여 캐시에 올림
+                    return FinalReportContent.of(writeJson(entity.getReportJson()));
+                });
+    }
+
+    private byte[] writeJson(Object report) {
+        try {
+            return objectMapper.writeValueAsBytes(report);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("최종 보고서 직렬화 실패", e);
+        }
+    }
+
+    private FinalReportDto readJson(byte[] json) {
+        try {
+            return objectMapper.readValue(json, FinalReportDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("최종 보고서 역직렬화 실패", e);
+        }
     }
 }
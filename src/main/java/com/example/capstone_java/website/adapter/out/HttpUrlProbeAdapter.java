@@ -0,0 +1,197 @@
+package com.example.capstone_java.website.adapter.out;
+
+import com.example.capstone_java.website.adapter.out.cache.HostRateLimiter;
+import com.example.capstone_java.website.application.port.out.UrlProbePort;
+import com.example.capstone_java.website.domain.vo.UrlProbe;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDK HttpClient 기반 URL 확인 (브라우저 없이 콘텐츠 종류 / 최종 URL 판단)
+ *
+ * 1. HEAD 요청 → Content-Type으로 판단
+ * 2. HEAD를 거부하거나(4xx/5xx) Content-Type이 없으면 앞부분만 요청하는 GET (Range: bytes=0-1023)
+ *    Content-Type도 없으면 본문 앞부분의 HTML 태그 / 바이너리 시그니처로 판단
+ * 리다이렉트는 HttpClient가 따라가고, 최종 응답의 URI를 finalUrl로 사용
+ * 판단할 수 없으면 UNKNOWN (렌더링 대상으로 남김)
+ * 요청마다 HostRateLimiter 토큰을 기다리지 않고 확인 → 토큰이 없으면 요청하지 않고 UNKNOWN, 응답은 속도 조정에 반영
+ */
+@Slf4j
+@Component
+public class HttpUrlProbeAdapter implements UrlProbePort {
+
+    private static final int SNIFF_BYTES = 1024;
+    // PDF, ZIP(xlsx/docx/hwpx 포함), OLE(hwp/xls/doc), PNG, GIF, JPEG (ISO-8859-1로 읽은 앞부분)
+    private static final List<String> BINARY_SIGNATURES = List.of(
+            "%PDF", "PK\u0003\u0004", "\u00D0\u00CF\u0011\u00E0", "\u0089PNG", "GIF8", "\u00FF\u00D8\u00FF");
+    // PlaywrightStrategy와 같은 User-Agent (봇 UA에만 다른 응답을 주는 서버 대응)
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final HttpClient probeHttpClient;
+    private final HostRateLimiter hostRateLimiter;
+    private final Duration requestTimeout;
+    private final int maxConcurrency;
+
+    public HttpUrlProbeAdapter(HttpClient probeHttpClient,
+                               HostRateLimiter hostRateLimiter,
+                               @Value("${app.crawl.prefilter.request-timeout-ms:2500}") long requestTimeoutMillis,
+                               @Value("${app.crawl.prefilter.max-concurrency:4}") int maxConcurrency) {
+        this.probeHttpClient = probeHttpClient;
+        this.hostRateLimiter = hostRateLimiter;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    @Override
+    public Map<String, UrlProbe> probeAll(List<String> urls, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Map<String, CompletableFuture<UrlProbe>> futures = new LinkedHashMap<>();
+
+        try {
+            for (String url : urls) {
+                if (!permits.tryAcquire(remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                CompletableFuture<UrlProbe> future = probe(url);
+                future.whenComplete((probe, error) -> permits.release());
+                futures.put(url, future);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Map<String, UrlProbe> probes = new LinkedHashMap<>();
+        for (String url : urls) {
+            CompletableFuture<UrlProbe> future = futures.get(url);
+            probes.put(url, future != null ? await(future, url, deadline) : UrlProbe.unknown(url));
+        }
+        return probes;
+    }
+
+    private CompletableFuture<UrlProbe> probe(String url) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(UrlProbe.unknown(url));
+        }
+
+        if (!hostRateLimiter.tryAcquire(url)) {
+            return CompletableFuture.completedFuture(UrlProbe.unknown(url));
+        }
+
+        HttpRequest head = request(uri).method("HEAD", HttpRequest.BodyPublishers.noBody()).build();
+        long startedAt = System.currentTimeMillis();
+        return probeHttpClient.sendAsync(head, HttpResponse.BodyHandlers.discarding())
+                .thenCompose(response -> {
+                    reportResponse(url, response, startedAt);
+                    UrlProbe.Kind kind = response.statusCode() < 400 ? kindOf(response) : UrlProbe.Kind.UNKNOWN;
+                    if (kind != UrlProbe.Kind.UNKNOWN) {
+                        return CompletableFuture.completedFuture(new UrlProbe(kind, response.uri().toString()));
+                    }
+                    return rangedGet(uri);
+                })
+                .exceptionally(error -> {
+                    hostRateLimiter.onFailure(url);
+                    log.debug("URL 확인 실패 - 렌더링 대상으로 유지: {}, {}", url, error.getMessage());
+                    return UrlProbe.unknown(url);
+                });
+    }
+
+    private CompletableFuture<UrlProbe> rangedGet(URI uri) {
+        String url = uri.toString();
+        if (!hostRateLimiter.tryAcquire(url)) {
+            return CompletableFuture.completedFuture(UrlProbe.unknown(url));
+        }
+
+        HttpRequest get = request(uri).header("Range", "bytes=0-" + (SNIFF_BYTES - 1)).GET().build();
+        long startedAt = System.currentTimeMillis();
+        return probeHttpClient.sendAsync(get, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApplyAsync(response -> {
+                    reportResponse(url, response, startedAt);
+                    // Range를 무시하고 전체 본문을 보내는 서버도 있으므로 필요한 만큼만 읽고 닫음
+                    try (InputStream body = response.body()) {
+                        if (response.statusCode() >= 400) {
+                            return UrlProbe.unknown(url);
+                        }
+                        UrlProbe.Kind kind = kindOf(response);
+                        if (kind == UrlProbe.Kind.UNKNOWN) {
+                            kind = sniff(body.readNBytes(SNIFF_BYTES));
+                        }
+                        return new UrlProbe(kind, response.uri().toString());
+                    } catch (IOException e) {
+                        return UrlProbe.unknown(url);
+                    }
+                });
+    }
+
+    private void reportResponse(String url, HttpResponse<?> response, long startedAt) {
+        hostRateLimiter.onResponse(url, response.statusCode(), response.headers().firstValue("Retry-After").orElse(null),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    private HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("User-Agent", USER_AGENT)
+                .header("Accept", "text/html,application/xhtml+xml,*/*;q=0.8");
+    }
+
+    private UrlProbe.Kind kindOf(HttpResponse<?> response) {
+        return response.headers().firstValue("Content-Type")
+                .map(contentType -> contentType.toLowerCase(Locale.ROOT))
+                .filter(contentType -> !contentType.isBlank())
+                .map(contentType -> contentType.contains("html") ? UrlProbe.Kind.HTML : UrlProbe.Kind.NON_HTML)
+                .orElse(UrlProbe.Kind.UNKNOWN);
+    }
+
+    /**
+     * Content-Type 없는 응답: HTML 태그가 보이면 HTML, 잘 알려진 바이너리 시그니처면 NON_HTML, 그 외는 판단 보류
+     */
+    private UrlProbe.Kind sniff(byte[] head) {
+        String prefix = new String(head, StandardCharsets.ISO_8859_1);
+        String lower = prefix.toLowerCase(Locale.ROOT);
+        if (lower.contains("<html") || lower.contains("<!doctype html") || lower.contains("<head") || lower.contains("<body")) {
+            return UrlProbe.Kind.HTML;
+        }
+        for (String signature : BINARY_SIGNATURES) {
+            if (prefix.startsWith(signature)) {
+                return UrlProbe.Kind.NON_HTML;
+            }
+        }
+        return UrlProbe.Kind.UNKNOWN;
+    }
+
+    private UrlProbe await(CompletableFuture<UrlProbe> future, String url, long deadline) {
+        try {
+            return future.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            future.cancel(true);
+        }
+        return UrlProbe.unknown(url);
+    }
+
+    private long remainingNanos(long deadline) {
+        return Math.max(0L, deadline - System.nanoTime());
+    }
+}
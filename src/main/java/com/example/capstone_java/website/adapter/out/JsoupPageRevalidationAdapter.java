@@ -0,0 +1,94 @@
+package com.example.capstone_java.website.adapter.out;
+
+import com.example.capstone_java.website.adapter.out.cache.HostRateLimiter;
+import com.example.capstone_java.website.application.port.out.PageRevalidationPort;
+import com.example.capstone_java.website.domain.vo.PageValidators;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Jsoup 조건부 GET으로 페이지 변경 확인 (브라우저 렌더링 없이)
+ *
+ * 1. If-None-Match / If-Modified-Since를 붙여 요청 → 304면 변경 없음
+ * 2. 200이면 원본 HTML의 SHA-256을 이전 값과 비교 (검증 헤더를 무시하는 서버 대응)
+ * 본문 해시는 PlaywrightStrategy가 네비게이션 응답에서 계산한 값과 같은 기준 (렌더링 전 원본 HTML)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JsoupPageRevalidationAdapter implements PageRevalidationPort {
+
+    private static final int TIMEOUT_MS = 10000; // 10 seconds
+    // PlaywrightStrategy와 같은 User-Agent (UA별로 다른 HTML을 주는 서버에서 해시가 어긋나지 않도록)
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final HostRateLimiter hostRateLimiter;
+
+    @Override
+    public Optional<PageValidators> revalidate(String url, PageValidators previous) {
+        if (previous == null || previous.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            Connection connection = Jsoup.connect(url)
+                    .userAgent(USER_AGENT)
+                    .timeout(TIMEOUT_MS)
+                    .followRedirects(true)
+                    .ignoreHttpErrors(true)
+                    .ignoreContentType(true)
+                    .maxBodySize(0);
+            if (previous.etag() != null) {
+                connection.header("If-None-Match", previous.etag());
+            }
+            if (previous.lastModified() != null) {
+                connection.header("If-Modified-Since", previous.lastModified());
+            }
+
+            if (!hostRateLimiter.acquire(url)) {
+                return Optional.empty();
+            }
+            long startedAt = System.currentTimeMillis();
+            Connection.Response response = executeReporting(connection, url);
+            hostRateLimiter.onResponse(url, response.statusCode(), response.header("Retry-After"),
+                    System.currentTimeMillis() - startedAt);
+            if (response.statusCode() == 304) {
+                log.debug("변경 없음 (304): {}", url);
+                return Optional.of(previous);
+            }
+            if (response.statusCode() != 200 || previous.contentHash() == null) {
+                return Optional.empty();
+            }
+
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(response.bodyAsBytes());
+            String contentHash = HexFormat.of().formatHex(digest);
+            if (!contentHash.equals(previous.contentHash())) {
+                return Optional.empty();
+            }
+            log.debug("변경 없음 (본문 해시 일치): {}", url);
+            return Optional.of(new PageValidators(response.header("ETag"), response.header("Last-Modified"), contentHash));
+
+        } catch (Exception e) {
+            // 확인할 수 없으면 변경된 것으로 간주
+            log.debug("페이지 변경 확인 실패 - 다시 분석: {}, {}", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Connection.Response executeReporting(Connection connection, String url) throws IOException {
+        try {
+            return connection.execute();
+        } catch (IOException e) {
+            hostRateLimiter.onFailure(url);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.capstone_java.website.adapter.out;
+
+import com.example.capstone_java.website.adapter.out.cache.HostRateLimiter;
+import com.example.capstone_java.website.application.port.out.SitemapPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Jsoup 기반 sitemap 조회
+ *
+ * 1. {origin}/robots.txt의 "Sitemap:" 항목 수집 (없으면 {origin}/sitemap.xml)
+ * 2. sitemapindex면 하위 sitemap을 너비 우선으로 따라감 (파일 수 제한)
+ * 3. urlset의 <loc> 값을 limit개까지 수집
+ * 압축된 sitemap(.gz)은 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JsoupSitemapAdapter implements SitemapPort {
+
+    private static final int TIMEOUT_MS = 10000; // 10 seconds
+    private static final int MAX_SITEMAP_FILES = 10;
+    private static final int MAX_BODY_BYTES = 10 * 1024 * 1024; // sitemap 규격 상한(50MB)보다 작게
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final HostRateLimiter hostRateLimiter;
+
+    @Override
+    public List<String> findPageUrls(String mainUrl, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        Optional<String> origin = originOf(mainUrl);
+        if (origin.isEmpty()) {
+            return List.of();
+        }
+
+        Deque<String> sitemaps = new ArrayDeque<>(sitemapsFromRobots(origin.get()));
+        if (sitemaps.isEmpty()) {
+            sitemaps.add(origin.get() + "/sitemap.xml");
+        }
+
+        Set<String> visited = new HashSet<>();
+        Set<String> pageUrls = new LinkedHashSet<>();
+        while (!sitemaps.isEmpty() && visited.size() < MAX_SITEMAP_FILES && pageUrls.size() < limit) {
+            String sitemapUrl = sitemaps.poll();
+            if (!visited.add(sitemapUrl) || sitemapUrl.toLowerCase(Locale.ROOT).endsWith(".gz")) {
+                continue;
+            }
+
+            Optional<Document> document = fetch(sitemapUrl).map(body -> Jsoup.parse(body, sitemapUrl, Parser.xmlParser()));
+            if (document.isEmpty()) {
+                continue;
+            }
+
+            for (Element loc : document.get().select("sitemap > loc")) {
+                sitemaps.add(loc.text().trim());
+            }
+            for (Element loc : document.get().select("url > loc")) {
+                if (pageUrls.size() >= limit) {
+                    break;
+                }
+                String url = loc.text().trim();
+                if (!url.isEmpty()) {
+                    pageUrls.add(url);
+                }
+            }
+        }
+
+        log.info("sitemap 조회 완료: {}, sitemap 파일 {}개, 페이지 URL {}개", mainUrl, visited.size(), pageUrls.size());
+        return new ArrayList<>(pageUrls);
+    }
+
+    private List<String> sitemapsFromRobots(String origin) {
+        List<String> sitemaps = new ArrayList<>();
+        fetch(origin + "/robots.txt").ifPresent(body -> body.lines()
+                .map(String::trim)
+                .filter(line -> line.regionMatches(true, 0, "sitemap:", 0, 8))
+                .map(line -> line.substring(8).trim())
+                .filter(url -> !url.isEmpty())
+                .forEach(sitemaps::add));
+        return sitemaps;
+    }
+
+    private Optional<String> fetch(String url) {
+        if (!hostRateLimiter.acquire(url)) {
+            return Optional.empty();
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            Connection.Response response = Jsoup.connect(url)
+                    .userAgent(USER_AGENT)
+                    .timeout(TIMEOUT_MS)
+                    .followRedirects(true)
+                    .ignoreHttpErrors(true)
+                    .ignoreContentType(true)
+                    .maxBodySize(MAX_BODY_BYTES)
+                    .execute();
+            hostRateLimiter.onResponse(url, response.statusCode(), response.header("Retry-After"),
+                    System.currentTimeMillis() - startedAt);
+            if (response.statusCode() != 200) {
+                log.debug("sitemap 조회 건너뜀 ({}): {}", response.statusCode(), url);
+                return Optional.empty();
+            }
+            return Optional.of(response.body());
+        } catch (IOException e) {
+            hostRateLimiter.onFailure(url);
+            log.debug("sitemap 조회 실패: {}, {}", url, e.getMessage());
+            return Optional.empty();
+        } catch (Exception e) {
+            // sitemap은 선택 사항이므로 실패해도 일반 크롤링으로 진행
+            log.debug("sitemap 조회 실패: {}, {}", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<String> originOf(String mainUrl) {
+        try {
+            URI uri = URI.create(mainUrl);
+            if (uri.getScheme() == null || uri.getRawAuthority() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(uri.getScheme() + "://" + uri.getRawAuthority());
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.capstone_java.website.adapter.out;
+
+import com.example.capstone_java.website.adapter.out.persistence.entity.OutboxEventEntity;
+import com.example.capstone_java.website.adapter.out.persistence.repository.OutboxEventJpaRepository;
+import com.example.capstone_java.website.application.event.OutboxBatch;
+import com.example.capstone_java.website.application.port.out.OutboxPort;
+import com.example.capstone_java.website.domain.event.DomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 아웃박스 Adapter
+ *
+ * 책임: 이벤트 묶음을 JSON 배열 한 행으로 저장/복원
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxAdapter implements OutboxPort {
+
+    // 역직렬화 허용 패키지 (KafkaConsumerConfig의 TRUSTED_PACKAGES와 동일)
+    private static final String EVENT_PACKAGE = "com.example.capstone_java.website.domain.event.";
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void save(String topic, List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(events);
+            String eventType = events.get(0).getClass().getName();
+            outboxRepository.save(OutboxEventEntity.create(topic, eventType, payload, events.size()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + topic, e);
+        }
+    }
+
+    @Override
+    public List<OutboxBatch> lockNextBatches(int limit) {
+        return outboxRepository.lockNextBatch(limit).stream()
+                .map(this::toBatch)
+                .toList();
+    }
+
+    @Override
+    public void delete(List<Long> ids) {
+        if (!ids.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(ids);
+        }
+    }
+
+    private OutboxBatch toBatch(OutboxEventEntity entity) {
+        try {
+            if (!entity.getEventType().startsWith(EVENT_PACKAGE)) {
+                throw new IllegalStateException("허용되지 않은 아웃박스 이벤트 타입: " + entity.getEventType());
+            }
+            Class<?> eventClass = Class.forName(entity.getEventType());
+            JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, eventClass);
+            List<DomainEvent> events = objectMapper.readValue(entity.getPayload(), listType);
+            return new OutboxBatch(entity.getId(), entity.getTopic(), events);
+        } catch (ClassNotFoundException | JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 역직렬화 실패: id=" + entity.getId(), e);
+        }
+    }
+}
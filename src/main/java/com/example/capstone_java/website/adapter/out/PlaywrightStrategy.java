@@ -1,9 +1,15 @@
 package com.example.capstone_java.website.adapter.out;
 
+import com.example.capstone_java.website.adapter.out.cache.HostRateLimiter;
 import com.example.capstone_java.website.application.port.out.CrawlStrategy;
+import com.example.capstone_java.website.domain.service.SimHash;
+import com.example.capstone_java.website.domain.vo.ExtractedPage;
+import com.example.capstone_java.website.domain.vo.FetchFailure;
+import com.example.capstone_java.website.domain.vo.PageValidators;
 import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.Response;
 import com.microsoft.playwright.options.WaitUntilState;
 import lombok.RequiredArgsConstructor;
@@ -12,11 +18,17 @@ import org.springframework.stereotype.Component;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.function.BooleanSupplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -43,6 +55,7 @@ public class PlaywrightStrategy implements CrawlStrategy {
 
     // PlaywrightConfig에서 생성한 브라우저 풀을 주입받음
     private final BlockingQueue<Browser> browserPool;
+    private final HostRateLimiter hostRateLimiter;
 
     // JavaScript 함수 호출 패턴 (예: javascript:goMenu('HOMBKI030000'))
     private static final Pattern JS_GO_MENU_PATTERN = Pattern.compile("javascript:goMenu\\(['\"]([A-Z0-9]+)['\"]\\)");
@@ -104,24 +117,52 @@ public class PlaywrightStrategy implements CrawlStrategy {
      */
     @Override
     public List<String> extractUrls(String url) {
+        return extractPage(url).urls();
+    }
+
+    /**
+     * URL + DOM 구조 해시 추출 (절대 예외를 던지지 않음 - 실패 시 빈 결과)
+     * 구조 해시는 같은 렌더링에서 함께 계산하므로 추가 페이지 로드 없음
+     */
+    @Override
+    public ExtractedPage extractPage(String url) {
+        return extractPage(url, () -> false);
+    }
+
+    /**
+     * 중단 조건(크롤링 취소 등)을 속도 제한 대기 후 / 네비게이션 후에 확인
+     * Playwright 객체는 다른 스레드에서 닫을 수 없으므로 진행 중인 네비게이션은 타임아웃까지 기다림
+     */
+    @Override
+    public ExtractedPage extractPage(String url, BooleanSupplier aborted) {
         // 1차 방어선: URL 필터링
         if (shouldBlockUrl(url)) {
             log.warn("🚫 필터링된 URL (스킵): {}", url);
-            return List.of();
+            return ExtractedPage.empty();
         }
 
         // 2차 방어선: 안전한 크롤링 (절대 예외를 던지지 않음)
-        return doExtractUrlsSafe(url);
+        return doExtractUrlsSafe(url, aborted);
     }
 
     /**
      * 안전한 URL 추출 로직 (절대 예외를 던지지 않음)
      */
-    private List<String> doExtractUrlsSafe(String url) {
+    private ExtractedPage doExtractUrlsSafe(String url, BooleanSupplier aborted) {
         Browser browser = null;
         boolean browserAcquired = false;
 
         try {
+            // 0. 호스트별 요청 속도 제한 (브라우저를 잡고 기다리지 않도록 대여 전에 대기)
+            //    호스트가 max-wait보다 오래 일시 정지된 경우 요청하지 않고 실패 처리 (Retry-After 준수)
+            if (!hostRateLimiter.acquire(url)) {
+                return ExtractedPage.failed(FetchFailure.throttled());
+            }
+            if (aborted.getAsBoolean()) {
+                log.info("⏹️ 크롤링 중단 (브라우저 대여 전) - URL: {}", url);
+                return ExtractedPage.empty();
+            }
+
             // 1. 브라우저 대여
             browser = browserPool.take();
             browserAcquired = true;
@@ -132,18 +173,18 @@ public class PlaywrightStrategy implements CrawlStrategy {
                 log.warn("⚠️ 손상된 브라우저 감지 -> 폐기 처분");
                 closeBrowserSafely(browser);
                 browserAcquired = false; // 반납하지 않음 (폐기)
-                return List.of(); // 이번 요청은 실패 처리 (재시도 안 함)
+                return ExtractedPage.empty(); // 이번 요청은 실패 처리 (재시도 안 함)
             }
 
             // 3. 크롤링 수행
-            List<String> result = performCrawlingWithBrowser(browser, url);
-            log.debug("🔓 브라우저 작업 완료 - URL: {}, 추출 URL: {}개", url, result.size());
+            ExtractedPage result = performCrawlingWithBrowser(browser, url, aborted);
+            log.debug("🔓 브라우저 작업 완료 - URL: {}, 추출 URL: {}개", url, result.urls().size());
             return result;
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("❌ 브라우저 획득 중단 (인터럽트) - URL: {}", url);
-            return List.of();
+            return ExtractedPage.empty();
 
         } catch (Exception e) {
             // [핵심] 어떤 에러가 나도 로그만 찍고 빈 리스트 반환 -> Kafka 재시도 방지
@@ -156,7 +197,7 @@ public class PlaywrightStrategy implements CrawlStrategy {
                 browserAcquired = false; // 반납하지 않음
             }
 
-            return List.of(); // 빈 리스트 반환으로 Kafka는 "정상 처리"로 인식
+            return ExtractedPage.empty(); // 빈 결과 반환으로 Kafka는 "정상 처리"로 인식
 
         } finally {
             // 4. 정상적인 브라우저만 반납
@@ -182,7 +223,7 @@ public class PlaywrightStrategy implements CrawlStrategy {
      * 브라우저를 독점하여 크롤링 수행
      * 에러 발생 시 예외를 던지며, 호출자(doExtractUrlsSafe)가 처리함
      */
-    private List<String> performCrawlingWithBrowser(Browser browser, String url) {
+    private ExtractedPage performCrawlingWithBrowser(Browser browser, String url, BooleanSupplier aborted) {
         Set<String> uniqueUrls = new LinkedHashSet<>();
         String baseUrl = extractBaseUrl(url);
 
@@ -211,16 +252,38 @@ public class PlaywrightStrategy implements CrawlStrategy {
             log.debug("Playwright 네비게이션 시작: {}", url);
 
             // 페이지로 이동 (에러 발생 시 예외 던짐)
-            Response response = page.navigate(url, new Page.NavigateOptions()
-                    .setTimeout(NAVIGATION_TIMEOUT_MS)
-                    .setWaitUntil(WaitUntilState.DOMCONTENTLOADED));
+            long navigationStartedAt = System.currentTimeMillis();
+            Response response;
+            try {
+                response = page.navigate(url, new Page.NavigateOptions()
+                        .setTimeout(NAVIGATION_TIMEOUT_MS)
+                        .setWaitUntil(WaitUntilState.DOMCONTENTLOADED));
+            } catch (PlaywrightException e) {
+                // 타임아웃 / 연결 실패: 브라우저 상태는 반납 시 health check가 판단
+                hostRateLimiter.onFailure(url);
+                log.warn("⚠️ 페이지 응답 없음 - URL: {}, error: {}", url, e.getMessage());
+                return ExtractedPage.failed(FetchFailure.unreachable());
+            }
+            if (response != null) {
+                hostRateLimiter.onResponse(url, response.status(), response.headers().get("retry-after"),
+                        System.currentTimeMillis() - navigationStartedAt);
+            }
 
             // HTTP 상태 코드 체크
             if (response != null && response.status() >= 400) {
                 log.warn("⚠️ HTTP 에러 응답 - Status: {}, URL: {}", response.status(), url);
-                return List.of(); // HTTP 에러는 빈 리스트 반환
+                return ExtractedPage.failed(FetchFailure.ofStatus(response.status())); // HTTP 에러는 빈 결과 + 원인
+            }
+
+            // 취소된 크롤링은 SPA 대기 / DOM 분석 없이 바로 브라우저 반납
+            if (aborted.getAsBoolean()) {
+                log.info("⏹️ 크롤링 중단 (렌더링 중) - URL: {}", url);
+                return ExtractedPage.empty();
             }
 
+            // 다음 증분 재크롤링용 검증 값 (렌더링 전 원본 HTML 기준)
+            PageValidators validators = validatorsOf(response);
+
             // SPA 로딩 대기
             page.waitForTimeout(DOM_WAIT_TIMEOUT_MS);
 
@@ -314,13 +377,39 @@ public class PlaywrightStrategy implements CrawlStrategy {
                         }
                     });
 
-                    return Array.from(urls);
+                    return { urls: Array.from(urls), structure: structureSignature(), text: visibleText() };
+
+                    // 8. DOM 골격 (태그 + 자식 태그 목록, 연속된 같은 태그는 하나로 접음 → 게시글 수와 무관)
+                    function structureSignature() {
+                        const SKIP = new Set(['SCRIPT', 'STYLE', 'NOSCRIPT', 'TEMPLATE', 'svg', 'SVG']);
+                        const parts = [];
+                        const walk = (el, depth) => {
+                            if (!el || depth > 8 || parts.length > 2000 || SKIP.has(el.tagName)) return;
+                            parts.push(depth + el.tagName);
+                            let previous = null;
+                            for (const child of el.children) {
+                                if (child.tagName === previous) continue;
+                                previous = child.tagName;
+                                walk(child, depth + 1);
+                            }
+                        };
+                        walk(document.body, 0);
+                        return parts.join(',');
+                    }
+
+                    // 9. 화면에 보이는 본문 텍스트 (유사 중복 지문용, 길이 제한)
+                    function visibleText() {
+                        return document.body ? (document.body.innerText || '').slice(0, 50000) : '';
+                    }
                 }
                 """);
 
             // 5. 추출된 링크 처리
-            if (result instanceof List<?>) {
-                for (Object item : (List<?>) result) {
+            Object links = result instanceof Map<?, ?> map ? map.get("urls") : null;
+            Object structure = result instanceof Map<?, ?> map ? map.get("structure") : null;
+            Object text = result instanceof Map<?, ?> map ? map.get("text") : null;
+            if (links instanceof List<?>) {
+                for (Object item : (List<?>) links) {
                     if (item instanceof String) {
                         String href = (String) item;
                         String processedUrl = processUrl(href, baseUrl);
@@ -332,7 +421,13 @@ public class PlaywrightStrategy implements CrawlStrategy {
             }
 
             log.info("✅ Playwright가 {}에서 {}개의 URL 추출", url, uniqueUrls.size());
-            return new ArrayList<>(uniqueUrls);
+            String signature = structure instanceof String value ? value : null;
+            return new ExtractedPage(
+                    new ArrayList<>(uniqueUrls),
+                    signature != null ? hash(signature) : null,
+                    SimHash.of(text instanceof String value ? value : null, signature),
+                    validators,
+                    page.url()); // 리다이렉트 후 최종 URL (최종 URL 기준 중복 제거용)
 
         } finally {
             // ========================================
@@ -343,6 +438,32 @@ public class PlaywrightStrategy implements CrawlStrategy {
         }
     }
 
+    /**
+     * 응답 헤더의 ETag / Last-Modified + 원본 HTML 본문 해시 (실패해도 크롤링은 계속)
+     */
+    private PageValidators validatorsOf(Response response) {
+        if (response == null) {
+            return PageValidators.none();
+        }
+        try {
+            Map<String, String> headers = response.headers();
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(response.body());
+            return new PageValidators(headers.get("etag"), headers.get("last-modified"), HexFormat.of().formatHex(digest));
+        } catch (Exception e) {
+            log.debug("페이지 검증 값 수집 실패: {}", e.getMessage());
+            return PageValidators.none();
+        }
+    }
+
+    private String hash(String signature) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(signature.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Page 안전 종료
      */
@@ -5,11 +5,13 @@ import com.example.capstone_java.website.adapter.out.persistence.entity.WebsiteE
 import com.example.capstone_java.website.adapter.out.persistence.repository.WebsiteJpaRepository;
 import com.example.capstone_java.website.application.port.out.GetWebsitePort;
 import com.example.capstone_java.website.application.port.out.SaveWebsitePort;
+import com.example.capstone_java.website.domain.entity.ExtractionStatus;
 import com.example.capstone_java.website.domain.entity.Website;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -22,10 +24,18 @@ public class WebsiteAdapter implements GetWebsitePort,SaveWebsitePort {
     @Override
     public Website save(Website website) {
         WebsiteEntity websiteEntity = websiteMapper.toWebsiteEntity(website);
-        websiteJpaRepository.save(websiteEntity);
+        // 진행 중 중복(uk_active_run) 위반을 호출 측 try 안에서 받도록 바로 flush
+        websiteJpaRepository.saveAndFlush(websiteEntity);
         return websiteMapper.toWebsiteDomain(websiteEntity);
     }
 
+    @Override
+    public boolean changeStatus(Website website) {
+        WebsiteEntity websiteEntity = websiteMapper.toWebsiteEntity(website);
+        return websiteJpaRepository.updateStatus(websiteEntity.getWebsiteId(), websiteEntity.getExtractionStatus(),
+                websiteEntity.getActiveRunKey(), website.getExtractionStatus().predecessors()) > 0;
+    }
+
     @Override
     public Optional<Website> findById(WebsiteId websiteId) {
         return websiteJpaRepository.findById(websiteId.getId())
@@ -34,7 +44,24 @@ public class WebsiteAdapter implements GetWebsitePort,SaveWebsitePort {
 
     @Override
     public Optional<Website> findByClientIdAndMainUrl(String clientId, String mainUrl) {
-        return websiteJpaRepository.findByClientIdAndMainUrl(clientId, mainUrl)
+        return websiteJpaRepository.findFirstByClientIdAndMainUrlInOrderByCreatedAtDesc(clientId, storedForms(mainUrl))
+                .map(websiteMapper::toWebsiteDomain);
+    }
+
+    @Override
+    public Optional<Website> findLatestCompleted(String clientId, String mainUrl) {
+        return websiteJpaRepository.findFirstByClientIdAndMainUrlInAndExtractionStatusOrderByCreatedAtDesc(
+                        clientId, storedForms(mainUrl), ExtractionStatus.COMPLETE)
                 .map(websiteMapper::toWebsiteDomain);
     }
+
+    /**
+     * 정규화 도입 전 행은 루트 URL 끝 슬래시 없이 저장돼 있으므로 두 표기 모두 조회
+     */
+    private static List<String> storedForms(String mainUrl) {
+        String alternate = mainUrl.endsWith("/")
+                ? mainUrl.substring(0, mainUrl.length() - 1)
+                : mainUrl + "/";
+        return List.of(mainUrl, alternate);
+    }
 }
@@ -0,0 +1,81 @@
+package com.example.capstone_java.website.adapter.out.cache;
+
+import com.example.capstone_java.website.adapter.in.dto.FinalReportContent;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 최종 보고서 본문 인메모리 LRU 캐시
+ *
+ * 용량 기준으로 축출하고, 보고서가 다시 저장되면 FinalReportAdapter가 커밋 후 해당 항목을 무효화한다.
+ * 대시보드의 반복 다운로드가 DB까지 내려가지 않도록 DB 앞단에 둔다.
+ * 캐시는 노드마다 따로 있으므로 무효화는 Redis Pub/Sub으로 모든 노드에 전달한다.
+ */
+@Slf4j
+@Component
+public class FinalReportContentCache implements MessageListener {
+
+    public static final String CHANNEL = "report:invalidate";
+
+    private final Cache<UUID, FinalReportContent> cache;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public FinalReportContentCache(@Value("${app.report.cache.max-bytes:67108864}") long maxBytes,
+                                   RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((UUID key, FinalReportContent content) -> content.gzipBody().length)
+                .build();
+        log.info("최종 보고서 캐시 초기화 - 최대 {} bytes", maxBytes);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 불러와서 저장 (없는 보고서는 캐싱하지 않음)
+     */
+    public Optional<FinalReportContent> get(UUID websiteId, Function<UUID, Optional<FinalReportContent>> loader) {
+        FinalReportContent cached = cache.getIfPresent(websiteId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<FinalReportContent> loaded = loader.apply(websiteId);
+        loaded.ifPresent(content -> cache.put(websiteId, content));
+        return loaded;
+    }
+
+    /**
+     * 이 노드와 다른 노드의 캐시 항목 무효화
+     */
+    public void invalidate(UUID websiteId) {
+        cache.invalidate(websiteId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, websiteId.toString());
+        } catch (Exception e) {
+            // 다른 노드는 용량 축출 전까지 이전 본문을 제공할 수 있음
+            log.warn("⚠️ 최종 보고서 캐시 무효화 전파 실패: websiteId={}, error={}", websiteId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드(또는 자신)가 보낸 무효화 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            cache.invalidate(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            log.warn("최종 보고서 캐시 무효화 메시지 처리 실패: error={}", e.getMessage());
+        }
+    }
+}
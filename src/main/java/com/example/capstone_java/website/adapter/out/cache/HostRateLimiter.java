@@ -0,0 +1,261 @@
+package com.example.capstone_java.website.adapter.out.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트별 요청 속도 제한 (모든 노드가 Redis 토큰 버킷을 공유)
+ *
+ * 키 구조: ratelimit:host:{host} → { tokens, ts, rate, until }
+ * - 가져오기(Playwright 네비게이션, Jsoup 요청) 전에 acquire()로 토큰 하나를 받을 때까지 대기
+ *   max-wait-ms 안에 받을 수 없으면(긴 Retry-After 정지 포함) 요청하지 않음
+ * - 응답마다 onResponse()로 속도 조정 (AIMD)
+ *   · 429/503       : 속도 절반 + Retry-After만큼 호스트 전체 일시 정지
+ *   · 5xx / 느린 응답 : 속도 20% 감소
+ *   · 빠른 정상 응답  : 속도 조금씩 증가 (max-rate까지)
+ * - 시각은 Redis TIME 기준이라 노드 간 시계 차이와 무관
+ * Redis 장애 시에는 노드 로컬 Guava RateLimiter로 대체 (노드 간 공유는 안 되지만 호스트별 제한은 유지)
+ */
+@Slf4j
+@Component
+public class HostRateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:host:";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(1); // 한동안 요청 없는 호스트는 기본 속도로 재시작
+    private static final long MAX_PAUSE_MS = Duration.ofMinutes(5).toMillis();
+    private static final double DECREASE_ON_THROTTLE = 0.5;
+    private static final double DECREASE_ON_SLOW = 0.8;
+    private static final double INCREASE_STEP = 0.1;
+
+    // KEYS[1]: 버킷, ARGV: defaultRate, burst, ttlMillis → 대기해야 할 ms (0이면 토큰 획득)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local t = redis.call('TIME') " +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+            "local h = redis.call('HMGET', KEYS[1], 'tokens', 'ts', 'rate', 'until') " +
+            "local burst = tonumber(ARGV[2]) " +
+            "local rate = tonumber(h[3]) or tonumber(ARGV[1]) " +
+            "local tokens = tonumber(h[1]) or burst " +
+            "local ts = tonumber(h[2]) or now " +
+            "local pausedUntil = tonumber(h[4]) or 0 " +
+            "tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000) " +
+            "local wait = 0 " +
+            "if now < pausedUntil then " +
+            "  wait = pausedUntil - now " +
+            "elseif tokens >= 1 then " +
+            "  tokens = tokens - 1 " +
+            "else " +
+            "  wait = math.ceil((1 - tokens) * 1000 / rate) " +
+            "end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now, 'rate', tostring(rate)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return wait",
+            Long.class);
+
+    // KEYS[1]: 버킷, ARGV: factor, step, minRate, maxRate, defaultRate, pauseMillis, ttlMillis → 조정된 속도
+    private static final RedisScript<String> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "local rate = tonumber(redis.call('HGET', KEYS[1], 'rate')) or tonumber(ARGV[5]) " +
+            "rate = math.max(tonumber(ARGV[3]), math.min(tonumber(ARGV[4]), rate * tonumber(ARGV[1]) + tonumber(ARGV[2]))) " +
+            "redis.call('HSET', KEYS[1], 'rate', tostring(rate)) " +
+            "local pause = tonumber(ARGV[6]) " +
+            "if pause > 0 then " +
+            "  local t = redis.call('TIME') " +
+            "  local resumeAt = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) + pause " +
+            "  local pausedUntil = tonumber(redis.call('HGET', KEYS[1], 'until')) or 0 " +
+            "  if resumeAt > pausedUntil then redis.call('HSET', KEYS[1], 'until', resumeAt) end " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[7]) " +
+            "return tostring(rate)",
+            String.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final double defaultRate;
+    private final int burst;
+    private final double minRate;
+    private final double maxRate;
+    private final long slowResponseMillis;
+    private final long maxWaitMillis;
+
+    private final Cache<String, RateLimiter> localLimiters = CacheBuilder.newBuilder()
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .build();
+
+    public HostRateLimiter(RedisTemplate<String, String> redisTemplate,
+                           @Value("${app.crawl.politeness.enabled:true}") boolean enabled,
+                           @Value("${app.crawl.politeness.default-rate:2.0}") double defaultRate,
+                           @Value("${app.crawl.politeness.burst:4}") int burst,
+                           @Value("${app.crawl.politeness.min-rate:0.2}") double minRate,
+                           @Value("${app.crawl.politeness.max-rate:5.0}") double maxRate,
+                           @Value("${app.crawl.politeness.slow-response-ms:5000}") long slowResponseMillis,
+                           @Value("${app.crawl.politeness.max-wait-ms:30000}") long maxWaitMillis) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.minRate = Math.max(0.01, minRate);
+        this.maxRate = Math.max(this.minRate, maxRate);
+        this.defaultRate = Math.min(this.maxRate, Math.max(this.minRate, defaultRate));
+        this.burst = Math.max(1, burst);
+        this.slowResponseMillis = slowResponseMillis;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * 호스트 토큰을 받을 때까지 대기 (최대 max-wait-ms)
+     *
+     * @return 토큰을 받았으면 true, 대기 시간 안에 받을 수 없으면 false (호출자는 요청을 보내지 않아야 함)
+     *         Retry-After로 일시 정지된 호스트는 정지가 max-wait-ms보다 길면 기다리지 않고 바로 false
+     */
+    public boolean acquire(String url) {
+        String host = hostOf(url);
+        if (!enabled || host == null) {
+            return true;
+        }
+
+        long deadline = System.currentTimeMillis() + maxWaitMillis;
+        try {
+            while (true) {
+                long remaining = Math.max(0L, deadline - System.currentTimeMillis());
+                Long wait = redisWait(host);
+                if (wait == null) {
+                    // Redis 장애: 남은 대기 시간 안에서만 로컬 제한으로 대기
+                    if (localLimiter(host).tryAcquire(remaining, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                    log.warn("호스트 속도 제한 대기 시간 초과 (로컬) - 요청 건너뜀: host={}", host);
+                    return false;
+                }
+                if (wait <= 0) {
+                    return true;
+                }
+                if (wait > remaining) {
+                    log.warn("호스트 속도 제한 대기 시간 초과 - 요청 건너뜀: host={}, waitMs={}", host, wait);
+                    return false;
+                }
+                Thread.sleep(wait);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 기다리지 않고 지금 토큰을 받을 수 있을 때만 true (건너뛰어도 되는 요청용, 예: 콘텐츠 타입 사전 확인)
+     */
+    public boolean tryAcquire(String url) {
+        String host = hostOf(url);
+        if (!enabled || host == null) {
+            return true;
+        }
+        Long wait = redisWait(host);
+        if (wait == null) {
+            return localLimiter(host).tryAcquire();
+        }
+        return wait <= 0;
+    }
+
+    /**
+     * 응답 결과로 호스트 속도 조정
+     *
+     * @param retryAfter Retry-After 헤더 값 (초 또는 HTTP-date, 없으면 null)
+     */
+    public void onResponse(String url, int status, String retryAfter, long latencyMillis) {
+        if (status == 429 || status == 503) {
+            long pause = retryAfterMillis(retryAfter);
+            log.warn("호스트 요청 제한 응답 - 속도 감소: url={}, status={}, pauseMs={}", url, status, pause);
+            adjust(url, DECREASE_ON_THROTTLE, 0, pause);
+        } else if (status >= 500 || latencyMillis >= slowResponseMillis) {
+            adjust(url, DECREASE_ON_SLOW, 0, 0);
+        } else if (status < 400) {
+            adjust(url, 1.0, INCREASE_STEP, 0);
+        }
+    }
+
+    /**
+     * 응답 없이 실패한 경우 (타임아웃, 연결 거부) - 느린 응답과 같이 취급
+     */
+    public void onFailure(String url) {
+        adjust(url, DECREASE_ON_SLOW, 0, 0);
+    }
+
+    /**
+     * Redis 토큰 버킷에서 토큰 요청 → 대기해야 할 ms (0이면 획득, Redis 장애면 null)
+     */
+    private Long redisWait(String host) {
+        try {
+            Long wait = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + host),
+                    String.valueOf(defaultRate), String.valueOf(burst), String.valueOf(DEFAULT_TTL.toMillis()));
+            return wait != null ? wait : 0L;
+        } catch (RuntimeException e) {
+            log.debug("Redis 속도 제한 실패 - 로컬 제한 사용: host={}, error={}", host, e.getMessage());
+            return null;
+        }
+    }
+
+    private void adjust(String url, double factor, double step, long pauseMillis) {
+        String host = hostOf(url);
+        if (!enabled || host == null) {
+            return;
+        }
+        try {
+            String rate = redisTemplate.execute(ADJUST_SCRIPT, List.of(KEY_PREFIX + host),
+                    String.valueOf(factor), String.valueOf(step), String.valueOf(minRate), String.valueOf(maxRate),
+                    String.valueOf(defaultRate), String.valueOf(pauseMillis), String.valueOf(DEFAULT_TTL.toMillis()));
+            log.debug("호스트 속도 조정: host={}, rate={}/s", host, rate);
+        } catch (RuntimeException e) {
+            RateLimiter limiter = localLimiter(host);
+            limiter.setRate(Math.max(minRate, Math.min(maxRate, limiter.getRate() * factor + step)));
+        }
+    }
+
+    private RateLimiter localLimiter(String host) {
+        try {
+            return localLimiters.get(host, () -> RateLimiter.create(defaultRate));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private long retryAfterMillis(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return 0L;
+        }
+        String value = retryAfter.trim();
+        try {
+            return Math.min(MAX_PAUSE_MS, Math.max(0L, Long.parseLong(value) * 1000));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            long until = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return Math.min(MAX_PAUSE_MS, Math.max(0L, until - System.currentTimeMillis()));
+        } catch (DateTimeParseException e) {
+            return 0L;
+        }
+    }
+
+    private String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
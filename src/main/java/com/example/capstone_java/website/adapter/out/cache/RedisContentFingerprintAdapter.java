@@ -0,0 +1,103 @@
+package com.example.capstone_java.website.adapter.out.cache;
+
+import com.example.capstone_java.website.application.port.out.ContentFingerprintPort;
+import com.example.capstone_java.website.domain.service.SimHash;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis Hash 기반 SimHash 지문 색인
+ *
+ * 지문을 SimHash.bandKeys로 나눠 밴드 값마다 후보 지문 목록을 저장
+ * - 해밍 거리 3 이하인 두 지문은 최소 한 밴드가 완전히 같음 → 밴드 4개 조회로 후보 확보
+ *
+ * 키 구조:
+ * - fingerprint:bands:{websiteId} → { "{밴드번호}:{밴드값}": "지문1,지문2,..." (16진수) }
+ * - fingerprint:urls:{websiteId}  → { 지문: 처음 분석한 페이지 URL }
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisContentFingerprintAdapter implements ContentFingerprintPort {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String BANDS_PREFIX = "fingerprint:bands:";
+    private static final String URLS_PREFIX = "fingerprint:urls:";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24); // 진행 카운터와 동일
+    private static final int MAX_CANDIDATES_PER_BAND = 64; // 빈 페이지 등 흔한 밴드 값이 한없이 커지지 않도록
+
+    // KEYS: bands, urls / ARGV: ttlMillis, maxPerBand, fingerprint, url, band1, band2, ...
+    private static final RedisScript<Long> REGISTER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HSETNX', KEYS[2], ARGV[3], ARGV[4]) == 0 then return 0 end " +
+            "for i = 5, #ARGV do " +
+            "  local current = redis.call('HGET', KEYS[1], ARGV[i]) " +
+            "  if not current then " +
+            "    redis.call('HSET', KEYS[1], ARGV[i], ARGV[3]) " +
+            "  elseif (string.len(current) + 1) / 17 < tonumber(ARGV[2]) then " +
+            "    redis.call('HSET', KEYS[1], ARGV[i], current .. ',' .. ARGV[3]) " +
+            "  end " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    @Override
+    public Optional<String> findNearest(WebsiteId websiteId, long fingerprint, int maxDistance) {
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        List<String> buckets = hashOps.multiGet(BANDS_PREFIX + key(websiteId), SimHash.bandKeys(fingerprint));
+
+        String nearest = null;
+        int nearestDistance = maxDistance + 1;
+        for (String bucket : buckets) {
+            if (bucket == null) {
+                continue;
+            }
+            for (String candidate : bucket.split(",")) {
+                int distance = SimHash.distance(fingerprint, Long.parseUnsignedLong(candidate, 16));
+                if (distance < nearestDistance) {
+                    nearest = candidate;
+                    nearestDistance = distance;
+                }
+            }
+        }
+        if (nearest == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(hashOps.get(URLS_PREFIX + key(websiteId), nearest));
+    }
+
+    @Override
+    public void register(WebsiteId websiteId, long fingerprint, String url) {
+        List<String> bands = SimHash.bandKeys(fingerprint);
+        Object[] args = new Object[4 + bands.size()];
+        args[0] = String.valueOf(DEFAULT_TTL.toMillis());
+        args[1] = String.valueOf(MAX_CANDIDATES_PER_BAND);
+        args[2] = hex(fingerprint);
+        args[3] = url;
+        for (int i = 0; i < bands.size(); i++) {
+            args[4 + i] = bands.get(i);
+        }
+        redisTemplate.execute(REGISTER_SCRIPT,
+                List.of(BANDS_PREFIX + key(websiteId), URLS_PREFIX + key(websiteId)), args);
+    }
+
+    private String hex(long fingerprint) {
+        return String.format("%016x", fingerprint);
+    }
+
+    private String key(WebsiteId websiteId) {
+        return websiteId.getId().toString();
+    }
+}
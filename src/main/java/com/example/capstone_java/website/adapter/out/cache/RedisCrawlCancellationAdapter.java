@@ -0,0 +1,39 @@
+package com.example.capstone_java.website.adapter.out.cache;
+
+import com.example.capstone_java.website.application.port.out.CrawlCancellationPort;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Redis 기반 크롤링 취소 플래그 어댑터
+ *
+ * 키 구조: crawl:cancelled:{websiteId} → 취소 시각 (epoch ms)
+ * TTL은 크롤링 최대 시간(2시간)과 Kafka에 남은 이벤트가 소진될 시간을 넉넉히 덮도록 24시간
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCrawlCancellationAdapter implements CrawlCancellationPort {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String KEY_PREFIX = "crawl:cancelled:";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+    @Override
+    public void markCancelled(WebsiteId websiteId) {
+        redisTemplate.opsForValue().set(key(websiteId), String.valueOf(System.currentTimeMillis()), DEFAULT_TTL);
+    }
+
+    @Override
+    public boolean isCancelled(WebsiteId websiteId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(websiteId)));
+    }
+
+    private String key(WebsiteId websiteId) {
+        return KEY_PREFIX + websiteId.getId();
+    }
+}
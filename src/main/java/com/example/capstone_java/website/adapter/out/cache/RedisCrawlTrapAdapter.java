@@ -0,0 +1,169 @@
+package com.example.capstone_java.website.adapter.out.cache;
+
+import com.example.capstone_java.website.application.port.out.CrawlTrapPort;
+import com.example.capstone_java.website.domain.vo.CrawlTrap;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Hash 기반 크롤러 트랩 어댑터
+ *
+ * 키 구조:
+ * - crawl-trap:templates:{websiteId}         → { template: 크롤링 대상으로 저장한 URL 수 }
+ * - crawl-trap:detected:{websiteId}          → { template: 사유 }
+ * - crawl-trap:skipped:{websiteId}           → { template: 건너뛴 URL 수 }
+ * - crawl-trap:batch:{websiteId}:{batchId}   → { template: 배치 반영 전 누적값, _charged: 1 } (재전달 대비, 짧은 TTL)
+ * 배치 하나의 조회/증가는 각각 Lua 스크립트 한 번으로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCrawlTrapAdapter implements CrawlTrapPort {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String TEMPLATES_PREFIX = "crawl-trap:templates:";
+    private static final String DETECTED_PREFIX = "crawl-trap:detected:";
+    private static final String SKIPPED_PREFIX = "crawl-trap:skipped:";
+    private static final String BATCH_PREFIX = "crawl-trap:batch:";
+    private static final String CHARGED_FIELD = "_charged";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24); // 진행 카운터와 동일
+    private static final Duration BATCH_TTL = Duration.ofHours(1);    // 재시도/재전달 간격보다 충분히 길게
+
+    // KEYS: templates, batch / ARGV: batchTtlMillis, template1, template2, ...
+    // 배치 스냅샷이 있으면 그대로, 없으면 현재 누적값을 스냅샷으로 남기고 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SNAPSHOT_SCRIPT = new DefaultRedisScript<>(
+            "local counts = {} " +
+            "local fresh = redis.call('EXISTS', KEYS[2]) == 0 " +
+            "for i = 2, #ARGV do " +
+            "  local value " +
+            "  if fresh then " +
+            "    value = redis.call('HGET', KEYS[1], ARGV[i]) or '0' " +
+            "    redis.call('HSET', KEYS[2], ARGV[i], value) " +
+            "  else " +
+            "    value = redis.call('HGET', KEYS[2], ARGV[i]) or redis.call('HGET', KEYS[1], ARGV[i]) or '0' " +
+            "  end " +
+            "  counts[#counts + 1] = tonumber(value) " +
+            "end " +
+            "if fresh then redis.call('PEXPIRE', KEYS[2], ARGV[1]) end " +
+            "return counts",
+            List.class);
+
+    // KEYS: templates, batch / ARGV: ttlMillis, batchTtlMillis, template1, count1, ... → 1 = 반영, 0 = 이미 반영됨
+    private static final RedisScript<Long> CHARGE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HSETNX', KEYS[2], '" + CHARGED_FIELD + "', '1') == 0 then return 0 end " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "for i = 3, #ARGV, 2 do " +
+            "  redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Long> countsBefore(WebsiteId websiteId, String batchId, Collection<String> templates) {
+        if (templates.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> ordered = new ArrayList<>(templates);
+        Object[] args = new Object[1 + ordered.size()];
+        args[0] = String.valueOf(BATCH_TTL.toMillis());
+        for (int i = 0; i < ordered.size(); i++) {
+            args[1 + i] = ordered.get(i);
+        }
+
+        List<Object> counts = redisTemplate.execute(SNAPSHOT_SCRIPT,
+                List.of(TEMPLATES_PREFIX + key(websiteId), batchKey(websiteId, batchId)), args);
+        Map<String, Long> result = new HashMap<>(ordered.size() * 2);
+        for (int i = 0; i < ordered.size(); i++) {
+            result.put(ordered.get(i), counts != null ? ((Number) counts.get(i)).longValue() : 0L);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean charge(WebsiteId websiteId, String batchId, Map<String, Long> admittedByTemplate) {
+        List<String> templates = new ArrayList<>(admittedByTemplate.keySet());
+        Object[] args = new Object[2 + templates.size() * 2];
+        args[0] = String.valueOf(DEFAULT_TTL.toMillis());
+        args[1] = String.valueOf(BATCH_TTL.toMillis());
+        for (int i = 0; i < templates.size(); i++) {
+            args[2 + i * 2] = templates.get(i);
+            args[3 + i * 2] = String.valueOf(admittedByTemplate.get(templates.get(i)));
+        }
+
+        Long charged = redisTemplate.execute(CHARGE_SCRIPT,
+                List.of(TEMPLATES_PREFIX + key(websiteId), batchKey(websiteId, batchId)), args);
+        return charged == null || charged == 1L;
+    }
+
+    @Override
+    public void recordTrap(WebsiteId websiteId, String template, CrawlTrap.Reason reason, long skipped) {
+        String detectedKey = DETECTED_PREFIX + key(websiteId);
+        String skippedKey = SKIPPED_PREFIX + key(websiteId);
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+
+        Boolean first = hashOps.putIfAbsent(detectedKey, template, reason.name());
+        if (skipped > 0) {
+            hashOps.increment(skippedKey, template, skipped);
+        }
+        if (Boolean.TRUE.equals(first)) {
+            redisTemplate.expire(detectedKey, DEFAULT_TTL);
+            redisTemplate.expire(skippedKey, DEFAULT_TTL);
+            log.warn("🕳️ 크롤러 트랩 탐지: WebsiteId={}, template={}, reason={}", websiteId.getId(), template, reason);
+        }
+    }
+
+    @Override
+    public List<CrawlTrap> findTraps(WebsiteId websiteId) {
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        Map<String, String> detected = hashOps.entries(DETECTED_PREFIX + key(websiteId));
+        if (detected.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> templates = new ArrayList<>(detected.keySet());
+        List<String> admitted = hashOps.multiGet(TEMPLATES_PREFIX + key(websiteId), templates);
+        List<String> skipped = hashOps.multiGet(SKIPPED_PREFIX + key(websiteId), templates);
+
+        List<CrawlTrap> traps = new ArrayList<>(templates.size());
+        for (int i = 0; i < templates.size(); i++) {
+            traps.add(new CrawlTrap(
+                    templates.get(i),
+                    CrawlTrap.Reason.valueOf(detected.get(templates.get(i))),
+                    parseLong(admitted.get(i)) + parseLong(skipped.get(i)),
+                    parseLong(skipped.get(i))));
+        }
+        traps.sort(Comparator.comparingLong(CrawlTrap::skipped).reversed());
+        return traps;
+    }
+
+    private String batchKey(WebsiteId websiteId, String batchId) {
+        return BATCH_PREFIX + key(websiteId) + ":" + batchId;
+    }
+
+    private String key(WebsiteId websiteId) {
+        return websiteId.getId().toString();
+    }
+
+    private long parseLong(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.capstone_java.website.adapter.out.cache;
+
+import com.example.capstone_java.website.application.port.out.NegativeCachePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis String 기반 네거티브 캐시 / 호스트 차단기 어댑터
+ *
+ * 키 구조:
+ * - negative:url:{url}            → 실패 원인 (TTL = URL별 재시도 금지 기간)
+ * - negative:host-failures:{host} → 연속 실패 수 (TTL = 집계 구간, 성공 시 삭제)
+ * - negative:host-open:{host}     → 차단기 열림 (TTL = 차단 기간, 만료 후 첫 요청이 반개방 시도)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisNegativeCacheAdapter implements NegativeCachePort {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String URL_PREFIX = "negative:url:";
+    private static final String HOST_FAILURES_PREFIX = "negative:host-failures:";
+    private static final String HOST_OPEN_PREFIX = "negative:host-open:";
+
+    // INCR + 첫 증가일 때만 구간 TTL 설정
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('INCR', KEYS[1]) " +
+            "if count == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+            "return count",
+            Long.class);
+
+    @Override
+    public void markUrlFailed(String url, Duration ttl) {
+        redisTemplate.opsForValue().set(URL_PREFIX + url, "1", ttl);
+    }
+
+    @Override
+    public Set<String> findFailedUrls(Collection<String> urls) {
+        return findPresent(URL_PREFIX, urls);
+    }
+
+    @Override
+    public long incrementHostFailures(String host, Duration window) {
+        Long count = redisTemplate.execute(INCREMENT_SCRIPT, List.of(HOST_FAILURES_PREFIX + host),
+                String.valueOf(window.toMillis()));
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public void resetHostFailures(String host) {
+        redisTemplate.delete(HOST_FAILURES_PREFIX + host);
+    }
+
+    @Override
+    public void openHost(String host, Duration ttl) {
+        redisTemplate.opsForValue().set(HOST_OPEN_PREFIX + host, "1", ttl);
+    }
+
+    @Override
+    public Set<String> findOpenHosts(Collection<String> hosts) {
+        return findPresent(HOST_OPEN_PREFIX, hosts);
+    }
+
+    private Set<String> findPresent(String prefix, Collection<String> values) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        List<String> ordered = List.copyOf(values);
+        List<String> found = redisTemplate.opsForValue().multiGet(ordered.stream().map(value -> prefix + value).toList());
+        if (found == null) {
+            return Set.of();
+        }
+
+        Set<String> present = new HashSet<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (found.get(i) != null) {
+                present.add(ordered.get(i));
+            }
+        }
+        return present;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.capstone_java.website.adapter.out.cache;
+
+import com.example.capstone_java.website.application.port.out.ProgressCounterPort;
+import com.example.capstone_java.website.domain.vo.ProgressCounts;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis Hash 기반 진행 카운터 어댑터
+ *
+ * 키 구조: progress:{websiteId} → { clientId, crawled, analyzable, analyzed, completed }
+ * - 증가는 Lua 스크립트 한 번으로 처리 (HINCRBY x3 + TTL 갱신 + 스냅샷 반환)
+ * - clientId 필드가 없으면 초기화되지 않은 것으로 간주 → 호출 측에서 DB로 재조정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisProgressCounterAdapter implements ProgressCounterPort {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String KEY_PREFIX = "progress:";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24); // crawled_urls 캐시와 동일
+
+    private static final String FIELD_CLIENT_ID = "clientId";
+    private static final String FIELD_CRAWLED = "crawled";
+    private static final String FIELD_ANALYZABLE = "analyzable";
+    private static final String FIELD_ANALYZED = "analyzed";
+    private static final String FIELD_COMPLETED = "completed";
+
+    private static final List<String> SNAPSHOT_FIELDS =
+            List.of(FIELD_CLIENT_ID, FIELD_CRAWLED, FIELD_ANALYZABLE, FIELD_ANALYZED);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HINCRBY', KEYS[1], 'crawled', ARGV[1]) " +
+            "redis.call('HINCRBY', KEYS[1], 'analyzable', ARGV[2]) " +
+            "redis.call('HINCRBY', KEYS[1], 'analyzed', ARGV[3]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "return redis.call('HMGET', KEYS[1], 'clientId', 'crawled', 'analyzable', 'analyzed')",
+            List.class);
+
+    @Override
+    public void initialize(WebsiteId websiteId, String clientId) {
+        write(websiteId, new ProgressCounts(clientId, 0, 0, 0));
+        log.debug("진행 카운터 초기화: WebsiteId={}, clientId={}", websiteId.getId(), clientId);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<ProgressCounts> increment(WebsiteId websiteId, long crawled, long analyzable, long analyzed) {
+        List<Object> values = redisTemplate.execute(INCREMENT_SCRIPT, List.of(buildKey(websiteId)),
+                String.valueOf(crawled), String.valueOf(analyzable), String.valueOf(analyzed),
+                String.valueOf(DEFAULT_TTL.toMillis()));
+        return toCounts(values);
+    }
+
+    @Override
+    public Optional<ProgressCounts> find(WebsiteId websiteId) {
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        return toCounts(hashOps.multiGet(buildKey(websiteId), SNAPSHOT_FIELDS));
+    }
+
+    @Override
+    public void reconcile(WebsiteId websiteId, ProgressCounts counts) {
+        write(websiteId, counts);
+        log.info("진행 카운터 재조정: WebsiteId={}, crawled={}, analyzable={}, analyzed={}",
+                websiteId.getId(), counts.crawled(), counts.analyzable(), counts.analyzed());
+    }
+
+    @Override
+    public boolean tryMarkCompleted(WebsiteId websiteId) {
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        return Boolean.TRUE.equals(hashOps.putIfAbsent(buildKey(websiteId), FIELD_COMPLETED, "1"));
+    }
+
+    private void write(WebsiteId websiteId, ProgressCounts counts) {
+        String key = buildKey(websiteId);
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        hashOps.putAll(key, Map.of(
+                FIELD_CLIENT_ID, counts.clientId(),
+                FIELD_CRAWLED, String.valueOf(counts.crawled()),
+                FIELD_ANALYZABLE, String.valueOf(counts.analyzable()),
+                FIELD_ANALYZED, String.valueOf(counts.analyzed())
+        ));
+        redisTemplate.expire(key, DEFAULT_TTL);
+    }
+
+    private Optional<ProgressCounts> toCounts(List<?> values) {
+        if (values == null || values.size() < SNAPSHOT_FIELDS.size() || values.get(0) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ProgressCounts(
+                values.get(0).toString(),
+                parseLong(values.get(1)),
+                parseLong(values.get(2)),
+                parseLong(values.get(3))
+        ));
+    }
+
+    private long parseLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private String buildKey(WebsiteId websiteId) {
+        return KEY_PREFIX + websiteId.getId().toString();
+    }
+}
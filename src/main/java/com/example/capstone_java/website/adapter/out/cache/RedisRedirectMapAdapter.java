@@ -0,0 +1,79 @@
+package com.example.capstone_java.website.adapter.out.cache;
+
+import com.example.capstone_java.website.application.port.out.RedirectMapPort;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis Hash 기반 리다이렉트 맵 어댑터
+ *
+ * 키 구조:
+ * - redirect:map:{websiteId}   → { 요청 URL: 최종 URL }
+ * - redirect:owner:{websiteId} → { 최종 URL: 처음 렌더링한 요청 URL }
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisRedirectMapAdapter implements RedirectMapPort {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String MAP_PREFIX = "redirect:map:";
+    private static final String OWNER_PREFIX = "redirect:owner:";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24); // crawled_urls 캐시와 동일
+
+    // HSETNX + 현재 담당 URL 반환 + TTL 갱신
+    private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return redis.call('HGET', KEYS[1], ARGV[1])",
+            String.class);
+
+    @Override
+    public void recordRedirect(WebsiteId websiteId, String url, String finalUrl) {
+        String key = MAP_PREFIX + key(websiteId);
+        redisTemplate.opsForHash().put(key, url, finalUrl);
+        redisTemplate.expire(key, DEFAULT_TTL);
+    }
+
+    @Override
+    public Map<String, String> findFinalUrls(WebsiteId websiteId, Collection<String> urls) {
+        if (urls.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> ordered = List.copyOf(urls);
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        List<String> finals = hashOps.multiGet(MAP_PREFIX + key(websiteId), ordered);
+
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (finals.get(i) != null) {
+                result.put(ordered.get(i), finals.get(i));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<String> claimFinalUrl(WebsiteId websiteId, String finalUrl, String url) {
+        String owner = redisTemplate.execute(CLAIM_SCRIPT, List.of(OWNER_PREFIX + key(websiteId)),
+                finalUrl, url, String.valueOf(DEFAULT_TTL.toMillis()));
+        return owner == null || owner.equals(url) ? Optional.empty() : Optional.of(owner);
+    }
+
+    private String key(WebsiteId websiteId) {
+        return websiteId.getId().toString();
+    }
+}
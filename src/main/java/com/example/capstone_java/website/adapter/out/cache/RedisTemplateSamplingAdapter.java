@@ -0,0 +1,79 @@
+package com.example.capstone_java.website.adapter.out.cache;
+
+import com.example.capstone_java.website.application.port.out.TemplateSamplingPort;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Hash 기반 템플릿 샘플링 어댑터
+ *
+ * 키 구조:
+ * - sampling:templates:{websiteId} → { templateKey: 페이지 수 }
+ * - sampling:positions:{websiteId} → { 페이지 URL: 발급한 순번 } (재전달된 페이지를 다시 세지 않기 위함)
+ * - sampling:samples:{websiteId}   → { 대표 페이지 URL: templateKey }
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisTemplateSamplingAdapter implements TemplateSamplingPort {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String TEMPLATES_PREFIX = "sampling:templates:";
+    private static final String POSITIONS_PREFIX = "sampling:positions:";
+    private static final String SAMPLES_PREFIX = "sampling:samples:";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24); // 진행 카운터와 동일
+
+    // KEYS: templates, positions / ARGV: url, templateKey, ttlMillis
+    private static final RedisScript<Long> ADD_PAGE_SCRIPT = new DefaultRedisScript<>(
+            "local existing = redis.call('HGET', KEYS[2], ARGV[1]) " +
+            "if existing then return tonumber(existing) end " +
+            "local position = redis.call('HINCRBY', KEYS[1], ARGV[2], 1) " +
+            "redis.call('HSET', KEYS[2], ARGV[1], position) " +
+            "if position == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[3]) end " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[3]) " +
+            "return position",
+            Long.class);
+
+    @Override
+    public long addPage(WebsiteId websiteId, String url, String templateKey) {
+        Long position = redisTemplate.execute(ADD_PAGE_SCRIPT,
+                List.of(TEMPLATES_PREFIX + websiteId.getId(), POSITIONS_PREFIX + websiteId.getId()),
+                url, templateKey, String.valueOf(DEFAULT_TTL.toMillis()));
+        return position != null ? position : 1L;
+    }
+
+    @Override
+    public void recordSample(WebsiteId websiteId, String url, String templateKey) {
+        String key = SAMPLES_PREFIX + websiteId.getId();
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        hashOps.put(key, url, templateKey);
+        redisTemplate.expire(key, DEFAULT_TTL);
+    }
+
+    @Override
+    public Map<String, Long> templateTotals(WebsiteId websiteId) {
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        Map<String, Long> totals = new HashMap<>();
+        hashOps.entries(TEMPLATES_PREFIX + websiteId.getId())
+                .forEach((template, count) -> totals.put(template, Long.parseLong(count)));
+        return totals;
+    }
+
+    @Override
+    public Map<String, String> samples(WebsiteId websiteId) {
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        return hashOps.entries(SAMPLES_PREFIX + websiteId.getId());
+    }
+}
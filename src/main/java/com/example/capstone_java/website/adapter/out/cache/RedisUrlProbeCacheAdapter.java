@@ -0,0 +1,95 @@
+package com.example.capstone_java.website.adapter.out.cache;
+
+import com.example.capstone_java.website.application.port.out.UrlProbeCachePort;
+import com.example.capstone_java.website.domain.vo.UrlProbe;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis String 기반 URL 확인 결과 캐시
+ *
+ * 키 구조: probe:{url} → "{kind}\t{finalUrl}"
+ * 저장은 Lua 스크립트 한 번으로 배치 처리 (SET PX x n)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisUrlProbeCacheAdapter implements UrlProbeCachePort {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String KEY_PREFIX = "probe:";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+    private static final char SEPARATOR = '\t';
+
+    // KEYS: probe 키들, ARGV: ttlMillis, value1, value2, ...
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do " +
+            "  redis.call('SET', KEYS[i], ARGV[i + 1], 'PX', ARGV[1]) " +
+            "end " +
+            "return #KEYS",
+            Long.class);
+
+    @Override
+    public Map<String, UrlProbe> findAll(Collection<String> urls) {
+        if (urls.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> ordered = List.copyOf(urls);
+        List<String> values = redisTemplate.opsForValue().multiGet(ordered.stream().map(url -> KEY_PREFIX + url).toList());
+        if (values == null) {
+            return Map.of();
+        }
+
+        Map<String, UrlProbe> probes = new HashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            UrlProbe probe = decode(values.get(i));
+            if (probe != null) {
+                probes.put(ordered.get(i), probe);
+            }
+        }
+        return probes;
+    }
+
+    @Override
+    public void saveAll(Map<String, UrlProbe> probes) {
+        if (probes.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(probes.size());
+        Object[] args = new Object[probes.size() + 1];
+        args[0] = String.valueOf(DEFAULT_TTL.toMillis());
+        int i = 1;
+        for (Map.Entry<String, UrlProbe> entry : probes.entrySet()) {
+            keys.add(KEY_PREFIX + entry.getKey());
+            args[i++] = entry.getValue().kind().name() + SEPARATOR + entry.getValue().finalUrl();
+        }
+        redisTemplate.execute(SAVE_SCRIPT, keys, args);
+    }
+
+    private UrlProbe decode(String value) {
+        if (value == null) {
+            return null;
+        }
+        int separator = value.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            return new UrlProbe(UrlProbe.Kind.valueOf(value.substring(0, separator)), value.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
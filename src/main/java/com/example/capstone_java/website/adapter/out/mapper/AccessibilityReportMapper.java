@@ -1,6 +1,7 @@
 package com.example.capstone_java.website.adapter.out.mapper;
 
 import com.example.capstone_java.website.adapter.out.persistence.entity.AccessibilityReportEntity;
+import com.example.capstone_java.website.adapter.out.persistence.repository.AccessibilityReportListRow;
 import com.example.capstone_java.website.domain.entity.AccessibilityReport;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 import org.mapstruct.Mapper;
@@ -42,7 +43,31 @@ public interface AccessibilityReportMapper {
             entity.getTotalButtons(),
             entity.getAccessibleButtons(),
             entity.getAccessibilityScore(),
-            entity.getScreenshotPath()
+            entity.getScreenshotPath(),
+            entity.getDetailReport()
+        );
+    }
+
+    /**
+     * 목록 조회 행을 도메인 객체로 변환 (analysisResult 없음)
+     */
+    default AccessibilityReport toDomainFromListRow(AccessibilityReportListRow row) {
+        if (row == null) {
+            return null;
+        }
+
+        return AccessibilityReport.withId(
+            row.id(),
+            WebsiteId.of(row.websiteId()),
+            row.url(),
+            null,
+            row.analyzedAt(),
+            row.taskId(),
+            row.totalButtons(),
+            row.accessibleButtons(),
+            row.accessibilityScore(),
+            row.screenshotPath(),
+            row.detailReport()
         );
     }
 
@@ -63,7 +88,8 @@ public interface AccessibilityReportMapper {
             report.getTotalButtons(),
             report.getAccessibleButtons(),
             report.getAccessibilityScore(),
-            report.getScreenshotPath()
+            report.getScreenshotPath(),
+            report.getDetailReport()
         );
     }
 }
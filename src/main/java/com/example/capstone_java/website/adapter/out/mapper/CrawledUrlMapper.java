@@ -2,6 +2,7 @@ package com.example.capstone_java.website.adapter.out.mapper;
 
 import com.example.capstone_java.website.adapter.out.persistence.entity.CrawledUrlEntity;
 import com.example.capstone_java.website.domain.entity.CrawledUrl;
+import com.example.capstone_java.website.domain.vo.PageValidators;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -13,11 +14,22 @@ import java.util.UUID;
 public interface CrawledUrlMapper {
 
     @Mapping(target = "websiteId", source = "websiteId", qualifiedByName = "websiteIdToUuid")
+    @Mapping(target = "etag", source = "validators.etag")
+    @Mapping(target = "lastModified", source = "validators.lastModified")
+    @Mapping(target = "contentHash", source = "validators.contentHash")
     CrawledUrlEntity toEntity(CrawledUrl crawledUrl);
 
     @Mapping(target = "websiteId", source = "websiteId", qualifiedByName = "uuidToWebsiteId")
+    @Mapping(target = "validators", source = ".", qualifiedByName = "entityToValidators")
+    @Mapping(target = "markDuplicateOf", ignore = true)
+    @Mapping(target = "withValidators", ignore = true)
     CrawledUrl toDomain(CrawledUrlEntity entity);
 
+    @Named("entityToValidators")
+    default PageValidators entityToValidators(CrawledUrlEntity entity) {
+        return new PageValidators(entity.getEtag(), entity.getLastModified(), entity.getContentHash());
+    }
+
     @Named("websiteIdToUuid")
     default UUID websiteIdToUuid(WebsiteId websiteId) {
         return websiteId != null ? websiteId.getId() : null;
@@ -7,10 +7,12 @@ import com.example.capstone_java.website.global.config.CrawlConfiguration;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Set;
 import java.util.UUID;
@@ -25,9 +27,14 @@ public interface WebsiteMapper {
     @Mapping(target = "maxDurationMinutes", source = "crawlConfig.maxDuration", qualifiedByName = "durationToMinutes")
     @Mapping(target = "allowedPaths", source = "crawlConfig.allowedPaths", qualifiedByName = "setToJson")
     @Mapping(target = "excludedPaths", source = "crawlConfig.excludedPaths", qualifiedByName = "setToJson")
+    @Mapping(target = "ignoredQueryParams", source = "crawlConfig.ignoredQueryParams", qualifiedByName = "setToJson")
+    @Mapping(target = "samplesPerTemplate", source = "crawlConfig.samplesPerTemplate")
+    @Mapping(target = "previousWebsiteId", source = "previousWebsiteId.id")
+    @Mapping(target = "activeRunKey", source = ".", qualifiedByName = "activeRunKey")
     WebsiteEntity toWebsiteEntity(Website website);
 
     @Mapping(target = "websiteId", source = "websiteId", qualifiedByName = "idToWebsiteId")
+    @Mapping(target = "previousWebsiteId", source = "previousWebsiteId", qualifiedByName = "idToWebsiteId")
     @Mapping(target = "crawlConfig", source = ".", qualifiedByName = "entityToCrawlConfig")
     Website toWebsiteDomain(WebsiteEntity websiteEntity);
 
@@ -36,6 +43,18 @@ public interface WebsiteMapper {
         return id != null ? new WebsiteId(id) : null;
     }
 
+    /**
+     * 진행 중인 분석만 키를 가짐 → 같은 clientId + URL의 진행 중 행은 하나뿐 (종료 상태로 저장되면 null로 풀림)
+     */
+    @Named("activeRunKey")
+    default String activeRunKey(Website website) {
+        if (!website.isActive()) {
+            return null;
+        }
+        String identity = website.getClientId() + "\n" + website.getMainUrl();
+        return Hashing.sha256().hashString(identity, StandardCharsets.UTF_8).toString();
+    }
+
     @Named("durationToMinutes")
     default Long durationToMinutes(Duration duration) {
         return duration != null ? duration.toMinutes() : null;
@@ -60,6 +79,7 @@ public interface WebsiteMapper {
 
         Set<String> allowedPaths = parseJsonToSet(entity.getAllowedPaths(), mapper);
         Set<String> excludedPaths = parseJsonToSet(entity.getExcludedPaths(), mapper);
+        Set<String> ignoredQueryParams = parseJsonToSet(entity.getIgnoredQueryParams(), mapper);
 
         return new CrawlConfiguration(
             entity.getMaxDepth(),
@@ -67,7 +87,9 @@ public interface WebsiteMapper {
             entity.getMaxUrlsPerPage(),
             Duration.ofMinutes(entity.getMaxDurationMinutes()),
             allowedPaths,
-            excludedPaths
+            excludedPaths,
+            ignoredQueryParams,
+            entity.getSamplesPerTemplate() != null ? entity.getSamplesPerTemplate() : 0
         );
     }
 
@@ -0,0 +1,61 @@
+package com.example.capstone_java.website.adapter.out.persistence;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * NOT NULL 제약 해제 (ddl-auto=update가 하지 않는 기존 컬럼 변경)
+ *
+ * Hibernate는 엔티티에서 nullable=false를 빼도 기존 컬럼의 NOT NULL을 풀지 않으므로,
+ * 더 이상 채우지 않는 컬럼이 기존 DB에서 NOT NULL이면 insert가 실패함
+ * → 스키마 갱신(entityManagerFactory) 직후 확인하고 필요할 때만 ALTER
+ *
+ * 수동 적용 시: ALTER TABLE final_report MODIFY report_json json NULL;
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class NullableColumnMigrator {
+
+    private static final List<NullableColumn> COLUMNS = List.of(
+            new NullableColumn("final_report", "report_json")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void relaxNotNullColumns() {
+        for (NullableColumn column : COLUMNS) {
+            try {
+                String columnType = jdbcTemplate.query(
+                        "SELECT COLUMN_TYPE FROM information_schema.COLUMNS "
+                                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ? "
+                                + "AND IS_NULLABLE = 'NO'",
+                        rs -> rs.next() ? rs.getString(1) : null,
+                        column.table(), column.column());
+                if (columnType == null) {
+                    continue;
+                }
+
+                jdbcTemplate.execute("ALTER TABLE " + column.table() + " MODIFY " + column.column()
+                        + " " + columnType + " NULL");
+                log.info("NOT NULL 제약 해제 완료: {}.{} {}", column.table(), column.column(), columnType);
+            } catch (DataAccessException e) {
+                // 권한 부족 등: 해당 컬럼을 비워 두는 insert가 실패하므로 운영자가 위 ALTER를 직접 적용해야 함
+                log.error("NOT NULL 제약 해제 실패 - 수동 적용 필요: {}.{}, error={}",
+                        column.table(), column.column(), e.getMessage());
+            }
+        }
+    }
+
+    private record NullableColumn(String table, String column) {
+    }
+}
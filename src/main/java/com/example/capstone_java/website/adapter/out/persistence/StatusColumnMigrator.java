@@ -0,0 +1,77 @@
+package com.example.capstone_java.website.adapter.out.persistence;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 상태 컬럼 폭 보정 (ddl-auto=update가 하지 않는 기존 컬럼 변경)
+ *
+ * Hibernate는 이미 있는 컬럼의 타입/길이를 바꾸지 않으므로, 상태 enum 값을 추가하면
+ * 기존 DB의 MySQL ENUM('DISCOVERED','CRAWLED','FAILED') 또는 짧은 varchar 컬럼에 insert가 실패함
+ * → 스키마 갱신(entityManagerFactory) 직후, Kafka 리스너가 시작되기 전에 확인하고 필요할 때만 ALTER
+ *
+ * 수동 적용 시: ALTER TABLE crawled_url MODIFY status varchar(20) NOT NULL;
+ *             ALTER TABLE website MODIFY extraction_status varchar(20) NOT NULL;
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class StatusColumnMigrator {
+
+    private static final List<StatusColumn> COLUMNS = List.of(
+            new StatusColumn("crawled_url", "status", 20),
+            new StatusColumn("website", "extraction_status", 20)
+    );
+
+    private static final Pattern VARCHAR = Pattern.compile("varchar\\((\\d+)\\)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void widenStatusColumns() {
+        for (StatusColumn column : COLUMNS) {
+            try {
+                String columnType = jdbcTemplate.query(
+                        "SELECT COLUMN_TYPE FROM information_schema.COLUMNS "
+                                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+                        rs -> rs.next() ? rs.getString(1) : null,
+                        column.table(), column.column());
+                if (columnType == null || !needsWidening(columnType, column.length())) {
+                    continue;
+                }
+
+                jdbcTemplate.execute("ALTER TABLE " + column.table() + " MODIFY " + column.column()
+                        + " varchar(" + column.length() + ") NOT NULL");
+                log.info("상태 컬럼 변경 완료: {}.{} {} → varchar({})",
+                        column.table(), column.column(), columnType, column.length());
+            } catch (DataAccessException e) {
+                // 권한 부족 등: 새 상태값 insert가 실패하므로 운영자가 위 ALTER를 직접 적용해야 함
+                log.error("상태 컬럼 변경 실패 - 수동 적용 필요: {}.{} varchar({}), error={}",
+                        column.table(), column.column(), column.length(), e.getMessage());
+            }
+        }
+    }
+
+    private static boolean needsWidening(String columnType, int length) {
+        String type = columnType.toLowerCase(Locale.ROOT);
+        if (type.startsWith("enum(")) {
+            return true;
+        }
+        Matcher varchar = VARCHAR.matcher(type);
+        return varchar.matches() && Integer.parseInt(varchar.group(1)) < length;
+    }
+
+    private record StatusColumn(String table, String column, int length) {
+    }
+}
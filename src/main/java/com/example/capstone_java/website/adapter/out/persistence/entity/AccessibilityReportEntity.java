@@ -1,5 +1,6 @@
 package com.example.capstone_java.website.adapter.out.persistence.entity;
 
+import com.example.capstone_java.website.adapter.in.dto.UrlDetailReportDto;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -63,10 +64,19 @@ public class AccessibilityReportEntity {
     @Column(name = "screenshot_path", length = 500)
     private String screenshotPath;
 
+    /**
+     * 수집 시점에 계산된 URL별 상세 보고서 (텍스트 보고서 제외)
+     * 최종 보고서 조립 시 analysis_result를 다시 파싱하지 않기 위해 사용
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "detail_report", columnDefinition = "json")
+    private UrlDetailReportDto detailReport;
+
     // 생성자
     private AccessibilityReportEntity(UUID websiteId, String url, Map<String, Object> analysisResult,
                                      LocalDateTime analyzedAt, String taskId, Integer totalButtons,
-                                     Integer accessibleButtons, Double accessibilityScore, String screenshotPath) {
+                                     Integer accessibleButtons, Double accessibilityScore, String screenshotPath,
+                                     UrlDetailReportDto detailReport) {
         this.websiteId = websiteId;
         this.url = url;
         this.analysisResult = analysisResult;
@@ -76,13 +86,14 @@ public class AccessibilityReportEntity {
         this.accessibleButtons = accessibleButtons;
         this.accessibilityScore = accessibilityScore;
         this.screenshotPath = screenshotPath;
+        this.detailReport = detailReport;
     }
 
     // 정적 팩토리 메서드
     public static AccessibilityReportEntity create(UUID websiteId, String url, Map<String, Object> analysisResult,
                                                    LocalDateTime analyzedAt, String taskId, Integer totalButtons,
                                                    Integer accessibleButtons, Double accessibilityScore,
-                                                   String screenshotPath) {
+                                                   String screenshotPath, UrlDetailReportDto detailReport) {
         return new AccessibilityReportEntity(
             websiteId,
             url,
@@ -92,7 +103,8 @@ public class AccessibilityReportEntity {
             totalButtons,
             accessibleButtons,
             accessibilityScore,
-            screenshotPath
+            screenshotPath,
+            detailReport
         );
     }
 }
@@ -36,7 +36,8 @@ public class CrawledUrlEntity {
     private Integer depth;
 
     @Enumerated(EnumType.STRING)
-    @Column(name = "status", nullable = false)
+    // MySQL ENUM 대신 VARCHAR (상태 추가 시 스키마 변경 불필요)
+    @Column(name = "status", nullable = false, columnDefinition = "varchar(20)")
     private CrawlStatus status;
 
     @Column(name = "discovered_at", nullable = false)
@@ -45,9 +46,23 @@ public class CrawledUrlEntity {
     @Column(name = "crawled_at")
     private LocalDateTime crawledAt;
 
+    @Column(name = "duplicate_of", length = 2048)
+    private String duplicateOf;
+
+    // 증분 재크롤링 변경 확인용 (ETag / Last-Modified / 원본 HTML SHA-256)
+    @Column(name = "etag", length = 255)
+    private String etag;
+
+    @Column(name = "last_modified", length = 64)
+    private String lastModified;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     // 생성자
     public CrawledUrlEntity(UUID websiteId, String url, String parentUrl, Integer depth,
-                           CrawlStatus status, LocalDateTime discoveredAt, LocalDateTime crawledAt) {
+                           CrawlStatus status, LocalDateTime discoveredAt, LocalDateTime crawledAt,
+                           String duplicateOf, String etag, String lastModified, String contentHash) {
         this.websiteId = websiteId;
         this.url = url;
         this.parentUrl = parentUrl;
@@ -55,11 +70,17 @@ public class CrawledUrlEntity {
         this.status = status;
         this.discoveredAt = discoveredAt;
         this.crawledAt = crawledAt;
+        this.duplicateOf = duplicateOf;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.contentHash = contentHash;
     }
 
     // 정적 팩토리 메서드
     public static CrawledUrlEntity create(UUID websiteId, String url, String parentUrl, Integer depth,
-                                         CrawlStatus status, LocalDateTime discoveredAt, LocalDateTime crawledAt) {
-        return new CrawledUrlEntity(websiteId, url, parentUrl, depth, status, discoveredAt, crawledAt);
+                                         CrawlStatus status, LocalDateTime discoveredAt, LocalDateTime crawledAt,
+                                         String duplicateOf, String etag, String lastModified, String contentHash) {
+        return new CrawledUrlEntity(websiteId, url, parentUrl, depth, status, discoveredAt, crawledAt,
+                duplicateOf, etag, lastModified, contentHash);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.capstone_java.website.adapter.out.persistence.entity;
 
+import com.example.capstone_java.website.adapter.in.dto.FinalReportSummaryDto;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -37,14 +38,40 @@ public class FinalReportEntity {
     private UUID websiteId;
 
     /**
-     * 최종 보고서 전체 JSON (FinalReportDto를 JSON으로 직렬화)
+     * 최종 보고서 전체 JSON (레거시 - report_gzip 도입 이전 보고서만 사용)
      *
      * MySQL 8.0+ JSON 타입 사용
      */
     @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "report_json", columnDefinition = "JSON", nullable = false)
+    @Column(name = "report_json", columnDefinition = "JSON")
     private Map<String, Object> reportJson;
 
+    /**
+     * 최종 보고서 JSON을 gzip으로 압축한 본문 (조회 시 그대로 전송)
+     */
+    @Lob
+    @Column(name = "report_gzip", columnDefinition = "LONGBLOB")
+    private byte[] reportGzip;
+
+    /**
+     * 압축 전 JSON의 SHA-256 (ETag)
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /**
+     * 압축 전 JSON 크기 (bytes)
+     */
+    @Column(name = "raw_size")
+    private Integer rawSize;
+
+    /**
+     * 요약(통계) JSON - 페이지별 보고서 없이 요약만 조회할 때 사용
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "summary_json", columnDefinition = "JSON")
+    private FinalReportSummaryDto summaryJson;
+
     /**
      * 평균 점수 (빠른 조회용)
      */
@@ -66,13 +93,31 @@ public class FinalReportEntity {
     /**
      * 정적 팩토리 메서드
      */
-    public static FinalReportEntity create(UUID websiteId, Map<String, Object> reportJson, Double averageScore, Integer analyzedUrlCount) {
+    public static FinalReportEntity create(UUID websiteId, byte[] reportGzip, String contentHash, Integer rawSize,
+                                           FinalReportSummaryDto summaryJson, Double averageScore, Integer analyzedUrlCount) {
         FinalReportEntity entity = new FinalReportEntity();
         entity.websiteId = websiteId;
-        entity.reportJson = reportJson;
+        entity.reportGzip = reportGzip;
+        entity.contentHash = contentHash;
+        entity.rawSize = rawSize;
+        entity.summaryJson = summaryJson;
         entity.averageScore = averageScore;
         entity.analyzedUrlCount = analyzedUrlCount;
         entity.createdAt = LocalDateTime.now();
         return entity;
     }
+
+    /**
+     * 재생성된 보고서로 덮어쓰기 (행을 지우고 다시 넣으면 website_id 유니크 키와 flush 순서가 충돌하므로 제자리 갱신)
+     */
+    public void overwrite(byte[] reportGzip, String contentHash, Integer rawSize,
+                          FinalReportSummaryDto summaryJson, Double averageScore, Integer analyzedUrlCount) {
+        this.reportJson = null;
+        this.reportGzip = reportGzip;
+        this.contentHash = contentHash;
+        this.rawSize = rawSize;
+        this.summaryJson = summaryJson;
+        this.averageScore = averageScore;
+        this.analyzedUrlCount = analyzedUrlCount;
+    }
 }
@@ -0,0 +1,57 @@
+package com.example.capstone_java.website.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 엔티티
+ *
+ * 책임: 커밋과 함께 저장되어 프로세스가 죽어도 유실되지 않는 Kafka 발행 대기 이벤트
+ * - 한 행 = 한 트랜잭션에서 발행된 같은 타입 이벤트 묶음 (JSON 배열)
+ */
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    /**
+     * 이벤트 클래스 이름 (역직렬화 타입)
+     */
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    /**
+     * 이벤트 JSON 배열
+     */
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Column(name = "event_count", nullable = false)
+    private Integer eventCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static OutboxEventEntity create(String topic, String eventType, String payload, int eventCount) {
+        OutboxEventEntity entity = new OutboxEventEntity();
+        entity.topic = topic;
+        entity.eventType = eventType;
+        entity.payload = payload;
+        entity.eventCount = eventCount;
+        entity.createdAt = LocalDateTime.now();
+        return entity;
+    }
+}
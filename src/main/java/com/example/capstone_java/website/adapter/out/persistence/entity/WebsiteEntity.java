@@ -14,10 +14,13 @@ import java.util.UUID;
 @Table(name = "website",
     indexes = {
         @Index(name = "idx_extraction_status", columnList = "extractionStatus"),
-        @Index(name = "idx_created_at", columnList = "createdAt")
+        @Index(name = "idx_created_at", columnList = "createdAt"),
+        @Index(name = "idx_client_id", columnList = "clientId")
     },
+    // (clientId, mainUrl)은 완료된 분석 재요청/증분 재크롤링마다 새 행이 생기므로 유니크가 아님
+    // 대신 진행 중인 분석에만 채워지는 activeRunKey를 유니크로 두어 동시 중복 요청을 DB에서 차단 (NULL은 중복 허용)
     uniqueConstraints = {
-        @UniqueConstraint(name = "uk_client_url", columnNames = {"clientId", "mainUrl"})
+        @UniqueConstraint(name = "uk_active_run", columnNames = {"active_run_key"})
     }
 )
 @Getter
@@ -57,6 +60,18 @@ public class WebsiteEntity {
     @Column(name = "excluded_paths", length = 1000)
     private String excludedPaths; // JSON 문자열로 저장
 
+    @Column(name = "ignored_query_params", length = 1000)
+    private String ignoredQueryParams; // JSON 문자열로 저장
+
+    @Column(name = "samples_per_template")
+    private Integer samplesPerTemplate; // null/0 = 전체 분석
+
+    @Column(name = "previous_website_id")
+    private UUID previousWebsiteId; // 증분 재크롤링의 기준 분석 (null = 전체 크롤링)
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
+
+    @Column(name = "active_run_key", length = 64)
+    private String activeRunKey; // 진행 중이면 SHA-256(clientId + mainUrl), 끝나면 null
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.example.capstone_java.website.adapter.out.persistence.repository;
 
 import com.example.capstone_java.website.adapter.out.persistence.entity.AccessibilityReportEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,6 +22,25 @@ public interface AccessibilityReportJpaRepository extends JpaRepository<Accessib
      */
     List<AccessibilityReportEntity> findByWebsiteIdOrderByAnalyzedAtDesc(UUID websiteId);
 
+    /**
+     * 커서 기반 페이지 조회 (id > afterId, 점수 구간 필터)
+     * 점수가 없는 보고서는 보고서 통계와 동일하게 0점으로 취급
+     * 목록에 필요한 컬럼만 읽음 (analysis_result는 읽지 않음)
+     */
+    @Query("SELECT new com.example.capstone_java.website.adapter.out.persistence.repository.AccessibilityReportListRow(" +
+           "r.id, r.websiteId, r.url, r.analyzedAt, r.taskId, r.totalButtons, r.accessibleButtons, " +
+           "r.accessibilityScore, r.screenshotPath, r.detailReport) " +
+           "FROM AccessibilityReportEntity r " +
+           "WHERE r.websiteId = :websiteId AND r.id > :afterId " +
+           "AND (:minScore IS NULL OR COALESCE(r.accessibilityScore, 0.0) >= :minScore) " +
+           "AND (:maxScore IS NULL OR COALESCE(r.accessibilityScore, 0.0) < :maxScore) " +
+           "ORDER BY r.id ASC")
+    List<AccessibilityReportListRow> findPageByWebsiteId(@Param("websiteId") UUID websiteId,
+                                                         @Param("afterId") long afterId,
+                                                         @Param("minScore") Double minScore,
+                                                         @Param("maxScore") Double maxScore,
+                                                         Pageable pageable);
+
     /**
      * 특정 URL의 분석 보고서 조회
      */
@@ -29,6 +51,11 @@ public interface AccessibilityReportJpaRepository extends JpaRepository<Accessib
      */
     Optional<AccessibilityReportEntity> findByWebsiteIdAndUrl(UUID websiteId, String url);
 
+    /**
+     * 특정 웹사이트와 URL의 가장 최근 분석 보고서 조회 (같은 URL이 여러 번 분석된 경우 포함)
+     */
+    Optional<AccessibilityReportEntity> findFirstByWebsiteIdAndUrlOrderByIdDesc(UUID websiteId, String url);
+
     /**
      * Task ID로 분석 보고서 조회
      */
@@ -0,0 +1,23 @@
+package com.example.capstone_java.website.adapter.out.persistence.repository;
+
+import com.example.capstone_java.website.adapter.in.dto.UrlDetailReportDto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 목록 조회용 보고서 행 (analysis_result 제외)
+ */
+public record AccessibilityReportListRow(
+        Long id,
+        UUID websiteId,
+        String url,
+        LocalDateTime analyzedAt,
+        String taskId,
+        Integer totalButtons,
+        Integer accessibleButtons,
+        Double accessibilityScore,
+        String screenshotPath,
+        UrlDetailReportDto detailReport
+) {
+}
@@ -2,12 +2,14 @@ package com.example.capstone_java.website.adapter.out.persistence.repository;
 
 import com.example.capstone_java.website.adapter.out.persistence.entity.CrawledUrlEntity;
 import com.example.capstone_java.website.domain.entity.CrawlStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -40,6 +42,27 @@ public interface CrawledUrlJpaRepository extends JpaRepository<CrawledUrlEntity,
      */
     long countByWebsiteIdAndStatus(UUID websiteId, CrawlStatus status);
 
+    /**
+     * 특정 상태인 URL 조회
+     */
+    List<CrawledUrlEntity> findByWebsiteIdAndStatus(UUID websiteId, CrawlStatus status);
+
+    /**
+     * 특정 URL의 특정 상태 행 중 가장 최근 것 조회
+     */
+    Optional<CrawledUrlEntity> findFirstByWebsiteIdAndUrlAndStatusOrderByIdDesc(UUID websiteId, String url, CrawlStatus status);
+
+    /**
+     * 특정 페이지에서 처음 발견된 하위 URL 조회 (크롤링 그래프)
+     */
+    @Query("SELECT c.url FROM CrawledUrlEntity c WHERE c.websiteId = :websiteId AND c.parentUrl = :parentUrl AND c.status = 'DISCOVERED'")
+    List<String> findDiscoveredUrlsByParentUrl(@Param("websiteId") UUID websiteId, @Param("parentUrl") String parentUrl);
+
+    /**
+     * 특정 상태인 URL을 얕은 깊이부터 조회 (이전 크롤링 그래프로 프론티어 시드)
+     */
+    List<CrawledUrlEntity> findByWebsiteIdAndStatusOrderByDepthAscIdAsc(UUID websiteId, CrawlStatus status, Pageable pageable);
+
     /**
      * AI 분석 가능한 URL 개수 조회 (DISCOVERED + CRAWLED만, FAILED 제외)
      */
@@ -1,7 +1,10 @@
 package com.example.capstone_java.website.adapter.out.persistence.repository;
 
+import com.example.capstone_java.website.adapter.in.dto.FinalReportSummaryDto;
 import com.example.capstone_java.website.adapter.out.persistence.entity.FinalReportEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,6 +21,12 @@ public interface FinalReportJpaRepository extends JpaRepository<FinalReportEntit
      */
     Optional<FinalReportEntity> findByWebsiteId(UUID websiteId);
 
+    /**
+     * 요약 컬럼만 조회 (report_json은 읽지 않음)
+     */
+    @Query("SELECT f.summaryJson FROM FinalReportEntity f WHERE f.websiteId = :websiteId")
+    Optional<FinalReportSummaryDto> findSummaryByWebsiteId(@Param("websiteId") UUID websiteId);
+
     /**
      * WebsiteId로 존재 여부 확인
      */
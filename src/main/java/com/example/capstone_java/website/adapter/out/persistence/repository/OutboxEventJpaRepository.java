@@ -0,0 +1,22 @@
+package com.example.capstone_java.website.adapter.out.persistence.repository;
+
+import com.example.capstone_java.website.adapter.out.persistence.entity.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 아웃박스 Repository
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * 오래된 순으로 잠금 조회 (MySQL 8.0+ SKIP LOCKED: 여러 노드가 서로 다른 행을 가져감)
+     */
+    @Query(value = "SELECT * FROM outbox_event ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEventEntity> lockNextBatch(@Param("limit") int limit);
+}
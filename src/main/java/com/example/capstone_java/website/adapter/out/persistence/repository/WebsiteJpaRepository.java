@@ -1,15 +1,50 @@
 package com.example.capstone_java.website.adapter.out.persistence.repository;
 
 import com.example.capstone_java.website.adapter.out.persistence.entity.WebsiteEntity;
+import com.example.capstone_java.website.domain.entity.ExtractionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface WebsiteJpaRepository extends JpaRepository<WebsiteEntity, UUID> {
 
     /**
-     * clientId와 mainUrl로 Website 조회
+     * clientId와 mainUrl로 가장 최근 Website 조회 (재요청마다 새 행이 생기므로 최신 1건)
      */
-    Optional<WebsiteEntity> findByClientIdAndMainUrl(String clientId, String mainUrl);
+    Optional<WebsiteEntity> findFirstByClientIdAndMainUrlOrderByCreatedAtDesc(String clientId, String mainUrl);
+
+    /**
+     * 같은 URL의 여러 표기(정규화 전/후) 중 가장 최근 Website 조회
+     */
+    Optional<WebsiteEntity> findFirstByClientIdAndMainUrlInOrderByCreatedAtDesc(
+            String clientId, Collection<String> mainUrls);
+
+    /**
+     * clientId와 mainUrl로 특정 상태인 가장 최근 Website 조회
+     */
+    Optional<WebsiteEntity> findFirstByClientIdAndMainUrlAndExtractionStatusOrderByCreatedAtDesc(
+            String clientId, String mainUrl, ExtractionStatus extractionStatus);
+
+    Optional<WebsiteEntity> findFirstByClientIdAndMainUrlInAndExtractionStatusOrderByCreatedAtDesc(
+            String clientId, Collection<String> mainUrls, ExtractionStatus extractionStatus);
+
+    /**
+     * 조건부 상태 변경 - 현재 상태가 expected 중 하나일 때만 (읽은 뒤 전체 저장하는 사이의 경쟁 방지)
+     *
+     * @return 변경된 행 수 (0이면 그 사이 다른 상태로 바뀜)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WebsiteEntity w SET w.extractionStatus = :status, w.activeRunKey = :activeRunKey " +
+           "WHERE w.websiteId = :websiteId AND w.extractionStatus IN :expected")
+    int updateStatus(@Param("websiteId") UUID websiteId,
+                     @Param("status") ExtractionStatus status,
+                     @Param("activeRunKey") String activeRunKey,
+                     @Param("expected") Collection<ExtractionStatus> expected);
 }
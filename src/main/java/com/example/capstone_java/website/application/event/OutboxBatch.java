@@ -0,0 +1,11 @@
+package com.example.capstone_java.website.application.event;
+
+import com.example.capstone_java.website.domain.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * 아웃박스 한 행 (한 트랜잭션에서 같은 토픽으로 발행된 이벤트 묶음)
+ */
+public record OutboxBatch(Long id, String topic, List<DomainEvent> events) {
+}
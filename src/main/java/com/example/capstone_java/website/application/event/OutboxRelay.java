@@ -0,0 +1,142 @@
+package com.example.capstone_java.website.application.event;
+
+import com.example.capstone_java.website.application.port.out.OutboxPort;
+import com.example.capstone_java.website.domain.event.DomainEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * 책임: outbox_event 행을 묶음으로 잠그고 Kafka로 전송한 뒤 삭제 (at-least-once)
+ * - 커밋 직후 wakeUp()으로 즉시 전송, 주기 폴링은 누락/장애 복구용
+ * - 한 묶음의 send를 모두 보낸 뒤 한 번에 대기 → 프로듀서 배치(linger.ms/batch.size)가 채워짐
+ * - 전송 실패 시 트랜잭션 롤백 → 행이 남아 다음 주기에 재전송
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxPort outboxPort;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchRows;
+    private final long sendTimeoutMillis;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OutboxRelay(OutboxPort outboxPort,
+                       KafkaTemplate<String, Object> kafkaTemplate,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${app.outbox.batch-rows:50}") int batchRows,
+                       @Value("${app.outbox.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.outboxPort = outboxPort;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchRows = batchRows;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+    }
+
+    /**
+     * 아웃박스 커밋 직후 호출 (호출 스레드는 기다리지 않음)
+     */
+    public void wakeUp() {
+        requested.set(true);
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drainRequested);
+        }
+    }
+
+    /**
+     * 주기 폴링 (wakeUp 누락, 전송 실패, 다른 노드 장애로 남은 행 처리)
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    private void drainRequested() {
+        try {
+            while (requested.getAndSet(false)) {
+                drainAll();
+            }
+        } finally {
+            draining.set(false);
+            // finally 직전에 들어온 요청 처리
+            if (requested.get() && draining.compareAndSet(false, true)) {
+                executor.execute(this::drainRequested);
+            }
+        }
+    }
+
+    private void drainAll() {
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayOnce());
+            } while (relayed != null && relayed == batchRows);
+        } catch (Exception e) {
+            log.warn("아웃박스 릴레이 실패 (다음 주기에 재시도): error={}", e.getMessage());
+        }
+    }
+
+    private int relayOnce() {
+        List<OutboxBatch> batches = outboxPort.lockNextBatches(batchRows);
+        if (batches.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        List<Long> ids = new ArrayList<>(batches.size());
+        for (OutboxBatch batch : batches) {
+            for (DomainEvent event : batch.events()) {
+                futures.add(kafkaTemplate.send(batch.topic(), event.getPartitionKey(), event));
+            }
+            ids.add(batch.id());
+        }
+
+        awaitAll(futures);
+        outboxPort.delete(ids);
+
+        log.debug("아웃박스 릴레이 완료: rows={}, events={}", batches.size(), futures.size());
+        return batches.size();
+    }
+
+    private void awaitAll(List<CompletableFuture<?>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("아웃박스 전송 대기 중단", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("아웃박스 Kafka 전송 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.capstone_java.website.application.event;
+
+import com.example.capstone_java.website.application.event.handler.KafkaEventHandler;
+import com.example.capstone_java.website.domain.event.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 아웃박스를 거쳐 Kafka로 나가는 이벤트와 토픽 매핑
+ *
+ * 매핑은 KafkaEventHandler가 가진 토픽을 그대로 사용 (직접 디스패치와 같은 곳에서 관리)
+ * 매핑이 없는 이벤트(AnalysisCompletedEvent 등 내부 이벤트)는 기존처럼 커밋 후 디스패치
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxTopicResolver {
+
+    private final List<KafkaEventHandler<?>> kafkaEventHandlers;
+
+    public Optional<String> resolve(DomainEvent event) {
+        return kafkaEventHandlers.stream()
+                .filter(handler -> handler.supports(event))
+                .map(KafkaEventHandler::topic)
+                .findFirst();
+    }
+}
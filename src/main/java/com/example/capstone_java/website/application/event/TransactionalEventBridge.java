@@ -1,18 +1,28 @@
 package com.example.capstone_java.website.application.event;
 
+import com.example.capstone_java.website.application.port.out.OutboxPort;
 import com.example.capstone_java.website.domain.event.DomainEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 트랜잭션 경계와 도메인 이벤트 디스패칭을 연결하는 브릿지
  *
  * 역할:
- * - Spring의 @TransactionalEventListener로 트랜잭션 커밋 후 이벤트 수신
- * - 기존 EventDispatcher로 도메인 이벤트 전달
+ * - Kafka로 나가는 이벤트: 같은 트랜잭션 안에서 아웃박스에 저장 (커밋 직전, 토픽/타입별 한 행)
+ *   → 커밋 후 OutboxRelay가 묶음 전송 (커밋과 전송 사이에 프로세스가 죽어도 유실 없음)
+ * - 그 외 이벤트: 기존처럼 트랜잭션 커밋 후 EventDispatcher로 전달
  *
  * 목적:
  * - DB 커밋 전에 Kafka 메시지가 발행되는 Race Condition 방지
@@ -23,16 +33,72 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class TransactionalEventBridge {
 
+    private static final String OUTBOX_BUFFER_KEY = TransactionalEventBridge.class.getName() + ".OUTBOX";
+
     private final EventDispatcher eventDispatcher;
+    private final OutboxTopicResolver outboxTopicResolver;
+    private final OutboxPort outboxPort;
+    private final OutboxRelay outboxRelay;
+
+    /**
+     * 발행 시점에 트랜잭션별 버퍼에 모음 (커밋 직전에 한 번에 저장)
+     */
+    @EventListener
+    public void collectForOutbox(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        outboxTopicResolver.resolve(event).ifPresent(topic -> outboxBuffer().add(topic, event));
+    }
 
     /**
      * 트랜잭션 커밋 후에 도메인 이벤트를 기존 EventDispatcher로 전달
+     * (아웃박스에 저장된 이벤트는 릴레이가 전송하므로 제외)
      *
-     * @param event 도메인 이벤트 (ExtractionStartedEvent, UrlCrawlEvent 등)
+     * @param event 도메인 이벤트 (AnalysisCompletedEvent 등)
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleDomainEventAfterCommit(DomainEvent event) {
+        if (outboxTopicResolver.resolve(event).isPresent()) {
+            return;
+        }
         log.debug("트랜잭션 커밋 완료 - 도메인 이벤트 디스패치 시작: {}", event.getClass().getSimpleName());
         eventDispatcher.dispatch(event);
     }
+
+    private OutboxBuffer outboxBuffer() {
+        OutboxBuffer buffer = (OutboxBuffer) TransactionSynchronizationManager.getResource(OUTBOX_BUFFER_KEY);
+        if (buffer == null) {
+            buffer = new OutboxBuffer();
+            TransactionSynchronizationManager.bindResource(OUTBOX_BUFFER_KEY, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * 트랜잭션 하나에서 발행된 아웃박스 이벤트 (토픽 + 타입별로 묶음)
+     */
+    private final class OutboxBuffer implements TransactionSynchronization {
+        private final Map<String, List<DomainEvent>> events = new LinkedHashMap<>();
+
+        void add(String topic, DomainEvent event) {
+            events.computeIfAbsent(topic + "|" + event.getClass().getName(), key -> new ArrayList<>()).add(event);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            events.forEach((key, list) -> outboxPort.save(key.substring(0, key.indexOf('|')), list));
+            log.debug("아웃박스 저장: rows={}, events={}",
+                    events.size(), events.values().stream().mapToInt(List::size).sum());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OUTBOX_BUFFER_KEY);
+            if (status == STATUS_COMMITTED && !events.isEmpty()) {
+                outboxRelay.wakeUp();
+            }
+        }
+    }
 }
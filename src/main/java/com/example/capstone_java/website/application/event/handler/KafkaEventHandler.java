@@ -0,0 +1,37 @@
+package com.example.capstone_java.website.application.event.handler;
+
+import com.example.capstone_java.website.domain.event.DomainEvent;
+import com.example.capstone_java.website.domain.event.EventHandler;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * 이벤트 타입 하나를 Kafka 토픽 하나로 보내는 핸들러
+ *
+ * 이벤트 → 토픽 매핑은 여기에만 두고, 직접 디스패치(EventDispatcher)와 아웃박스(OutboxTopicResolver)가 함께 사용
+ */
+public abstract class KafkaEventHandler<E extends DomainEvent> implements EventHandler<E> {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final Class<E> eventType;
+    private final String topic;
+
+    protected KafkaEventHandler(KafkaTemplate<String, Object> kafkaTemplate, Class<E> eventType, String topic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.eventType = eventType;
+        this.topic = topic;
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return eventType.isInstance(event);
+    }
+
+    @Override
+    public void handle(E event) {
+        kafkaTemplate.send(topic, event.getPartitionKey(), event);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.capstone_java.website.application.port.in.usecase;
+
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+
+public interface CancelCrawlUseCase {
+
+    /**
+     * 진행 중인 크롤링/분석 취소
+     *
+     * @throws IllegalArgumentException 웹사이트가 없을 때
+     * @throws IllegalStateException    이미 끝난(완료/실패/취소) 분석일 때
+     */
+    void cancel(WebsiteId websiteId);
+}
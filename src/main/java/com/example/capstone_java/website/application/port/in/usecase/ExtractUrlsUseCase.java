@@ -2,6 +2,26 @@ package com.example.capstone_java.website.application.port.in.usecase;
 
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 
+import java.util.Set;
+
 public interface ExtractUrlsUseCase {
-    WebsiteId execute(String clientId, String mainUrl);
+    default WebsiteId execute(String clientId, String mainUrl) {
+        return execute(clientId, mainUrl, Set.of());
+    }
+
+    default WebsiteId execute(String clientId, String mainUrl, Set<String> ignoredQueryParams) {
+        return execute(clientId, mainUrl, ignoredQueryParams, null);
+    }
+
+    default WebsiteId execute(String clientId, String mainUrl, Set<String> ignoredQueryParams, Integer samplesPerTemplate) {
+        return execute(clientId, mainUrl, ignoredQueryParams, samplesPerTemplate, false);
+    }
+
+    /**
+     * @param ignoredQueryParams URL 정규화 시 추가로 제거할 사이트별 쿼리 파라미터 (null 허용)
+     * @param samplesPerTemplate 템플릿 샘플링 모드의 템플릿당 분석 페이지 수 (null 또는 0이면 전체 분석)
+     * @param incremental        이전 완료 분석 결과를 바뀌지 않은 페이지에 재사용할지 (이전 분석이 없으면 전체 크롤링)
+     */
+    WebsiteId execute(String clientId, String mainUrl, Set<String> ignoredQueryParams, Integer samplesPerTemplate,
+                      boolean incremental);
 }
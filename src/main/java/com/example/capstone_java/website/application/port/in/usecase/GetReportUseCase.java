@@ -0,0 +1,19 @@
+package com.example.capstone_java.website.application.port.in.usecase;
+
+import com.example.capstone_java.website.adapter.in.dto.FinalReportSummaryDto;
+import com.example.capstone_java.website.adapter.in.dto.UrlDetailReportDto;
+import com.example.capstone_java.website.adapter.in.dto.UrlReportFilter;
+import com.example.capstone_java.website.adapter.in.dto.UrlReportPageDto;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface GetReportUseCase {
+
+    Optional<FinalReportSummaryDto> getSummary(WebsiteId websiteId);
+
+    UrlReportPageDto getUrlReports(WebsiteId websiteId, UrlReportFilter filter, Long cursor, int size, boolean includeTextReport);
+
+    void streamUrlReports(WebsiteId websiteId, UrlReportFilter filter, boolean includeTextReport, Consumer<UrlDetailReportDto> sink);
+}
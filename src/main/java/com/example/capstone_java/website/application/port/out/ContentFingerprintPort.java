@@ -0,0 +1,21 @@
+package com.example.capstone_java.website.application.port.out;
+
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+
+import java.util.Optional;
+
+/**
+ * 웹사이트별 분석 완료 페이지의 SimHash 지문 색인
+ */
+public interface ContentFingerprintPort {
+
+    /**
+     * 해밍 거리 maxDistance 이내의 지문을 가진 분석 페이지 URL (가장 가까운 것)
+     */
+    Optional<String> findNearest(WebsiteId websiteId, long fingerprint, int maxDistance);
+
+    /**
+     * AI 분석 대상 페이지의 지문 등록
+     */
+    void register(WebsiteId websiteId, long fingerprint, String url);
+}
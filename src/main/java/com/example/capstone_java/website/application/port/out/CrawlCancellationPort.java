@@ -0,0 +1,15 @@
+package com.example.capstone_java.website.application.port.out;
+
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+
+/**
+ * 취소된 웹사이트 플래그 저장소
+ *
+ * 모든 노드의 컨슈머가 이벤트마다 확인하므로 DB가 아닌 공유 캐시에 둠
+ */
+public interface CrawlCancellationPort {
+
+    void markCancelled(WebsiteId websiteId);
+
+    boolean isCancelled(WebsiteId websiteId);
+}
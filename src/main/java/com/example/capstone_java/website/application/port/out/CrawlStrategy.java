@@ -1,6 +1,10 @@
 package com.example.capstone_java.website.application.port.out;
 
+import com.example.capstone_java.website.domain.vo.ExtractedPage;
+import com.example.capstone_java.website.domain.vo.PageValidators;
+
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 /**
  * 크롤링 전략 인터페이스
@@ -19,6 +23,20 @@ public interface CrawlStrategy {
      */
     List<String> extractUrls(String url);
 
+    /**
+     * URL에서 링크 + DOM 구조 해시 + 본문 지문 + 변경 검증 값 추출 (지원하지 않는 전략은 null / none)
+     */
+    default ExtractedPage extractPage(String url) {
+        return new ExtractedPage(extractUrls(url), null, null, PageValidators.none());
+    }
+
+    /**
+     * 중단 조건을 단계 사이마다 확인하며 추출 (중단되면 빈 결과, 중단을 지원하지 않는 전략은 그대로 추출)
+     */
+    default ExtractedPage extractPage(String url, BooleanSupplier aborted) {
+        return extractPage(url);
+    }
+
     /**
      * 이 전략이 주어진 URL을 처리할 수 있는지 판단
      *
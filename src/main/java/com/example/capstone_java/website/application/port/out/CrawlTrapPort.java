@@ -0,0 +1,36 @@
+package com.example.capstone_java.website.application.port.out;
+
+import com.example.capstone_java.website.domain.vo.CrawlTrap;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 웹사이트별 URL 템플릿 증가량 / 탐지된 트랩 저장소
+ *
+ * JobUpdatingConsumer는 여러 노드/스레드에서 돌기 때문에 템플릿 카운트는 공유 저장소에서 원자적으로 증가
+ * Kafka 재시도/재전달로 같은 배치가 다시 와도 두 번 세지 않도록 배치 id 단위로 기록
+ */
+public interface CrawlTrapPort {
+
+    /**
+     * 이 배치를 반영하기 전 템플릿별 누적 크롤링 대상 수 (같은 배치가 다시 오면 처음 읽은 값을 그대로 반환)
+     */
+    Map<String, Long> countsBefore(WebsiteId websiteId, String batchId, Collection<String> templates);
+
+    /**
+     * 배치에서 크롤링 대상으로 받아들인 URL 수를 템플릿별로 더함
+     *
+     * @return 처음 반영했으면 true, 이미 반영한 배치면 false (아무것도 더하지 않음)
+     */
+    boolean charge(WebsiteId websiteId, String batchId, Map<String, Long> admittedByTemplate);
+
+    /**
+     * 트랩 기록 (최초 사유 유지) + 건너뛴 URL 수 누적 - charge가 true인 배치에서만 호출
+     */
+    void recordTrap(WebsiteId websiteId, String template, CrawlTrap.Reason reason, long skipped);
+
+    List<CrawlTrap> findTraps(WebsiteId websiteId);
+}
@@ -4,6 +4,7 @@ import com.example.capstone_java.website.domain.entity.AccessibilityReport;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * AccessibilityReport 조회 Port
@@ -19,4 +20,20 @@ public interface GetAccessibilityReportPort {
      * WebsiteId로 모든 분석 결과 조회
      */
     List<AccessibilityReport> findAllByWebsiteId(WebsiteId websiteId);
+
+    /**
+     * 특정 웹사이트에서 URL의 가장 최근 분석 결과 조회
+     */
+    Optional<AccessibilityReport> findLatestByWebsiteIdAndUrl(WebsiteId websiteId, String url);
+
+    /**
+     * 커서(보고서 ID) 이후의 분석 결과를 ID 순으로 조회
+     * 상세 보고서가 미리 계산된 보고서는 analysisResult를 채우지 않음
+     *
+     * @param afterId 이 ID보다 큰 보고서만 조회 (처음이면 0)
+     * @param minScore 최종 점수 하한 (포함, null이면 제한 없음)
+     * @param maxScore 최종 점수 상한 (미포함, null이면 제한 없음)
+     * @param limit 최대 조회 개수
+     */
+    List<AccessibilityReport> findPageByWebsiteId(WebsiteId websiteId, long afterId, Double minScore, Double maxScore, int limit);
 }
@@ -1,7 +1,11 @@
 package com.example.capstone_java.website.application.port.out;
 
+import com.example.capstone_java.website.domain.entity.CrawledUrl;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * CrawledUrl 조회 Port
  */
@@ -31,4 +35,29 @@ public interface GetCrawledUrlPort {
      * 실패한 URL 개수 조회 (status = FAILED만)
      */
     long countFailedByWebsiteId(WebsiteId websiteId);
+
+    /**
+     * 발견만 된 URL 행 개수 조회 (status = DISCOVERED만)
+     */
+    long countDiscoveredUrls(WebsiteId websiteId);
+
+    /**
+     * 유사 중복으로 분석을 생략한 URL 조회 (status = DUPLICATE, duplicateOf 포함)
+     */
+    List<CrawledUrl> findDuplicates(WebsiteId websiteId);
+
+    /**
+     * 크롤링 완료(CRAWLED)된 URL 행 조회 (증분 재크롤링의 이전 분석 기준)
+     */
+    Optional<CrawledUrl> findCrawledUrl(WebsiteId websiteId, String url);
+
+    /**
+     * 특정 페이지에서 처음 발견된 하위 URL 목록 (이전 크롤링 그래프)
+     */
+    List<String> findChildUrls(WebsiteId websiteId, String parentUrl);
+
+    /**
+     * 크롤링 완료(CRAWLED)된 URL 행을 얕은 깊이부터 최대 limit개 조회 (parentUrl, depth 포함)
+     */
+    List<CrawledUrl> findCrawledUrls(WebsiteId websiteId, int limit);
 }
@@ -1,6 +1,8 @@
 package com.example.capstone_java.website.application.port.out;
 
+import com.example.capstone_java.website.adapter.in.dto.FinalReportContent;
 import com.example.capstone_java.website.adapter.in.dto.FinalReportDto;
+import com.example.capstone_java.website.adapter.in.dto.FinalReportSummaryDto;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 
 import java.util.Optional;
@@ -17,4 +19,20 @@ public interface GetFinalReportPort {
      * @return 최종 보고서 (없으면 Optional.empty())
      */
     Optional<FinalReportDto> findByWebsiteId(WebsiteId websiteId);
+
+    /**
+     * WebsiteId로 최종 보고서 요약(통계)만 조회
+     *
+     * @param websiteId 웹사이트 ID
+     * @return 보고서 요약 (없으면 Optional.empty())
+     */
+    Optional<FinalReportSummaryDto> findSummaryByWebsiteId(WebsiteId websiteId);
+
+    /**
+     * WebsiteId로 미리 직렬화된 최종 보고서 본문 조회 (gzip + 해시)
+     *
+     * @param websiteId 웹사이트 ID
+     * @return 보고서 본문 (없으면 Optional.empty())
+     */
+    Optional<FinalReportContent> findContentByWebsiteId(WebsiteId websiteId);
 }
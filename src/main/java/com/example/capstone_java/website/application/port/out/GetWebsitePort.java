@@ -9,7 +9,12 @@ public interface GetWebsitePort {
     Optional<Website> findById(WebsiteId websiteId);
 
     /**
-     * clientId와 mainUrl로 Website 조회 (중복 체크용)
+     * clientId와 mainUrl로 가장 최근 Website 조회 (중복 체크 / 증분 재크롤링 기준)
      */
     Optional<Website> findByClientIdAndMainUrl(String clientId, String mainUrl);
+
+    /**
+     * clientId와 mainUrl로 정상 완료된 가장 최근 Website 조회 (이전 크롤링 그래프 재사용)
+     */
+    Optional<Website> findLatestCompleted(String clientId, String mainUrl);
 }
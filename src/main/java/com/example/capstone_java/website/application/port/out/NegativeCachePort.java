@@ -0,0 +1,41 @@
+package com.example.capstone_java.website.application.port.out;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 실패한 URL / 호스트 기록 저장소 (웹사이트와 무관하게 전체 노드가 공유)
+ */
+public interface NegativeCachePort {
+
+    /**
+     * URL을 ttl 동안 실패 상태로 기록
+     */
+    void markUrlFailed(String url, Duration ttl);
+
+    /**
+     * 주어진 URL 중 실패 상태로 기록된 URL
+     */
+    Set<String> findFailedUrls(Collection<String> urls);
+
+    /**
+     * 호스트 연속 실패 수 증가 (window 동안 성공이 없으면 누적) 후 누적값 반환
+     */
+    long incrementHostFailures(String host, Duration window);
+
+    /**
+     * 호스트 요청 성공 → 연속 실패 수 초기화
+     */
+    void resetHostFailures(String host);
+
+    /**
+     * 호스트 차단기 열기 (ttl 동안 요청 차단)
+     */
+    void openHost(String host, Duration ttl);
+
+    /**
+     * 주어진 호스트 중 차단기가 열린 호스트
+     */
+    Set<String> findOpenHosts(Collection<String> hosts);
+}
@@ -0,0 +1,29 @@
+package com.example.capstone_java.website.application.port.out;
+
+import com.example.capstone_java.website.application.event.OutboxBatch;
+import com.example.capstone_java.website.domain.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * 트랜잭셔널 아웃박스 포트
+ *
+ * 도메인 데이터와 같은 트랜잭션에서 발행할 이벤트를 저장하고, 릴레이가 묶음 단위로 꺼내 Kafka로 전송
+ */
+public interface OutboxPort {
+
+    /**
+     * 같은 토픽 이벤트 묶음을 한 행으로 저장 (호출 측 트랜잭션에 참여)
+     */
+    void save(String topic, List<DomainEvent> events);
+
+    /**
+     * 전송 대기 행을 잠그고 조회 (다른 노드가 잠근 행은 건너뜀)
+     */
+    List<OutboxBatch> lockNextBatches(int limit);
+
+    /**
+     * 전송 완료된 행 삭제
+     */
+    void delete(List<Long> ids);
+}
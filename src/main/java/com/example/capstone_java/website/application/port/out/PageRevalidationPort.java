@@ -0,0 +1,18 @@
+package com.example.capstone_java.website.application.port.out;
+
+import com.example.capstone_java.website.domain.vo.PageValidators;
+
+import java.util.Optional;
+
+/**
+ * 증분 재크롤링의 페이지 변경 확인 Port
+ */
+public interface PageRevalidationPort {
+
+    /**
+     * 이전 검증 값으로 조건부 요청을 보내 페이지가 바뀌지 않았는지 확인
+     *
+     * @return 바뀌지 않았으면 현재 검증 값, 바뀌었거나 확인할 수 없으면 empty
+     */
+    Optional<PageValidators> revalidate(String url, PageValidators previous);
+}
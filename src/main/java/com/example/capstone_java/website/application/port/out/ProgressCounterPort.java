@@ -0,0 +1,44 @@
+package com.example.capstone_java.website.application.port.out;
+
+import com.example.capstone_java.website.domain.vo.ProgressCounts;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+
+import java.util.Optional;
+
+/**
+ * 웹사이트별 진행 카운터 포트
+ *
+ * 진행률/완료 판정을 COUNT 쿼리 대신 원자적 증가 카운터로 처리
+ * (DB는 카운터가 없거나 완료 판정을 검증할 때만 사용)
+ */
+public interface ProgressCounterPort {
+
+    /**
+     * 크롤링 시작 시 카운터를 0으로 초기화
+     */
+    void initialize(WebsiteId websiteId, String clientId);
+
+    /**
+     * 카운터를 원자적으로 증가시키고 증가 후 값을 반환
+     *
+     * @return 초기화되지 않은 카운터(만료/유실)면 empty
+     */
+    Optional<ProgressCounts> increment(WebsiteId websiteId, long crawled, long analyzable, long analyzed);
+
+    /**
+     * 현재 카운터 조회
+     *
+     * @return 초기화되지 않은 카운터(만료/유실)면 empty
+     */
+    Optional<ProgressCounts> find(WebsiteId websiteId);
+
+    /**
+     * DB 기준 값으로 카운터를 덮어씀
+     */
+    void reconcile(WebsiteId websiteId, ProgressCounts counts);
+
+    /**
+     * 완료 처리 권한 획득 (여러 노드 중 한 곳에서만 true)
+     */
+    boolean tryMarkCompleted(WebsiteId websiteId);
+}
@@ -0,0 +1,27 @@
+package com.example.capstone_java.website.application.port.out;
+
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 웹사이트별 리다이렉트 맵 (요청 URL → 최종 URL) + 최종 URL 담당 페이지
+ */
+public interface RedirectMapPort {
+
+    void recordRedirect(WebsiteId websiteId, String url, String finalUrl);
+
+    /**
+     * 리다이렉트가 기록된 URL의 최종 URL만 반환
+     */
+    Map<String, String> findFinalUrls(WebsiteId websiteId, Collection<String> urls);
+
+    /**
+     * 최종 URL의 담당 페이지로 url을 등록 (원자적)
+     *
+     * @return 다른 URL이 이미 담당 중이면 그 URL, 이 url이 담당이 되었으면 empty
+     */
+    Optional<String> claimFinalUrl(WebsiteId websiteId, String finalUrl, String url);
+}
@@ -4,4 +4,11 @@ import com.example.capstone_java.website.domain.entity.Website;
 
 public interface SaveWebsitePort {
     Website save(Website website);
+
+    /**
+     * 상태 변경 저장 - 저장된 상태가 website 상태의 이전 상태(ExtractionStatus.predecessors)일 때만 적용
+     *
+     * @return 변경했으면 true, 그 사이 다른 상태로 바뀌었으면(취소 등) false
+     */
+    boolean changeStatus(Website website);
 }
@@ -0,0 +1,14 @@
+package com.example.capstone_java.website.application.port.out;
+
+import java.util.List;
+
+/**
+ * 사이트가 공개한 sitemap에서 페이지 URL 조회 (robots.txt의 Sitemap: 항목, 없으면 /sitemap.xml)
+ */
+public interface SitemapPort {
+
+    /**
+     * @return sitemap에 나열된 페이지 URL (최대 limit개, 가져올 수 없으면 빈 목록)
+     */
+    List<String> findPageUrls(String mainUrl, int limit);
+}
@@ -0,0 +1,35 @@
+package com.example.capstone_java.website.application.port.out;
+
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+
+import java.util.Map;
+
+/**
+ * 템플릿 샘플링 모드의 웹사이트별 템플릿 집계 저장소
+ *
+ * 크롤링 워커는 여러 노드에서 돌기 때문에 템플릿별 순번은 공유 저장소에서 원자적으로 발급
+ * 순번은 URL 단위로 한 번만 발급 (Kafka 재전달로 같은 페이지를 다시 크롤링해도 두 번 세지 않음)
+ */
+public interface TemplateSamplingPort {
+
+    /**
+     * 템플릿에 페이지 하나를 더하고 그 페이지의 순번(1부터)을 반환
+     * 이미 더한 URL이면 더하지 않고 처음 발급한 순번을 반환
+     */
+    long addPage(WebsiteId websiteId, String url, String templateKey);
+
+    /**
+     * AI 분석 대상으로 뽑힌 대표 페이지 기록
+     */
+    void recordSample(WebsiteId websiteId, String url, String templateKey);
+
+    /**
+     * 템플릿별 전체 페이지 수
+     */
+    Map<String, Long> templateTotals(WebsiteId websiteId);
+
+    /**
+     * 대표 페이지 URL → 템플릿
+     */
+    Map<String, String> samples(WebsiteId websiteId);
+}
@@ -0,0 +1,19 @@
+package com.example.capstone_java.website.application.port.out;
+
+import com.example.capstone_java.website.domain.vo.UrlProbe;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * URL 확인 결과 캐시 (웹사이트와 무관하게 URL 단위로 공유)
+ */
+public interface UrlProbeCachePort {
+
+    /**
+     * 캐시에 있는 URL의 확인 결과만 반환
+     */
+    Map<String, UrlProbe> findAll(Collection<String> urls);
+
+    void saveAll(Map<String, UrlProbe> probes);
+}
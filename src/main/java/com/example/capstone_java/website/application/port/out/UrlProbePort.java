@@ -0,0 +1,18 @@
+package com.example.capstone_java.website.application.port.out;
+
+import com.example.capstone_java.website.domain.vo.UrlProbe;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 렌더링 전 URL 콘텐츠 종류 / 최종 URL 확인
+ */
+public interface UrlProbePort {
+
+    /**
+     * URL들을 병렬로 확인 (timeout 안에 끝나지 않은 URL은 UNKNOWN)
+     */
+    Map<String, UrlProbe> probeAll(List<String> urls, Duration timeout);
+}
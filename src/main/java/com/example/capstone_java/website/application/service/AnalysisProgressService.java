@@ -4,19 +4,25 @@ import com.example.capstone_java.website.adapter.in.dto.FinalReportDto;
 import com.example.capstone_java.website.adapter.in.dto.SseProgressDto;
 import com.example.capstone_java.website.application.port.out.*;
 import com.example.capstone_java.website.domain.entity.AccessibilityReport;
+import com.example.capstone_java.website.domain.entity.CrawledUrl;
 import com.example.capstone_java.website.domain.entity.Website;
 import com.example.capstone_java.website.domain.event.AnalysisCompletedEvent;
+import com.example.capstone_java.website.domain.vo.CrawlTrap;
+import com.example.capstone_java.website.domain.vo.ProgressCounts;
+import com.example.capstone_java.website.domain.vo.SamplingCoverage;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
-import com.example.capstone_java.website.global.sse.SseEmitters;
+import com.example.capstone_java.website.global.sse.SseEventBus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.event.TransactionPhase;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * 분석 진행 상황 추적 및 SSE 전송
@@ -25,6 +31,8 @@ import java.util.concurrent.ConcurrentHashMap;
  * 1. 크롤링 진행 상황 전송 (URL 개수)
  * 2. AI 분석 진행 상황 전송 (퍼센트)
  * 3. 완료 시 최종 보고서 생성 및 전송
+ *
+ * 진행률은 Redis 카운터(ProgressCounterPort)로 계산하고, DB COUNT는 재조정/완료 검증에만 사용
  */
 @Slf4j
 @Service
@@ -36,21 +44,116 @@ public class AnalysisProgressService {
     private final GetAccessibilityReportPort getAccessibilityReportPort;
     private final ReportGenerationService reportGenerationService;
     private final FinalReportSaver finalReportSaver;  // 🔥 별도 클래스로 분리
-    private final SseEmitters sseEmitters;
+    private final SseEventBus sseEventBus;
+    private final ProgressAggregator progressAggregator;
 
-    // 마지막 전송 퍼센트 저장 (clientId -> 마지막 전송 퍼센트)
-    private final Map<String, Integer> lastSentPercentage = new ConcurrentHashMap<>();
+    private final ProgressCounterPort progressCounterPort;
+    private final CrawlTrapDetector crawlTrapDetector;
+    private final TemplateSampler templateSampler;
+    private final DuplicatePageDetector duplicatePageDetector;
 
     /**
-     * 크롤링 진행 상황 SSE 전송 (URL 저장할 때마다 호출)
+     * 크롤링 시작 시 진행 카운터 초기화
      */
-    public void notifyCrawlingProgress(WebsiteId websiteId) {
-        Website website = getWebsitePort.findById(websiteId)
-                .orElseThrow(() -> new IllegalArgumentException("Website not found: " + websiteId.getId()));
+    public void startTracking(Website website) {
+        progressCounterPort.initialize(website.getWebsiteId(), website.getClientId());
+    }
+
+    /**
+     * 분석 요청을 크롤링 후에만 발행하는지 (템플릿 샘플링 / 유사 중복 제거 / 증분 재크롤링)
+     *
+     * 이 경우 발견 시점에는 분석 요청 없이 analyzable 자리만 잡아두고,
+     * 크롤링 결과 분석하지 않기로 한 페이지(제외/중복/실패)만 자리를 반납
+     * → 크롤링 중인 페이지가 남아 있는 동안 분석 수가 요청 수를 따라잡아 조기 완료되지 않음
+     */
+    public boolean analyzesAfterCrawl(Website website) {
+        return website.getCrawlConfig().isSamplingEnabled() || duplicatePageDetector.isEnabled() || website.isIncremental();
+    }
+
+    /**
+     * JobUpdatingConsumer에서 새 URL 배치를 저장한 경우
+     * - crawled_url 행 n개 + AI 분석 요청 n개 (크롤링 후 분석 모드에서는 분석 자리 n개)
+     * - 롤백되면 분석 요청도 발행되지 않으므로 카운터는 커밋 후에 증가시키고 그 다음에 진행 상황 전송
+     */
+    public void onUrlsDiscovered(WebsiteId websiteId, int count) {
+        runAfterCommit(() -> notifyCrawlingProgress(websiteId, increment(websiteId, count, count, 0)));
+    }
+
+    /**
+     * CrawlExecutionService에서 CRAWLED 행을 저장하고 분석 요청을 발행한 경우
+     * (크롤링 후 분석 모드의 하위 URL은 발견 시 잡아둔 자리를 사용)
+     */
+    public void onUrlCrawled(Website website, boolean rootUrl) {
+        long analyzable = analyzesAfterCrawl(website) && !rootUrl ? 0 : 1;
+        runAfterCommit(() -> increment(website.getWebsiteId(), 1, analyzable, 0));
+    }
+
+    /**
+     * 템플릿 샘플링 제외(SAMPLED_OUT) / 유사 중복(DUPLICATE)으로 분석 없이 행만 저장된 경우
+     */
+    public void onUrlAnalysisSkipped(Website website, boolean rootUrl) {
+        runAfterCommit(() -> increment(website.getWebsiteId(), 1, releasedSlot(website, rootUrl), 0));
+    }
 
-        String clientId = website.getClientId();
+    /**
+     * 크롤링 실패로 FAILED 행만 저장된 경우 (분석 요청 없음)
+     */
+    public void onUrlCrawlFailed(Website website, boolean rootUrl) {
+        runAfterCommit(() -> increment(website.getWebsiteId(), 1, releasedSlot(website, rootUrl), 0));
+    }
+
+    /**
+     * 크롤링 시간 한도 초과로 분석 자리를 잡아둔 하위 URL n개를 FAILED로 저장한 경우 (ExpiredCrawlReleaser)
+     * 반납한 자리가 마지막 남은 자리였으면 완료 처리
+     */
+    public void onExpiredSlotsReleased(WebsiteId websiteId, int count) {
+        notifyAnalysisProgress(websiteId, increment(websiteId, count, -count, 0));
+    }
+
+    private long releasedSlot(Website website, boolean rootUrl) {
+        return analyzesAfterCrawl(website) && !rootUrl ? -1 : 0;
+    }
+
+    /**
+     * 증분 재크롤링에서 이전 분석 결과를 복사한 경우 (AI 분석 없이 분석 완료로 집계)
+     */
+    public void onAnalysisCarriedForward(WebsiteId websiteId) {
+        runAfterCommit(() -> notifyAnalysisProgress(websiteId, increment(websiteId, 0, 0, 1)));
+    }
+
+    /**
+     * 프론티어 시드 수집 시작 (수집이 끝날 때까지 분석 자리 하나를 잡아둠)
+     */
+    public void onSeedingStarted(WebsiteId websiteId) {
+        increment(websiteId, 0, 1, 0);
+    }
+
+    /**
+     * 프론티어 시드 발행 완료 → 잡아둔 자리 반납 후, 그 사이 분석이 모두 끝났으면 완료 처리
+     */
+    public void onSeedingFinished(WebsiteId websiteId) {
+        notifyAnalysisProgress(websiteId, increment(websiteId, 0, -1, 0));
+    }
+
+    /**
+     * 현재 진행 카운터 조회 (카운터가 없으면 DB 기준으로 재조정)
+     */
+    public ProgressCounts currentCounts(WebsiteId websiteId) {
+        try {
+            return progressCounterPort.find(websiteId).orElseGet(() -> reconcile(websiteId));
+        } catch (RuntimeException e) {
+            log.warn("진행 카운터 조회 실패 - DB 카운트로 대체: websiteId={}, error={}", websiteId.getId(), e.getMessage());
+            return countFromDb(websiteId);
+        }
+    }
+
+    /**
+     * 크롤링 진행 상황 SSE 전송 (URL 저장할 때마다 호출, 전송 빈도는 ProgressAggregator가 제한)
+     */
+    private void notifyCrawlingProgress(WebsiteId websiteId, ProgressCounts counts) {
+        String clientId = counts.clientId();
         //  AI 분석 가능한 URL만 카운트 (DISCOVERED + CRAWLED, FAILED 제외)
-        long totalCrawled = getCrawledUrlPort.countAnalyzableUrls(websiteId);
+        long totalCrawled = counts.analyzable();
 
         SseProgressDto progress = SseProgressDto.builder()
                 .stage("CRAWLING")
@@ -61,20 +164,19 @@ public class AnalysisProgressService {
                 .message("URL 수집 중... " + totalCrawled + "개 발견")
                 .build();
 
-        sseEmitters.send(clientId, progress, "progress");
-        log.debug("크롤링 진행 상황 전송: clientId={}, crawledCount={} (FAILED 제외)", clientId, totalCrawled);
+        progressAggregator.submit(websiteId, clientId, progress);
+        log.debug("크롤링 진행 상황 갱신: clientId={}, crawledCount={} (FAILED 제외)", clientId, totalCrawled);
     }
 
     /**
      * 크롤링 완료 → ANALYZING 단계 시작 SSE 전송
      */
     public void notifyCrawlingCompleted(WebsiteId websiteId) {
-        Website website = getWebsitePort.findById(websiteId)
-                .orElseThrow(() -> new IllegalArgumentException("Website not found: " + websiteId.getId()));
+        ProgressCounts counts = currentCounts(websiteId);
 
-        String clientId = website.getClientId();
+        String clientId = counts.clientId();
         //  AI 분석 가능한 URL만 카운트 (DISCOVERED + CRAWLED, FAILED 제외)
-        long totalAnalyzable = getCrawledUrlPort.countAnalyzableUrls(websiteId);
+        long totalAnalyzable = counts.analyzable();
 
         // ANALYZING 단계 시작 (0% 전송)
         SseProgressDto progress = SseProgressDto.builder()
@@ -86,51 +188,58 @@ public class AnalysisProgressService {
                 .message("AI 분석 중... (0/" + totalAnalyzable + ")")
                 .build();
 
-        sseEmitters.send(clientId, progress, "progress");
+        // 새 단계이므로 interval과 무관하게 즉시 전송됨
+        progressAggregator.submit(websiteId, clientId, progress);
         log.info("크롤링 완료 알림 전송: clientId={}, totalAnalyzable={} (FAILED 제외)", clientId, totalAnalyzable);
     }
 
+    /**
+     * 취소 알림 SSE 전송 후 연결 종료 (취소 트랜잭션 커밋 후)
+     */
+    public void notifyCancelled(Website website) {
+        WebsiteId websiteId = website.getWebsiteId();
+        runAfterCommit(() -> {
+            progressAggregator.release(websiteId);
+            CompletionSignal signal = new CompletionSignal(websiteId.getId().toString(), "CANCELLED");
+            sseEventBus.publishAndClose(website.getClientId(), signal, "cancelled");
+            log.info("취소 알림 전송: clientId={}, websiteId={}", website.getClientId(), websiteId.getId());
+        });
+    }
+
     /**
      * AI 분석 완료 이벤트 리스너 (트랜잭션 커밋 후 실행)
      *
      * 실행 시점: AccessibilityReport가 DB에 커밋된 직후
-     * 장점:
-     * 1. count 조회 시 방금 저장한 report가 포함됨 (정확한 진행률 계산)
-     * 2. 마지막 URL 분석 완료 시 totalAnalyzed >= totalCrawled 조건이 정확히 작동
-     * 3. 100% 완료 체크가 빠지지 않음
+     * - analyzed 카운터를 커밋된 결과에 대해서만 증가
+     * - 증가 후 스냅샷으로 진행률/완료 판정 (COUNT 쿼리 없음)
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onAnalysisCompleted(AnalysisCompletedEvent event) {
         log.debug("트랜잭션 커밋 후 AI 분석 진행 상황 체크 - websiteId={}", event.websiteId().getId());
-        notifyAnalysisProgress(event.websiteId());
+        ProgressCounts counts = increment(event.websiteId(), 0, 0, 1);
+        notifyAnalysisProgress(event.websiteId(), counts);
     }
 
     /**
      * AI 분석 진행 상황 SSE 전송
      *
      *  주의: 이 메서드는 트랜잭션 커밋 후에 호출되어야 합니다.
-     * - AnalysisResultConsumer에서 save() 후 즉시 호출하면 안 됨!
-     * - @TransactionalEventListener(phase = AFTER_COMMIT)로 호출되어야 함
-     * - 그래야 DB count 조회 시 방금 저장한 report가 포함됨
+     * - 카운터가 완료를 가리키면 DB로 한 번 검증한 뒤 완료 권한을 획득한 노드만 최종 보고서 생성
      */
-    private void notifyAnalysisProgress(WebsiteId websiteId) {
-        Website website = getWebsitePort.findById(websiteId)
-                .orElseThrow(() -> new IllegalArgumentException("Website not found: " + websiteId.getId()));
-
-        String clientId = website.getClientId();
-        //  AI 분석 가능한 URL만 카운트 (DISCOVERED + CRAWLED, FAILED 제외)
-        long totalAnalyzable = getCrawledUrlPort.countAnalyzableUrls(websiteId);
-        long totalAnalyzed = getAccessibilityReportPort.countByWebsiteId(websiteId);
+    private void notifyAnalysisProgress(WebsiteId websiteId, ProgressCounts counts) {
+        String clientId = counts.clientId();
+        long totalAnalyzable = counts.analyzable();
+        long totalAnalyzed = counts.analyzed();
 
         log.debug("AI 분석 진행 상황: clientId={}, 분석={}/{} (FAILED 제외)", clientId, totalAnalyzed, totalAnalyzable);
 
         if (totalAnalyzable == 0) return;
 
-        int currentPercentage = (int) ((totalAnalyzed / (double) totalAnalyzable) * 100);
-        int lastPercentage = lastSentPercentage.getOrDefault(clientId, 0);
+        int currentPercentage = counts.analysisPercentage();
 
         // 🔥 핵심 변경: 100%일 때는 progress를 보내지 않음! (complete만 보냄)
-        if (currentPercentage < 100 && currentPercentage - lastPercentage >= 10) {
+        // 전송 빈도는 ProgressAggregator가 interval 단위로 제한 (마지막 값만 전송)
+        if (currentPercentage < 100) {
             SseProgressDto progress = SseProgressDto.builder()
                     .stage("ANALYZING")
                     .crawledCount((int) totalAnalyzable)
@@ -140,26 +249,104 @@ public class AnalysisProgressService {
                     .message("AI 분석 중... (" + totalAnalyzed + "/" + totalAnalyzable + ")")
                     .build();
 
-            sseEmitters.send(clientId, progress, "progress");
-            lastSentPercentage.put(clientId, currentPercentage);
+            progressAggregator.submit(websiteId, clientId, progress);
+        }
+
+        if (!counts.isAnalysisComplete()) {
+            return;
+        }
+
+        // 카운터가 완료를 가리킬 때만 DB로 검증 (사이트당 한두 번)
+        ProgressCounts verified = countFromDb(websiteId);
+        log.info("🔍 완료 체크: 카운터={}/{}, DB={}/{}",
+                totalAnalyzed, totalAnalyzable, verified.analyzed(), verified.analyzable());
 
-            log.info("SSE 진행 상황 전송: clientId={}, {}%", clientId, currentPercentage);
+        if (!verified.isAnalysisComplete()) {
+            log.warn("⚠️ 아직 완료 안 됨: totalAnalyzed={} < totalAnalyzable={}", verified.analyzed(), verified.analyzable());
+            return;
         }
 
-        // 모든 분석 완료 체크
-        //  트랜잭션 커밋 후라서 totalAnalyzed에 방금 저장한 report가 포함됨!
-        //  FAILED URL은 제외하고 DISCOVERED + CRAWLED만 카운트하므로 정확한 100% 체크
-        log.info("🔍 완료 체크: totalAnalyzed={}, totalAnalyzable={}, 조건={}",
-                totalAnalyzed, totalAnalyzable, totalAnalyzed >= totalAnalyzable);
-
-        if (totalAnalyzed >= totalAnalyzable) {
-            log.info("🎉 모든 분석 완료! - clientId={}, total={}", clientId, totalAnalyzable);
-            log.info("⏰ [타임스탬프] 분석 완료 시점: {}", System.currentTimeMillis());
-            // 100% progress는 보내지 않고, 바로 DB 저장 후 complete만 보냄
-            sendFinalReport(clientId, websiteId, website);
-        } else {
-            log.warn("⚠️ 아직 완료 안 됨: totalAnalyzed={} < totalAnalyzable={}", totalAnalyzed, totalAnalyzable);
+        Website website = getWebsitePort.findById(websiteId)
+                .orElseThrow(() -> new IllegalArgumentException("Website not found: " + websiteId.getId()));
+
+        // 취소 전에 요청된 분석 결과가 늦게 도착해도 최종 보고서는 만들지 않음
+        if (website.isCancelled()) {
+            log.info("취소된 웹사이트 - 완료 처리 생략: websiteId={}", websiteId.getId());
+            return;
+        }
+
+        // 여러 노드가 동시에 마지막 결과를 처리해도 최종 보고서는 한 번만 생성
+        if (!progressCounterPort.tryMarkCompleted(websiteId)) {
+            log.info("이미 다른 노드에서 완료 처리됨 - websiteId={}", websiteId.getId());
+            return;
+        }
+
+        log.info("🎉 모든 분석 완료! - clientId={}, total={}", clientId, verified.analyzable());
+        log.info("⏰ [타임스탬프] 분석 완료 시점: {}", System.currentTimeMillis());
+        // 100% progress는 보내지 않고, 바로 DB 저장 후 complete만 보냄 (보류 중인 progress도 폐기)
+        progressAggregator.release(websiteId);
+        sendFinalReport(clientId, websiteId, website);
+    }
+
+    private ProgressCounts increment(WebsiteId websiteId, long crawled, long analyzable, long analyzed) {
+        try {
+            return progressCounterPort.increment(websiteId, crawled, analyzable, analyzed)
+                    .orElseGet(() -> reconcile(websiteId));
+        } catch (RuntimeException e) {
+            log.warn("진행 카운터 증가 실패 - DB 카운트로 대체: websiteId={}, error={}", websiteId.getId(), e.getMessage());
+            return countFromDb(websiteId);
+        }
+    }
+
+    /**
+     * 카운터가 만료/유실된 경우 DB 기준으로 다시 채움
+     */
+    private ProgressCounts reconcile(WebsiteId websiteId) {
+        ProgressCounts counts = countFromDb(websiteId);
+        progressCounterPort.reconcile(websiteId, counts);
+        return counts;
+    }
+
+    private ProgressCounts countFromDb(WebsiteId websiteId) {
+        Website website = getWebsitePort.findById(websiteId)
+                .orElseThrow(() -> new IllegalArgumentException("Website not found: " + websiteId.getId()));
+
+        long total = getCrawledUrlPort.countByWebsiteId(websiteId);
+        return new ProgressCounts(
+                website.getClientId(),
+                total,
+                //  AI 분석 가능한 URL만 카운트 (DISCOVERED + CRAWLED, FAILED 제외)
+                analyzesAfterCrawl(website)
+                        ? countReservedAnalyses(websiteId, total)
+                        : getCrawledUrlPort.countAnalyzableUrls(websiteId),
+                getAccessibilityReportPort.countByWebsiteId(websiteId)
+        );
+    }
+
+    /**
+     * 크롤링 후 분석 모드의 analyzable = 분석 요청된 페이지(CRAWLED) + 아직 크롤링 안 된 하위 URL
+     *
+     * 하위 URL은 DISCOVERED 행 하나 + 크롤링 후 결과 행 하나, 루트는 결과 행만 있으므로
+     * 크롤링 대기 = DISCOVERED 행 - (결과 행 - 루트 1개)
+     */
+    private long countReservedAnalyses(WebsiteId websiteId, long total) {
+        long discovered = getCrawledUrlPort.countDiscoveredUrls(websiteId);
+        long results = total - discovered;
+        long pending = discovered - Math.max(0, results - 1);
+        return getCrawledUrlPort.countCrawledUrls(websiteId) + Math.max(0, pending);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     /**
@@ -170,6 +357,73 @@ public class AnalysisProgressService {
      */
     private record CompletionSignal(String websiteId, String status) {}
 
+    private List<FinalReportDto.CrawlTrapDto> toCrawlTrapDtos(List<CrawlTrap> traps) {
+        return traps.stream()
+                .map(trap -> FinalReportDto.CrawlTrapDto.builder()
+                        .template(trap.template())
+                        .reason(trap.reason().name())
+                        .discoveredUrls(trap.discovered())
+                        .skippedUrls(trap.skipped())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 최종 보고서 생성
+     * - 유사 중복 페이지는 연결된 분석 페이지의 가중치로 더해 통계에 포함
+     * - 샘플링 모드면 템플릿 크기로 가중한 추정 통계 + 샘플링 범위
+     */
+    private FinalReportDto generateFinalReport(String clientId, WebsiteId websiteId, Website website,
+                                               List<AccessibilityReport> reports) {
+        List<CrawledUrl> duplicates = duplicatePageDetector.isEnabled()
+                ? getCrawledUrlPort.findDuplicates(websiteId)
+                : List.of();
+        Map<String, Long> duplicateCounts = duplicates.stream()
+                .collect(Collectors.groupingBy(CrawledUrl::getDuplicateOf, Collectors.counting()));
+
+        if (!website.getCrawlConfig().isSamplingEnabled()) {
+            FinalReportDto report = duplicates.isEmpty()
+                    ? reportGenerationService.generateFinalReport(website.getMainUrl(), clientId, reports)
+                    : reportGenerationService.generateFinalReport(website.getMainUrl(), clientId, reports,
+                            url -> 1.0 + duplicateCounts.getOrDefault(url, 0L));
+            return withDuplicatePages(report, duplicates);
+        }
+
+        TemplateSampler.Summary sampling = templateSampler.summarize(websiteId);
+        // 중복 페이지는 템플릿 집계 전에 걸러지므로 대표 범위에 따로 더함
+        SamplingCoverage coverage = new SamplingCoverage(sampling.coverage().templates(),
+                sampling.coverage().representedPages() + duplicates.size(), sampling.coverage().analyzedPages());
+        log.info("📐 샘플링 보고서 - 템플릿: {}, 분석: {} / 대표: {} 페이지",
+                coverage.templates(), coverage.analyzedPages(), coverage.representedPages());
+
+        FinalReportDto report = reportGenerationService.generateFinalReport(website.getMainUrl(), clientId, reports,
+                        url -> sampling.weightOf(url) + duplicateCounts.getOrDefault(url, 0L))
+                .toBuilder()
+                .samplingCoverage(FinalReportDto.SamplingCoverageDto.builder()
+                        .templateCount(coverage.templates())
+                        .analyzedPages(coverage.analyzedPages())
+                        .representedPages(coverage.representedPages())
+                        .coverageRatio(Math.round(coverage.ratio() * 1000.0) / 1000.0)
+                        .build())
+                .build();
+        return withDuplicatePages(report, duplicates);
+    }
+
+    private FinalReportDto withDuplicatePages(FinalReportDto report, List<CrawledUrl> duplicates) {
+        if (duplicates.isEmpty()) {
+            return report;
+        }
+        log.info("🧬 유사 중복 페이지 {}개 - 분석 결과 공유", duplicates.size());
+        return report.toBuilder()
+                .duplicatePages(duplicates.stream()
+                        .map(duplicate -> FinalReportDto.DuplicatePageDto.builder()
+                                .url(duplicate.getUrl())
+                                .duplicateOf(duplicate.getDuplicateOf())
+                                .build())
+                        .toList())
+                .build();
+    }
+
     private void sendFinalReport(String clientId, WebsiteId websiteId, Website website) {
         try {
             log.info("📊 최종 보고서 생성 시작 - clientId={}, websiteId={}", clientId, websiteId.getId());
@@ -184,18 +438,22 @@ public class AnalysisProgressService {
                 return;  // 빈 보고서 저장하지 않음
             }
 
-            // 2. 최종 보고서 생성
-            FinalReportDto finalReport = reportGenerationService.generateFinalReport(
-                    website.getMainUrl(),
-                    clientId,
-                    reports);
+            // 2. 최종 보고서 생성 (다운로드용 본문은 한 번만 직렬화되므로 텍스트 보고서도 이때 렌더링)
+            FinalReportDto finalReport = reportGenerationService.withTextReports(
+                    generateFinalReport(clientId, websiteId, website, reports))
+                    .toBuilder()
+                    .crawlTraps(toCrawlTrapDtos(crawlTrapDetector.detectedTraps(websiteId)))
+                    .build();
             log.info("✅ 최종 보고서 생성 완료: averageScore={}", finalReport.getAverageScore());
 
             // 3. 🔥 핵심: 외부 클래스를 통한 DB 저장 (Self-Invocation 회피)
             //    → Spring 프록시가 정상 작동
             //    → REQUIRES_NEW 트랜잭션이 즉시 커밋됨
             log.info("⏰ [타임스탬프] DB 저장 호출 직전: {}", System.currentTimeMillis());
-            finalReportSaver.saveWithNewTransaction(websiteId, finalReport, website);
+            if (!finalReportSaver.saveWithNewTransaction(websiteId, finalReport, website)) {
+                // 취소 시 SSE는 이미 cancelled로 종료됨
+                return;
+            }
             log.info("⏰ [타임스탬프] DB 저장 호출 완료 (커밋됨): {}", System.currentTimeMillis());
 
             // 4. 가벼운 완료 신호만 SSE로 전송 (DB 커밋 완료 후!)
@@ -203,15 +461,12 @@ public class AnalysisProgressService {
             CompletionSignal signal = new CompletionSignal(websiteId.getId().toString(), "COMPLETED");
             log.info("⏰ [타임스탬프] SSE 전송 직전: {}", System.currentTimeMillis());
             log.info("📤 complete 신호 전송 시도 - clientId={}, websiteId={}", clientId, websiteId.getId());
-            sseEmitters.send(clientId, signal, "complete");
+            // 5. complete 전송 직후 SSE 연결 종료 (연결된 노드에서 순서대로 처리)
+            sseEventBus.publishAndClose(clientId, signal, "complete");
             log.info("⏰ [타임스탬프] SSE 전송 완료: {}", System.currentTimeMillis());
 
             log.info("🎊 완료 신호 전송 완료: clientId={}, websiteId={}", clientId, websiteId.getId());
 
-            // 5. SSE 연결 종료
-            sseEmitters.complete(clientId);
-            lastSentPercentage.remove(clientId);
-
             log.info("SSE 연결 종료: clientId={}", clientId);
 
         } catch (Exception e) {
@@ -223,8 +478,7 @@ public class AnalysisProgressService {
                     .message("보고서 생성 중 오류가 발생했습니다.")
                     .build();
 
-            sseEmitters.send(clientId, errorProgress, "error");
-            sseEmitters.complete(clientId);
+            sseEventBus.publishAndClose(clientId, errorProgress, "error");
         }
     }
 
@@ -1,12 +1,16 @@
 package com.example.capstone_java.website.application.service;
 
+import com.example.capstone_java.website.application.port.in.usecase.CancelCrawlUseCase;
 import com.example.capstone_java.website.application.port.in.usecase.ExtractUrlsUseCase;
 import com.example.capstone_java.website.application.port.out.GetWebsitePort;
 import com.example.capstone_java.website.application.port.out.SaveWebsitePort;
 import com.example.capstone_java.website.domain.entity.Website;
 import com.example.capstone_java.website.domain.event.ExtractionStartedEvent;
 import com.example.capstone_java.website.domain.exception.DuplicateAnalysisException;
+import com.example.capstone_java.website.domain.service.UrlCanonicalizer;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
+import com.example.capstone_java.website.global.config.CrawlConfiguration;
+import com.example.capstone_java.website.global.sse.SseEventBus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -14,41 +18,58 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+import java.util.Set;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class CommandWebsiteService implements ExtractUrlsUseCase {
+public class CommandWebsiteService implements ExtractUrlsUseCase, CancelCrawlUseCase {
 
     private final GetWebsitePort getWebsitePort;
     private final SaveWebsitePort saveWebsitePort;
     private final ApplicationEventPublisher eventPublisher;
     private final ValidateUrl validateUrl;
+    private final CrawlCancellationGuard crawlCancellationGuard;
+    private final AnalysisProgressService analysisProgressService;
+    private final SseEventBus sseEventBus;
 
     @Override
     @Transactional
-    public WebsiteId execute(final String clientId, final String mainUrl) {
+    public WebsiteId execute(final String clientId, final String requestedUrl, final Set<String> ignoredQueryParams,
+                             final Integer samplesPerTemplate, final boolean incremental) {
+        // 0. 루트 URL도 하위 URL과 같은 규칙으로 정규화 (중복 분석 체크와 자식 URL 중복 제거 기준 통일)
+        String canonicalUrl = UrlCanonicalizer.defaults().canonicalize(requestedUrl);
+        final String mainUrl = canonicalUrl != null ? canonicalUrl : requestedUrl;
+
         // 1. URL 유효성 검증 (대형 사이트 차단)
         if (!validateUrl.isValidUrl(mainUrl)) {
             log.warn("크롤링 불가능한 URL 요청: clientId={}, url={}", clientId, mainUrl);
             throw new IllegalArgumentException("크롤링이 불가능한 사이트입니다. 대형 포털 사이트(네이버, 구글 등)는 지원하지 않습니다.");
         }
 
-        // 2. 사전 중복 체크 (사용자 친화적 메시지)
-        getWebsitePort.findByClientIdAndMainUrl(clientId, mainUrl)
-                .ifPresent(existing -> {
-                    if (existing.isInProgress()) {
-                        throw DuplicateAnalysisException.inProgress(clientId, mainUrl);
-                    }
-                    // 완료된 분석은 재요청 가능하므로 통과
-                    log.info("완료된 분석 재요청: clientId={}, url={}", clientId, mainUrl);
-                });
+        // 2. 사전 중복 체크 (사용자 친화적 메시지, 동시 요청은 저장 시 uk_active_run이 차단)
+        Optional<Website> previous = getWebsitePort.findByClientIdAndMainUrl(clientId, mainUrl);
+        previous.ifPresent(existing -> {
+            if (existing.isActive()) {
+                throw DuplicateAnalysisException.inProgress(clientId, mainUrl);
+            }
+            // 완료된 분석은 재요청 가능하므로 통과
+            log.info("완료된 분석 재요청: clientId={}, url={}", clientId, mainUrl);
+        });
 
         // 3. Website 생성 및 저장
-        Website website = Website.create(mainUrl, clientId);
+        CrawlConfiguration crawlConfig = CrawlConfiguration.defaultConfiguration()
+                .withIgnoredQueryParams(ignoredQueryParams)
+                .withSamplesPerTemplate(samplesPerTemplate != null ? samplesPerTemplate : 0);
+        Website website = createWebsite(mainUrl, clientId, crawlConfig, incremental ? previous : Optional.empty());
 
         try {
             Website savedWebsite = saveWebsitePort.save(website);
 
+            // 같은 clientId의 이전 작업 마지막 이벤트(complete/cancelled)가 새 SSE 연결을 바로 닫지 않도록 경계 기록
+            sseEventBus.startRun(clientId);
+
             // 3. 추출 시작 이벤트 발행 (트랜잭션 커밋 후 처리됨)
             ExtractionStartedEvent extractionStartedEvent = ExtractionStartedEvent.of(
                     savedWebsite.getWebsiteId(),
@@ -59,9 +80,46 @@ public class CommandWebsiteService implements ExtractUrlsUseCase {
             return savedWebsite.getWebsiteId();
 
         } catch (DataIntegrityViolationException e) {
-            // 4. 유니크 제약 조건 위반 (동시 요청)
+            // 4. 제약 조건 위반 (동시 요청이 사전 체크를 함께 통과한 경우 uk_active_run에서 걸림)
             log.error("중복 분석 요청 (동시성): clientId={}, url={}", clientId, mainUrl);
             throw new DuplicateAnalysisException("중복된 분석 요청입니다.");
         }
     }
+
+    /**
+     * 증분 재크롤링은 정상 완료된 이전 분석이 있을 때만 가능 (실패한 분석은 이어받을 결과가 불완전)
+     */
+    private Website createWebsite(String mainUrl, String clientId, CrawlConfiguration crawlConfig,
+                                  Optional<Website> previous) {
+        return previous
+                .filter(Website::isCompleted)
+                .map(existing -> {
+                    log.info("증분 재크롤링 시작: url={}, 이전 WebsiteId={}", mainUrl, existing.getWebsiteId().getId());
+                    return Website.incremental(mainUrl, clientId, crawlConfig, existing.getWebsiteId());
+                })
+                .orElseGet(() -> Website.create(mainUrl, clientId, crawlConfig));
+    }
+
+    /**
+     * 크롤링/분석 취소
+     *
+     * DB 상태를 CANCELLED로 바꾸고 공유 취소 플래그를 기록
+     * → 대기열에 남은 크롤링/분석 이벤트는 각 컨슈머가 플래그를 보고 건너뜀
+     */
+    @Override
+    @Transactional
+    public void cancel(final WebsiteId websiteId) {
+        Website website = getWebsitePort.findById(websiteId)
+                .orElseThrow(() -> new IllegalArgumentException("Website not found: " + websiteId.getId()));
+
+        Website cancelledWebsite = website.markCancelled();
+        if (!saveWebsitePort.changeStatus(cancelledWebsite)) {
+            // 조회 후 그 사이 완료/실패로 끝난 경우
+            throw new IllegalStateException("취소할 수 없는 상태입니다: 이미 종료된 분석");
+        }
+
+        crawlCancellationGuard.markCancelled(websiteId);
+        analysisProgressService.notifyCancelled(cancelledWebsite);
+        log.info("크롤링 취소: WebsiteId={}, 이전 상태={}", websiteId.getId(), website.getExtractionStatus());
+    }
 }
@@ -0,0 +1,128 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.application.port.out.UrlProbeCachePort;
+import com.example.capstone_java.website.application.port.out.UrlProbePort;
+import com.example.capstone_java.website.domain.entity.Website;
+import com.example.capstone_java.website.domain.vo.UrlProbe;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 렌더링 대기열에 올리기 전 콘텐츠 타입 사전 필터
+ *
+ * Website.isValidUrl의 확장자 필터를 통과한 확장자 없는 다운로드, PDF로 리다이렉트되는 링크 등을
+ * 브라우저 대신 HEAD / 부분 GET으로 걸러냄
+ * - HTML이 아닌 URL은 제외
+ * - 리다이렉트되는 URL은 최종 URL로 교체 (같은 페이지로 가는 여러 링크가 하나로 모이도록, 호출 측에서 다시 중복 체크)
+ * - 확인 결과는 URL 단위로 캐시, 확인하지 못한 URL은 그대로 통과
+ */
+@Slf4j
+@Service
+public class ContentTypePrefilter {
+
+    private final UrlProbePort urlProbePort;
+    private final UrlProbeCachePort urlProbeCachePort;
+    private final boolean enabled;
+    private final Duration batchTimeout;
+
+    public ContentTypePrefilter(UrlProbePort urlProbePort,
+                                UrlProbeCachePort urlProbeCachePort,
+                                @Value("${app.crawl.prefilter.enabled:true}") boolean enabled,
+                                @Value("${app.crawl.prefilter.batch-timeout-ms:3000}") long batchTimeoutMillis) {
+        this.urlProbePort = urlProbePort;
+        this.urlProbeCachePort = urlProbeCachePort;
+        this.enabled = enabled;
+        this.batchTimeout = Duration.ofMillis(batchTimeoutMillis);
+    }
+
+    /**
+     * @param website 리다이렉트 최종 URL의 정규화 / 허용 범위 판단 기준
+     */
+    public Result filter(Website website, List<String> urls) {
+        if (!enabled || urls.isEmpty()) {
+            return new Result(urls, List.of());
+        }
+
+        Map<String, UrlProbe> probes = probe(urls);
+
+        List<String> pages = new ArrayList<>(urls.size());
+        Set<String> redirectTargets = new LinkedHashSet<>();
+        int nonHtml = 0;
+        int outOfScope = 0;
+        for (String url : urls) {
+            UrlProbe probe = probes.getOrDefault(url, UrlProbe.unknown(url));
+            if (probe.kind() == UrlProbe.Kind.NON_HTML) {
+                nonHtml++;
+                continue;
+            }
+            if (probe.kind() == UrlProbe.Kind.UNKNOWN || probe.finalUrl().equals(url)) {
+                pages.add(url);
+                continue;
+            }
+
+            // 리다이렉트: 최종 URL도 같은 규칙으로 정규화 / 도메인·경로 검증
+            List<String> target = website.filterValidUrls(List.of(probe.finalUrl()));
+            if (target.isEmpty()) {
+                outOfScope++;
+            } else if (target.get(0).equals(url)) {
+                pages.add(url);
+            } else {
+                redirectTargets.add(target.get(0));
+            }
+        }
+        redirectTargets.removeAll(pages);
+
+        if (nonHtml > 0 || outOfScope > 0 || !redirectTargets.isEmpty()) {
+            log.info("콘텐츠 타입 사전 필터 - WebsiteId: {}, 전체: {}, HTML 아님: {}, 범위 밖 리다이렉트: {}, 리다이렉트 최종 URL: {}",
+                    website.getWebsiteId().getId(), urls.size(), nonHtml, outOfScope, redirectTargets.size());
+        }
+        return new Result(pages, List.copyOf(redirectTargets));
+    }
+
+    private Map<String, UrlProbe> probe(List<String> urls) {
+        Map<String, UrlProbe> probes = new HashMap<>();
+        try {
+            probes.putAll(urlProbeCachePort.findAll(urls));
+        } catch (RuntimeException e) {
+            log.debug("URL 확인 캐시 조회 실패: {}", e.getMessage());
+        }
+
+        List<String> unprobed = urls.stream().filter(url -> !probes.containsKey(url)).toList();
+        if (unprobed.isEmpty()) {
+            return probes;
+        }
+
+        Map<String, UrlProbe> fresh = urlProbePort.probeAll(unprobed, batchTimeout);
+        probes.putAll(fresh);
+
+        Map<String, UrlProbe> decided = new LinkedHashMap<>();
+        fresh.forEach((url, probe) -> {
+            if (probe.isDecided()) {
+                decided.put(url, probe);
+            }
+        });
+        try {
+            urlProbeCachePort.saveAll(decided);
+        } catch (RuntimeException e) {
+            log.debug("URL 확인 캐시 저장 실패: {}", e.getMessage());
+        }
+        return probes;
+    }
+
+    /**
+     * @param pages           렌더링할 URL (HTML 확인 또는 판단 보류, 원래 URL 그대로)
+     * @param redirectTargets 리다이렉트 최종 URL (정규화 완료, 아직 중복 체크 전)
+     */
+    public record Result(List<String> pages, List<String> redirectTargets) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.application.port.out.CrawlCancellationPort;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨슈머용 취소 확인 (이벤트마다 호출되므로 Redis 조회 결과를 노드 로컬에 캐싱)
+ *
+ * - 취소됨: 되돌릴 수 없는 상태라 오래 보관
+ * - 취소 안 됨: local-cache-ms 동안만 보관 → 다른 노드의 취소가 늦어도 이 시간 안에 반영
+ * Redis 장애 시에는 취소되지 않은 것으로 보고 진행 (웹사이트를 DB에서 읽는 단계가 다시 확인)
+ */
+@Slf4j
+@Service
+public class CrawlCancellationGuard {
+
+    private final CrawlCancellationPort crawlCancellationPort;
+    private final Cache<WebsiteId, Boolean> cancelled = CacheBuilder.newBuilder()
+            .expireAfterAccess(3, TimeUnit.HOURS)
+            .build();
+    private final Cache<WebsiteId, Boolean> recentChecks;
+
+    public CrawlCancellationGuard(CrawlCancellationPort crawlCancellationPort,
+                                  @Value("${app.crawl.cancel.local-cache-ms:1000}") long localCacheMillis) {
+        this.crawlCancellationPort = crawlCancellationPort;
+        this.recentChecks = CacheBuilder.newBuilder()
+                .expireAfterWrite(Math.max(1L, localCacheMillis), TimeUnit.MILLISECONDS)
+                .maximumSize(10_000)
+                .build();
+    }
+
+    public boolean isCancelled(WebsiteId websiteId) {
+        if (cancelled.getIfPresent(websiteId) != null) {
+            return true;
+        }
+        try {
+            boolean result = recentChecks.get(websiteId, () -> crawlCancellationPort.isCancelled(websiteId));
+            if (result) {
+                cancelled.put(websiteId, Boolean.TRUE);
+            }
+            return result;
+        } catch (ExecutionException | RuntimeException e) {
+            log.debug("취소 여부 확인 실패 - 진행: WebsiteId={}, error={}", websiteId.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 취소 플래그 기록 (이 노드는 즉시, 다른 노드는 로컬 캐시 만료 후 반영)
+     */
+    public void markCancelled(WebsiteId websiteId) {
+        cancelled.put(websiteId, Boolean.TRUE);
+        try {
+            crawlCancellationPort.markCancelled(websiteId);
+        } catch (Exception e) {
+            log.warn("취소 플래그 저장 실패 - DB 상태로만 취소 반영: WebsiteId={}, error={}",
+                    websiteId.getId(), e.getMessage());
+        }
+    }
+}
@@ -9,13 +9,16 @@ import com.example.capstone_java.website.domain.entity.Website;
 import com.example.capstone_java.website.domain.event.DiscoveredUrlsEvent;
 import com.example.capstone_java.website.domain.event.UrlAnalysisRequestEvent;
 import com.example.capstone_java.website.domain.event.UrlCrawlEvent;
-import com.example.capstone_java.website.application.event.EventDispatcher;
+import com.example.capstone_java.website.domain.vo.ExtractedPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 객체지향 설계 기반 크롤링 실행 서비스
@@ -25,6 +28,9 @@ import java.util.List;
  * - JavaScript 실행 후 동적 콘텐츠 추출
  * - onclick 이벤트의 viewGo, goMenu 등 사용자 정의 함수 처리
  * - 정적 <a href> 태그도 모두 추출
+ *
+ * 렌더링은 트랜잭션 밖에서 하고, 결과 저장과 이벤트 발행만 한 트랜잭션으로 묶음
+ * → 발견 URL / 분석 요청 이벤트는 저장과 함께 아웃박스에 기록되어 커밋 후 전송됨
  */
 @Slf4j
 @Service
@@ -35,65 +41,125 @@ public class CrawlExecutionService {
     private final GetWebsitePort getWebsitePort;
     private final SaveWebsitePort saveWebsitePort;
     private final SaveCrawledUrlPort saveCrawledUrlPort;
-    private final EventDispatcher eventDispatcher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final AnalysisProgressService analysisProgressService;
+    private final TemplateSampler templateSampler;
+    private final DuplicatePageDetector duplicatePageDetector;
+    private final IncrementalCrawlService incrementalCrawlService;
+    private final FetchFailureGuard fetchFailureGuard;
+    private final RedirectResolver redirectResolver;
+    private final CrawlCancellationGuard crawlCancellationGuard;
+    private final ExpiredCrawlReleaser expiredCrawlReleaser;
 
     @Value("${app.callback.base-url:http://localhost:8080}")
     private String callbackBaseUrl;
 
-    public void executeCrawl(UrlCrawlEvent event) {
+    /**
+     * 스케줄러 대기 중에 크롤링 시간 한도가 지난 분석 자리 예약 URL은 렌더링 없이 반납 대기열로 넘김
+     * (모아서 FAILED 저장 + 자리 반납, ExpiredCrawlReleaser)
+     *
+     * @param onReleased FAILED 행 저장 후 호출 (Kafka ack)
+     * @return 넘겼으면 true (호출자는 완료 콜백을 직접 호출하지 않음)
+     */
+    public boolean releaseIfExpired(UrlCrawlEvent event, Runnable onReleased) {
+        if (!isExpired(event) || !event.budget().reservesAnalysis()) {
+            return false;
+        }
+        log.info("크롤링 스킵: 크롤링 시간 한도 초과 (분석 자리 반납) - URL: {}", event.url());
+        expiredCrawlReleaser.release(event, onReleased);
+        return true;
+    }
+
+    /**
+     * @return 이 페이지에서 발견한 하위 URL (프론티어 인링크 집계용, 크롤링 생략 시 빈 목록)
+     */
+    public List<String> executeCrawl(UrlCrawlEvent event) {
         Website website = null;
         try {
+            // 크롤링 시간 한도 초과: 스케줄러 대기 중에 만료된 작업은 DB 조회 없이 버림
+            // (분석 자리를 잡아둔 URL은 releaseIfExpired에서 먼저 처리)
+            if (isExpired(event)) {
+                log.info("크롤링 스킵: 크롤링 시간 한도 초과 - URL: {}", event.url());
+                return List.of();
+            }
+
+            // 취소된 웹사이트: 스케줄러 대기 중에 취소된 작업은 DB 조회 없이 버림
+            if (crawlCancellationGuard.isCancelled(event.websiteId())) {
+                log.info("크롤링 스킵: 취소된 웹사이트 - URL: {}", event.url());
+                return List.of();
+            }
+
             log.info("크롤링 시작: {}", event.url());
 
             // 1. 도메인 객체 조회 -- 인덱싱을 통한 최적화 필요
             website = getWebsitePort.findById(event.websiteId())
                     .orElseThrow(() -> new IllegalStateException("Website를 찾을 수 없습니다: " + event.websiteId()));
+            if (website.isCancelled()) {
+                log.info("크롤링 스킵: 취소된 웹사이트 - URL: {}", event.url());
+                return List.of();
+            }
 
             // 2. 깊이 검증
             if (!website.canCrawlAtDepth(event.depth())) {
                 log.info("크롤링 스킵: 최대 크롤링 깊이 도달 - URL: {}, Depth: {}", event.url(), event.depth());
-                return;
+                return List.of();
             }
 
-            // 3. URL 추출: Playwright로 JavaScript 실행 후 URL 추출
-            List<String> rawUrls = extractUrls(event.url());
+            // 호스트 차단기: 대기열에 오른 뒤 죽은 호스트로 판정되면 렌더링하지 않음 (루트는 한 번은 시도)
+            if (!isRootUrl(event) && fetchFailureGuard.isHostOpen(event.url())) {
+                log.info("크롤링 스킵: 호스트 차단 중 - URL: {}", event.url());
+                handleCrawlingFailure(event, website);
+                return List.of();
+            }
 
-            // 4. Website가 직접 URL 필터링 (중복 제거, 경로 검증, 페이지당 url 제한)
-            List<String> validUrls = website.filterValidUrls(rawUrls);
-            List<String> finalUrls = website.excludeParentUrl(validUrls, event.url());
+            // 증분 재크롤링: 바뀌지 않은 페이지는 렌더링/분석 없이 이전 결과와 크롤링 그래프를 이어받음
+            Optional<IncrementalCrawlService.CarriedPage> carried = incrementalCrawlService.carryForward(website, event.url());
+            if (carried.isPresent()) {
+                return completeCarriedPage(event, website, carried.get());
+            }
+
+            // 3. URL 추출: Playwright로 JavaScript 실행 후 URL + DOM 구조 해시 + 본문 지문 추출
+            ExtractedPage page = extractPage(event);
+
+            // 렌더링 중 취소: 결과를 저장하지 않고 종료 (카운터는 더 이상 완료 판정에 쓰이지 않음)
+            if (crawlCancellationGuard.isCancelled(event.websiteId())) {
+                log.info("크롤링 중단: 취소된 웹사이트 - URL: {}", event.url());
+                return List.of();
+            }
 
-            // 5. 이벤트 발행 협력
-            // → DiscoveredUrlsEvent { urls: [page2, page3, page4] } 발행
-            // → Kafka로 전송 → JobUpdatingConsumer가 받음
-            // → JobUpdatingConsumer에서 maxTotalUrls, maxDepth, maxDuration 등 모든 제한 체크
-            if (!finalUrls.isEmpty()) {
-                DiscoveredUrlsEvent discoveredEvent = DiscoveredUrlsEvent.create(
-                    event.websiteId(),
-                    event.url(),
-                    finalUrls,
-                    event.depth()
-                );
-                eventDispatcher.dispatch(discoveredEvent);
+            // HTTP 에러 / 응답 없음: 네거티브 캐시에 기록하고 FAILED 처리
+            // 루트는 에러 응답이어도 기존처럼 분석 요청 (루트가 FAILED면 분석할 페이지가 없어 완료되지 않음)
+            if (page.isFailed()) {
+                fetchFailureGuard.onFetchFailed(event.url(), page.failure());
+                if (!isRootUrl(event)) {
+                    log.info("크롤링 실패 응답: URL={}, 원인={}, status={}",
+                            event.url(), page.failure().kind(), page.failure().httpStatus());
+                    handleCrawlingFailure(event, website);
+                    return List.of();
+                }
+            } else {
+                fetchFailureGuard.onFetchSucceeded(event.url());
             }
 
-            // 6. 크롤링 완료 처리 및 저장
-            CrawledUrl crawledUrl = createCrawledUrl(event);
-            saveCrawledUrlPort.save(crawledUrl.markCrawled());
-
-            // 7. AI 분석 요청 이벤트 발행 (크롤링된 URL 자체에 대한 분석 요청)
-            String callbackUrl = callbackBaseUrl + "/api/analysis/callback";
-            UrlAnalysisRequestEvent analysisEvent = UrlAnalysisRequestEvent.create(
-                event.websiteId(),
-                event.url(),
-                callbackUrl,
-                event.depth()
-            );
-            eventDispatcher.dispatch(analysisEvent);
-            log.info("AI 분석 요청 이벤트 발행 완료 - URL: {}", event.url());
-
-            log.info("크롤링 완료: URL={}, 발견된 URL 수={}", event.url(), finalUrls.size());
-            log.info("URL 크롤링 완료 - WebsiteId: {}, URL: {}, Depth: {}",
-                    website.getWebsiteId().getId(), event.url(), event.depth());
+            // 최종 URL 중복: 다른 URL에서 리다이렉트되어 이미 크롤링된 페이지면 분석/링크 발행 생략 (루트는 항상 진행)
+            Optional<String> redirectOwner = redirectResolver.duplicateOf(website, event.url(), page.finalUrl());
+            if (redirectOwner.isPresent() && !isRootUrl(event)) {
+                saveCrawledUrlPort.save(createCrawledUrl(event).withValidators(page.validators())
+                        .markDuplicateOf(redirectOwner.get()));
+                analysisProgressService.onUrlAnalysisSkipped(website, false);
+                log.info("크롤링 완료 (리다이렉트 중복): URL={}, 최종 URL={}, 분석 결과 공유={}",
+                        event.url(), page.finalUrl(), redirectOwner.get());
+                return List.of();
+            }
+
+            // 4. Website가 직접 URL 필터링 (중복 제거, 경로 검증, 페이지당 url 제한)
+            List<String> validUrls = website.filterValidUrls(page.urls());
+            List<String> finalUrls = website.excludeParentUrl(validUrls, event.url());
+
+            // 5~7. 결과 저장 + 이벤트 발행 (한 트랜잭션)
+            Website crawledWebsite = website;
+            return transactionTemplate.execute(status -> completeCrawl(event, crawledWebsite, page, finalUrls));
 
         } catch (Exception e) {
             log.error("크롤링 실패: {}", event.url(), e);
@@ -104,6 +170,97 @@ public class CrawlExecutionService {
         }
     }
 
+    /**
+     * 렌더링한 페이지의 결과 저장 및 이벤트 발행 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @return 이 페이지에서 발견한 하위 URL
+     */
+    private List<String> completeCrawl(UrlCrawlEvent event, Website website, ExtractedPage page, List<String> finalUrls) {
+        // 5. 이벤트 발행 협력
+        // → DiscoveredUrlsEvent { urls: [page2, page3, page4] } 발행
+        // → Kafka로 전송 → JobUpdatingConsumer가 받음
+        // → JobUpdatingConsumer에서 maxTotalUrls, maxDepth, maxDuration 등 모든 제한 체크
+        publishDiscoveredUrls(event, finalUrls);
+
+        // 6. 크롤링 완료 처리 및 저장 (다음 증분 재크롤링용 검증 값 포함)
+        CrawledUrl crawledUrl = createCrawledUrl(event).withValidators(page.validators());
+        boolean rootUrl = crawledUrl.isRoot();
+
+        // 유사 중복: 이미 분석한 페이지와 내용이 거의 같으면 분석 생략하고 그 결과에 연결
+        Optional<String> analyzedDuplicate = duplicatePageDetector.findAnalyzedDuplicate(
+                event.websiteId(), event.url(), page.contentFingerprint());
+        if (analyzedDuplicate.isPresent()) {
+            saveCrawledUrlPort.save(crawledUrl.markDuplicateOf(analyzedDuplicate.get()));
+            analysisProgressService.onUrlAnalysisSkipped(website, rootUrl);
+            log.info("크롤링 완료 (유사 중복): URL={}, 분석 결과 공유={}", event.url(), analyzedDuplicate.get());
+            return finalUrls;
+        }
+
+        // 템플릿 샘플링 모드: 같은 템플릿의 대표 페이지가 이미 충분하면 분석 생략 (링크 추출은 위에서 완료)
+        if (!templateSampler.shouldAnalyze(website, event.url(), page.structureHash())) {
+            saveCrawledUrlPort.save(crawledUrl.markSampledOut());
+            analysisProgressService.onUrlAnalysisSkipped(website, rootUrl);
+            log.info("크롤링 완료 (샘플링 제외): URL={}, 발견된 URL 수={}", event.url(), finalUrls.size());
+            return finalUrls;
+        }
+
+        saveCrawledUrlPort.save(crawledUrl.markCrawled());
+        duplicatePageDetector.registerAnalyzed(event.websiteId(), event.url(), page.contentFingerprint());
+
+        // 7. AI 분석 요청 이벤트 발행 (크롤링된 URL 자체에 대한 분석 요청)
+        String callbackUrl = callbackBaseUrl + "/api/analysis/callback";
+        UrlAnalysisRequestEvent analysisEvent = UrlAnalysisRequestEvent.create(
+            event.websiteId(),
+            event.url(),
+            callbackUrl,
+            event.depth()
+        );
+        eventPublisher.publishEvent(analysisEvent);
+        analysisProgressService.onUrlCrawled(website, rootUrl);
+        log.info("AI 분석 요청 이벤트 발행 완료 - URL: {}", event.url());
+
+        log.info("크롤링 완료: URL={}, 발견된 URL 수={}", event.url(), finalUrls.size());
+        log.info("URL 크롤링 완료 - WebsiteId: {}, URL: {}, Depth: {}",
+                website.getWebsiteId().getId(), event.url(), event.depth());
+        return finalUrls;
+    }
+
+    /**
+     * 증분 재크롤링에서 바뀌지 않은 페이지 처리
+     * - 이전 크롤링 그래프의 하위 URL을 새로 발견한 것처럼 발행 (필터/중복 제거/제한은 동일하게 적용)
+     * - 분석 결과는 IncrementalCrawlService가 이미 복사했으므로 분석 완료로 집계
+     */
+    private List<String> completeCarriedPage(UrlCrawlEvent event, Website website, IncrementalCrawlService.CarriedPage carried) {
+        List<String> validUrls = website.filterValidUrls(carried.childUrls());
+        List<String> finalUrls = website.excludeParentUrl(validUrls, event.url());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            publishDiscoveredUrls(event, finalUrls);
+
+            CrawledUrl crawledUrl = createCrawledUrl(event).withValidators(carried.validators()).markCrawled();
+            saveCrawledUrlPort.save(crawledUrl);
+            analysisProgressService.onUrlCrawled(website, crawledUrl.isRoot());
+            analysisProgressService.onAnalysisCarriedForward(event.websiteId());
+        });
+
+        log.info("크롤링 완료 (이전 결과 사용): URL={}, 하위 URL 수={}", event.url(), finalUrls.size());
+        return finalUrls;
+    }
+
+    private void publishDiscoveredUrls(UrlCrawlEvent event, List<String> finalUrls) {
+        if (finalUrls.isEmpty()) {
+            return;
+        }
+        DiscoveredUrlsEvent discoveredEvent = DiscoveredUrlsEvent.create(
+            event.websiteId(),
+            event.url(),
+            finalUrls,
+            event.depth(),
+            event.budget()
+        );
+        eventPublisher.publishEvent(discoveredEvent);
+    }
+
     /**
      * Playwright로 URL 추출
      *
@@ -118,22 +275,32 @@ public class CrawlExecutionService {
      * - JavaScript 기반 SPA 사이트 완벽 지원
      * - onclick 이벤트의 사용자 정의 함수 처리
      */
-    private List<String> extractUrls(String url) {
-        List<String> urls = playwrightStrategy.extractUrls(url);
+    private ExtractedPage extractPage(UrlCrawlEvent event) {
+        String url = event.url();
+        ExtractedPage page = playwrightStrategy.extractPage(url, () -> crawlCancellationGuard.isCancelled(event.websiteId()));
 
-        if (!urls.isEmpty()) {
-            log.info("Playwright로 URL 추출 성공: {} URLs", urls.size());
+        if (!page.urls().isEmpty()) {
+            log.info("Playwright로 URL 추출 성공: {} URLs", page.urls().size());
         } else {
             log.warn("URL 추출 실패: {}", url);
         }
 
-        return urls;
+        return page;
     }
 
-    private CrawledUrl createCrawledUrl(UrlCrawlEvent event) {
-        boolean isRootUrl = event.parentUrl() == null && event.depth() == 0;
+    private boolean isRootUrl(UrlCrawlEvent event) {
+        return event.isRoot();
+    }
 
-        return isRootUrl
+    /**
+     * 크롤링 종료 시각이 지난 하위 URL (루트는 버리면 분석할 페이지가 없어 완료되지 않으므로 제외)
+     */
+    private boolean isExpired(UrlCrawlEvent event) {
+        return !isRootUrl(event) && event.budget().isExpired();
+    }
+
+    private CrawledUrl createCrawledUrl(UrlCrawlEvent event) {
+        return isRootUrl(event)
             ? CrawledUrl.rootUrl(event.websiteId(), event.url())
             : CrawledUrl.discovered(event.websiteId(), event.url(), event.parentUrl(), event.depth());
     }
@@ -142,6 +309,7 @@ public class CrawlExecutionService {
         CrawledUrl failedUrl = CrawledUrl.discovered(event.websiteId(), event.url(), event.parentUrl(), event.depth())
                 .markFailed();
         saveCrawledUrlPort.save(failedUrl);
+        analysisProgressService.onUrlCrawlFailed(website, failedUrl.isRoot());
 
         log.info("URL 크롤링 실패 처리 완료 - WebsiteId: {}, URL: {}",
                 website.getWebsiteId().getId(), event.url());
@@ -0,0 +1,101 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.domain.vo.CrawlPriority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 웹사이트 하나의 대기 크롤링 작업 프론티어
+ *
+ * 깊이별 버킷에 나눠 담고, 가장 얕은 버킷에서 CrawlPriority가 가장 높은 작업부터 꺼냄
+ * - 인링크 수는 대기 중에도 계속 늘어나므로 꺼낼 때 점수를 다시 계산 (버킷 내 선형 탐색)
+ * - 버킷 크기는 maxUrlsPerPage × 부모 수 수준이라 크롤링 1건(수 초)에 비해 탐색 비용은 무시할 만함
+ * - 점수가 같으면 먼저 들어온 작업 우선
+ * - 꺼낸 URL은 다시 들어오지 않으므로(Redis 중복 제거) 인링크 집계에서 뺌
+ *
+ * 스레드 안전하지 않음 (FairCrawlScheduler 잠금 안에서만 사용)
+ */
+final class CrawlFrontier<T> {
+
+    private final TreeMap<Integer, List<Entry<T>>> buckets = new TreeMap<>();
+    private final Map<String, Integer> inLinks;
+    private long sequence;
+    private int size;
+
+    /**
+     * @param inLinks 웹사이트별 인링크 수 (프론티어가 비었다 다시 채워져도 유지되도록 외부에서 보관, 크기 제한은 보관하는 쪽 책임)
+     */
+    CrawlFrontier(Map<String, Integer> inLinks) {
+        this.inLinks = inLinks;
+    }
+
+    void add(String url, int depth, T task) {
+        CrawlPriority base = CrawlPriority.of(url, depth, 0);
+        buckets.computeIfAbsent(depth, d -> new ArrayList<>())
+                .add(new Entry<>(url, base, sequence++, task));
+        size++;
+    }
+
+    T poll() {
+        Map.Entry<Integer, List<Entry<T>>> lowest = buckets.firstEntry();
+        if (lowest == null) {
+            return null;
+        }
+
+        List<Entry<T>> bucket = lowest.getValue();
+        int bestIndex = 0;
+        CrawlPriority best = currentPriority(bucket.get(0));
+        for (int i = 1; i < bucket.size(); i++) {
+            Entry<T> candidate = bucket.get(i);
+            CrawlPriority priority = currentPriority(candidate);
+            int compared = priority.compareTo(best);
+            if (compared < 0 || (compared == 0 && candidate.sequence() < bucket.get(bestIndex).sequence())) {
+                best = priority;
+                bestIndex = i;
+            }
+        }
+
+        // 순서는 매번 다시 계산하므로 마지막 원소와 자리를 바꿔 O(1) 제거
+        Entry<T> chosen = bucket.get(bestIndex);
+        Entry<T> last = bucket.remove(bucket.size() - 1);
+        if (bestIndex < bucket.size()) {
+            bucket.set(bestIndex, last);
+        }
+        if (bucket.isEmpty()) {
+            buckets.pollFirstEntry();
+        }
+        size--;
+        inLinks.remove(chosen.url());
+        return chosen.task();
+    }
+
+    /**
+     * 크롤링한 페이지에서 나간 링크를 인링크로 집계
+     */
+    void recordLinks(Collection<String> urls) {
+        for (String url : urls) {
+            inLinks.merge(url, 1, Integer::sum);
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private CrawlPriority currentPriority(Entry<T> entry) {
+        CrawlPriority base = entry.base();
+        return new CrawlPriority(base.depth(), inLinks.getOrDefault(entry.url(), 0),
+                base.pathSegments(), base.paginated());
+    }
+
+    private record Entry<T>(String url, CrawlPriority base, long sequence, T task) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.application.port.out.CrawlTrapPort;
+import com.example.capstone_java.website.domain.service.UrlTemplate;
+import com.example.capstone_java.website.domain.vo.CrawlTrap;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 온라인 크롤러 트랩 탐지
+ *
+ * 저장 직전의 새 URL을 경로 템플릿으로 묶고 템플릿별 누적 크롤링 대상 수에 따라 크롤링 여부 결정
+ * - soft cap 이하     : 모두 크롤링
+ * - soft cap ~ hard cap : sample-rate 중 1개만 크롤링 (URL 해시 기준이라 재시도해도 같은 결과)
+ * - hard cap 초과     : 크롤링하지 않음
+ * - 경로 반복/과도한 깊이 : 즉시 제외
+ * 누적 수에는 실제로 저장한 URL만 더함 (배치 id로 재전달 시 중복 반영 방지)
+ * soft cap을 넘긴 템플릿은 트랩으로 기록되어 최종 보고서에 포함됨
+ */
+@Slf4j
+@Service
+public class CrawlTrapDetector {
+
+    private final CrawlTrapPort crawlTrapPort;
+    private final long softCap;
+    private final long hardCap;
+    private final int sampleRate;
+
+    public CrawlTrapDetector(CrawlTrapPort crawlTrapPort,
+                             @Value("${app.crawl.trap.soft-cap:50}") long softCap,
+                             @Value("${app.crawl.trap.hard-cap:300}") long hardCap,
+                             @Value("${app.crawl.trap.sample-rate:10}") int sampleRate) {
+        this.crawlTrapPort = crawlTrapPort;
+        this.softCap = softCap;
+        this.hardCap = Math.max(softCap, hardCap);
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    /**
+     * 저장할 새 URL 중 크롤링할 URL만 반환 (입력 순서 유지)
+     * 반환된 URL만큼 템플릿 누적 수를 올리므로, 호출자는 반환된 URL을 모두 저장해야 함
+     *
+     * @param batchId 같은 배치가 다시 와도 같은 값 (재전달 시 같은 결과를 내고 누적 수는 한 번만 증가)
+     */
+    public List<String> admit(WebsiteId websiteId, String batchId, List<String> newUrls) {
+        if (newUrls.isEmpty()) {
+            return newUrls;
+        }
+
+        Map<String, List<String>> byTemplate = new LinkedHashMap<>();
+        for (String url : newUrls) {
+            byTemplate.computeIfAbsent(UrlTemplate.of(url), t -> new ArrayList<>()).add(url);
+        }
+        Map<String, Long> before = crawlTrapPort.countsBefore(websiteId, batchId, byTemplate.keySet());
+
+        List<String> admitted = new ArrayList<>(newUrls.size());
+        Map<String, Long> admittedByTemplate = new LinkedHashMap<>();
+        Map<String, TrapStats> traps = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> group : byTemplate.entrySet()) {
+            String template = group.getKey();
+            long count = before.getOrDefault(template, 0L);
+
+            long recursive = 0;
+            long capped = 0;
+            boolean overSoftCap = false;
+            for (String url : group.getValue()) {
+                if (UrlTemplate.hasRecursivePath(url)) {
+                    recursive++;
+                    continue;
+                }
+                long position = count + 1;
+                overSoftCap |= position > softCap;
+                if (position <= softCap || (position <= hardCap && isSampled(url))) {
+                    admitted.add(url);
+                    count++;
+                } else {
+                    capped++;
+                }
+            }
+
+            long admittedCount = count - before.getOrDefault(template, 0L);
+            if (admittedCount > 0) {
+                admittedByTemplate.put(template, admittedCount);
+            }
+            if (recursive > 0 || overSoftCap) {
+                traps.put(template, new TrapStats(recursive, capped, overSoftCap));
+            }
+        }
+
+        // 재전달된 배치는 이미 반영했으므로 트랩 기록(건너뛴 수 누적)도 다시 하지 않음
+        if (crawlTrapPort.charge(websiteId, batchId, admittedByTemplate)) {
+            traps.forEach((template, stats) -> {
+                if (stats.recursive() > 0) {
+                    crawlTrapPort.recordTrap(websiteId, template, CrawlTrap.Reason.RECURSIVE_PATH, stats.recursive());
+                }
+                if (stats.overSoftCap()) {
+                    crawlTrapPort.recordTrap(websiteId, template, CrawlTrap.Reason.UNBOUNDED_GROWTH, stats.capped());
+                }
+            });
+        }
+
+        if (admitted.size() < newUrls.size()) {
+            log.info("크롤러 트랩 필터 - WebsiteId: {}, 새 URL: {}, 크롤링 대상: {}",
+                    websiteId.getId(), newUrls.size(), admitted.size());
+        }
+        return admitted;
+    }
+
+    public List<CrawlTrap> detectedTraps(WebsiteId websiteId) {
+        try {
+            return crawlTrapPort.findTraps(websiteId);
+        } catch (Exception e) {
+            // 보고서 생성은 트랩 정보 없이도 진행
+            log.warn("크롤러 트랩 조회 실패: WebsiteId={}, error={}", websiteId.getId(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    private boolean isSampled(String url) {
+        return (url.hashCode() & Integer.MAX_VALUE) % sampleRate == 0;
+    }
+
+    private record TrapStats(long recursive, long capped, boolean overSoftCap) {
+    }
+}
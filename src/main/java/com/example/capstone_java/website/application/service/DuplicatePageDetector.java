@@ -0,0 +1,71 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.application.port.out.ContentFingerprintPort;
+import com.example.capstone_java.website.domain.service.SimHash;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 유사 중복 페이지 탐지 (AI 분석 전)
+ *
+ * 인쇄용 보기, 정렬 순서, 언어 토글처럼 URL만 다르고 내용이 같은 페이지는
+ * 이미 분석한 페이지와 SimHash 해밍 거리가 작으므로 분석을 생략하고 그 결과를 연결
+ * - max-distance는 색인 밴드 구조상 3 이하에서 누락 없이 찾음 (더 크게 설정해도 3으로 제한)
+ * - 기본 비활성: 켜면 크롤링 후 분석 모드(분석 자리 예약/반납)로 바뀌어 진행률 계산과 만료 이벤트 처리 경로가 달라짐
+ * - 같은 내용의 두 페이지가 동시에 크롤링되면 둘 다 분석될 수 있음 (정확성에는 영향 없음)
+ */
+@Slf4j
+@Service
+public class DuplicatePageDetector {
+
+    private final ContentFingerprintPort contentFingerprintPort;
+    private final boolean enabled;
+    private final int maxDistance;
+
+    public DuplicatePageDetector(ContentFingerprintPort contentFingerprintPort,
+                                 @Value("${app.crawl.dedup.enabled:false}") boolean enabled,
+                                 @Value("${app.crawl.dedup.max-distance:3}") int maxDistance) {
+        this.contentFingerprintPort = contentFingerprintPort;
+        this.enabled = enabled;
+        this.maxDistance = Math.min(Math.max(0, maxDistance), SimHash.MAX_INDEXED_DISTANCE);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이미 분석한 페이지 중 내용이 거의 같은 페이지 URL
+     */
+    public Optional<String> findAnalyzedDuplicate(WebsiteId websiteId, String url, Long fingerprint) {
+        if (!enabled || fingerprint == null) {
+            return Optional.empty();
+        }
+        try {
+            return contentFingerprintPort.findNearest(websiteId, fingerprint, maxDistance)
+                    .filter(analyzedUrl -> !analyzedUrl.equals(url));
+        } catch (Exception e) {
+            // 색인 장애 시 분석 생략보다 분석 진행을 택함
+            log.warn("유사 중복 조회 실패 - 분석 진행: URL={}, error={}", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * AI 분석을 요청하는 페이지의 지문 등록 (이후 유사 페이지의 기준)
+     */
+    public void registerAnalyzed(WebsiteId websiteId, String url, Long fingerprint) {
+        if (!enabled || fingerprint == null) {
+            return;
+        }
+        try {
+            contentFingerprintPort.register(websiteId, fingerprint, url);
+        } catch (Exception e) {
+            log.warn("지문 등록 실패: URL={}, error={}", url, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.application.port.out.SaveCrawledUrlPort;
+import com.example.capstone_java.website.domain.entity.CrawledUrl;
+import com.example.capstone_java.website.domain.event.UrlCrawlEvent;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 크롤링 시간 한도가 지난 하위 URL의 분석 자리 반납 (크롤링 후 분석 모드)
+ *
+ * 발견 시 분석 자리를 잡아둔 URL은 버리더라도 FAILED 행 + 자리 반납이 있어야 완료 판정(DB 검증)이 맞음
+ * → 이벤트마다 DB를 조회/저장하지 않고 모아서 flush-ms마다 한 번에 저장 후 카운터 반영
+ *   (밀린 대기열을 수신 속도로 비우는 만료 경로가 Website 조회 / 행 단위 insert 없이 동작)
+ * → Kafka ack는 FAILED 행이 저장된 뒤에 호출 (저장 전에 프로세스가 죽으면 재수신되어 다시 반납)
+ */
+@Slf4j
+@Component
+public class ExpiredCrawlReleaser {
+
+    private final SaveCrawledUrlPort saveCrawledUrlPort;
+    private final AnalysisProgressService analysisProgressService;
+    private final int maxBatchSize;
+
+    private final Queue<PendingRelease> pending = new ConcurrentLinkedQueue<>();
+
+    public ExpiredCrawlReleaser(SaveCrawledUrlPort saveCrawledUrlPort,
+                                AnalysisProgressService analysisProgressService,
+                                @Value("${app.crawl.expired-release.max-batch-size:500}") int maxBatchSize) {
+        this.saveCrawledUrlPort = saveCrawledUrlPort;
+        this.analysisProgressService = analysisProgressService;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /**
+     * 만료된 이벤트를 반납 대기열에 추가 (DB 접근 없음)
+     *
+     * @param onReleased FAILED 행 저장 + 자리 반납 후 호출 (Kafka ack)
+     */
+    public void release(UrlCrawlEvent event, Runnable onReleased) {
+        pending.add(new PendingRelease(event, onReleased));
+    }
+
+    @Scheduled(fixedDelayString = "${app.crawl.expired-release.flush-ms:1000}")
+    public void flush() {
+        while (!pending.isEmpty()) {
+            List<PendingRelease> batch = new ArrayList<>();
+            PendingRelease release;
+            while (batch.size() < maxBatchSize && (release = pending.poll()) != null) {
+                batch.add(release);
+            }
+            if (batch.isEmpty() || !releaseBatch(batch)) {
+                return;
+            }
+        }
+    }
+
+    private boolean releaseBatch(List<PendingRelease> batch) {
+        Map<WebsiteId, Integer> releasedByWebsite = new LinkedHashMap<>();
+        List<CrawledUrl> failedUrls = new ArrayList<>(batch.size());
+        for (PendingRelease release : batch) {
+            UrlCrawlEvent event = release.event();
+            failedUrls.add(CrawledUrl.discovered(event.websiteId(), event.url(), event.parentUrl(), event.depth())
+                    .markFailed());
+            releasedByWebsite.merge(event.websiteId(), 1, Integer::sum);
+        }
+
+        try {
+            saveCrawledUrlPort.saveAll(failedUrls);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (카운터와 ack는 행이 저장된 뒤에만 반영)
+            log.warn("만료 URL FAILED 저장 실패 - 다음 주기에 재시도: {}개, error={}", batch.size(), e.getMessage());
+            pending.addAll(batch);
+            return false;
+        }
+
+        releasedByWebsite.forEach(analysisProgressService::onExpiredSlotsReleased);
+        for (PendingRelease release : batch) {
+            try {
+                release.onReleased().run();
+            } catch (RuntimeException e) {
+                log.warn("만료 URL ack 실패 - URL: {}, error={}", release.event().url(), e.getMessage());
+            }
+        }
+        log.info("크롤링 시간 한도 초과 URL 분석 자리 반납: {}개 (웹사이트 {}개)", batch.size(), releasedByWebsite.size());
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            // ack하지 않았으므로 재시작 후 다시 수신되어 반납됨
+            log.warn("종료 전에 저장하지 못한 만료 URL: {}개 - 재수신 후 다시 반납", pending.size());
+        }
+    }
+
+    private record PendingRelease(UrlCrawlEvent event, Runnable onReleased) {
+    }
+}
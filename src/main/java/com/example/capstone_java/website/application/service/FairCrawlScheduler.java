@@ -0,0 +1,239 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.domain.event.UrlCrawlEvent;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 웹사이트 단위 공정 크롤링 스케줄러 (로컬 프론티어)
+ *
+ * 책임: Kafka에서 받은 크롤링 작업을 웹사이트별 큐에 나눠 담고, 활성 웹사이트를 라운드 로빈으로 돌며 실행
+ * - 웹사이트 안에서는 CrawlFrontier 순서 (얕은 depth → 인링크 많고 경로 짧은 페이지)
+ * - 웹사이트당 동시 크롤링 수 상한 → 큰 사이트가 브라우저 풀을 독점하지 않음
+ * - 나중에 들어온 작은 사이트도 다음 차례에 바로 워커를 배정받음
+ * - 워커 수는 Playwright 브라우저 풀 크기와 동일 (초과 워커는 풀 대기만 늘림)
+ *
+ * 작업 완료/실패 통지는 호출자가 넘긴 콜백으로 전달 (Kafka 커밋/DLT는 어댑터 책임)
+ */
+@Slf4j
+@Component
+public class FairCrawlScheduler {
+
+    private final CrawlExecutionService crawlExecutionService;
+    private final int maxInFlightPerWebsite;
+    private final int maxTrackedInLinks;
+    private final ExecutorService workers;
+
+    private final Object lock = new Object();
+    // 대기 작업이 있는 웹사이트
+    private final Map<WebsiteId, SiteQueue> sites = new HashMap<>();
+    // 실행 가능한(대기 작업 있음 + 상한 미만) 웹사이트의 차례
+    private final Deque<SiteQueue> ready = new ArrayDeque<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private int idleWorkers;
+
+    // 웹사이트별 인링크 수 (Kafka 파티션이 웹사이트 단위라 한 사이트의 크롤링은 한 노드에 모임)
+    // 프론티어는 배치 사이에 잠시 비었다가 다시 채워지므로 따로 보관하고 일정 시간 미사용 시 제거
+    // 사이트별 집계는 URL 수 상한(LRU)을 두고, 크롤링을 시작한 URL은 프론티어가 바로 뺌
+    private final Cache<WebsiteId, Map<String, Integer>> inLinkCounts = CacheBuilder.newBuilder()
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .build();
+
+    public FairCrawlScheduler(CrawlExecutionService crawlExecutionService,
+                              @Value("${app.crawl.fair.workers:${playwright.pool.size:4}}") int workerCount,
+                              @Value("${app.crawl.fair.max-in-flight-per-website:2}") int maxInFlightPerWebsite,
+                              @Value("${app.crawl.fair.max-tracked-in-links:20000}") int maxTrackedInLinks) {
+        this.crawlExecutionService = crawlExecutionService;
+        this.maxInFlightPerWebsite = maxInFlightPerWebsite;
+        this.maxTrackedInLinks = maxTrackedInLinks;
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "crawl-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::workLoop);
+        }
+    }
+
+    /**
+     * 크롤링 작업 등록 (호출 스레드는 블로킹되지 않음)
+     *
+     * @param onSuccess 크롤링 완료 시 (워커 스레드에서 호출)
+     * @param onFailure 크롤링 실패 시 (워커 스레드에서 호출)
+     */
+    public void submit(UrlCrawlEvent event, Runnable onSuccess, Consumer<Exception> onFailure) {
+        CrawlTask task = new CrawlTask(event, onSuccess, onFailure);
+        synchronized (lock) {
+            SiteQueue site = sites.computeIfAbsent(event.websiteId(), id -> new SiteQueue(inLinksOf(id)));
+            site.tasks.add(event.url(), event.depth(), task);
+            pending.incrementAndGet();
+            markReadyIfRunnable(site);
+            if (idleWorkers > 0) {
+                lock.notify();
+            }
+        }
+    }
+
+    /**
+     * 아직 끝나지 않은 작업 수 (대기 + 실행 중) - 소비 측 일시 정지 판단용
+     */
+    public int pending() {
+        return pending.get();
+    }
+
+    public int activeWebsites() {
+        synchronized (lock) {
+            return sites.size();
+        }
+    }
+
+    private void workLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            CrawlTask task;
+            try {
+                task = take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            run(task);
+        }
+    }
+
+    /**
+     * 차례가 된 웹사이트에서 작업 하나를 꺼냄
+     * 상한 미만이고 작업이 남아 있으면 차례 맨 뒤로 다시 넣어 다른 사이트와 번갈아 실행
+     */
+    private CrawlTask take() throws InterruptedException {
+        synchronized (lock) {
+            while (ready.isEmpty()) {
+                idleWorkers++;
+                try {
+                    lock.wait();
+                } finally {
+                    idleWorkers--;
+                }
+            }
+            SiteQueue site = ready.pollFirst();
+            site.queued = false;
+            CrawlTask task = site.tasks.poll();
+            site.inFlight++;
+            markReadyIfRunnable(site);
+            return task;
+        }
+    }
+
+    /**
+     * 작업 하나 실행 - complete()는 결과와 관계없이 정확히 한 번
+     * 콜백 예외(ack 실패, DLT 동기 전송 실패 등)는 여기서 삼켜 워커 스레드가 죽지 않게 함
+     */
+    private void run(CrawlTask task) {
+        UrlCrawlEvent event = task.event();
+        List<String> links = List.of();
+        Exception failure = null;
+        try {
+            // 만료된 분석 자리 예약 URL: 완료 콜백(ack)은 반납 대기열이 FAILED 행을 저장한 뒤에 호출
+            if (crawlExecutionService.releaseIfExpired(event, task.onSuccess())) {
+                return;
+            }
+            links = crawlExecutionService.executeCrawl(event);
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            complete(event.websiteId(), links);
+        }
+
+        if (failure == null) {
+            try {
+                task.onSuccess().run();
+            } catch (Exception e) {
+                log.error("크롤링 완료 콜백 실패 - URL: {}, Error: {}", event.url(), e.getMessage(), e);
+            }
+            return;
+        }
+        try {
+            task.onFailure().accept(failure);
+        } catch (Exception e) {
+            log.error("크롤링 실패 콜백 실패 - URL: {}, Error: {}", event.url(), e.getMessage(), e);
+        }
+    }
+
+    private void complete(WebsiteId websiteId, List<String> links) {
+        synchronized (lock) {
+            pending.decrementAndGet();
+            SiteQueue site = sites.get(websiteId);
+            if (site == null) {
+                return;
+            }
+            site.tasks.recordLinks(links);
+            site.inFlight--;
+            if (site.tasks.isEmpty() && site.inFlight == 0) {
+                sites.remove(websiteId);
+                log.debug("웹사이트 크롤링 큐 비움: websiteId={}", websiteId.getId());
+                return;
+            }
+            if (markReadyIfRunnable(site) && idleWorkers > 0) {
+                lock.notify();
+            }
+        }
+    }
+
+    private boolean markReadyIfRunnable(SiteQueue site) {
+        if (site.queued || site.tasks.isEmpty() || site.inFlight >= maxInFlightPerWebsite) {
+            return false;
+        }
+        site.queued = true;
+        ready.addLast(site);
+        return true;
+    }
+
+    private Map<String, Integer> inLinksOf(WebsiteId websiteId) {
+        try {
+            return inLinkCounts.get(websiteId, () -> CacheBuilder.newBuilder()
+                    .maximumSize(maxTrackedInLinks)
+                    .<String, Integer>build()
+                    .asMap());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 대기 중인 작업은 Kafka 커밋 전이므로 재시작 후 다시 수신됨
+        workers.shutdownNow();
+        log.info("크롤링 스케줄러 종료: 미완료 작업={}개", pending.get());
+    }
+
+    private record CrawlTask(UrlCrawlEvent event, Runnable onSuccess, Consumer<Exception> onFailure) {
+    }
+
+    private static final class SiteQueue {
+        private final CrawlFrontier<CrawlTask> tasks;
+        private int inFlight;
+        private boolean queued;
+
+        private SiteQueue(Map<String, Integer> inLinks) {
+            this.tasks = new CrawlFrontier<>(inLinks);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.application.port.out.NegativeCachePort;
+import com.example.capstone_java.website.domain.vo.FetchFailure;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 네거티브 캐시 + 호스트 차단기
+ *
+ * - URL 단위: 실패한 URL은 일정 시간 다시 크롤링하지 않음 (4xx는 길게, 5xx/응답 없음은 짧게)
+ * - 호스트 단위: 5xx/응답 없음이 연속 threshold회 나면 open-seconds 동안 그 호스트의 URL을 모두 거부
+ *   차단 기간이 끝난 뒤 첫 실패는 연속 실패 수가 아직 남아 있어 바로 다시 차단 (반개방), 성공하면 초기화
+ * 기록은 웹사이트와 무관하게 공유 (같은 깨진 링크 / 죽은 호스트를 다른 분석에서도 건너뜀)
+ * 429는 HostRateLimiter가 속도를 낮추는 신호이므로 여기서는 실패로 보지 않음
+ */
+@Slf4j
+@Service
+public class FetchFailureGuard {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final NegativeCachePort negativeCachePort;
+    private final boolean enabled;
+    private final Duration clientErrorTtl;
+    private final Duration serverErrorTtl;
+    private final long failureThreshold;
+    private final Duration failureWindow;
+    private final Duration openDuration;
+
+    public FetchFailureGuard(NegativeCachePort negativeCachePort,
+                             @Value("${app.crawl.negative-cache.enabled:true}") boolean enabled,
+                             @Value("${app.crawl.negative-cache.client-error-ttl-minutes:360}") long clientErrorTtlMinutes,
+                             @Value("${app.crawl.negative-cache.server-error-ttl-minutes:10}") long serverErrorTtlMinutes,
+                             @Value("${app.crawl.circuit.failure-threshold:5}") long failureThreshold,
+                             @Value("${app.crawl.circuit.window-seconds:300}") long windowSeconds,
+                             @Value("${app.crawl.circuit.open-seconds:120}") long openSeconds) {
+        this.negativeCachePort = negativeCachePort;
+        this.enabled = enabled;
+        this.clientErrorTtl = Duration.ofMinutes(clientErrorTtlMinutes);
+        this.serverErrorTtl = Duration.ofMinutes(serverErrorTtlMinutes);
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.failureWindow = Duration.ofSeconds(windowSeconds);
+        this.openDuration = Duration.ofSeconds(openSeconds);
+    }
+
+    /**
+     * 최근 실패한 URL / 차단된 호스트의 URL을 제외 (입력 순서 유지, 조회 실패 시 그대로 통과)
+     */
+    public List<String> rejectKnownBad(List<String> urls) {
+        if (!enabled || urls.isEmpty()) {
+            return urls;
+        }
+
+        try {
+            Map<String, String> hostsByUrl = new LinkedHashMap<>();
+            for (String url : urls) {
+                hostsByUrl.put(url, hostOf(url));
+            }
+            Set<String> openHosts = negativeCachePort.findOpenHosts(
+                    hostsByUrl.values().stream().filter(Objects::nonNull).distinct().toList());
+            Set<String> failedUrls = negativeCachePort.findFailedUrls(urls);
+            if (openHosts.isEmpty() && failedUrls.isEmpty()) {
+                return urls;
+            }
+
+            List<String> accepted = new ArrayList<>(urls.size());
+            for (String url : urls) {
+                if (!failedUrls.contains(url) && !openHosts.contains(hostsByUrl.get(url))) {
+                    accepted.add(url);
+                }
+            }
+            log.info("네거티브 캐시 필터 - 전체: {}, 제외: {} (차단 호스트: {})",
+                    urls.size(), urls.size() - accepted.size(), openHosts);
+            return accepted;
+        } catch (RuntimeException e) {
+            log.warn("네거티브 캐시 조회 실패 - 필터 없이 진행: {}", e.getMessage());
+            return urls;
+        }
+    }
+
+    /**
+     * 렌더링 직전 확인 (대기열에 오른 뒤 호스트 차단기가 열린 경우)
+     */
+    public boolean isHostOpen(String url) {
+        String host = hostOf(url);
+        if (!enabled || host == null) {
+            return false;
+        }
+        try {
+            return !negativeCachePort.findOpenHosts(List.of(host)).isEmpty();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    public void onFetchFailed(String url, FetchFailure failure) {
+        if (!enabled || failure.httpStatus() == TOO_MANY_REQUESTS) {
+            return;
+        }
+
+        try {
+            negativeCachePort.markUrlFailed(url, failure.indicatesHostFailure() ? serverErrorTtl : clientErrorTtl);
+
+            String host = hostOf(url);
+            if (host == null || !failure.indicatesHostFailure()) {
+                return;
+            }
+            long failures = negativeCachePort.incrementHostFailures(host, failureWindow);
+            if (failures >= failureThreshold) {
+                negativeCachePort.openHost(host, openDuration);
+                log.warn("호스트 차단기 열림: host={}, 연속 실패={}, 차단 {}초", host, failures, openDuration.toSeconds());
+            }
+        } catch (RuntimeException e) {
+            log.warn("네거티브 캐시 기록 실패: url={}, error={}", url, e.getMessage());
+        }
+    }
+
+    public void onFetchSucceeded(String url) {
+        String host = hostOf(url);
+        if (!enabled || host == null) {
+            return;
+        }
+        try {
+            negativeCachePort.resetHostFailures(host);
+        } catch (RuntimeException e) {
+            log.debug("호스트 실패 수 초기화 실패: host={}, error={}", host, e.getMessage());
+        }
+    }
+
+    private String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -33,21 +33,27 @@ public class FinalReportSaver {
      * REQUIRES_NEW: 부모 트랜잭션과 독립적으로 즉시 커밋
      * → SSE 전송 전에 DB 커밋 완료 보장
      * → 외부 클래스이므로 프록시가 정상 작동
+     *
+     * @return 저장했으면 true, 그 사이 취소되어(COMPLETE로 바꿀 수 없어) 저장하지 않았으면 false
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveWithNewTransaction(WebsiteId websiteId, FinalReportDto finalReport, Website website) {
+    public boolean saveWithNewTransaction(WebsiteId websiteId, FinalReportDto finalReport, Website website) {
         log.info("🔄 [별도 트랜잭션] DB 저장 시작 - websiteId={}", websiteId.getId());
 
-        // 1. 최종 보고서 DB 저장
-        saveFinalReportPort.save(websiteId, finalReport);
-        log.info("💾 최종 보고서 DB 저장 완료");
-
-        // 2. Website 상태를 COMPLETE로 변경 및 저장
+        // 1. Website 상태를 COMPLETE로 변경 (취소된 분석은 바뀌지 않으므로 보고서도 저장하지 않음)
         Website completedWebsite = website.markCompleted();
-        saveWebsitePort.save(completedWebsite);
+        if (!saveWebsitePort.changeStatus(completedWebsite)) {
+            log.info("Website 상태가 이미 변경됨(취소 등) - 최종 보고서 저장 생략: websiteId={}", websiteId.getId());
+            return false;
+        }
         log.info("💾 Website 상태 COMPLETE로 변경 완료");
 
+        // 2. 최종 보고서 DB 저장
+        saveFinalReportPort.save(websiteId, finalReport);
+        log.info("💾 최종 보고서 DB 저장 완료");
+
         // 메서드 종료 → 즉시 커밋! (REQUIRES_NEW)
         log.info("✅ [별도 트랜잭션] 커밋 완료 - 이제 데이터 조회 가능!");
+        return true;
     }
 }
@@ -0,0 +1,189 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.application.port.out.GetCrawledUrlPort;
+import com.example.capstone_java.website.application.port.out.GetWebsitePort;
+import com.example.capstone_java.website.application.port.out.SitemapPort;
+import com.example.capstone_java.website.domain.entity.CrawledUrl;
+import com.example.capstone_java.website.domain.entity.Website;
+import com.example.capstone_java.website.domain.event.DiscoveredUrlsEvent;
+import com.example.capstone_java.website.domain.vo.CrawlBudget;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 크롤링 시작 시 프론티어 시드
+ *
+ * 루트 렌더링이 끝나기를 기다리지 않고 처음부터 여러 페이지를 크롤링 대기열에 올림
+ * - 이전 크롤링 그래프: 같은 사이트의 직전 완료 분석에서 크롤링된 페이지 (원래 부모/깊이 유지)
+ * - sitemap: robots.txt에 공개된 sitemap의 페이지 (루트의 하위 URL로 취급)
+ * 시드는 DiscoveredUrlsEvent로 발행하므로 중복 제거/트랩 탐지/URL 수 제한은 발견된 URL과 동일하게 적용
+ * (시드 묶음마다 한 트랜잭션에서 아웃박스에 저장 → 커밋 후 릴레이가 전송)
+ * sitemap 시드는 URL 수 제한의 일부(sitemap-fraction)까지만 사용
+ * → 큰 sitemap이 루트에서 발견될 링크보다 먼저 예산을 모두 채우지 않도록 (깊이/중요도 순서 유지)
+ */
+@Slf4j
+@Service
+public class FrontierSeeder {
+
+    private final GetWebsitePort getWebsitePort;
+    private final GetCrawledUrlPort getCrawledUrlPort;
+    private final SitemapPort sitemapPort;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final AnalysisProgressService analysisProgressService;
+    private final boolean enabled;
+    private final double sitemapFraction;
+    private final ExecutorService executor;
+
+    public FrontierSeeder(GetWebsitePort getWebsitePort,
+                          GetCrawledUrlPort getCrawledUrlPort,
+                          SitemapPort sitemapPort,
+                          ApplicationEventPublisher eventPublisher,
+                          TransactionTemplate transactionTemplate,
+                          AnalysisProgressService analysisProgressService,
+                          @Value("${app.crawl.seed.enabled:true}") boolean enabled,
+                          @Value("${app.crawl.seed.threads:2}") int threads,
+                          @Value("${app.crawl.seed.sitemap-fraction:0.2}") double sitemapFraction) {
+        this.getWebsitePort = getWebsitePort;
+        this.getCrawledUrlPort = getCrawledUrlPort;
+        this.sitemapPort = sitemapPort;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.analysisProgressService = analysisProgressService;
+        this.enabled = enabled;
+        this.sitemapFraction = Math.min(1.0, Math.max(0.0, sitemapFraction));
+
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "frontier-seed-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), threadFactory);
+    }
+
+    /**
+     * 시드 수집을 백그라운드에서 시작 (sitemap 조회가 크롤링 시작을 지연시키지 않도록)
+     *
+     * 수집하는 동안은 분석 자리를 하나 잡아 두어, 루트 분석이 먼저 끝나도 완료 처리되지 않게 함
+     */
+    public void seedAsync(Website website) {
+        if (!enabled) {
+            return;
+        }
+
+        analysisProgressService.onSeedingStarted(website.getWebsiteId());
+        try {
+            executor.execute(() -> {
+                try {
+                    seed(website);
+                } catch (Exception e) {
+                    log.warn("프론티어 시드 실패 - 일반 크롤링으로 진행: WebsiteId={}, error={}",
+                            website.getWebsiteId().getId(), e.getMessage());
+                } finally {
+                    analysisProgressService.onSeedingFinished(website.getWebsiteId());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            analysisProgressService.onSeedingFinished(website.getWebsiteId());
+        }
+    }
+
+    private void seed(Website website) {
+        // 루트는 ExtractionEventConsumer가 이미 발행
+        int budget = website.getCrawlConfig().maxTotalUrls() - 1;
+        int seeded = 0;
+
+        Optional<WebsiteId> previous = previousRun(website);
+        if (previous.isPresent()) {
+            seeded += seedFromPreviousGraph(website, previous.get(), budget);
+        }
+        int sitemapBudget = Math.min(budget - seeded, (int) (budget * sitemapFraction));
+        if (sitemapBudget > 0) {
+            seeded += seedFromSitemap(website, sitemapBudget);
+        }
+
+        log.info("프론티어 시드 완료: WebsiteId={}, 시드 URL {}개 (이전 그래프 {})",
+                website.getWebsiteId().getId(), seeded, previous.isPresent() ? "사용" : "없음");
+    }
+
+    private Optional<WebsiteId> previousRun(Website website) {
+        if (website.isIncremental()) {
+            return Optional.of(website.getPreviousWebsiteId());
+        }
+        return getWebsitePort.findLatestCompleted(website.getClientId(), website.getMainUrl())
+                .map(Website::getWebsiteId);
+    }
+
+    /**
+     * 이전 분석의 CRAWLED 행을 (부모, 깊이)별로 묶어 원래 위치에서 발견된 것처럼 발행
+     */
+    private int seedFromPreviousGraph(Website website, WebsiteId previousWebsiteId, int budget) {
+        Map<ParentKey, List<String>> byParent = new LinkedHashMap<>();
+        for (CrawledUrl crawled : getCrawledUrlPort.findCrawledUrls(previousWebsiteId, budget)) {
+            if (crawled.getParentUrl() == null || !website.canCrawlAtDepth(crawled.getDepth())) {
+                continue;
+            }
+            byParent.computeIfAbsent(new ParentKey(crawled.getParentUrl(), crawled.getDepth() - 1), key -> new ArrayList<>())
+                    .add(crawled.getUrl());
+        }
+
+        int seeded = 0;
+        for (Map.Entry<ParentKey, List<String>> group : byParent.entrySet()) {
+            seeded += publishInBatches(website, group.getKey().parentUrl(), group.getKey().depth(), group.getValue());
+        }
+        return seeded;
+    }
+
+    private int seedFromSitemap(Website website, int budget) {
+        List<String> pageUrls = sitemapPort.findPageUrls(website.getMainUrl(), budget);
+        return publishInBatches(website, website.getMainUrl(), 0, pageUrls);
+    }
+
+    /**
+     * 페이지당 URL 제한(maxUrlsPerPage) 단위로 나눠 발행 (JobUpdatingConsumer가 배치마다 같은 제한을 적용하므로)
+     */
+    private int publishInBatches(Website website, String parentUrl, int depth, List<String> urls) {
+        int batchSize = Math.max(1, website.getCrawlConfig().maxUrlsPerPage());
+        int published = 0;
+        CrawlBudget budget = website.crawlBudget(analysisProgressService.analyzesAfterCrawl(website));
+        List<DiscoveredUrlsEvent> events = new ArrayList<>();
+        for (int from = 0; from < urls.size(); from += batchSize) {
+            List<String> batch = urls.subList(from, Math.min(urls.size(), from + batchSize));
+            List<String> seeds = website.excludeParentUrl(website.filterValidUrls(batch), website.getMainUrl());
+            if (seeds.isEmpty()) {
+                continue;
+            }
+            events.add(DiscoveredUrlsEvent.create(website.getWebsiteId(), parentUrl, seeds, depth, budget));
+            published += seeds.size();
+        }
+        if (!events.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> events.forEach(eventPublisher::publishEvent));
+        }
+        return published;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record ParentKey(String parentUrl, int depth) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.application.port.out.GetAccessibilityReportPort;
+import com.example.capstone_java.website.application.port.out.GetCrawledUrlPort;
+import com.example.capstone_java.website.application.port.out.PageRevalidationPort;
+import com.example.capstone_java.website.application.port.out.SaveAccessibilityReportPort;
+import com.example.capstone_java.website.domain.entity.AccessibilityReport;
+import com.example.capstone_java.website.domain.entity.CrawledUrl;
+import com.example.capstone_java.website.domain.entity.Website;
+import com.example.capstone_java.website.domain.vo.PageValidators;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 증분 재크롤링 (이전 분석 기준으로 바뀐 페이지만 다시 렌더링/분석)
+ *
+ * 페이지마다 이전 분석의 CRAWLED 행과 분석 결과가 있으면 조건부 요청으로 변경 여부를 확인하고,
+ * 바뀌지 않았으면 분석 결과를 새 분석으로 복사하고 이전 크롤링 그래프의 하위 URL로 탐색을 이어감
+ * 이전 기록이 없거나 바뀐 페이지는 일반 크롤링 경로로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IncrementalCrawlService {
+
+    private final GetCrawledUrlPort getCrawledUrlPort;
+    private final GetAccessibilityReportPort getAccessibilityReportPort;
+    private final SaveAccessibilityReportPort saveAccessibilityReportPort;
+    private final PageRevalidationPort pageRevalidationPort;
+
+    /**
+     * 바뀌지 않은 페이지면 이전 결과를 이어받고 그 하위 URL / 현재 검증 값을 반환
+     */
+    public Optional<CarriedPage> carryForward(Website website, String url) {
+        if (!website.isIncremental()) {
+            return Optional.empty();
+        }
+
+        Optional<CrawledUrl> previous = getCrawledUrlPort.findCrawledUrl(website.getPreviousWebsiteId(), url);
+        if (previous.isEmpty() || previous.get().getValidators().isEmpty()) {
+            return Optional.empty();
+        }
+
+        Optional<AccessibilityReport> previousReport =
+                getAccessibilityReportPort.findLatestByWebsiteIdAndUrl(website.getPreviousWebsiteId(), url);
+        if (previousReport.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Optional<PageValidators> unchanged = pageRevalidationPort.revalidate(url, previous.get().getValidators());
+        if (unchanged.isEmpty()) {
+            log.info("증분 재크롤링 - 변경됨, 다시 분석: {}", url);
+            return Optional.empty();
+        }
+
+        // 재전달된 크롤링 이벤트는 이미 이어받은 결과가 있으므로 다시 저장하지 않음 (보고서 수 중복 방지)
+        if (getAccessibilityReportPort.findLatestByWebsiteIdAndUrl(website.getWebsiteId(), url).isEmpty()) {
+            saveAccessibilityReportPort.save(previousReport.get().carriedOverTo(website.getWebsiteId()));
+        }
+        List<String> childUrls = getCrawledUrlPort.findChildUrls(website.getPreviousWebsiteId(), url);
+        log.info("증분 재크롤링 - 변경 없음, 이전 결과 사용: {} (하위 URL {}개)", url, childUrls.size());
+        return Optional.of(new CarriedPage(childUrls, unchanged.get()));
+    }
+
+    public record CarriedPage(List<String> childUrls, PageValidators validators) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.adapter.in.dto.SseProgressDto;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import com.example.capstone_java.website.global.sse.SseEventBus;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 웹사이트별 진행 상황 묶음 전송
+ *
+ * 책임:
+ * 1. 진행 업데이트를 모아 웹사이트당 interval마다 최대 1번만 progress 전송 (마지막 값만 전송)
+ * 2. 처음 보는 단계(CRAWLING → ANALYZING)는 기다리지 않고 즉시 전송
+ * 3. 완료/실패/취소 시 상태 해제, 갱신이 끊긴 웹사이트는 idle 타임아웃으로 정리
+ * 4. 해제된 웹사이트는 잠시 기억해 두고 늦게 도착한 업데이트(진행 중이던 분석 콜백 등)를 버림
+ *    → complete/cancelled 뒤에 progress가 나가지 않음
+ */
+@Slf4j
+@Component
+public class ProgressAggregator {
+
+    private final SseEventBus sseEventBus;
+    private final long intervalMillis;
+    private final long idleTimeoutMillis;
+
+    private final Map<UUID, WebsiteProgress> states = new ConcurrentHashMap<>();
+    private final Cache<UUID, Boolean> released;
+
+    public ProgressAggregator(SseEventBus sseEventBus,
+                              @Value("${app.sse.progress-interval-ms:1000}") long intervalMillis,
+                              @Value("${app.sse.progress-idle-timeout-minutes:30}") long idleTimeoutMinutes) {
+        this.sseEventBus = sseEventBus;
+        this.intervalMillis = intervalMillis;
+        this.idleTimeoutMillis = Duration.ofMinutes(idleTimeoutMinutes).toMillis();
+        this.released = CacheBuilder.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(Math.max(1, idleTimeoutMinutes)))
+                .build();
+    }
+
+    /**
+     * 진행 업데이트 제출 (interval이 지났거나 새 단계면 즉시 전송, 아니면 다음 sweep에서 전송)
+     */
+    public void submit(WebsiteId websiteId, String clientId, SseProgressDto progress) {
+        // 해제 여부 확인과 상태 생성을 release()와 같은 키 잠금 안에서 처리 (해제 직후 상태가 다시 생기지 않도록)
+        WebsiteProgress state = states.compute(websiteId.getId(), (id, existing) -> {
+            if (released.getIfPresent(id) != null) {
+                return null;
+            }
+            return existing != null ? existing : new WebsiteProgress(clientId);
+        });
+        if (state == null) {
+            log.debug("해제된 웹사이트의 진행 업데이트 무시: websiteId={}", websiteId.getId());
+            return;
+        }
+        long now = System.currentTimeMillis();
+
+        synchronized (state) {
+            if (state.released) {
+                return;
+            }
+            state.pending = progress;
+            state.lastUpdatedAt = now;
+
+            boolean newStage = state.emittedStages.add(progress.getStage());
+            if (newStage || now - state.lastEmittedAt >= intervalMillis) {
+                flush(state, now);
+            }
+        }
+    }
+
+    /**
+     * 상태 해제 (완료/실패/취소) - 보류 중인 progress는 버림 (complete/error/cancelled가 마지막 이벤트)
+     */
+    public void release(WebsiteId websiteId) {
+        WebsiteProgress[] removed = new WebsiteProgress[1];
+        states.compute(websiteId.getId(), (id, existing) -> {
+            released.put(id, Boolean.TRUE);
+            removed[0] = existing;
+            return null;
+        });
+        // flushDue가 state 잠금을 쥔 채 states를 건드리므로 state 잠금은 compute 밖에서 잡음
+        WebsiteProgress state = removed[0];
+        if (state != null) {
+            synchronized (state) {
+                state.released = true;
+                state.pending = null;
+            }
+        }
+    }
+
+    /**
+     * interval이 지난 보류 업데이트 전송 + 오래 갱신되지 않은 상태 정리
+     */
+    @Scheduled(fixedDelayString = "${app.sse.progress-interval-ms:1000}")
+    public void flushDue() {
+        long now = System.currentTimeMillis();
+        states.forEach((websiteId, state) -> {
+            synchronized (state) {
+                if (state.pending != null && now - state.lastEmittedAt >= intervalMillis) {
+                    flush(state, now);
+                }
+                if (state.pending == null && now - state.lastUpdatedAt >= idleTimeoutMillis) {
+                    states.remove(websiteId, state);
+                    log.debug("진행 상황 상태 정리 (idle): websiteId={}", websiteId);
+                }
+            }
+        });
+    }
+
+    private void flush(WebsiteProgress state, long now) {
+        if (state.pending == null) {
+            return;
+        }
+        sseEventBus.publish(state.clientId, state.pending, "progress");
+        log.debug("SSE 진행 상황 전송: clientId={}, stage={}, percentage={}",
+                state.clientId, state.pending.getStage(), state.pending.getPercentage());
+        state.pending = null;
+        state.lastEmittedAt = now;
+    }
+
+    private static final class WebsiteProgress {
+        private final String clientId;
+        private final Set<String> emittedStages = new HashSet<>();
+        private SseProgressDto pending;
+        private long lastEmittedAt;
+        private long lastUpdatedAt;
+        private boolean released;
+
+        private WebsiteProgress(String clientId) {
+            this.clientId = clientId;
+        }
+    }
+}
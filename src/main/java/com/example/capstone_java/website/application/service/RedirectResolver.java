@@ -0,0 +1,99 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.application.port.out.RedirectMapPort;
+import com.example.capstone_java.website.domain.entity.Website;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 리다이렉트 최종 URL 기준 중복 제거
+ *
+ * HTTP 리다이렉트는 발견 단계의 ContentTypePrefilter가 대부분 해결하지만,
+ * meta refresh / JavaScript 리다이렉트와 확인에 실패한 URL은 브라우저가 렌더링해야 최종 URL을 알 수 있음
+ * - 크롤링 시점: 렌더링된 최종 URL을 처음 차지한 페이지만 분석하고, 나머지는 그 페이지의 DUPLICATE로 기록
+ * - 발견 시점: 리다이렉트 맵에 기록된 URL은 최종 URL로 바꿔서 중복 제거
+ */
+@Slf4j
+@Service
+public class RedirectResolver {
+
+    private final RedirectMapPort redirectMapPort;
+    private final boolean enabled;
+
+    public RedirectResolver(RedirectMapPort redirectMapPort,
+                            @Value("${app.crawl.redirect-dedup.enabled:true}") boolean enabled) {
+        this.redirectMapPort = redirectMapPort;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 렌더링된 최종 URL을 다른 페이지가 이미 차지했으면 그 페이지 URL 반환
+     *
+     * 리다이렉트가 없던 페이지도 자기 URL을 최종 URL로 등록해야, 나중에 그 페이지로 리다이렉트되는 URL이 중복으로 잡힘
+     * 최종 URL이 크롤링 범위를 벗어나면 등록하지 않음
+     */
+    public Optional<String> duplicateOf(Website website, String url, String finalUrl) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String resolved = canonicalFinalUrl(website, url, finalUrl);
+        if (resolved == null) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!resolved.equals(url)) {
+                redirectMapPort.recordRedirect(website.getWebsiteId(), url, resolved);
+            }
+            return redirectMapPort.claimFinalUrl(website.getWebsiteId(), resolved, url);
+        } catch (Exception e) {
+            // 중복 판정 실패 시 그대로 분석 (중복 분석 비용만 발생)
+            log.warn("최종 URL 중복 확인 실패 - 분석 진행: url={}, error={}", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 발견된 URL 중 리다이렉트가 확인된 URL을 최종 URL로 바꾸고 다시 중복 제거 (입력 순서 유지)
+     */
+    public List<String> resolveDiscovered(Website website, List<String> urls) {
+        if (!enabled || urls.isEmpty()) {
+            return urls;
+        }
+
+        Map<String, String> finalUrls;
+        try {
+            finalUrls = redirectMapPort.findFinalUrls(website.getWebsiteId(), urls);
+        } catch (Exception e) {
+            log.warn("리다이렉트 맵 조회 실패 - 원래 URL 사용: WebsiteId={}, error={}",
+                    website.getWebsiteId().getId(), e.getMessage());
+            return urls;
+        }
+        if (finalUrls.isEmpty()) {
+            return urls;
+        }
+
+        LinkedHashSet<String> resolved = new LinkedHashSet<>();
+        for (String url : urls) {
+            resolved.add(finalUrls.getOrDefault(url, url));
+        }
+        log.debug("리다이렉트 맵 적용 - WebsiteId: {}, 치환: {}, 결과: {}",
+                website.getWebsiteId().getId(), finalUrls.size(), resolved.size());
+        return new ArrayList<>(resolved);
+    }
+
+    private String canonicalFinalUrl(Website website, String url, String finalUrl) {
+        if (finalUrl == null || finalUrl.isBlank() || finalUrl.equals(url)) {
+            return url;
+        }
+        List<String> canonical = website.filterValidUrls(List.of(finalUrl));
+        return canonical.isEmpty() ? null : canonical.get(0);
+    }
+}
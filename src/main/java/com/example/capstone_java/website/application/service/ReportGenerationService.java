@@ -11,6 +11,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToDoubleFunction;
 
 /**
  * 접근성 분석 보고서 생성 서비스
@@ -24,17 +25,21 @@ public class ReportGenerationService {
 
     /**
      * AccessibilityReport로부터 URL별 상세 보고서 생성
+     *
+     * AnalysisResultConsumer가 결과를 저장할 때 한 번만 호출된다.
+     * 텍스트 보고서는 포함하지 않으며 renderTextReport()로 필요할 때 렌더링한다.
      */
     public UrlDetailReportDto generateUrlDetailReport(AccessibilityReport report) {
         log.debug("🔍 개별 URL 보고서 생성: url={}, score={}", report.getUrl(), report.getAccessibilityScore());
 
         // AI 응답 구조: { "task_id": ..., "website_id": ..., "results": { ... } }
         Map<String, Object> analysisResult = report.getAnalysisResult();
-        log.debug("🔍 analysisResult 최상위 키: {}", analysisResult.keySet());
+        if (analysisResult == null) {
+            analysisResult = Map.of();
+        }
 
         // "results" 키 안에 실제 분석 결과가 있음
         Map<String, Object> results = getMap(analysisResult, "results");
-        log.debug("🔍 results 키: {}", results.keySet());
 
         // 기본 정보 추출
         Map<String, Object> analysisInfo = getMap(results, "analysis_info");
@@ -43,29 +48,6 @@ public class ReportGenerationService {
         Map<String, Object> detailedScores = getMap(results, "detailed_scores");
         Map<String, Object> summary = getMap(results, "summary");
 
-        log.debug("🔍 추출된 값 - url: {}, analysisDate: {}, s3Url: {}",
-            getString(analysisInfo, "url"),
-            getString(analysisInfo, "analysis_date"),
-            getString(analysisInfo, "s3_url"));
-        log.debug("🔍 추출된 값 - crawledButtonCount: {}, detectedButtonCount: {}",
-            getInteger(buttonAnalysis, "crawled_button_count"),
-            getInteger(buttonAnalysis, "detected_button_count"));
-
-        // 상세 점수 추출
-        UrlDetailReportDto.DetailScoreDto buttonDetection = extractDetailScore(detailedScores, "button_detection");
-        UrlDetailReportDto.DetailScoreDto buttonVisualFeedback = extractDetailScore(detailedScores, "button_visual_feedback");
-        UrlDetailReportDto.DetailScoreDto buttonSize = extractDetailScore(detailedScores, "button_size");
-        UrlDetailReportDto.DetailScoreDto buttonContrast = extractDetailScore(detailedScores, "button_contrast");
-        UrlDetailReportDto.DetailScoreDto fontSize = extractDetailScore(detailedScores, "font_size");
-        UrlDetailReportDto.DetailScoreDto overallContrast = extractDetailScore(detailedScores, "overall_contrast");
-        UrlDetailReportDto.DetailScoreDto koreanRatio = extractDetailScore(detailedScores, "korean_ratio");
-
-        // 텍스트 보고서 생성
-        String textReport = generateTextReport(
-                analysisInfo, scrollInfo, buttonAnalysis,
-                buttonDetection, buttonVisualFeedback, buttonSize, buttonContrast,
-                fontSize, overallContrast, koreanRatio, summary);
-
         return UrlDetailReportDto.builder()
                 .url(getString(analysisInfo, "url"))
                 .analysisDate(getString(analysisInfo, "analysis_date"))
@@ -78,71 +60,106 @@ public class ReportGenerationService {
                 .crawledButtonCount(getInteger(buttonAnalysis, "crawled_button_count"))
                 .detectedButtonCount(getInteger(buttonAnalysis, "detected_button_count"))
                 .buttonCountDifference(getInteger(buttonAnalysis, "button_count_difference"))
-                .buttonDetection(buttonDetection)
-                .buttonVisualFeedback(buttonVisualFeedback)
-                .buttonSize(buttonSize)
-                .buttonContrast(buttonContrast)
-                .fontSize(fontSize)
-                .overallContrast(overallContrast)
-                .koreanRatio(koreanRatio)
+                .buttonDetection(extractDetailScore(detailedScores, "button_detection"))
+                .buttonVisualFeedback(extractDetailScore(detailedScores, "button_visual_feedback"))
+                .buttonSize(extractDetailScore(detailedScores, "button_size"))
+                .buttonContrast(extractDetailScore(detailedScores, "button_contrast"))
+                .fontSize(extractDetailScore(detailedScores, "font_size"))
+                .overallContrast(extractDetailScore(detailedScores, "overall_contrast"))
+                .koreanRatio(extractDetailScore(detailedScores, "korean_ratio"))
                 .finalScore(report.getAccessibilityScore() != null ? report.getAccessibilityScore() : 0.0)  // 🔥 엔티티에서 직접 가져옴
                 .accessibilityLevel(getString(summary, "accessibility_level"))
                 .severityLevel(getString(summary, "severity_level"))
-                .textReport(textReport)
                 .build();
     }
 
     /**
-     * 텍스트 보고서 생성 (사용자 제공 형식)
+     * 저장된 상세 보고서 반환 (detail_report 컬럼이 없는 레거시 데이터만 다시 계산)
+     */
+    public UrlDetailReportDto resolveUrlDetailReport(AccessibilityReport report) {
+        return report.hasDetailReport() ? report.getDetailReport() : generateUrlDetailReport(report);
+    }
+
+    /**
+     * 텍스트 보고서를 채운 상세 보고서 사본 반환
+     */
+    public UrlDetailReportDto withTextReport(UrlDetailReportDto detail) {
+        if (detail.getTextReport() != null) {
+            return detail;
+        }
+        return detail.toBuilder()
+                .textReport(renderTextReport(detail))
+                .build();
+    }
+
+    /**
+     * 최종 보고서의 모든 페이지에 텍스트 보고서를 채운 사본 반환
+     */
+    public FinalReportDto withTextReports(FinalReportDto finalReport) {
+        if (finalReport.getUrlReports() == null || finalReport.getUrlReports().isEmpty()) {
+            return finalReport;
+        }
+        return finalReport.toBuilder()
+                .urlReports(finalReport.getUrlReports().stream()
+                        .map(this::withTextReport)
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 텍스트 보고서를 뺀 최종 보고서 사본 반환
+     */
+    public FinalReportDto withoutTextReports(FinalReportDto finalReport) {
+        if (finalReport.getUrlReports() == null || finalReport.getUrlReports().isEmpty()) {
+            return finalReport;
+        }
+        return finalReport.toBuilder()
+                .urlReports(finalReport.getUrlReports().stream()
+                        .map(detail -> detail.getTextReport() == null ? detail : detail.toBuilder().textReport(null).build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 텍스트 보고서 렌더링 (사용자 제공 형식)
      */
-    private String generateTextReport(
-            Map<String, Object> analysisInfo,
-            Map<String, Object> scrollInfo,
-            Map<String, Object> buttonAnalysis,
-            UrlDetailReportDto.DetailScoreDto buttonDetection,
-            UrlDetailReportDto.DetailScoreDto buttonVisualFeedback,
-            UrlDetailReportDto.DetailScoreDto buttonSize,
-            UrlDetailReportDto.DetailScoreDto buttonContrast,
-            UrlDetailReportDto.DetailScoreDto fontSize,
-            UrlDetailReportDto.DetailScoreDto overallContrast,
-            UrlDetailReportDto.DetailScoreDto koreanRatio,
-            Map<String, Object> summary) {
-
-        StringBuilder report = new StringBuilder();
+    public String renderTextReport(UrlDetailReportDto detail) {
+        StringBuilder report = new StringBuilder(1024);
 
         // 기본 정보
         report.append("보고서는 웹사이트 분석 결과, 대상 URL은 ")
-                .append(getString(analysisInfo, "url"))
+                .append(detail.getUrl())
                 .append("이며, 분석 수행 일시는 ")
-                .append(getString(analysisInfo, "analysis_date"))
+                .append(detail.getAnalysisDate())
                 .append("입니다. ");
 
         report.append("분석 과정에서 스크린샷은 ")
-                .append(getString(analysisInfo, "screenshot_path"))
+                .append(detail.getScreenshotPath())
                 .append("에 저장되었으며, S3에 업로드된 URL은 ")
-                .append(getString(analysisInfo, "s3_url"))
+                .append(detail.getS3Url())
                 .append("입니다. ");
 
         report.append("해당 작업의 Task ID는 ")
-                .append(getString(analysisInfo, "task_id"))
+                .append(detail.getTaskId())
                 .append("이며, 사이트 고유 식별자는 ")
-                .append(getString(analysisInfo, "website_id"))
+                .append(detail.getWebsiteId())
                 .append("입니다.\n\n");
 
         // 스크롤 정보
         report.append("페이지의 스크롤 정보는 수직 스크롤 여부 ")
-                .append(getBoolean(scrollInfo, "vertical_scroll"))
+                .append(detail.getVerticalScroll())
                 .append(", 수평 스크롤 여부 ")
-                .append(getBoolean(scrollInfo, "horizontal_scroll"))
+                .append(detail.getHorizontalScroll())
                 .append("로 나타났습니다. 이는 페이지 레이아웃과 정보 배치의 접근성 평가에 중요한 요소로 활용되었습니다.\n\n");
 
         // 버튼 분석
+        UrlDetailReportDto.DetailScoreDto buttonDetection = detail.getButtonDetection();
         report.append("버튼 분석 결과, 크롤링된 버튼 수는 ")
-                .append(getInteger(buttonAnalysis, "crawled_button_count"))
+                .append(detail.getCrawledButtonCount())
                 .append("개이며, AI 기반 탐지로 확인된 실제 버튼 수는 ")
-                .append(getInteger(buttonAnalysis, "detected_button_count"))
+                .append(detail.getDetectedButtonCount())
                 .append("개로, 두 값의 차이는 ")
-                .append(getInteger(buttonAnalysis, "button_count_difference"))
+                .append(detail.getButtonCountDifference())
                 .append("개입니다. 버튼 탐지 정확도는 사용자가 페이지 내 상호작용 가능한 요소를 인식하는데 중요한 기준으로, 점수는 ")
                 .append(buttonDetection.getScore())
                 .append("점으로 평가되었습니다. ")
@@ -150,6 +167,7 @@ public class ReportGenerationService {
                 .append("\n\n");
 
         // 버튼 시각적 피드백
+        UrlDetailReportDto.DetailScoreDto buttonVisualFeedback = detail.getButtonVisualFeedback();
         report.append("버튼 시각적 피드백 점수는 ")
                 .append(buttonVisualFeedback.getScore())
                 .append("점(")
@@ -160,23 +178,24 @@ public class ReportGenerationService {
 
         // 버튼 크기 및 대비
         report.append("버튼 크기와 명암 대비 점수는 각각 ")
-                .append(buttonSize.getScore())
+                .append(detail.getButtonSize().getScore())
                 .append("점, ")
-                .append(buttonContrast.getScore())
+                .append(detail.getButtonContrast().getScore())
                 .append("점으로 평가되었습니다. 버튼 크기 및 대비의 적절성은 고령층 사용자가 버튼을 쉽게 인식하고 클릭할 수 있는지 여부를 판단하는 기준입니다. ")
-                .append(buttonSize.getRecommendation())
+                .append(detail.getButtonSize().getRecommendation())
                 .append("\n\n");
 
         // 텍스트 관련
         report.append("텍스트 관련 평가 결과, 폰트 크기 점수는 ")
-                .append(fontSize.getScore())
+                .append(detail.getFontSize().getScore())
                 .append("점이며, 전체 대비 점수는 ")
-                .append(overallContrast.getScore())
+                .append(detail.getOverallContrast().getScore())
                 .append("점으로 측정되었습니다. 폰트 크기와 전체 대비 항목은 페이지 내 텍스트의 가독성과 시인성을 평가하는 핵심 요소이며, ")
-                .append(fontSize.getRecommendation())
+                .append(detail.getFontSize().getRecommendation())
                 .append("\n\n");
 
         // 한국어 비율
+        UrlDetailReportDto.DetailScoreDto koreanRatio = detail.getKoreanRatio();
         report.append("페이지 내 한국어 텍스트 비율은 ")
                 .append(koreanRatio.getScore())
                 .append("점으로 나타났으며, 항목 가중치는 ")
@@ -187,11 +206,11 @@ public class ReportGenerationService {
 
         // 종합 점수
         report.append("종합 점수는 ")
-                .append(getDouble(summary, "final_score"))
+                .append(detail.getFinalScore())
                 .append("점이며, 접근성 수준은 ")
-                .append(getString(summary, "accessibility_level"))
+                .append(detail.getAccessibilityLevel())
                 .append(", 심각도 수준은 ")
-                .append(getString(summary, "severity_level"))
+                .append(detail.getSeverityLevel())
                 .append("로 평가되었습니다.");
 
         return report.toString();
@@ -317,6 +336,18 @@ public class ReportGenerationService {
      * 모든 URL 분석 결과를 종합하여 최종 보고서 생성
      */
     public FinalReportDto generateFinalReport(String websiteUrl, String clientId, List<AccessibilityReport> reports) {
+        return generateFinalReport(websiteUrl, clientId, reports, url -> 1.0);
+    }
+
+    /**
+     * 페이지별 가중치를 적용해 최종 보고서 생성 (템플릿 샘플링 모드)
+     *
+     * 대표 페이지 하나가 같은 템플릿의 여러 페이지를 대신하므로
+     * 평균 점수/항목별 평균은 가중 평균으로, 점수 분포/버튼 수는 가중치만큼 늘려서 추정
+     * urlReports에는 실제 분석한 페이지만 담김
+     */
+    public FinalReportDto generateFinalReport(String websiteUrl, String clientId, List<AccessibilityReport> reports,
+                                              ToDoubleFunction<String> pageWeight) {
         if (reports == null || reports.isEmpty()) {
             log.warn("분석 결과가 없습니다 - websiteUrl: {}", websiteUrl);
             return createEmptyReport(websiteUrl, clientId);
@@ -324,19 +355,19 @@ public class ReportGenerationService {
 
         log.info("최종 보고서 생성 시작 - websiteUrl: {}, 분석 URL 수: {}", websiteUrl, reports.size());
 
-        // 각 URL별 상세 보고서 생성
+        // 수집 시점에 계산된 URL별 상세 보고서를 그대로 이어 붙임
         List<UrlDetailReportDto> urlReports = reports.stream()
-                .map(this::generateUrlDetailReport)
+                .map(this::resolveUrlDetailReport)
                 .toList();
+        double[] weights = reports.stream()
+                .mapToDouble(report -> Math.max(0.0, pageWeight.applyAsDouble(report.getUrl())))
+                .toArray();
 
         // 통계 계산
-        FinalReportDto.StatisticsDto statistics = calculateStatistics(urlReports);
+        FinalReportDto.StatisticsDto statistics = calculateStatistics(urlReports, weights);
 
         // 평균 점수 계산
-        double averageScore = urlReports.stream()
-                .mapToDouble(UrlDetailReportDto::getFinalScore)
-                .average()
-                .orElse(0.0);
+        double averageScore = weightedAverage(urlReports, weights, UrlDetailReportDto::getFinalScore);
 
         // 전체 접근성 수준 결정
         String overallLevel = determineOverallLevel(averageScore);
@@ -359,44 +390,54 @@ public class ReportGenerationService {
     }
 
     /**
-     * 통계 계산
+     * 통계 계산 (가중치가 모두 1이면 단순 평균/개수)
      */
-    private FinalReportDto.StatisticsDto calculateStatistics(List<UrlDetailReportDto> urlReports) {
-        int totalReports = urlReports.size();
-
+    private FinalReportDto.StatisticsDto calculateStatistics(List<UrlDetailReportDto> urlReports, double[] weights) {
         // 점수 분포 계산
-        int excellentCount = 0, goodCount = 0, fairCount = 0, poorCount = 0;
-        for (UrlDetailReportDto report : urlReports) {
+        double excellentCount = 0, goodCount = 0, fairCount = 0, poorCount = 0;
+        double buttonsDetected = 0, buttonsCrawled = 0;
+        for (int i = 0; i < urlReports.size(); i++) {
+            UrlDetailReportDto report = urlReports.get(i);
             double score = report.getFinalScore();
-            if (score >= 80) excellentCount++;
-            else if (score >= 60) goodCount++;
-            else if (score >= 40) fairCount++;
-            else poorCount++;
+            if (score >= 80) excellentCount += weights[i];
+            else if (score >= 60) goodCount += weights[i];
+            else if (score >= 40) fairCount += weights[i];
+            else poorCount += weights[i];
+            buttonsDetected += report.getDetectedButtonCount() * weights[i];
+            buttonsCrawled += report.getCrawledButtonCount() * weights[i];
         }
 
         return FinalReportDto.StatisticsDto.builder()
-                .averageButtonDetectionScore(calculateAverageScore(urlReports, r -> r.getButtonDetection().getScore()))
-                .averageButtonSizeScore(calculateAverageScore(urlReports, r -> r.getButtonSize().getScore()))
-                .averageButtonContrastScore(calculateAverageScore(urlReports, r -> r.getButtonContrast().getScore()))
-                .averageButtonFeedbackScore(calculateAverageScore(urlReports, r -> r.getButtonVisualFeedback().getScore()))
-                .averageFontSizeScore(calculateAverageScore(urlReports, r -> r.getFontSize().getScore()))
-                .averageContrastScore(calculateAverageScore(urlReports, r -> r.getOverallContrast().getScore()))
-                .averageKoreanRatioScore(calculateAverageScore(urlReports, r -> r.getKoreanRatio().getScore()))
-                .totalButtonsDetected(urlReports.stream().mapToInt(UrlDetailReportDto::getDetectedButtonCount).sum())
-                .totalButtonsCrawled(urlReports.stream().mapToInt(UrlDetailReportDto::getCrawledButtonCount).sum())
-                .excellentCount(excellentCount)
-                .goodCount(goodCount)
-                .fairCount(fairCount)
-                .poorCount(poorCount)
+                .averageButtonDetectionScore(calculateAverageScore(urlReports, weights, r -> r.getButtonDetection().getScore()))
+                .averageButtonSizeScore(calculateAverageScore(urlReports, weights, r -> r.getButtonSize().getScore()))
+                .averageButtonContrastScore(calculateAverageScore(urlReports, weights, r -> r.getButtonContrast().getScore()))
+                .averageButtonFeedbackScore(calculateAverageScore(urlReports, weights, r -> r.getButtonVisualFeedback().getScore()))
+                .averageFontSizeScore(calculateAverageScore(urlReports, weights, r -> r.getFontSize().getScore()))
+                .averageContrastScore(calculateAverageScore(urlReports, weights, r -> r.getOverallContrast().getScore()))
+                .averageKoreanRatioScore(calculateAverageScore(urlReports, weights, r -> r.getKoreanRatio().getScore()))
+                .totalButtonsDetected((int) Math.round(buttonsDetected))
+                .totalButtonsCrawled((int) Math.round(buttonsCrawled))
+                .excellentCount((int) Math.round(excellentCount))
+                .goodCount((int) Math.round(goodCount))
+                .fairCount((int) Math.round(fairCount))
+                .poorCount((int) Math.round(poorCount))
                 .build();
     }
 
-    private double calculateAverageScore(List<UrlDetailReportDto> reports,
+    private double calculateAverageScore(List<UrlDetailReportDto> reports, double[] weights,
                                         java.util.function.Function<UrlDetailReportDto, Double> scoreExtractor) {
-        return Math.round(reports.stream()
-                .mapToDouble(scoreExtractor::apply)
-                .average()
-                .orElse(0.0) * 100.0) / 100.0;
+        return Math.round(weightedAverage(reports, weights, scoreExtractor) * 100.0) / 100.0;
+    }
+
+    private double weightedAverage(List<UrlDetailReportDto> reports, double[] weights,
+                                   java.util.function.Function<UrlDetailReportDto, Double> scoreExtractor) {
+        double sum = 0.0;
+        double totalWeight = 0.0;
+        for (int i = 0; i < reports.size(); i++) {
+            sum += scoreExtractor.apply(reports.get(i)) * weights[i];
+            totalWeight += weights[i];
+        }
+        return totalWeight > 0 ? sum / totalWeight : 0.0;
     }
 
     /**
@@ -0,0 +1,124 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.adapter.in.dto.FinalReportSummaryDto;
+import com.example.capstone_java.website.adapter.in.dto.UrlDetailReportDto;
+import com.example.capstone_java.website.adapter.in.dto.UrlReportFilter;
+import com.example.capstone_java.website.adapter.in.dto.UrlReportPageDto;
+import com.example.capstone_java.website.application.port.in.usecase.GetReportUseCase;
+import com.example.capstone_java.website.application.port.out.GetAccessibilityReportPort;
+import com.example.capstone_java.website.application.port.out.GetFinalReportPort;
+import com.example.capstone_java.website.domain.entity.AccessibilityReport;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 보고서 조회 서비스
+ *
+ * 책임:
+ * 1. 최종 보고서 요약(통계)만 조회
+ * 2. 페이지별 상세 보고서를 커서 단위로 조회 (요청당 메모리 사용량 제한)
+ * 3. 점수 구간 / 상세 항목 등급 필터링
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportQueryService implements GetReportUseCase {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // 항목 등급 필터는 메모리에서 걸러지므로, 한 요청에서 읽는 배치 수를 제한
+    private static final int MAX_SCAN_BATCHES = 10;
+    private static final int STREAM_BATCH_SIZE = 100;
+
+    private final GetFinalReportPort getFinalReportPort;
+    private final GetAccessibilityReportPort getAccessibilityReportPort;
+    private final ReportGenerationService reportGenerationService;
+
+    @Override
+    public Optional<FinalReportSummaryDto> getSummary(WebsiteId websiteId) {
+        return getFinalReportPort.findSummaryByWebsiteId(websiteId);
+    }
+
+    @Override
+    public UrlReportPageDto getUrlReports(WebsiteId websiteId, UrlReportFilter filter, Long cursor, int size,
+                                          boolean includeTextReport) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long lastId = cursor != null ? cursor : 0L;
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 찾음
+        List<UrlDetailReportDto> items = new ArrayList<>(pageSize + 1);
+        List<Long> itemIds = new ArrayList<>(pageSize + 1);
+        boolean exhausted = false;
+
+        for (int scan = 0; scan < MAX_SCAN_BATCHES && items.size() <= pageSize; scan++) {
+            List<AccessibilityReport> batch = getAccessibilityReportPort.findPageByWebsiteId(
+                    websiteId, lastId, filter.minScore(), filter.maxScore(), pageSize + 1);
+
+            int consumed = 0;
+            for (AccessibilityReport report : batch) {
+                lastId = report.getId();
+                consumed++;
+
+                UrlDetailReportDto detail = reportGenerationService.resolveUrlDetailReport(report);
+                if (filter.matches(detail)) {
+                    items.add(detail);
+                    itemIds.add(report.getId());
+                    if (items.size() > pageSize) {
+                        break;
+                    }
+                }
+            }
+
+            if (batch.size() <= pageSize && consumed == batch.size()) {
+                exhausted = true;
+                break;
+            }
+        }
+
+        Long nextCursor;
+        if (items.size() > pageSize) {
+            items.remove(pageSize);
+            nextCursor = itemIds.get(pageSize - 1);
+        } else {
+            nextCursor = exhausted ? null : lastId;
+        }
+        if (includeTextReport) {
+            items.replaceAll(reportGenerationService::withTextReport);
+        }
+
+        log.debug("페이지별 보고서 조회 - websiteId={}, cursor={}, 반환={}, 다음 cursor={}",
+                websiteId.getId(), cursor, items.size(), nextCursor);
+
+        return new UrlReportPageDto(items, nextCursor, nextCursor != null);
+    }
+
+    @Override
+    public void streamUrlReports(WebsiteId websiteId, UrlReportFilter filter, boolean includeTextReport,
+                                 Consumer<UrlDetailReportDto> sink) {
+        long lastId = 0L;
+        while (true) {
+            List<AccessibilityReport> batch = getAccessibilityReportPort.findPageByWebsiteId(
+                    websiteId, lastId, filter.minScore(), filter.maxScore(), STREAM_BATCH_SIZE);
+
+            for (AccessibilityReport report : batch) {
+                lastId = report.getId();
+                UrlDetailReportDto detail = reportGenerationService.resolveUrlDetailReport(report);
+                if (filter.matches(detail)) {
+                    sink.accept(includeTextReport ? reportGenerationService.withTextReport(detail) : detail);
+                }
+            }
+
+            if (batch.size() < STREAM_BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+}
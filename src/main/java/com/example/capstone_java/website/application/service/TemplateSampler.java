@@ -0,0 +1,78 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.application.port.out.TemplateSamplingPort;
+import com.example.capstone_java.website.domain.entity.Website;
+import com.example.capstone_java.website.domain.service.UrlTemplate;
+import com.example.capstone_java.website.domain.vo.SamplingCoverage;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 템플릿 샘플링 (대형 게시판 사이트의 AI 분석 비용 상한)
+ *
+ * 크롤링한 페이지를 "경로 템플릿 + DOM 구조 해시"로 묶고 템플릿마다 앞선 K개만 AI 분석 요청
+ * - 나머지 페이지는 SAMPLED_OUT으로 저장 (링크 추출은 계속하므로 사이트 탐색 범위는 그대로)
+ * - 최종 보고서는 대표 페이지마다 "템플릿 페이지 수 / 대표 수" 가중치를 줘서 통계를 추정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TemplateSampler {
+
+    private final TemplateSamplingPort templateSamplingPort;
+
+    /**
+     * 이 페이지를 AI 분석할지 결정 (샘플링 모드가 아니면 항상 true)
+     */
+    public boolean shouldAnalyze(Website website, String url, String structureHash) {
+        int samples = website.getCrawlConfig().samplesPerTemplate();
+        if (samples <= 0) {
+            return true;
+        }
+
+        String templateKey = UrlTemplate.of(url) + "|" + (structureHash != null ? structureHash : "-");
+        try {
+            long position = templateSamplingPort.addPage(website.getWebsiteId(), url, templateKey);
+            if (position > samples) {
+                log.debug("템플릿 샘플링 제외 - URL: {}, template: {}, 순번: {}", url, templateKey, position);
+                return false;
+            }
+            templateSamplingPort.recordSample(website.getWebsiteId(), url, templateKey);
+            return true;
+        } catch (Exception e) {
+            // 집계 저장소 장애 시 분석 누락보다 비용 증가를 택함
+            log.warn("템플릿 샘플링 집계 실패 - 분석 진행: URL={}, error={}", url, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 보고서 추정용 가중치와 분석 범위
+     */
+    public Summary summarize(WebsiteId websiteId) {
+        Map<String, Long> totals = templateSamplingPort.templateTotals(websiteId);
+        Map<String, String> samples = templateSamplingPort.samples(websiteId);
+
+        Map<String, Integer> samplesPerTemplate = new HashMap<>();
+        samples.values().forEach(template -> samplesPerTemplate.merge(template, 1, Integer::sum));
+
+        Map<String, Double> weights = new HashMap<>(samples.size() * 2);
+        samples.forEach((url, template) -> weights.put(url,
+                totals.getOrDefault(template, 1L) / (double) samplesPerTemplate.get(template)));
+
+        long represented = totals.values().stream().mapToLong(Long::longValue).sum();
+        return new Summary(weights, new SamplingCoverage(totals.size(), represented, samples.size()));
+    }
+
+    public record Summary(Map<String, Double> pageWeights, SamplingCoverage coverage) {
+
+        public double weightOf(String url) {
+            return pageWeights.getOrDefault(url, 1.0);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.capstone_java.website.domain.entity;
 
 import com.example.capstone_java.website.adapter.in.dto.AiAnalysisResponse;
+import com.example.capstone_java.website.adapter.in.dto.UrlDetailReportDto;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -29,6 +30,9 @@ public class AccessibilityReport {
     private Double accessibilityScore;
     private String screenshotPath;
 
+    // 수집 시점에 미리 계산된 URL별 상세 보고서 (레거시 데이터는 null)
+    private UrlDetailReportDto detailReport;
+
     /**
      * AI 분석 결과로부터 새로운 보고서 생성 (ID 없음)
      *
@@ -61,7 +65,8 @@ public class AccessibilityReport {
             totalButtons,
             accessibleButtons,
             accessibilityScore,
-            screenshotPath
+            screenshotPath,
+            null  // 상세 보고서는 withDetailReport()로 채움
         );
     }
 
@@ -70,7 +75,8 @@ public class AccessibilityReport {
      */
     public static AccessibilityReport withId(Long id, WebsiteId websiteId, String url, Map<String, Object> analysisResult,
                                             LocalDateTime analyzedAt, String taskId, Integer totalButtons,
-                                            Integer accessibleButtons, Double accessibilityScore, String screenshotPath) {
+                                            Integer accessibleButtons, Double accessibilityScore, String screenshotPath,
+                                            UrlDetailReportDto detailReport) {
         return new AccessibilityReport(
             id,
             websiteId,
@@ -81,10 +87,53 @@ public class AccessibilityReport {
             totalButtons,
             accessibleButtons,
             accessibilityScore,
-            screenshotPath
+            screenshotPath,
+            detailReport
+        );
+    }
+
+    /**
+     * 미리 계산한 상세 보고서를 붙인 새 인스턴스 반환
+     */
+    public AccessibilityReport withDetailReport(UrlDetailReportDto detailReport) {
+        return new AccessibilityReport(
+            this.id,
+            this.websiteId,
+            this.url,
+            this.analysisResult,
+            this.analyzedAt,
+            this.taskId,
+            this.totalButtons,
+            this.accessibleButtons,
+            this.accessibilityScore,
+            this.screenshotPath,
+            detailReport
         );
     }
 
+    /**
+     * 증분 재크롤링에서 바뀌지 않은 페이지의 결과를 새 분석으로 옮긴 사본 (분석 시각은 원래 값 유지)
+     */
+    public AccessibilityReport carriedOverTo(WebsiteId targetWebsiteId) {
+        return new AccessibilityReport(
+            null,
+            targetWebsiteId,
+            this.url,
+            this.analysisResult,
+            this.analyzedAt,
+            this.taskId,
+            this.totalButtons,
+            this.accessibleButtons,
+            this.accessibilityScore,
+            this.screenshotPath,
+            this.detailReport
+        );
+    }
+
+    public boolean hasDetailReport() {
+        return this.detailReport != null;
+    }
+
     // === 도메인 비즈니스 로직 ===
 
     /**
@@ -3,5 +3,7 @@ package com.example.capstone_java.website.domain.entity;
 public enum CrawlStatus {
     DISCOVERED,  // URL이 발견됨
     CRAWLED,     // 크롤링 완료
-    FAILED       // 크롤링 실패
+    FAILED,      // 크롤링 실패
+    SAMPLED_OUT, // 크롤링 완료, 템플릿 샘플링으로 AI 분석 생략 (같은 템플릿의 대표 페이지 결과로 추정)
+    DUPLICATE    // 크롤링 완료, 이미 분석한 페이지와 내용이 거의 같아 AI 분석 생략 (duplicateOf의 결과를 사용)
 }
\ No newline at end of file
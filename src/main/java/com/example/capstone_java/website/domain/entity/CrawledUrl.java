@@ -1,6 +1,7 @@
 package com.example.capstone_java.website.domain.entity;
 
 import com.example.capstone_java.website.domain.event.UrlCrawlEvent;
+import com.example.capstone_java.website.domain.vo.PageValidators;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 import lombok.Getter;
 
@@ -15,9 +16,12 @@ public final class CrawledUrl {
     private final CrawlStatus status;
     private final LocalDateTime discoveredAt;
     private final LocalDateTime crawledAt;
+    private final String duplicateOf;  // DUPLICATE인 경우 분석 결과를 대신 사용하는 페이지 URL
+    private final PageValidators validators;  // 다음 증분 재크롤링의 변경 확인용 (크롤링된 행만)
 
     public CrawledUrl(WebsiteId websiteId, String url, String parentUrl, int depth,
-                     CrawlStatus status, LocalDateTime discoveredAt, LocalDateTime crawledAt) {
+                     CrawlStatus status, LocalDateTime discoveredAt, LocalDateTime crawledAt, String duplicateOf,
+                     PageValidators validators) {
         this.websiteId = websiteId;
         this.url = url;
         this.parentUrl = parentUrl;
@@ -25,24 +29,41 @@ public final class CrawledUrl {
         this.status = status;
         this.discoveredAt = discoveredAt;
         this.crawledAt = crawledAt;
+        this.duplicateOf = duplicateOf;
+        this.validators = validators != null ? validators : PageValidators.none();
     }
 
     public static CrawledUrl discovered(WebsiteId websiteId, String url, String parentUrl, int depth) {
-        return new CrawledUrl(websiteId, url, parentUrl, depth, CrawlStatus.DISCOVERED, LocalDateTime.now(), null);
+        return new CrawledUrl(websiteId, url, parentUrl, depth, CrawlStatus.DISCOVERED, LocalDateTime.now(), null, null, PageValidators.none());
     }
 
     public static CrawledUrl rootUrl(WebsiteId websiteId, String mainUrl) {
-        return new CrawledUrl(websiteId, mainUrl, null, 0, CrawlStatus.DISCOVERED, LocalDateTime.now(), null);
+        return new CrawledUrl(websiteId, mainUrl, null, 0, CrawlStatus.DISCOVERED, LocalDateTime.now(), null, null, PageValidators.none());
     }
 
     public CrawledUrl markCrawled() {
         return new CrawledUrl(this.websiteId, this.url, this.parentUrl, this.depth,
-                             CrawlStatus.CRAWLED, this.discoveredAt, LocalDateTime.now());
+                             CrawlStatus.CRAWLED, this.discoveredAt, LocalDateTime.now(), null, this.validators);
+    }
+
+    public CrawledUrl markSampledOut() {
+        return new CrawledUrl(this.websiteId, this.url, this.parentUrl, this.depth,
+                             CrawlStatus.SAMPLED_OUT, this.discoveredAt, LocalDateTime.now(), null, this.validators);
+    }
+
+    public CrawledUrl markDuplicateOf(String analyzedUrl) {
+        return new CrawledUrl(this.websiteId, this.url, this.parentUrl, this.depth,
+                             CrawlStatus.DUPLICATE, this.discoveredAt, LocalDateTime.now(), analyzedUrl, this.validators);
+    }
+
+    public CrawledUrl withValidators(PageValidators validators) {
+        return new CrawledUrl(this.websiteId, this.url, this.parentUrl, this.depth,
+                             this.status, this.discoveredAt, this.crawledAt, this.duplicateOf, validators);
     }
 
     public CrawledUrl markFailed() {
         return new CrawledUrl(this.websiteId, this.url, this.parentUrl, this.depth,
-                             CrawlStatus.FAILED, this.discoveredAt, LocalDateTime.now());
+                             CrawlStatus.FAILED, this.discoveredAt, LocalDateTime.now(), null, this.validators);
     }
 
     public boolean shouldCrawl(int maxDepth) {
@@ -1,9 +1,26 @@
 package com.example.capstone_java.website.domain.entity;
 
+import java.util.Set;
+
 public enum ExtractionStatus {
     PENDING,    // 대기 중
     PROGRESS,   // 크롤링 진행 중
     ANALYZING,  // 크롤링 완료, AI 분석 진행 중
     COMPLETE,   // 모든 작업 완료 (크롤링 + AI 분석)
-    FAILED      // 실패
+    FAILED,     // 실패
+    CANCELLED;  // 사용자 취소
+
+    /**
+     * 이 상태로 바뀔 수 있는 이전 상태 (끝난 분석은 다시 바뀌지 않음)
+     * 상태 변경은 저장된 상태가 이 중 하나일 때만 적용 → 동시에 취소된 분석을 오래된 복사본으로 덮어쓰지 않음
+     */
+    public Set<ExtractionStatus> predecessors() {
+        return switch (this) {
+            case PENDING -> Set.of();
+            case PROGRESS -> Set.of(PENDING);
+            case ANALYZING -> Set.of(PROGRESS);
+            case COMPLETE -> Set.of(PROGRESS, ANALYZING);
+            case FAILED, CANCELLED -> Set.of(PENDING, PROGRESS, ANALYZING);
+        };
+    }
 }
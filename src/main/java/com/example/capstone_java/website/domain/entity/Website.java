@@ -1,14 +1,19 @@
 package com.example.capstone_java.website.domain.entity;
 
 import com.example.capstone_java.website.domain.event.UrlCrawlEvent;
+import com.example.capstone_java.website.domain.service.UrlCanonicalizer;
 import com.example.capstone_java.website.global.config.CrawlConfiguration;
+import com.example.capstone_java.website.domain.vo.CrawlBudget;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Getter
@@ -19,15 +24,21 @@ public final class Website {
     private final ExtractionStatus extractionStatus;
     private final CrawlConfiguration crawlConfig;
     private final LocalDateTime createdAt;
+    private final WebsiteId previousWebsiteId;  // 증분 재크롤링의 기준 분석 (null이면 전체 크롤링)
+    @Getter(AccessLevel.NONE)
+    private final UrlCanonicalizer urlCanonicalizer;
 
     // MapStruct용 public 생성자 (하나만 유지)
-    public Website(WebsiteId websiteId, String mainUrl, String clientId, ExtractionStatus extractionStatus, CrawlConfiguration crawlConfig, LocalDateTime createdAt) {
+    public Website(WebsiteId websiteId, String mainUrl, String clientId, ExtractionStatus extractionStatus, CrawlConfiguration crawlConfig,
+                   LocalDateTime createdAt, WebsiteId previousWebsiteId) {
         this.websiteId = websiteId;
         this.mainUrl = mainUrl;
         this.clientId = clientId;
         this.extractionStatus = extractionStatus;
         this.crawlConfig = crawlConfig;
         this.createdAt = createdAt;
+        this.previousWebsiteId = previousWebsiteId;
+        this.urlCanonicalizer = UrlCanonicalizer.withIgnoredParams(crawlConfig != null ? crawlConfig.ignoredQueryParams() : null);
     }
 
     // 랜덤 id를 제외하고, 메인url, clientId, url 상태, 해당 url을 설정, url 생성시간을 생성
@@ -38,11 +49,20 @@ public final class Website {
                 clientId,
                 ExtractionStatus.PENDING,
                 CrawlConfiguration.defaultConfiguration(),
-                LocalDateTime.now());
+                LocalDateTime.now(),
+                null);
     }
 
     public static Website create(final String mainUrl, final String clientId, final CrawlConfiguration crawlConfig) {
-        return new Website(null, mainUrl, clientId, ExtractionStatus.PENDING, crawlConfig, LocalDateTime.now());
+        return new Website(null, mainUrl, clientId, ExtractionStatus.PENDING, crawlConfig, LocalDateTime.now(), null);
+    }
+
+    /**
+     * 이전 분석 결과를 기준으로 바뀐 페이지만 다시 분석하는 증분 재크롤링
+     */
+    public static Website incremental(final String mainUrl, final String clientId, final CrawlConfiguration crawlConfig,
+                                      final WebsiteId previousWebsiteId) {
+        return new Website(null, mainUrl, clientId, ExtractionStatus.PENDING, crawlConfig, LocalDateTime.now(), previousWebsiteId);
     }
 
     public static Website withId(final WebsiteId websiteId,
@@ -52,26 +72,51 @@ public final class Website {
                                  final CrawlConfiguration crawlConfig,
                                  final LocalDateTime creationDateTime)
     {
-        return new Website(websiteId, mainUrl, clientId, extractionStatus, crawlConfig, creationDateTime);
+        return new Website(websiteId, mainUrl, clientId, extractionStatus, crawlConfig, creationDateTime, null);
     }
 
     public Website startExtraction() {
         if (this.extractionStatus != ExtractionStatus.PENDING) {
             throw new IllegalStateException("추출이 이미 시작되었습니다.");
         }
-        return new Website(this.websiteId, this.mainUrl, this.clientId, ExtractionStatus.PROGRESS, this.crawlConfig, this.createdAt);
+        return new Website(this.websiteId, this.mainUrl, this.clientId, ExtractionStatus.PROGRESS, this.crawlConfig, this.createdAt, this.previousWebsiteId);
     }
 
     public Website markAnalyzing() {
-        return new Website(this.websiteId, this.mainUrl, this.clientId, ExtractionStatus.ANALYZING, this.crawlConfig, this.createdAt);
+        return new Website(this.websiteId, this.mainUrl, this.clientId, ExtractionStatus.ANALYZING, this.crawlConfig, this.createdAt, this.previousWebsiteId);
     }
 
     public Website markCompleted() {
-        return new Website(this.websiteId, this.mainUrl, this.clientId, ExtractionStatus.COMPLETE, this.crawlConfig, this.createdAt);
+        return new Website(this.websiteId, this.mainUrl, this.clientId, ExtractionStatus.COMPLETE, this.crawlConfig, this.createdAt, this.previousWebsiteId);
     }
 
     public Website markFailed() {
-        return new Website(this.websiteId, this.mainUrl, this.clientId, ExtractionStatus.FAILED, this.crawlConfig, this.createdAt);
+        return new Website(this.websiteId, this.mainUrl, this.clientId, ExtractionStatus.FAILED, this.crawlConfig, this.createdAt, this.previousWebsiteId);
+    }
+
+    /**
+     * 진행 중인(시작 전 포함) 분석만 취소 가능
+     */
+    public Website markCancelled() {
+        if (!canCancel()) {
+            throw new IllegalStateException("취소할 수 없는 상태입니다: " + this.extractionStatus);
+        }
+        return new Website(this.websiteId, this.mainUrl, this.clientId, ExtractionStatus.CANCELLED, this.crawlConfig, this.createdAt, this.previousWebsiteId);
+    }
+
+    public boolean canCancel() {
+        return isActive();
+    }
+
+    /**
+     * 아직 끝나지 않은 분석 (시작 전 / 크롤링 중 / 분석 중) - 같은 clientId + URL로는 하나만 허용
+     */
+    public boolean isActive() {
+        return isPending() || isInProgress() || isAnalyzing();
+    }
+
+    public boolean isCancelled() {
+        return extractionStatus == ExtractionStatus.CANCELLED;
     }
 
     public boolean isAnalyzing() {
@@ -94,8 +139,26 @@ public final class Website {
         return extractionStatus == ExtractionStatus.PENDING;
     }
 
+    public boolean isIncremental() {
+        return previousWebsiteId != null;
+    }
+
     // === 도메인 비즈니스 로직 ===
 
+    /**
+     * 크롤링 이벤트에 실을 한도 (종료 시각 = 생성 시각 + maxDuration, createdAt과 같은 시스템 시간대 기준)
+     */
+    public CrawlBudget crawlBudget(boolean reservesAnalysis) {
+        if (createdAt == null) {
+            return CrawlBudget.unbounded();
+        }
+        long deadline = createdAt.plus(crawlConfig.maxDuration())
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+        return new CrawlBudget(deadline, crawlConfig.maxDepth(), reservesAnalysis);
+    }
+
     /**
      * 크롤링을 시작할 수 있는지 도메인 로직으로 판단
      */
@@ -145,9 +208,12 @@ public final class Website {
 
     /**
      * URL 목록을 도메인 정책에 따라 필터링 (진짜 DDD 방식)
+     * 정규화를 먼저 적용하므로 이후 캐시/DB 중복 체크는 정규화된 URL 기준
      */
     public List<String> filterValidUrls(List<String> urls) {
         return urls.stream()
+            .map(urlCanonicalizer::canonicalize) // 표기만 다른 같은 페이지를 하나로
+            .filter(Objects::nonNull)
             .filter(this::isValidUrl)           // 기본 형식 검증
             .filter(this::shouldCrawlUrl)       // 도메인 정책 적용
             .distinct()                         // 중복 제거
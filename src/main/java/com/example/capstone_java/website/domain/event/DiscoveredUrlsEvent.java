@@ -1,5 +1,6 @@
 package com.example.capstone_java.website.domain.event;
 
+import com.example.capstone_java.website.domain.vo.CrawlBudget;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 
 import java.time.LocalDateTime;
@@ -14,9 +15,14 @@ public record DiscoveredUrlsEvent(
         String parentUrl,
         List<String> discoveredUrls,
         int depth,
-        LocalDateTime eventOccurredAt
+        LocalDateTime eventOccurredAt,
+        CrawlBudget budget
 ) implements DomainEvent {
 
+    public DiscoveredUrlsEvent {
+        budget = budget != null ? budget : CrawlBudget.unbounded();
+    }
+
     @Override
     public LocalDateTime occurredAt() {
         return eventOccurredAt;
@@ -26,14 +32,16 @@ public record DiscoveredUrlsEvent(
             WebsiteId websiteId,
             String parentUrl,
             List<String> discoveredUrls,
-            int depth
+            int depth,
+            CrawlBudget budget
     ) {
         return new DiscoveredUrlsEvent(
                 websiteId,
                 parentUrl,
                 List.copyOf(discoveredUrls), // 불변 리스트로 복사
                 depth,
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                budget
         );
     }
 
@@ -1,5 +1,6 @@
 package com.example.capstone_java.website.domain.event;
 
+import com.example.capstone_java.website.domain.vo.CrawlBudget;
 import com.example.capstone_java.website.domain.vo.WebsiteId;
 
 import java.time.LocalDateTime;
@@ -9,28 +10,39 @@ public record UrlCrawlEvent(
         String url,
         String parentUrl,
         int depth,
-        LocalDateTime eventOccurredAt
+        LocalDateTime eventOccurredAt,
+        CrawlBudget budget
 ) implements DomainEvent {
 
+    public UrlCrawlEvent {
+        budget = budget != null ? budget : CrawlBudget.unbounded();
+    }
+
     @Override
     public LocalDateTime occurredAt() {
         return eventOccurredAt;
     }
 
     /**
-     * URL을 파티션 키로 사용하여 Kafka 파티션 전체에 균등하게 분산
-     * → 301개 URL이 6개 파티션에 골고루 분산됨
+     * websiteId를 파티션 키로 사용 (웹사이트 단위로 같은 파티션에 모임)
+     * → 큰 사이트의 URL이 모든 파티션을 채우지 않으므로 다른 사이트 이벤트가 뒤에 밀리지 않음
+     * → 사이트 간 공정 분배는 소비 측 FairCrawlScheduler가 담당
      */
     @Override
     public String getPartitionKey() {
-        return url;  // URL을 파티션 키로 사용
+        return websiteId.getId().toString();
+    }
+
+    public static UrlCrawlEvent createRootCrawl(WebsiteId websiteId, String mainUrl, CrawlBudget budget) {
+        return new UrlCrawlEvent(websiteId, mainUrl, null, 0, LocalDateTime.now(), budget);
     }
 
-    public static UrlCrawlEvent createRootCrawl(WebsiteId websiteId, String mainUrl) {
-        return new UrlCrawlEvent(websiteId, mainUrl, null, 0, LocalDateTime.now());
+    public static UrlCrawlEvent createChildCrawl(WebsiteId websiteId, String url, String parentUrl, int depth,
+                                                 CrawlBudget budget) {
+        return new UrlCrawlEvent(websiteId, url, parentUrl, depth, LocalDateTime.now(), budget);
     }
 
-    public static UrlCrawlEvent createChildCrawl(WebsiteId websiteId, String url, String parentUrl, int depth) {
-        return new UrlCrawlEvent(websiteId, url, parentUrl, depth, LocalDateTime.now());
+    public boolean isRoot() {
+        return parentUrl == null && depth == 0;
     }
 }
@@ -0,0 +1,136 @@
+package com.example.capstone_java.website.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 64비트 SimHash (유사 중복 페이지 탐지용 지문)
+ *
+ * 본문 단어 2-gram과 DOM 골격 토큰을 특징으로 사용
+ * - 본문이 같고 레이아웃만 조금 다른 페이지(인쇄용 보기, 정렬 순서, 언어 토글 등)는 해밍 거리가 작음
+ * - 본문 특징에 더 큰 가중치를 줘서 같은 템플릿의 다른 글은 멀어지도록 함
+ *
+ * 색인: 지문을 16비트 밴드 4개로 나눔 → 해밍 거리 3 이하인 두 지문은 비둘기집 원리로 최소 한 밴드가 완전히 같음
+ */
+public final class SimHash {
+
+    public static final int BANDS = 4;
+    public static final int MAX_INDEXED_DISTANCE = BANDS - 1;
+
+    private static final int BAND_BITS = 64 / BANDS;
+    private static final long BAND_MASK = (1L << BAND_BITS) - 1;
+    private static final int TEXT_WEIGHT = 3;
+    private static final int STRUCTURE_WEIGHT = 1;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SimHash() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스 생성 불가");
+    }
+
+    /**
+     * @param text      렌더링된 본문 텍스트 (null 허용)
+     * @param structure 쉼표로 구분된 DOM 골격 토큰 (null 허용)
+     * @return 지문, 특징이 하나도 없으면 null
+     */
+    public static Long of(String text, String structure) {
+        int[] vector = new int[64];
+        int features = addTextFeatures(vector, text) + addStructureFeatures(vector, structure);
+        if (features == 0) {
+            return null;
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (vector[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /**
+     * 색인 밴드 키 ("{밴드번호}:{밴드값 16진수}") - 거리 MAX_INDEXED_DISTANCE 이하인 지문과 최소 하나가 겹침
+     */
+    public static List<String> bandKeys(long fingerprint) {
+        List<String> keys = new ArrayList<>(BANDS);
+        for (int band = 0; band < BANDS; band++) {
+            keys.add(band + ":" + Long.toHexString((fingerprint >>> (band * BAND_BITS)) & BAND_MASK));
+        }
+        return keys;
+    }
+
+    private static int addTextFeatures(int[] vector, String text) {
+        if (text == null) {
+            return 0;
+        }
+        int features = 0;
+        long previous = 0L;
+        boolean hasPrevious = false;
+        int i = 0;
+        while (i < text.length()) {
+            while (i < text.length() && !Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            if (i >= text.length()) {
+                break;
+            }
+            long token = FNV_OFFSET;
+            while (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) {
+                token = (token ^ Character.toLowerCase(text.charAt(i))) * FNV_PRIME;
+                i++;
+            }
+            token = mix(token);
+            if (hasPrevious) {
+                add(vector, mix(previous * 31 + token), TEXT_WEIGHT);
+                features++;
+            }
+            previous = token;
+            hasPrevious = true;
+        }
+        // 단어가 하나뿐인 페이지도 지문을 갖도록
+        if (features == 0 && hasPrevious) {
+            add(vector, previous, TEXT_WEIGHT);
+            features++;
+        }
+        return features;
+    }
+
+    private static int addStructureFeatures(int[] vector, String structure) {
+        if (structure == null || structure.isEmpty()) {
+            return 0;
+        }
+        int features = 0;
+        long token = FNV_OFFSET;
+        for (int i = 0; i <= structure.length(); i++) {
+            if (i == structure.length() || structure.charAt(i) == ',') {
+                add(vector, mix(token), STRUCTURE_WEIGHT);
+                features++;
+                token = FNV_OFFSET;
+            } else {
+                token = (token ^ structure.charAt(i)) * FNV_PRIME;
+            }
+        }
+        return features;
+    }
+
+    private static void add(int[] vector, long hash, int weight) {
+        for (int bit = 0; bit < 64; bit++) {
+            vector[bit] += ((hash >>> bit) & 1L) != 0 ? weight : -weight;
+        }
+    }
+
+    // FNV만으로는 짧은 토큰의 상위 비트가 고르지 않아 섞어줌 (MurmurHash3 fmix64)
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
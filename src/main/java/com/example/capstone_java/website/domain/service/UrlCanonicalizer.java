@@ -0,0 +1,294 @@
+package com.example.capstone_java.website.domain.service;
+
+import java.net.IDN;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * URL 정규화 (중복 체크 전 단계)
+ *
+ * 같은 페이지를 가리키는 표기 차이를 하나로 모아 중복 렌더링/AI 분석을 막음
+ * - scheme, host 소문자 / 국제화 도메인은 punycode(xn--) / 기본 포트(80, 443) 제거
+ * - 퍼센트 인코딩 16진수는 대문자 (%2f → %2F)
+ * - 경로: ;jsessionid 등 세션 경로 파라미터, dot segment, index.html 류 파일명, 끝 슬래시 제거
+ * - 쿼리: 세션 id / 추적 파라미터(utm_* 등) / 사이트별 무시 파라미터 제거 후 이름순 정렬
+ * - 프래그먼트 제거 (SPA 라우트 "#/", "#!"는 유지)
+ *
+ * java.net.URI 없이 인덱스로 한 번 훑으며 StringBuilder 하나에 씀 (쿼리가 2개 이상일 때만 정렬용 리스트 생성)
+ * 파싱할 수 없는 URL은 null 반환
+ */
+public final class UrlCanonicalizer {
+
+    private static final Set<String> DEFAULT_IGNORED_PARAMS = Set.of(
+            "jsessionid", "phpsessid", "aspsessionid", "sessionid",
+            "fbclid", "gclid", "dclid", "msclkid", "yclid", "_ga", "_gl", "mc_cid", "mc_eid");
+    private static final String TRACKING_PREFIX = "utm_";
+    private static final Set<String> INDEX_FILES = Set.of(
+            "index.html", "index.htm", "index.jsp", "index.php", "index.asp", "index.aspx", "default.asp", "default.aspx");
+
+    private static final UrlCanonicalizer DEFAULT = new UrlCanonicalizer(Set.of());
+
+    private final Set<String> ignoredParams;
+
+    private UrlCanonicalizer(Set<String> ignoredParams) {
+        this.ignoredParams = ignoredParams;
+    }
+
+    public static UrlCanonicalizer defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * @param siteIgnoredParams 사이트별 추가 무시 파라미터 (대소문자 무시)
+     */
+    public static UrlCanonicalizer withIgnoredParams(Set<String> siteIgnoredParams) {
+        if (siteIgnoredParams == null || siteIgnoredParams.isEmpty()) {
+            return DEFAULT;
+        }
+        return new UrlCanonicalizer(siteIgnoredParams.stream()
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public String canonicalize(String url) {
+        if (url == null) {
+            return null;
+        }
+        String trimmed = url.strip();
+        int schemeEnd = trimmed.indexOf("://");
+        if (schemeEnd <= 0) {
+            return null;
+        }
+
+        String scheme = trimmed.substring(0, schemeEnd).toLowerCase(Locale.ROOT);
+        int authorityStart = schemeEnd + 3;
+        int authorityEnd = indexOfAny(trimmed, authorityStart, "/?#");
+        if (authorityEnd == authorityStart) {
+            return null;
+        }
+
+        StringBuilder out = new StringBuilder(trimmed.length());
+        out.append(scheme).append("://");
+        if (!appendAuthority(out, trimmed, authorityStart, authorityEnd, scheme)) {
+            return null;
+        }
+
+        int fragmentStart = trimmed.indexOf('#', authorityEnd);
+        int end = fragmentStart < 0 ? trimmed.length() : fragmentStart;
+        int queryStart = trimmed.indexOf('?', authorityEnd);
+        if (queryStart >= end) {
+            queryStart = -1;
+        }
+
+        appendPath(out, trimmed, authorityEnd, queryStart < 0 ? end : queryStart);
+        if (queryStart >= 0) {
+            appendQuery(out, trimmed, queryStart + 1, end);
+        }
+        if (fragmentStart >= 0 && isRouteFragment(trimmed, fragmentStart)) {
+            out.append(trimmed, fragmentStart, trimmed.length());
+        }
+        return out.toString();
+    }
+
+    private boolean appendAuthority(StringBuilder out, String url, int start, int end, String scheme) {
+        int at = url.lastIndexOf('@', end - 1);
+        int hostStart = at >= start ? at + 1 : start;
+        if (hostStart > start) {
+            out.append(url, start, hostStart); // userinfo는 대소문자 유지
+        }
+
+        // IPv6 리터럴의 ':'를 포트 구분자로 보지 않음
+        int bracketEnd = url.indexOf(']', hostStart);
+        int portSearchFrom = bracketEnd >= hostStart && bracketEnd < end ? bracketEnd : hostStart;
+        int colon = url.indexOf(':', portSearchFrom);
+        int hostEnd = colon >= 0 && colon < end ? colon : end;
+        if (hostEnd == hostStart) {
+            return false;
+        }
+
+        if (!appendHost(out, url, hostStart, hostEnd)) {
+            return false;
+        }
+
+        if (hostEnd < end) {
+            String port = url.substring(hostEnd + 1, end);
+            boolean defaultPort = port.isEmpty()
+                    || ("http".equals(scheme) && "80".equals(port))
+                    || ("https".equals(scheme) && "443".equals(port));
+            if (!defaultPort) {
+                out.append(':').append(port);
+            }
+        }
+        return true;
+    }
+
+    private static boolean appendHost(StringBuilder out, String url, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (url.charAt(i) > 0x7F) {
+                try {
+                    out.append(IDN.toASCII(url.substring(start, end), IDN.ALLOW_UNASSIGNED).toLowerCase(Locale.ROOT));
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            }
+        }
+        for (int i = start; i < end; i++) {
+            out.append(Character.toLowerCase(url.charAt(i)));
+        }
+        return true;
+    }
+
+    private void appendPath(StringBuilder out, String url, int start, int end) {
+        int pathStart = out.length();
+        int segmentStart = start;
+        while (segmentStart < end) {
+            if (url.charAt(segmentStart) == '/') {
+                segmentStart++;
+                continue;
+            }
+            int segmentEnd = indexOfAny(url, segmentStart, "/", end);
+            // ;jsessionid=... 같은 세션 경로 파라미터 제거
+            int semicolon = indexOfAny(url, segmentStart, ";", segmentEnd);
+            int nameEnd = semicolon < segmentEnd && isSessionPathParam(url, semicolon + 1, segmentEnd)
+                    ? semicolon : segmentEnd;
+            appendSegment(out, pathStart, url, segmentStart, nameEnd);
+            segmentStart = segmentEnd;
+        }
+
+        // index.html 류 파일명 제거 → 디렉터리 경로와 같은 페이지로 취급
+        int lastSlash = out.lastIndexOf("/");
+        if (lastSlash >= pathStart && INDEX_FILES.contains(out.substring(lastSlash + 1).toLowerCase(Locale.ROOT))) {
+            out.setLength(lastSlash);
+        }
+        if (out.length() == pathStart) {
+            out.append('/');
+        }
+    }
+
+    private void appendSegment(StringBuilder out, int pathStart, String url, int start, int end) {
+        int length = end - start;
+        if (length == 1 && url.charAt(start) == '.') {
+            return;
+        }
+        if (length == 2 && url.charAt(start) == '.' && url.charAt(start + 1) == '.') {
+            int parent = out.lastIndexOf("/");
+            if (parent >= pathStart) {
+                out.setLength(parent);
+            }
+            return;
+        }
+        if (length > 0) {
+            out.append('/');
+            appendEscaped(out, url, start, end);
+        }
+    }
+
+    private void appendQuery(StringBuilder out, String url, int start, int end) {
+        List<String> kept = null;
+        String single = null;
+        int pairStart = start;
+        while (pairStart < end) {
+            int pairEnd = indexOfAny(url, pairStart, "&", end);
+            if (pairEnd > pairStart && !isIgnored(url, pairStart, pairEnd)) {
+                String pair = upperEscapes(url.substring(pairStart, pairEnd));
+                if (single == null) {
+                    single = pair;
+                } else {
+                    if (kept == null) {
+                        kept = new ArrayList<>();
+                        kept.add(single);
+                    }
+                    kept.add(pair);
+                }
+            }
+            pairStart = pairEnd + 1;
+        }
+
+        if (single == null) {
+            return;
+        }
+        out.append('?');
+        if (kept == null) {
+            out.append(single);
+            return;
+        }
+        // 이름 기준 안정 정렬 (같은 이름의 값 순서는 유지)
+        kept.sort((a, b) -> paramName(a).compareTo(paramName(b)));
+        for (int i = 0; i < kept.size(); i++) {
+            if (i > 0) {
+                out.append('&');
+            }
+            out.append(kept.get(i));
+        }
+    }
+
+    private boolean isIgnored(String url, int start, int end) {
+        int eq = indexOfAny(url, start, "=", end);
+        String name = url.substring(start, eq).toLowerCase(Locale.ROOT);
+        return name.startsWith(TRACKING_PREFIX)
+                || DEFAULT_IGNORED_PARAMS.contains(name)
+                || ignoredParams.contains(name);
+    }
+
+    /**
+     * 퍼센트 인코딩 16진수만 대문자로 바꿔 씀 (그 외 문자는 그대로)
+     */
+    private static void appendEscaped(StringBuilder out, String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == '%' && i + 2 < end && isHex(s.charAt(i + 1)) && isHex(s.charAt(i + 2))) {
+                out.append('%')
+                        .append(Character.toUpperCase(s.charAt(i + 1)))
+                        .append(Character.toUpperCase(s.charAt(i + 2)));
+                i += 2;
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    private static String upperEscapes(String pair) {
+        int percent = pair.indexOf('%');
+        if (percent < 0) {
+            return pair;
+        }
+        StringBuilder out = new StringBuilder(pair.length());
+        appendEscaped(out, pair, 0, pair.length());
+        return out.toString();
+    }
+
+    private static boolean isHex(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isSessionPathParam(String url, int start, int end) {
+        int eq = indexOfAny(url, start, "=", end);
+        return DEFAULT_IGNORED_PARAMS.contains(url.substring(start, eq).toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean isRouteFragment(String url, int fragmentStart) {
+        return url.startsWith("#/", fragmentStart) || url.startsWith("#!", fragmentStart);
+    }
+
+    private static String paramName(String pair) {
+        int eq = pair.indexOf('=');
+        return eq < 0 ? pair : pair.substring(0, eq);
+    }
+
+    private static int indexOfAny(String s, int from, String chars) {
+        return indexOfAny(s, from, chars, s.length());
+    }
+
+    private static int indexOfAny(String s, int from, String chars, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (chars.indexOf(s.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.capstone_java.website.domain.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * URL 경로 템플릿 (크롤러 트랩 탐지용 군집 키)
+ *
+ * 숫자 구간을 {n}으로, 긴 값을 {v}로 바꿔 "모양이 같은" URL을 한 템플릿으로 묶음
+ * - /board/view/123?page=4      → /board/view/{n}?page={n}
+ * - /calendar/2024-03-01        → /calendar/{n}-{n}-{n}
+ * - 호스트는 제외 (한 웹사이트 안에서만 비교)
+ *
+ * 정규화(UrlCanonicalizer)된 URL을 입력으로 가정 (쿼리 파라미터가 이름순 정렬됨)
+ */
+public final class UrlTemplate {
+
+    private static final int LONG_VALUE = 16;
+    private static final int RECURSIVE_REPEAT = 3;
+    private static final int MAX_PATH_SEGMENTS = 15;
+
+    private UrlTemplate() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스 생성 불가");
+    }
+
+    public static String of(String url) {
+        int pathStart = pathStart(url);
+        int fragment = url.indexOf('#', pathStart);
+        int end = fragment < 0 ? url.length() : fragment;
+        int query = url.indexOf('?', pathStart);
+        int pathEnd = query >= 0 && query < end ? query : end;
+
+        StringBuilder template = new StringBuilder(end - pathStart);
+        int segmentStart = pathStart;
+        while (segmentStart < pathEnd) {
+            int slash = url.indexOf('/', segmentStart + 1);
+            int segmentEnd = slash < 0 || slash > pathEnd ? pathEnd : slash;
+            template.append('/');
+            appendValue(template, url, segmentStart + 1, segmentEnd);
+            segmentStart = segmentEnd;
+        }
+
+        if (pathEnd < end) {
+            template.append('?');
+            int pairStart = pathEnd + 1;
+            while (pairStart < end) {
+                int amp = url.indexOf('&', pairStart);
+                int pairEnd = amp < 0 || amp > end ? end : amp;
+                int eq = url.indexOf('=', pairStart);
+                if (eq < 0 || eq > pairEnd) {
+                    template.append(url, pairStart, pairEnd);
+                } else {
+                    template.append(url, pairStart, eq + 1);
+                    appendValue(template, url, eq + 1, pairEnd);
+                }
+                if (pairEnd < end) {
+                    template.append('&');
+                }
+                pairStart = pairEnd + 1;
+            }
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    /**
+     * 같은 경로 조각이 반복되거나 지나치게 깊은 경로 (/a/b/a/b/a/b, 상대 링크 오류 등)
+     */
+    public static boolean hasRecursivePath(String url) {
+        int pathStart = pathStart(url);
+        int pathEnd = pathEnd(url, pathStart);
+        Map<String, Integer> seen = new HashMap<>();
+        int segments = 0;
+        int segmentStart = pathStart;
+        while (segmentStart < pathEnd) {
+            int slash = url.indexOf('/', segmentStart + 1);
+            int segmentEnd = slash < 0 || slash > pathEnd ? pathEnd : slash;
+            if (segmentEnd > segmentStart + 1) {
+                segments++;
+                if (seen.merge(url.substring(segmentStart + 1, segmentEnd), 1, Integer::sum) >= RECURSIVE_REPEAT) {
+                    return true;
+                }
+            }
+            segmentStart = segmentEnd;
+        }
+        return segments > MAX_PATH_SEGMENTS;
+    }
+
+    private static void appendValue(StringBuilder template, String url, int start, int end) {
+        if (end - start >= LONG_VALUE) {
+            template.append("{v}");
+            return;
+        }
+        boolean inDigits = false;
+        for (int i = start; i < end; i++) {
+            char c = url.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (!inDigits) {
+                    template.append("{n}");
+                    inDigits = true;
+                }
+            } else {
+                template.append(c);
+                inDigits = false;
+            }
+        }
+    }
+
+    private static int pathStart(String url) {
+        int schemeEnd = url.indexOf("://");
+        int authorityStart = schemeEnd < 0 ? 0 : schemeEnd + 3;
+        for (int i = authorityStart; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c == '/' || c == '?' || c == '#') {
+                return i;
+            }
+        }
+        return url.length();
+    }
+
+    private static int pathEnd(String url, int pathStart) {
+        for (int i = pathStart; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c == '?' || c == '#') {
+                return i;
+            }
+        }
+        return url.length();
+    }
+}
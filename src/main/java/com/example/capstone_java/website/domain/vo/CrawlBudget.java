@@ -0,0 +1,31 @@
+package com.example.capstone_java.website.domain.vo;
+
+/**
+ * 크롤링 이벤트에 실어 보내는 웹사이트의 크롤링 한도 (컨슈머가 DB 조회 없이 만료 이벤트를 버리기 위함)
+ *
+ * deadlineMillis   : 크롤링 종료 시각 (epoch ms, 생성 시각 + maxDuration, 0이면 한도 정보 없음)
+ * maxDepth         : 최대 크롤링 깊이 (Website.canCrawlAtDepth와 같이 이 값 미만만 크롤링, 0이면 한도 정보 없음)
+ * reservesAnalysis : 크롤링 후 분석 모드 여부 - 이 URL이 분석 자리를 잡고 있어 버리려면 자리를 반납해야 함
+ *
+ * 이전 버전 메시지(JSON / 코덱 v1)는 한도 정보가 없으므로 unbounded()로 받아 기존 경로로 처리
+ */
+public record CrawlBudget(long deadlineMillis, int maxDepth, boolean reservesAnalysis) {
+
+    private static final CrawlBudget UNBOUNDED = new CrawlBudget(0L, 0, false);
+
+    public static CrawlBudget unbounded() {
+        return UNBOUNDED;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return deadlineMillis > 0 && nowMillis > deadlineMillis;
+    }
+
+    public boolean isExpired() {
+        return isExpired(System.currentTimeMillis());
+    }
+
+    public boolean allowsDepth(int depth) {
+        return maxDepth <= 0 || depth < maxDepth;
+    }
+}
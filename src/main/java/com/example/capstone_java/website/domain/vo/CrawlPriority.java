@@ -0,0 +1,95 @@
+package com.example.capstone_java.website.domain.vo;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 크롤링 우선순위
+ *
+ * 1순위 depth (얕은 페이지 먼저, BFS)
+ * 2순위 중요도 = 지금까지 본 인링크 수 + 짧은 경로 가산 - 페이지네이션 감점
+ * → maxTotalUrls 예산이 목록 2~N페이지보다 메뉴/대표 페이지에 먼저 쓰이도록 함
+ */
+public record CrawlPriority(int depth, int inLinks, int pathSegments, boolean paginated) implements Comparable<CrawlPriority> {
+
+    private static final Comparator<CrawlPriority> ORDER = Comparator
+            .comparingInt(CrawlPriority::depth)
+            .thenComparing(Comparator.comparingDouble(CrawlPriority::importance).reversed());
+
+    private static final Set<String> PAGE_PARAMS = Set.of(
+            "page", "pageno", "pageindex", "pagenum", "currpage", "cpage", "curpage", "offset", "start");
+    private static final Pattern PAGE_PATH = Pattern.compile("/(page|p)/\\d+/?$", Pattern.CASE_INSENSITIVE);
+
+    public static CrawlPriority of(String url, int depth, int inLinks) {
+        return new CrawlPriority(depth, inLinks, countPathSegments(url), isPaginated(url));
+    }
+
+    public double importance() {
+        double score = Math.log1p(inLinks) * 2.0;
+        score += 1.0 / (1 + pathSegments);
+        if (paginated) {
+            score -= 1.0;
+        }
+        return score;
+    }
+
+    @Override
+    public int compareTo(CrawlPriority other) {
+        return ORDER.compare(this, other);
+    }
+
+    private static int countPathSegments(String url) {
+        int schemeEnd = url.indexOf("://");
+        int pathStart = url.indexOf('/', schemeEnd < 0 ? 0 : schemeEnd + 3);
+        if (pathStart < 0) {
+            return 0;
+        }
+        int pathEnd = endOfPath(url, pathStart);
+        int segments = 0;
+        boolean inSegment = false;
+        for (int i = pathStart; i < pathEnd; i++) {
+            if (url.charAt(i) == '/') {
+                inSegment = false;
+            } else if (!inSegment) {
+                inSegment = true;
+                segments++;
+            }
+        }
+        return segments;
+    }
+
+    private static boolean isPaginated(String url) {
+        int queryStart = url.indexOf('?');
+        String path = queryStart < 0 ? url : url.substring(0, queryStart);
+        if (PAGE_PATH.matcher(path).find()) {
+            return true;
+        }
+        if (queryStart < 0) {
+            return false;
+        }
+
+        int fragment = url.indexOf('#', queryStart);
+        String query = url.substring(queryStart + 1, fragment < 0 ? url.length() : fragment);
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = (eq < 0 ? pair : pair.substring(0, eq)).toLowerCase();
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            // 첫 페이지(page=1, offset=0)는 목록 대표 페이지이므로 감점하지 않음
+            if (PAGE_PARAMS.contains(name) && !value.isEmpty() && !value.equals("1") && !value.equals("0")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int endOfPath(String url, int from) {
+        for (int i = from; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c == '?' || c == '#') {
+                return i;
+            }
+        }
+        return url.length();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.capstone_java.website.domain.vo;
+
+/**
+ * 탐지된 크롤러 트랩 (무한히 늘어나는 URL 공간)
+ *
+ * template   : UrlTemplate 기준 군집 키
+ * discovered : 이 템플릿으로 발견된 새 URL 수
+ * skipped    : 상한/샘플링으로 크롤링하지 않은 URL 수
+ */
+public record CrawlTrap(String template, Reason reason, long discovered, long skipped) {
+
+    public enum Reason {
+        UNBOUNDED_GROWTH,  // 같은 템플릿의 URL이 상한을 넘어 계속 늘어남 (페이지네이션, 달력 등)
+        RECURSIVE_PATH     // 같은 경로 조각 반복 / 비정상적으로 깊은 경로
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.capstone_java.website.domain.vo;
+
+import java.util.List;
+
+/**
+ * 페이지 한 번 렌더링으로 얻은 결과
+ *
+ * urls               : 페이지에서 추출한 링크 (검증/필터링 전)
+ * structureHash      : 반복 요소를 접은 DOM 태그 골격의 해시 (같은 레이아웃이면 같은 값, 렌더링 실패 시 null)
+ * contentFingerprint : 본문 + DOM 골격의 SimHash (유사 중복 탐지용, 렌더링 실패 시 null)
+ * validators         : 다음 증분 재크롤링에서 변경 여부를 확인할 ETag / Last-Modified / 본문 해시
+ * failure            : 페이지를 가져오지 못한 원인 (HTTP 에러 / 응답 없음, 성공이거나 원인을 알 수 없으면 null)
+ * finalUrl           : 리다이렉트(HTTP / meta refresh / JavaScript)를 거쳐 실제로 렌더링된 URL (알 수 없으면 null)
+ */
+public record ExtractedPage(List<String> urls, String structureHash, Long contentFingerprint, PageValidators validators,
+                            FetchFailure failure, String finalUrl) {
+
+    public ExtractedPage(List<String> urls, String structureHash, Long contentFingerprint, PageValidators validators) {
+        this(urls, structureHash, contentFingerprint, validators, null, null);
+    }
+
+    public ExtractedPage(List<String> urls, String structureHash, Long contentFingerprint, PageValidators validators,
+                         String finalUrl) {
+        this(urls, structureHash, contentFingerprint, validators, null, finalUrl);
+    }
+
+    public static ExtractedPage empty() {
+        return new ExtractedPage(List.of(), null, null, PageValidators.none());
+    }
+
+    public static ExtractedPage failed(FetchFailure failure) {
+        return new ExtractedPage(List.of(), null, null, PageValidators.none(), failure, null);
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.capstone_java.website.domain.vo;
+
+/**
+ * 페이지를 가져오지 못한 원인 (네거티브 캐시 / 호스트 차단기 판단용)
+ *
+ * httpStatus : HTTP 에러 응답 코드 (응답 자체가 없으면 0)
+ */
+public record FetchFailure(Kind kind, int httpStatus) {
+
+    public enum Kind {
+        CLIENT_ERROR,  // 4xx - 그 URL만의 문제 (깨진 링크, 권한 없음)
+        SERVER_ERROR,  // 5xx - 호스트 상태 문제일 수 있음
+        UNREACHABLE,   // 타임아웃, 연결 거부, DNS 실패
+        THROTTLED      // 호스트 속도 제한으로 요청하지 않음 (429와 같이 취급)
+    }
+
+    public static FetchFailure ofStatus(int httpStatus) {
+        return new FetchFailure(httpStatus >= 500 ? Kind.SERVER_ERROR : Kind.CLIENT_ERROR, httpStatus);
+    }
+
+    public static FetchFailure unreachable() {
+        return new FetchFailure(Kind.UNREACHABLE, 0);
+    }
+
+    public static FetchFailure throttled() {
+        return new FetchFailure(Kind.THROTTLED, 429);
+    }
+
+    /**
+     * 호스트 전체 장애로 볼 수 있는 실패인지 (4xx는 개별 URL 문제, 속도 제한은 장애 아님)
+     */
+    public boolean indicatesHostFailure() {
+        return kind == Kind.SERVER_ERROR || kind == Kind.UNREACHABLE;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.capstone_java.website.domain.vo;
+
+/**
+ * 증분 재크롤링에서 페이지 변경 여부를 판단하는 값
+ *
+ * etag / lastModified : 서버가 준 캐시 검증 헤더 (조건부 요청 If-None-Match / If-Modified-Since)
+ * contentHash         : 응답 HTML 본문의 SHA-256 (헤더가 없거나 서버가 조건부 요청을 무시할 때 비교)
+ */
+public record PageValidators(String etag, String lastModified, String contentHash) {
+
+    public static PageValidators none() {
+        return new PageValidators(null, null, null);
+    }
+
+    public boolean isEmpty() {
+        return etag == null && lastModified == null && contentHash == null;
+    }
+
+    public boolean hasConditionalHeaders() {
+        return etag != null || lastModified != null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.capstone_java.website.domain.vo;
+
+/**
+ * 웹사이트별 진행 카운터 스냅샷
+ *
+ * crawled    : 저장된 crawled_url 행 수 (FAILED 포함, maxTotalUrls 제한 기준)
+ * analyzable : 발행된 AI 분석 요청 수 (DISCOVERED + CRAWLED)
+ * analyzed   : 저장된 분석 결과 수
+ */
+public record ProgressCounts(String clientId, long crawled, long analyzable, long analyzed) {
+
+    public boolean isAnalysisComplete() {
+        return analyzable > 0 && analyzed >= analyzable;
+    }
+
+    public int analysisPercentage() {
+        if (analyzable == 0) {
+            return 0;
+        }
+        return (int) ((analyzed / (double) analyzable) * 100);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.capstone_java.website.domain.vo;
+
+/**
+ * 템플릿 샘플링 모드의 분석 범위
+ *
+ * templates        : 발견된 페이지 템플릿 수 (경로 모양 + DOM 구조)
+ * representedPages : 크롤링된 전체 페이지 수 (보고서 통계가 대표하는 범위)
+ * analyzedPages    : 실제 AI 분석한 대표 페이지 수
+ */
+public record SamplingCoverage(int templates, long representedPages, long analyzedPages) {
+
+    public double ratio() {
+        if (representedPages == 0) {
+            return 1.0;
+        }
+        return Math.min(1.0, analyzedPages / (double) representedPages);
+    }
+}
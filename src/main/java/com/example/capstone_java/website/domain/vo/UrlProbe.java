@@ -0,0 +1,24 @@
+package com.example.capstone_java.website.domain.vo;
+
+/**
+ * 렌더링 전 가벼운 요청(HEAD / 부분 GET)으로 확인한 URL 정보
+ *
+ * kind     : 응답 콘텐츠 종류 (확인하지 못하면 UNKNOWN → 렌더링 대상으로 둠)
+ * finalUrl : 리다이렉트를 따라간 최종 URL (리다이렉트가 없으면 요청 URL)
+ */
+public record UrlProbe(Kind kind, String finalUrl) {
+
+    public enum Kind {
+        HTML,
+        NON_HTML,  // PDF, 이미지, 첨부파일 다운로드 등
+        UNKNOWN
+    }
+
+    public static UrlProbe unknown(String url) {
+        return new UrlProbe(Kind.UNKNOWN, url);
+    }
+
+    public boolean isDecided() {
+        return kind != Kind.UNKNOWN;
+    }
+}
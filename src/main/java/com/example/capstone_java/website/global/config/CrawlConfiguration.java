@@ -2,6 +2,7 @@ package com.example.capstone_java.website.global.config;
 
 import java.time.Duration;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 크롤링 설정을 담는 값 객체
@@ -13,7 +14,9 @@ public record CrawlConfiguration(
         int maxUrlsPerPage,     // 페이지당 최대 추출 URL 수 (권장: 50-100)
         Duration maxDuration,   // 최대 크롤링 시간 (권장: 30분-2시간)
         Set<String> allowedPaths,  // 허용할 경로 패턴 (예: "/products/", "/articles/")
-        Set<String> excludedPaths  // 제외할 경로 패턴 (예: "/admin/", "/api/")
+        Set<String> excludedPaths,  // 제외할 경로 패턴 (예: "/admin/", "/api/")
+        Set<String> ignoredQueryParams,  // URL 정규화 시 제거할 사이트별 쿼리 파라미터 (예: "menuNo", "searchWrd")
+        int samplesPerTemplate  // 템플릿 샘플링 모드: 페이지 템플릿당 AI 분석할 대표 페이지 수 (0 = 전체 분석)
 ) {
 
     public static CrawlConfiguration defaultConfiguration() {
@@ -24,7 +27,9 @@ public record CrawlConfiguration(
                 100,                                  // maxUrlsPerPage
                 Duration.ofHours(2),                  // maxDuration (2시간)
                 Set.of(),                             // allowedPaths (모든 경로 허용)
-                Set.of("/admin/", "/api/", "/login/") // excludedPaths
+                Set.of("/admin/", "/api/", "/login/"), // excludedPaths
+                Set.of(),                             // ignoredQueryParams (기본 세션/추적 파라미터만 제거)
+                0                                     // samplesPerTemplate (전체 분석)
         );
     }
 
@@ -35,10 +40,30 @@ public record CrawlConfiguration(
                 50,
                 Duration.ofHours(1),
                 Set.of(),
-                Set.of("/admin/", "/api/", "/login/")
+                Set.of("/admin/", "/api/", "/login/"),
+                Set.of(),
+                0
         );
     }
 
+    public CrawlConfiguration withIgnoredQueryParams(Set<String> params) {
+        Set<String> ignored = params == null ? Set.of() : params.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::strip)
+                .collect(Collectors.toUnmodifiableSet());
+        return new CrawlConfiguration(maxDepth, maxTotalUrls, maxUrlsPerPage, maxDuration,
+                allowedPaths, excludedPaths, ignored, samplesPerTemplate);
+    }
+
+    public CrawlConfiguration withSamplesPerTemplate(int samples) {
+        return new CrawlConfiguration(maxDepth, maxTotalUrls, maxUrlsPerPage, maxDuration,
+                allowedPaths, excludedPaths, ignoredQueryParams, Math.max(0, samples));
+    }
+
+    public boolean isSamplingEnabled() {
+        return samplesPerTemplate > 0;
+    }
+
     public boolean hasReachedMaxDepth(int currentDepth) {
         return currentDepth >= maxDepth;
     }
@@ -0,0 +1,24 @@
+package com.example.capstone_java.website.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * HttpClient 설정
+ * 렌더링 전 URL 확인(HEAD / 부분 GET)용 - 호스트별 연결을 재사용하는 JDK HttpClient
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public HttpClient probeHttpClient(@Value("${app.crawl.prefilter.connect-timeout-ms:2000}") long connectTimeoutMillis) {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)  // https → http 다운그레이드는 따라가지 않음
+                .build();
+    }
+}
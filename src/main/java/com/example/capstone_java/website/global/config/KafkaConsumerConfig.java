@@ -1,6 +1,7 @@
 package com.example.capstone_java.website.global.config;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import com.example.capstone_java.website.global.kafka.DomainEventDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -29,7 +30,8 @@ public class KafkaConsumerConfig {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        // 바이너리 코덱 이벤트 + 기존 JSON 메시지 모두 수신 (JSON은 JsonDeserializer에 위임)
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, DomainEventDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.example.capstone_java.website.domain.event");
@@ -50,4 +52,19 @@ public class KafkaConsumerConfig {
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         return factory;
     }
+
+    /**
+     * 크롤링 이벤트 전용 ContainerFactory
+     * - 크롤링은 FairCrawlScheduler 워커에서 끝나는 순서대로 ack (수신 순서와 다름)
+     * - asyncAcks: 순서가 어긋난 ack를 모아두었다가 연속된 오프셋까지만 커밋
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> crawlListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.capstone_java.website.global.config;
 
 import com.example.capstone_java.website.global.common.KafkaTopics;
+import com.example.capstone_java.website.global.kafka.DomainEventSerializer;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
@@ -11,7 +12,6 @@ import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -21,14 +21,40 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    // 아웃박스 릴레이가 묶음으로 보내므로 짧게 모아서 압축 전송
+    @Value("${app.kafka.producer.linger-ms:10}")
+    private int lingerMs;
+
+    @Value("${app.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${app.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    // 도메인 이벤트 바이너리 코덱 (모든 소비자가 DomainEventDeserializer로 배포된 뒤 true로 전환)
+    @Value("${app.kafka.binary-codec.enabled:false}")
+    private boolean binaryCodecEnabled;
+
+    // 기록할 코덱 버전 (모든 노드가 v2를 디코딩할 수 있게 배포가 끝난 뒤 2로 올림)
+    @Value("${app.kafka.codec.write-version:1}")
+    private int codecWriteVersion;
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        configProps.put(ProducerConfig.ACKS_CONFIG, "1");
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, DomainEventSerializer.class);
+        configProps.put(DomainEventSerializer.BINARY_ENABLED, binaryCodecEnabled);
+        configProps.put(DomainEventSerializer.WRITE_VERSION, codecWriteVersion);
+        // at-least-once: 아웃박스 행은 브로커 확인 후에만 삭제되므로 acks=all + 멱등 프로듀서로 재시도 중복 방지
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -1,5 +1,8 @@
 package com.example.capstone_java.website.global.config;
 
+import com.example.capstone_java.website.adapter.out.cache.FinalReportContentCache;
+import com.example.capstone_java.website.global.sse.SseEventBus;
+import com.example.capstone_java.website.global.sse.SseEventSubscriber;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -7,12 +10,16 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
  * Redis 설정 클래스
  *
  * URL 중복 체크를 위한 고속 캐시 시스템 구성
+ * + 노드 간 SSE 이벤트 전달용 Pub/Sub 구독
+ * + 노드별 최종 보고서 캐시 무효화 구독
  */
 @Slf4j
 @Configuration
@@ -52,4 +59,22 @@ public class RedisConfig {
         log.info("RedisTemplate 설정 완료");
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * SSE 이벤트 채널 구독 (모든 노드가 구독, 로컬 연결에만 전달)
+     * 최종 보고서 캐시 무효화 채널 구독 (모든 노드가 자기 캐시에서 제거)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       SseEventSubscriber sseEventSubscriber,
+                                                                       FinalReportContentCache finalReportContentCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(sseEventSubscriber, new ChannelTopic(SseEventBus.CHANNEL));
+        container.addMessageListener(finalReportContentCache, new ChannelTopic(FinalReportContentCache.CHANNEL));
+
+        log.info("SSE 이벤트 채널 구독 설정: {}, 보고서 캐시 무효화 채널: {}",
+                SseEventBus.CHANNEL, FinalReportContentCache.CHANNEL);
+        return container;
+    }
+}
@@ -0,0 +1,338 @@
+package com.example.capstone_java.website.global.kafka;
+
+import com.example.capstone_java.website.domain.event.AnalysisCompletedEvent;
+import com.example.capstone_java.website.domain.event.DiscoveredUrlsEvent;
+import com.example.capstone_java.website.domain.event.DomainEvent;
+import com.example.capstone_java.website.domain.event.ExtractionStartedEvent;
+import com.example.capstone_java.website.domain.event.UrlAnalysisRequestEvent;
+import com.example.capstone_java.website.domain.event.UrlCrawlEvent;
+import com.example.capstone_java.website.domain.vo.CrawlBudget;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 도메인 이벤트 바이너리 코덱
+ *
+ * 포맷: [MAGIC][VERSION][TYPE] + 타입별 필드
+ * - 정수: unsigned varint (타임스탬프 초는 zigzag varint)
+ * - WebsiteId: UUID 16바이트
+ * - 문자열: varint(길이 + 1) + UTF-8 (0 = null)
+ * - URL 목록: 직전 URL(첫 항목은 parentUrl)과의 공통 접두사 길이 + 나머지 (스킴/호스트/경로 중복 제거)
+ *
+ * 버전
+ * - v1: 최초 포맷
+ * - v2: UrlCrawlEvent / DiscoveredUrlsEvent 끝에 CrawlBudget 추가 (종료 시각 varint + 최대 깊이 varint + 분석 자리 플래그)
+ * 디코딩은 v1/v2 모두 지원 (v1은 CrawlBudget.unbounded()), v1만 아는 노드는 v2를 읽지 못하므로
+ * 모든 노드가 v2 디코딩을 지원할 때까지 쓰기 버전을 1로 유지 (encode(event, version))
+ *
+ * JSON 메시지는 '{', '[', '"' 등으로 시작하므로 MAGIC 바이트로 바이너리 여부를 구분
+ */
+public final class DomainEventCodec {
+
+    public static final byte MAGIC = (byte) 0xCE;
+    public static final byte VERSION = 2;
+    private static final byte VERSION_BUDGET = 2;
+
+    private static final byte TYPE_EXTRACTION_STARTED = 1;
+    private static final byte TYPE_URL_CRAWL = 2;
+    private static final byte TYPE_DISCOVERED_URLS = 3;
+    private static final byte TYPE_URL_ANALYSIS_REQUEST = 4;
+    private static final byte TYPE_ANALYSIS_COMPLETED = 5;
+
+    private DomainEventCodec() {
+        throw new AssertionError("유틸 클래스는 인스턴스 생성 불가");
+    }
+
+    public static boolean supports(Object value) {
+        return value instanceof ExtractionStartedEvent
+                || value instanceof UrlCrawlEvent
+                || value instanceof DiscoveredUrlsEvent
+                || value instanceof UrlAnalysisRequestEvent
+                || value instanceof AnalysisCompletedEvent;
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length >= 3 && data[0] == MAGIC;
+    }
+
+    public static byte[] encode(DomainEvent event) {
+        return encode(event, VERSION);
+    }
+
+    /**
+     * 지정한 포맷 버전으로 인코딩 (롤링 배포 중에는 구버전 노드가 읽을 수 있는 버전으로 기록)
+     */
+    public static byte[] encode(DomainEvent event, int version) {
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 이벤트 코덱 버전: " + version);
+        }
+        Writer out = new Writer(version);
+        out.writeByte(MAGIC);
+        out.writeByte(version);
+
+        if (event instanceof ExtractionStartedEvent e) {
+            out.writeByte(TYPE_EXTRACTION_STARTED);
+            out.writeWebsiteId(e.websiteId());
+            out.writeString(e.mainUrl());
+            out.writeTimestamp(e.eventOccurredAt());
+        } else if (event instanceof UrlCrawlEvent e) {
+            out.writeByte(TYPE_URL_CRAWL);
+            out.writeWebsiteId(e.websiteId());
+            out.writeString(e.parentUrl());
+            out.writeString(e.url());
+            out.writeVarint(e.depth());
+            out.writeTimestamp(e.eventOccurredAt());
+            out.writeBudget(e.budget());
+        } else if (event instanceof DiscoveredUrlsEvent e) {
+            out.writeByte(TYPE_DISCOVERED_URLS);
+            out.writeWebsiteId(e.websiteId());
+            out.writeString(e.parentUrl());
+            out.writeUrlList(e.parentUrl(), e.discoveredUrls());
+            out.writeVarint(e.depth());
+            out.writeTimestamp(e.eventOccurredAt());
+            out.writeBudget(e.budget());
+        } else if (event instanceof UrlAnalysisRequestEvent e) {
+            out.writeByte(TYPE_URL_ANALYSIS_REQUEST);
+            out.writeWebsiteId(e.websiteId());
+            out.writeString(e.url());
+            out.writeString(e.callbackUrl());
+            out.writeVarint(e.depth());
+            out.writeTimestamp(e.eventOccurredAt());
+        } else if (event instanceof AnalysisCompletedEvent e) {
+            out.writeByte(TYPE_ANALYSIS_COMPLETED);
+            out.writeWebsiteId(e.websiteId());
+            out.writeTimestamp(e.eventOccurredAt());
+        } else {
+            throw new IllegalArgumentException("바이너리 코덱 미지원 이벤트: " + event.getClass().getName());
+        }
+        return out.toByteArray();
+    }
+
+    public static DomainEvent decode(byte[] data) {
+        Reader in = new Reader(data);
+        if (in.readByte() != MAGIC) {
+            throw new IllegalArgumentException("바이너리 이벤트가 아님 (MAGIC 불일치)");
+        }
+        byte version = in.readByte();
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 이벤트 코덱 버전: " + version);
+        }
+
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_EXTRACTION_STARTED -> new ExtractionStartedEvent(
+                    in.readWebsiteId(), in.readString(), in.readTimestamp());
+            case TYPE_URL_CRAWL -> {
+                WebsiteId websiteId = in.readWebsiteId();
+                String parentUrl = in.readString();
+                String url = in.readString();
+                int depth = in.readVarint();
+                LocalDateTime occurredAt = in.readTimestamp();
+                yield new UrlCrawlEvent(websiteId, url, parentUrl, depth, occurredAt, in.readBudget(version));
+            }
+            case TYPE_DISCOVERED_URLS -> {
+                WebsiteId websiteId = in.readWebsiteId();
+                String parentUrl = in.readString();
+                List<String> urls = in.readUrlList(parentUrl);
+                int depth = in.readVarint();
+                LocalDateTime occurredAt = in.readTimestamp();
+                yield new DiscoveredUrlsEvent(websiteId, parentUrl, urls, depth, occurredAt, in.readBudget(version));
+            }
+            case TYPE_URL_ANALYSIS_REQUEST -> new UrlAnalysisRequestEvent(
+                    in.readWebsiteId(), in.readString(), in.readString(), in.readVarint(), in.readTimestamp());
+            case TYPE_ANALYSIS_COMPLETED -> new AnalysisCompletedEvent(in.readWebsiteId(), in.readTimestamp());
+            default -> throw new IllegalArgumentException("알 수 없는 이벤트 타입: " + type);
+        };
+    }
+
+    private static final class Writer {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        private final int version;
+
+        Writer(int version) {
+            this.version = version;
+        }
+
+        void writeByte(int value) {
+            buffer.write(value);
+        }
+
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.write((int) value);
+        }
+
+        void writeZigzag(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        void writeWebsiteId(WebsiteId websiteId) {
+            UUID id = websiteId.getId();
+            byte[] bytes = ByteBuffer.allocate(16)
+                    .putLong(id.getMostSignificantBits())
+                    .putLong(id.getLeastSignificantBits())
+                    .array();
+            buffer.writeBytes(bytes);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length + 1L);
+            buffer.writeBytes(bytes);
+        }
+
+        void writeTimestamp(LocalDateTime value) {
+            if (value == null) {
+                writeByte(0);
+                return;
+            }
+            writeByte(1);
+            writeZigzag(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarint(value.getNano());
+        }
+
+        void writeBudget(CrawlBudget budget) {
+            if (version < VERSION_BUDGET) {
+                return;
+            }
+            writeVarint(Math.max(0L, budget.deadlineMillis()));
+            writeVarint(Math.max(0, budget.maxDepth()));
+            writeByte(budget.reservesAnalysis() ? 1 : 0);
+        }
+
+        void writeUrlList(String base, List<String> urls) {
+            writeVarint(urls.size());
+            String previous = base != null ? base : "";
+            for (String url : urls) {
+                int shared = commonPrefix(previous, url);
+                writeVarint(shared);
+                writeString(url.substring(shared));
+                previous = url;
+            }
+        }
+
+        private int commonPrefix(String a, String b) {
+            int max = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < max && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            // 서로게이트 쌍 중간에서 자르지 않음
+            if (i > 0 && i < b.length() && Character.isHighSurrogate(b.charAt(i - 1))) {
+                i--;
+            }
+            return i;
+        }
+
+        byte[] toByteArray() {
+            return buffer.toByteArray();
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        byte readByte() {
+            if (position >= data.length) {
+                throw new IllegalArgumentException("바이너리 이벤트가 잘림");
+            }
+            return data[position++];
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint");
+        }
+
+        int readVarint() {
+            return Math.toIntExact(readVarLong());
+        }
+
+        long readZigzag() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        WebsiteId readWebsiteId() {
+            if (position + 16 > data.length) {
+                throw new IllegalArgumentException("바이너리 이벤트가 잘림");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(data, position, 16);
+            position += 16;
+            return WebsiteId.of(new UUID(buffer.getLong(), buffer.getLong()));
+        }
+
+        String readString() {
+            int length = readVarint();
+            if (length == 0) {
+                return null;
+            }
+            int byteLength = length - 1;
+            if (position + byteLength > data.length) {
+                throw new IllegalArgumentException("바이너리 이벤트가 잘림");
+            }
+            String value = new String(data, position, byteLength, StandardCharsets.UTF_8);
+            position += byteLength;
+            return value;
+        }
+
+        LocalDateTime readTimestamp() {
+            if (readByte() == 0) {
+                return null;
+            }
+            long seconds = readZigzag();
+            int nanos = readVarint();
+            return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        }
+
+        CrawlBudget readBudget(byte version) {
+            if (version < VERSION_BUDGET) {
+                return CrawlBudget.unbounded();
+            }
+            long deadlineMillis = readVarLong();
+            int maxDepth = readVarint();
+            return new CrawlBudget(deadlineMillis, maxDepth, readByte() == 1);
+        }
+
+        List<String> readUrlList(String base) {
+            int size = readVarint();
+            List<String> urls = new ArrayList<>(size);
+            String previous = base != null ? base : "";
+            for (int i = 0; i < size; i++) {
+                int shared = readVarint();
+                String suffix = readString();
+                String url = previous.substring(0, shared) + (suffix != null ? suffix : "");
+                urls.add(url);
+                previous = url;
+            }
+            return List.copyOf(urls);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.capstone_java.website.global.kafka;
+
+import com.example.capstone_java.website.domain.event.DomainEvent;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+
+/**
+ * Kafka 값 직렬화기
+ *
+ * - 코덱이 지원하는 도메인 이벤트: 바이너리 (타입 헤더 없음)
+ * - 그 외 값(AI 분석 결과 Map 등) 또는 바이너리 비활성화 시: 기존 JsonSerializer
+ */
+public class DomainEventSerializer implements Serializer<Object> {
+
+    /**
+     * 프로듀서 설정 키 - 소비자가 모두 DomainEventDeserializer로 배포된 뒤 true로 전환
+     */
+    public static final String BINARY_ENABLED = "domain-event.codec.binary-enabled";
+
+    /**
+     * 프로듀서 설정 키 - 기록할 코덱 버전, 모든 노드가 새 버전을 디코딩할 수 있게 된 뒤 올림
+     */
+    public static final String WRITE_VERSION = "domain-event.codec.write-version";
+
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+    private boolean binaryEnabled = false;
+    private int writeVersion = 1;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+        Object enabled = configs.get(BINARY_ENABLED);
+        if (enabled != null) {
+            binaryEnabled = Boolean.parseBoolean(enabled.toString());
+        }
+        Object version = configs.get(WRITE_VERSION);
+        if (version != null) {
+            writeVersion = Integer.parseInt(version.toString());
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (binaryEnabled && DomainEventCodec.supports(data)) {
+            return DomainEventCodec.encode((DomainEvent) data, writeVersion);
+        }
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (binaryEnabled && DomainEventCodec.supports(data)) {
+            return DomainEventCodec.encode((DomainEvent) data, writeVersion);
+        }
+        return jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.capstone_java.website.global.sse;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결 하나 + 전송 대기 큐
+ *
+ * 책임:
+ * 1. 크기가 제한된 전송 큐 (넘치면 느린 클라이언트로 보고 연결 종료 → Last-Event-ID로 재연결)
+ * 2. 아직 전송되지 않은 progress는 최신 progress로 교체
+ * 3. 전송은 SseDispatcher 스레드에서만 수행 (연결당 동시에 하나의 drain)
+ */
+@Slf4j
+public class SseConnection {
+
+    private static final String PROGRESS_EVENT = "progress";
+    private static final String HEARTBEAT_EVENT = "heartbeat";
+
+    public enum OfferResult { QUEUED, COALESCED, OVERFLOW, CLOSED }
+
+    @Getter
+    private final String clientId;
+    @Getter
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Deque<SseFrame> queue = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    private Runnable onClose = () -> {};
+
+    // drain 스레드에서만 접근 (재전송과 실시간 전송이 겹칠 때 중복 방지)
+    private Long lastDeliveredId;
+
+    public SseConnection(String clientId, SseEmitter emitter, int capacity) {
+        this.clientId = clientId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+    }
+
+    public void onClose(Runnable onClose) {
+        this.onClose = onClose;
+    }
+
+    /**
+     * 연결 등록 전 초기 이벤트 적재 (connect + 재전송, 큐 크기 제한 없음)
+     */
+    public synchronized void preload(List<SseFrame> frames) {
+        queue.addAll(frames);
+    }
+
+    public synchronized OfferResult offer(SseFrame frame) {
+        if (closed) {
+            return OfferResult.CLOSED;
+        }
+
+        // 보낼 데이터가 밀려 있으면 하트비트는 불필요
+        if (HEARTBEAT_EVENT.equals(frame.event()) && (!queue.isEmpty() || draining.get())) {
+            return OfferResult.COALESCED;
+        }
+
+        // 큐 끝의 progress가 아직 전송 전이면 최신 값으로 교체
+        SseFrame last = queue.peekLast();
+        if (last != null && PROGRESS_EVENT.equals(frame.event()) && PROGRESS_EVENT.equals(last.event())) {
+            queue.pollLast();
+            queue.addLast(frame);
+            return OfferResult.COALESCED;
+        }
+
+        if (queue.size() >= capacity) {
+            return OfferResult.OVERFLOW;
+        }
+        queue.addLast(frame);
+        return OfferResult.QUEUED;
+    }
+
+    synchronized SseFrame poll() {
+        return closed ? null : queue.pollFirst();
+    }
+
+    synchronized boolean hasPending() {
+        return !closed && !queue.isEmpty();
+    }
+
+    boolean tryStartDrain() {
+        return !closed && draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+
+    /**
+     * 실제 전송 (drain 스레드 전용)
+     * @return 연결이 유지되면 true
+     */
+    boolean send(SseFrame frame) {
+        SseEventMessage message = frame.message();
+        if (message.id() != null && lastDeliveredId != null && message.id() <= lastDeliveredId) {
+            return true;
+        }
+
+        try {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(message.event());
+            if (message.id() != null) {
+                event.id(String.valueOf(message.id()));
+            }
+            // 이미 인코딩된 바이트를 그대로 기록 (연결마다 다시 직렬화/인코딩하지 않음)
+            emitter.send(event.data(frame.data(), MediaType.APPLICATION_JSON));
+            if (message.id() != null) {
+                lastDeliveredId = message.id();
+            }
+        } catch (Exception e) {
+            // IOException (Broken pipe) 등: 클라이언트가 이미 연결을 끊은 경우
+            log.warn("⚠️ SSE 전송 실패 (클라이언트 연결 끊김): clientId={}, event={}, error={}",
+                    clientId, message.event(), e.getClass().getSimpleName());
+            close();
+            return false;
+        }
+
+        if (!HEARTBEAT_EVENT.equals(message.event())) {
+            log.debug("✅ SSE 전송 성공: clientId={}, event={}, id={}", clientId, message.event(), message.id());
+        }
+
+        if (message.close()) {
+            close();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 연결 종료 (여러 번 호출해도 한 번만 처리)
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+        }
+        try {
+            emitter.complete();
+        } catch (Exception e) {
+            log.debug("SSE 연결 종료 중 예외 (이미 끊긴 연결): clientId={}, error={}", clientId, e.getMessage());
+        }
+        onClose.run();
+    }
+
+    /**
+     * 에미터 콜백(완료/타임아웃/에러)으로 이미 끊긴 경우
+     */
+    void markClosed() {
+        synchronized (this) {
+            closed = true;
+            queue.clear();
+        }
+        onClose.run();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.capstone_java.website.global.sse;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 전송 전용 실행기
+ *
+ * 책임: 연결별 큐를 전용 스레드 풀에서 비움
+ * - 이벤트 수신 스레드(Redis 리스너, Kafka 컨슈머)는 큐에 넣기만 하고 바로 반환
+ * - 연결당 drain 작업은 최대 하나 → 풀 작업 수가 연결 수를 넘지 않음
+ * - 큐가 넘친 연결은 종료 (느린 클라이언트가 다른 연결 전송을 막지 않도록)
+ */
+@Slf4j
+@Component
+public class SseDispatcher {
+
+    private final ExecutorService executor;
+
+    public SseDispatcher(@Value("${app.sse.dispatch-threads:4}") int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "sse-dispatch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = Executors.newFixedThreadPool(threads, threadFactory);
+        log.info("SSE 전송 스레드 풀 생성: threads={}", threads);
+    }
+
+    /**
+     * 연결 큐에 이벤트 추가 후 전송 예약
+     */
+    public void enqueue(SseConnection connection, SseFrame frame) {
+        SseConnection.OfferResult result = connection.offer(frame);
+        switch (result) {
+            case QUEUED, COALESCED -> schedule(connection);
+            case OVERFLOW -> {
+                log.warn("SSE 전송 큐 초과 - 느린 연결 종료: clientId={}, event={}",
+                        connection.getClientId(), frame.event());
+                connection.close();
+            }
+            case CLOSED -> { }
+        }
+    }
+
+    /**
+     * 연결 큐 전송 예약 (이미 drain 중이면 그 작업이 이어서 처리)
+     */
+    public void schedule(SseConnection connection) {
+        if (connection.tryStartDrain()) {
+            executor.execute(() -> drain(connection));
+        }
+    }
+
+    private void drain(SseConnection connection) {
+        try {
+            SseFrame frame;
+            while ((frame = connection.poll()) != null) {
+                if (!connection.send(frame)) {
+                    return;
+                }
+            }
+        } finally {
+            connection.finishDrain();
+            // finishDrain 직전에 들어온 이벤트 처리
+            if (connection.hasPending()) {
+                schedule(connection);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,111 +1,153 @@
 package com.example.capstone_java.website.global.sse;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * SSE 연결 관리
  *
- * 책임: 연결의 생성, 저장, 조회, 삭제, 데이터 전송
+ * 책임: 연결의 생성, 저장, 조회, 삭제, 전송 요청
+ * - 이 노드에 연결된 clientId만 보관 (다른 노드 이벤트는 SseEventBus를 통해 수신)
+ * - clientId 하나에 여러 연결(브라우저 탭) 허용, 상한 초과 시 가장 오래된 연결 종료
+ * - 실제 전송은 SseDispatcher가 연결별 큐에서 처리 (호출 스레드는 블로킹되지 않음)
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SseEmitters {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
     private static final Long TIMEOUT = 24 * 60 * 60 * 1000L; // 24시간
+    private static final SseFrame HEARTBEAT =
+            SseFrame.of(new SseEventMessage(null, null, "heartbeat", "ping", false));
+
+    // clientId -> 연결 목록 (연결 순서 유지, 전송 시 순회가 잦으므로 CopyOnWrite)
+    private final Map<String, List<SseConnection>> connections = new ConcurrentHashMap<>();
+
+    private final SseEventLog sseEventLog;
+    private final SseDispatcher sseDispatcher;
+
+    @Value("${app.sse.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${app.sse.max-connections-per-client:5}")
+    private int maxConnectionsPerClient;
 
     /**
-     * 연결 생성 및 저장
+     * 연결 생성 + 놓친 이벤트 재전송
+     *
+     * 연결 잠금 안에서 등록 → 로그 조회 → connect/재전송 이벤트 적재
+     * → 그 사이 도착한 실시간 이벤트는 재전송 뒤에 쌓이며, 이미 보낸 id는 전송 시 건너뜀
+     *
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 id (최초 연결이면 null)
      */
-    public SseEmitter add(String clientId) {
+    public SseEmitter connect(String clientId, Long lastEventId) {
         SseEmitter emitter = new SseEmitter(TIMEOUT);
-        emitters.put(clientId, emitter);
+        SseConnection connection = new SseConnection(clientId, emitter, queueCapacity);
+
+        connection.onClose(() -> remove(clientId, connection));
+        emitter.onCompletion(connection::markClosed);
+        emitter.onTimeout(connection::markClosed);
+        emitter.onError((e) -> connection.markClosed());
 
-        emitter.onCompletion(() -> remove(clientId));
-        emitter.onTimeout(() -> remove(clientId));
-        emitter.onError((e) -> remove(clientId));
+        List<SseEventMessage> missed;
+        List<SseConnection> evicted = new ArrayList<>();
+        synchronized (connection) {
+            // 등록 후 로그를 읽어야 등록 직전에 도착한 이벤트도 빠지지 않음
+            connections.compute(clientId, (id, list) -> {
+                List<SseConnection> updated = list != null ? list : new CopyOnWriteArrayList<>();
+                updated.add(connection);
+                while (updated.size() > maxConnectionsPerClient) {
+                    evicted.add(updated.remove(0));
+                }
+                return updated;
+            });
+            missed = sseEventLog.eventsAfter(clientId, lastEventId);
 
-        log.info("SSE 연결 생성: {}", clientId);
+            // 연결 직후 더미 데이터 전송 (연결 즉시 성립)
+            List<SseFrame> initial = new ArrayList<>(missed.size() + 1);
+            initial.add(SseFrame.of(new SseEventMessage(null, clientId, "connect", "connected", false)));
+            missed.forEach(message -> initial.add(SseFrame.of(message)));
+            connection.preload(initial);
+        }
+
+        // 연결 수 상한 초과: 가장 오래된 연결부터 종료
+        evicted.forEach(old -> {
+            log.info("SSE 연결 수 상한 초과 - 오래된 연결 종료: clientId={}, max={}", clientId, maxConnectionsPerClient);
+            old.close();
+        });
+        sseDispatcher.schedule(connection);
+
+        log.info("SSE 연결 생성: {}, Last-Event-ID={}, 재전송={}개, 연결 수={}",
+                clientId, lastEventId, missed.size(), connectionCount(clientId));
         return emitter;
     }
 
     /**
-     * 데이터 전송
+     * 이벤트 버스로 받은 메시지 전송 요청 (이 노드에 연결된 clientId의 모든 연결)
+     * data는 한 번만 바이트로 인코딩하여 모든 연결에 그대로 전송
+     * 모든 노드가 재연결에 대비해 이벤트 로그에 먼저 기록
      */
-    public void send(String clientId, Object data, String eventName) {
-        SseEmitter emitter = emitters.get(clientId);
-        if (emitter == null) {
-            log.warn("❌ SSE 연결 없음: clientId={}, 현재 등록된 연결: {}", clientId, emitters.keySet());
+    public void deliver(SseEventMessage message) {
+        sseEventLog.append(message);
+
+        List<SseConnection> targets = connections.get(message.clientId());
+        if (targets == null || targets.isEmpty()) {
+            // 다른 노드에 연결된 클라이언트 (정상)
+            log.trace("로컬 SSE 연결 없음 - 전달 생략: clientId={}, event={}", message.clientId(), message.event());
             return;
         }
 
-        try {
-            emitter.send(SseEmitter.event().name(eventName).data(data));
-            log.info("✅ SSE 전송 성공: clientId={}, event={}", clientId, eventName);
-        } catch (Exception e) {
-            // IOException (Broken pipe) 등 모든 예외를 조용히 처리
-            // 클라이언트가 이미 연결을 끊은 경우이므로 에러가 아님
-            log.warn("⚠️ SSE 전송 실패 (클라이언트 연결 끊김): clientId={}, event={}, error={}",
-                    clientId, eventName, e.getClass().getSimpleName());
-            remove(clientId);
+        SseFrame frame = SseFrame.of(message);
+        for (SseConnection connection : targets) {
+            sseDispatcher.enqueue(connection, frame);
         }
     }
 
     /**
-     * 연결 명시적 종료
+     * 모든 연결에 하트비트 전송 요청 (하트비트 스케줄러 전용)
+     * 보낼 이벤트가 밀려 있는 연결은 건너뜀
      */
-    public void complete(String clientId) {
-        SseEmitter emitter = emitters.remove(clientId);
-        if (emitter != null) {
-            try {
-                emitter.complete();
-                log.info("SSE 연결 종료: {}", clientId);
-            } catch (Exception e) {
-                log.debug("SSE 연결 종료 중 예외 (이미 끊긴 연결): clientId={}, error={}", clientId, e.getMessage());
-            }
-        }
+    public void sendHeartbeats() {
+        connections.values().forEach(list -> list.forEach(connection -> sseDispatcher.enqueue(connection, HEARTBEAT)));
     }
 
     /**
-     * 연결 제거
+     * clientId의 모든 연결 명시적 종료
      */
-    private void remove(String clientId) {
-        emitters.remove(clientId);
-        log.debug("SSE 연결 제거: {}", clientId);
+    public void complete(String clientId) {
+        List<SseConnection> removed = connections.remove(clientId);
+        if (removed != null) {
+            removed.forEach(SseConnection::close);
+            log.info("SSE 연결 종료: {}, 연결 수={}", clientId, removed.size());
+        }
     }
 
     /**
-     * 모든 clientId 조회 (하트비트용)
-     * 실제 맵 대신 불변 Set을 반환하여 안전성 보장
+     * 특정 연결만 제거 (같은 clientId의 다른 연결은 유지)
      */
-    public Set<String> getAllClientIds() {
-        return Collections.unmodifiableSet(emitters.keySet());
+    private void remove(String clientId, SseConnection connection) {
+        connections.computeIfPresent(clientId, (id, list) -> {
+            list.remove(connection);
+            return list.isEmpty() ? null : list;
+        });
+        log.debug("SSE 연결 제거: {}", clientId);
     }
 
-    /**
-     * 특정 clientId에 하트비트 전송 (하트비트 스케줄러 전용)
-     * @return 성공 여부
-     */
-    public boolean sendHeartbeat(String clientId) {
-        SseEmitter emitter = emitters.get(clientId);
-        if (emitter == null) {
-            return false;
-        }
+    private int connectionCount(String clientId) {
+        List<SseConnection> list = connections.get(clientId);
+        return list != null ? list.size() : 0;
+    }
 
-        try {
-            emitter.send(SseEmitter.event().name("heartbeat").data("ping"));
-            return true;
-        } catch (IOException e) {
-            log.debug("하트비트 전송 실패: {}", clientId);
-            return false;
-        }
+    public int size() {
+        return connections.values().stream().mapToInt(List::size).sum();
     }
 }
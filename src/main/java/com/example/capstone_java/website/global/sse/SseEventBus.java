@@ -0,0 +1,78 @@
+package com.example.capstone_java.website.global.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 이벤트 버스 (Redis Pub/Sub)
+ *
+ * 책임: 진행 이벤트를 모든 노드에 발행
+ * - Kafka 컨슈머가 실행된 노드와 클라이언트가 연결된 노드가 달라도 전달됨
+ * - 각 노드는 SseEventSubscriber를 통해 자기 노드에 연결된 clientId에만 전송
+ * - 발행 시 clientId별 이벤트 id를 붙여 재연결 시 Last-Event-ID 이후를 재전송할 수 있게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseEventBus {
+
+    public static final String CHANNEL = "sse:events";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseEmitters sseEmitters;
+    private final SseEventLog sseEventLog;
+
+    /**
+     * 이벤트 발행
+     */
+    public void publish(String clientId, Object data, String eventName) {
+        publish(clientId, eventName, toJson(data), false);
+    }
+
+    /**
+     * 마지막 이벤트 발행 후 연결 종료
+     */
+    public void publishAndClose(String clientId, Object data, String eventName) {
+        publish(clientId, eventName, toJson(data), true);
+    }
+
+    private void publish(String clientId, String eventName, String data, boolean close) {
+        SseEventMessage message = new SseEventMessage(null, clientId, eventName, data, close);
+        try {
+            message = new SseEventMessage(sseEventLog.nextId(clientId), clientId, eventName, data, close);
+            String json = objectMapper.writeValueAsString(message);
+            sseEventLog.persist(message, json);
+            redisTemplate.convertAndSend(CHANNEL, json);
+            log.debug("SSE 이벤트 발행: clientId={}, event={}, id={}", clientId, eventName, message.id());
+        } catch (Exception e) {
+            // Redis 장애 시 최소한 이 노드에 연결된 클라이언트에는 전달
+            log.warn("⚠️ SSE 이벤트 발행 실패 - 로컬 전송으로 대체: clientId={}, event={}, error={}",
+                    clientId, eventName, e.getMessage());
+            sseEmitters.deliver(message);
+        }
+    }
+
+    /**
+     * 같은 clientId로 새 작업이 시작됨 (이전 작업의 complete/cancelled가 새 연결에 재전송되지 않도록)
+     */
+    public void startRun(String clientId) {
+        try {
+            sseEventLog.startRun(clientId);
+        } catch (Exception e) {
+            log.warn("⚠️ SSE 작업 경계 기록 실패: clientId={}, error={}", clientId, e.getMessage());
+        }
+    }
+
+    private String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("SSE 데이터 직렬화 실패: " + data.getClass().getSimpleName(), e);
+        }
+    }
+}
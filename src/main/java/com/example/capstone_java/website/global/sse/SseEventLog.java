@@ -0,0 +1,255 @@
+package com.example.capstone_java.website.global.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * SSE 이벤트 로그 (재연결 시 Last-Event-ID 이후 이벤트 재전송)
+ *
+ * 책임:
+ * 1. clientId별 최근 이벤트를 고정 크기 링 버퍼로 보관 (모든 노드가 모든 이벤트를 수신하므로 노드마다 보관)
+ * 2. 마지막 이벤트(complete/error)는 버퍼에서 밀려나지 않도록 별도 보관 + Redis에 저장
+ * 3. spill 옵션 활성화 시 일반 이벤트도 Redis 리스트에 보관 (노드 재시작/버퍼 초과 대비)
+ * 4. 같은 clientId로 새 작업이 시작되면 경계 id를 기록해 이전 작업의 마지막 이벤트를 재전송하지 않음
+ */
+@Slf4j
+@Component
+public class SseEventLog {
+
+    private static final String SEQUENCE_KEY_PREFIX = "sse:seq:";
+    private static final String TERMINAL_KEY_PREFIX = "sse:terminal:";
+    private static final String SPILL_KEY_PREFIX = "sse:log:";
+    private static final String RUN_START_KEY_PREFIX = "sse:run-start:";
+    private static final Duration REDIS_TTL = Duration.ofHours(24);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final boolean redisSpill;
+    private final Cache<String, ClientLog> logs;
+
+    public SseEventLog(RedisTemplate<String, String> redisTemplate,
+                       ObjectMapper objectMapper,
+                       @Value("${app.sse.replay.buffer-size:64}") int bufferSize,
+                       @Value("${app.sse.replay.retention-minutes:60}") long retentionMinutes,
+                       @Value("${app.sse.replay.redis-spill:false}") boolean redisSpill) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.redisSpill = redisSpill;
+        this.logs = CacheBuilder.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(retentionMinutes))
+                .build();
+    }
+
+    /**
+     * clientId별 다음 이벤트 id 발급 (여러 노드에서 발행해도 단조 증가)
+     */
+    public long nextId(String clientId) {
+        String key = SEQUENCE_KEY_PREFIX + clientId;
+        Long id = redisTemplate.opsForValue().increment(key);
+        if (id == null) {
+            throw new IllegalStateException("SSE 이벤트 id 발급 실패: " + clientId);
+        }
+        if (id == 1L) {
+            redisTemplate.expire(key, REDIS_TTL);
+        }
+        return id;
+    }
+
+    /**
+     * 발행 시점에 한 번만 Redis에 기록 (마지막 이벤트는 항상, 일반 이벤트는 spill 옵션일 때만)
+     */
+    public void persist(SseEventMessage message, String json) {
+        if (message.id() == null) {
+            return;
+        }
+        if (message.close()) {
+            redisTemplate.opsForValue().set(TERMINAL_KEY_PREFIX + message.clientId(), json, REDIS_TTL);
+        } else if (redisSpill) {
+            String key = SPILL_KEY_PREFIX + message.clientId();
+            redisTemplate.opsForList().rightPush(key, json);
+            redisTemplate.opsForList().trim(key, -bufferSize, -1);
+            redisTemplate.expire(key, REDIS_TTL);
+        }
+    }
+
+    /**
+     * 같은 clientId로 새 작업 시작
+     *
+     * 경계 id 이전의 마지막 이벤트(이전 작업의 complete/cancelled)는 재전송하지 않음
+     * 다른 노드의 로컬 버퍼에 남은 마지막 이벤트도 조회 시 경계 id로 걸러짐
+     */
+    public void startRun(String clientId) {
+        long boundary = nextId(clientId);
+        redisTemplate.opsForValue().set(RUN_START_KEY_PREFIX + clientId, String.valueOf(boundary), REDIS_TTL);
+        redisTemplate.delete(TERMINAL_KEY_PREFIX + clientId);
+        ClientLog clientLog = logs.getIfPresent(clientId);
+        if (clientLog != null) {
+            clientLog.clearTerminalBefore(boundary);
+        }
+    }
+
+    /**
+     * 수신한 이벤트를 로컬 링 버퍼에 추가
+     */
+    public void append(SseEventMessage message) {
+        if (message.id() == null) {
+            return;
+        }
+        logs.asMap().computeIfAbsent(message.clientId(), id -> new ClientLog(bufferSize)).add(message);
+    }
+
+    /**
+     * lastEventId 이후 이벤트 조회 (id 오름차순)
+     *
+     * lastEventId가 없으면(최초 연결) 이미 끝난 작업의 마지막 이벤트만 반환
+     */
+    public List<SseEventMessage> eventsAfter(String clientId, Long lastEventId) {
+        ClientLog clientLog = logs.getIfPresent(clientId);
+        List<SseEventMessage> events = new ArrayList<>();
+        SseEventMessage terminal = null;
+
+        if (clientLog != null) {
+            terminal = clientLog.terminal();
+            if (lastEventId != null) {
+                events.addAll(clientLog.after(lastEventId));
+            }
+        }
+
+        // 로컬 버퍼에 빈 구간이 있으면 Redis spill에서 보충
+        if (redisSpill && lastEventId != null && hasGap(events, lastEventId)) {
+            events = readSpill(clientId, lastEventId);
+        }
+
+        if (terminal == null) {
+            terminal = readTerminal(clientId);
+        }
+        if (terminal != null && terminal.id() < readRunStart(clientId)) {
+            terminal = null; // 이전 작업의 마지막 이벤트
+        }
+        if (terminal != null && terminal.isAfter(lastEventId) && !containsId(events, terminal.id())) {
+            events.add(terminal);
+        }
+        return events;
+    }
+
+    private static boolean containsId(List<SseEventMessage> events, Long id) {
+        for (SseEventMessage event : events) {
+            if (Objects.equals(event.id(), id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasGap(List<SseEventMessage> events, long lastEventId) {
+        return events.isEmpty() || events.get(0).id() > lastEventId + 1;
+    }
+
+    private List<SseEventMessage> readSpill(String clientId, long lastEventId) {
+        try {
+            List<String> values = redisTemplate.opsForList().range(SPILL_KEY_PREFIX + clientId, 0, -1);
+            List<SseEventMessage> events = new ArrayList<>();
+            if (values != null) {
+                for (String value : values) {
+                    SseEventMessage message = objectMapper.readValue(value, SseEventMessage.class);
+                    if (message.isAfter(lastEventId)) {
+                        events.add(message);
+                    }
+                }
+            }
+            return events;
+        } catch (Exception e) {
+            log.warn("SSE 이벤트 로그(Redis) 조회 실패: clientId={}, error={}", clientId, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private long readRunStart(String clientId) {
+        try {
+            String value = redisTemplate.opsForValue().get(RUN_START_KEY_PREFIX + clientId);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.warn("SSE 작업 경계 조회 실패: clientId={}, error={}", clientId, e.getMessage());
+            return 0L;
+        }
+    }
+
+    private SseEventMessage readTerminal(String clientId) {
+        try {
+            String value = redisTemplate.opsForValue().get(TERMINAL_KEY_PREFIX + clientId);
+            return value != null ? objectMapper.readValue(value, SseEventMessage.class) : null;
+        } catch (Exception e) {
+            log.warn("SSE 마지막 이벤트 조회 실패: clientId={}, error={}", clientId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * clientId 하나의 이벤트 버퍼
+     */
+    private static final class ClientLog {
+        private final int capacity;
+        private final Deque<SseEventMessage> events = new ArrayDeque<>();
+        private SseEventMessage terminal;
+
+        private ClientLog(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized void add(SseEventMessage message) {
+            if (message.close()) {
+                terminal = message;
+            }
+            // 노드 간 수신 순서가 뒤바뀌어도 id 오름차순 유지
+            if (!events.isEmpty() && events.peekLast().id() >= message.id()) {
+                List<SseEventMessage> sorted = new ArrayList<>(events);
+                if (sorted.stream().anyMatch(e -> e.id().equals(message.id()))) {
+                    return;
+                }
+                sorted.add(message);
+                sorted.sort((a, b) -> Long.compare(a.id(), b.id()));
+                events.clear();
+                events.addAll(sorted);
+            } else {
+                events.addLast(message);
+            }
+            while (events.size() > capacity) {
+                events.pollFirst();
+            }
+        }
+
+        synchronized List<SseEventMessage> after(long lastEventId) {
+            List<SseEventMessage> result = new ArrayList<>();
+            for (SseEventMessage event : events) {
+                if (event.id() > lastEventId) {
+                    result.add(event);
+                }
+            }
+            return result;
+        }
+
+        synchronized SseEventMessage terminal() {
+            return terminal;
+        }
+
+        synchronized void clearTerminalBefore(long boundary) {
+            if (terminal != null && terminal.id() < boundary) {
+                terminal = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.capstone_java.website.global.sse;
+
+/**
+ * 노드 간 SSE 이벤트 전달용 메시지
+ *
+ * id는 clientId별로 단조 증가 (Last-Event-ID 재전송 기준, 발급 실패 시 null)
+ * data는 발행 노드에서 한 번 직렬화한 JSON 문자열 (수신 노드는 그대로 전송)
+ * close가 true면 전송 직후 연결 종료 (complete/error처럼 마지막 이벤트와 종료 순서 보장)
+ */
+public record SseEventMessage(Long id, String clientId, String event, String data, boolean close) {
+
+    public boolean isAfter(Long lastEventId) {
+        return id != null && (lastEventId == null || id > lastEventId);
+    }
+}
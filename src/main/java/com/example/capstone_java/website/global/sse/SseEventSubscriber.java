@@ -0,0 +1,35 @@
+package com.example.capstone_java.website.global.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * SSE 이벤트 구독
+ *
+ * 책임: 모든 노드가 sse:events 채널을 구독하고, 로컬에 연결된 clientId에만 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseEventSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final SseEmitters sseEmitters;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            SseEventMessage event = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), SseEventMessage.class);
+            sseEmitters.deliver(event);
+        } catch (Exception e) {
+            log.warn("SSE 이벤트 수신 처리 실패: error={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.capstone_java.website.global.sse;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 전송 단위 (메시지 + 한 번만 인코딩한 data 바이트)
+ *
+ * 같은 clientId의 여러 연결(탭)에 같은 바이트 배열을 그대로 씀
+ */
+public record SseFrame(SseEventMessage message, byte[] data) {
+
+    public static SseFrame of(SseEventMessage message) {
+        return new SseFrame(message, message.data().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String event() {
+        return message.event();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.capstone_java.website.application.service;
+
+import com.google.common.cache.CacheBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CrawlFrontier 꺼내는 순서 테스트
+ */
+class CrawlFrontierTest {
+
+    private static final String HOST = "https://www.example.go.kr";
+
+    private final Map<String, Integer> inLinks = new HashMap<>();
+    private final CrawlFrontier<String> frontier = new CrawlFrontier<>(inLinks);
+
+    @Test
+    void 얕은_깊이_버킷부터_꺼낸다() {
+        add(HOST + "/deep/a", 3);
+        add(HOST + "/mid/a", 2);
+        add(HOST + "/", 0);
+        add(HOST + "/shallow", 1);
+
+        assertEquals(List.of(HOST + "/", HOST + "/shallow", HOST + "/mid/a", HOST + "/deep/a"), drain());
+    }
+
+    @Test
+    void 깊은_페이지는_인링크가_많아도_얕은_페이지를_앞지르지_못한다() {
+        add(HOST + "/shallow/leaf/page", 1);
+        add(HOST + "/popular", 2);
+        frontier.recordLinks(List.of(HOST + "/popular", HOST + "/popular", HOST + "/popular"));
+
+        assertEquals(List.of(HOST + "/shallow/leaf/page", HOST + "/popular"), drain());
+    }
+
+    @Test
+    void 같은_깊이에서는_경로가_짧은_페이지가_먼저() {
+        add(HOST + "/a/b/c", 1);
+        add(HOST + "/a", 1);
+        add(HOST + "/a/b", 1);
+
+        assertEquals(List.of(HOST + "/a", HOST + "/a/b", HOST + "/a/b/c"), drain());
+    }
+
+    @Test
+    void 대기_중_늘어난_인링크로_순서를_다시_계산한다() {
+        add(HOST + "/menu", 1);
+        add(HOST + "/board/notice/view", 1);
+
+        // 추가 시점에는 /menu가 앞이지만, 이후 크롤링한 페이지들이 /board/notice/view를 가리킴
+        frontier.recordLinks(List.of(HOST + "/board/notice/view"));
+        frontier.recordLinks(List.of(HOST + "/board/notice/view"));
+
+        assertEquals(List.of(HOST + "/board/notice/view", HOST + "/menu"), drain());
+    }
+
+    @Test
+    void 페이지네이션_URL은_감점된다() {
+        add(HOST + "/board/list?page=3", 1);
+        add(HOST + "/board/list?page=1", 1);
+        add(HOST + "/board/page/2", 1);
+        add(HOST + "/board/about", 1);
+
+        List<String> order = drain();
+
+        assertEquals(HOST + "/board/list?page=1", order.get(0));
+        assertEquals(HOST + "/board/about", order.get(1));
+        assertTrue(order.subList(2, 4).containsAll(List.of(HOST + "/board/list?page=3", HOST + "/board/page/2")));
+    }
+
+    @Test
+    void 점수가_같으면_먼저_들어온_작업이_먼저() {
+        for (int i = 0; i < 5; i++) {
+            add(HOST + "/item" + i, 1);
+        }
+
+        assertEquals(List.of(HOST + "/item0", HOST + "/item1", HOST + "/item2", HOST + "/item3", HOST + "/item4"),
+                drain());
+    }
+
+    @Test
+    void 꺼낸_URL은_인링크_집계에서_빠진다() {
+        add(HOST + "/a", 1);
+        add(HOST + "/b", 1);
+        frontier.recordLinks(List.of(HOST + "/a", HOST + "/b", HOST + "/not-yet-queued"));
+
+        assertEquals(HOST + "/a", frontier.poll());
+
+        assertFalse(inLinks.containsKey(HOST + "/a"));
+        assertEquals(1, inLinks.get(HOST + "/b"));
+        assertEquals(1, inLinks.get(HOST + "/not-yet-queued"));
+    }
+
+    @Test
+    void 크기_제한된_인링크_맵에서도_동작한다() {
+        Map<String, Integer> bounded = CacheBuilder.newBuilder()
+                .maximumSize(2)
+                .<String, Integer>build()
+                .asMap();
+        CrawlFrontier<String> limited = new CrawlFrontier<>(bounded);
+        List<String> links = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            links.add(HOST + "/link" + i);
+        }
+
+        limited.recordLinks(links);
+        limited.add(HOST + "/x", 1, HOST + "/x");
+
+        assertTrue(bounded.size() <= 2);
+        assertEquals(HOST + "/x", limited.poll());
+    }
+
+    @Test
+    void 비어_있으면_null을_반환한다() {
+        assertTrue(frontier.isEmpty());
+        assertNull(frontier.poll());
+
+        add(HOST + "/a", 1);
+        assertEquals(1, frontier.size());
+        assertFalse(frontier.isEmpty());
+    }
+
+    private void add(String url, int depth) {
+        frontier.add(url, depth, url);
+    }
+
+    private List<String> drain() {
+        List<String> order = new ArrayList<>();
+        String next;
+        while ((next = frontier.poll()) != null) {
+            order.add(next);
+        }
+        return order;
+    }
+}
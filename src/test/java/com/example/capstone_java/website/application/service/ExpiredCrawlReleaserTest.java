@@ -0,0 +1,177 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.application.port.out.SaveCrawledUrlPort;
+import com.example.capstone_java.website.domain.entity.CrawledUrl;
+import com.example.capstone_java.website.domain.event.UrlCrawlEvent;
+import com.example.capstone_java.website.domain.vo.CrawlBudget;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExpiredCrawlReleaser 저장 실패 / 재시도 테스트
+ */
+class ExpiredCrawlReleaserTest {
+
+    private static final String HOST = "https://www.example.go.kr";
+    private static final WebsiteId WEBSITE_ID = WebsiteId.generate();
+    private static final CrawlBudget EXPIRED = new CrawlBudget(1L, 5, true);
+
+    private final FlakyCrawledUrlPort crawledUrlPort = new FlakyCrawledUrlPort();
+    private final Map<WebsiteId, Integer> releasedSlots = new HashMap<>();
+    private final ExpiredCrawlReleaser releaser =
+            new ExpiredCrawlReleaser(crawledUrlPort, new RecordingProgressService(releasedSlots), 500);
+
+    @Test
+    void 저장에_성공하면_FAILED_행_저장_후_자리를_반납하고_ack한다() {
+        AtomicInteger acks = new AtomicInteger();
+        releaser.release(expired("/a"), acks::incrementAndGet);
+        releaser.release(expired("/b"), acks::incrementAndGet);
+
+        releaser.flush();
+
+        assertEquals(List.of(HOST + "/a", HOST + "/b"), crawledUrlPort.savedUrls());
+        assertEquals(2, releasedSlots.get(WEBSITE_ID));
+        assertEquals(2, acks.get());
+    }
+
+    @Test
+    void 저장에_실패하면_ack하지_않고_다음_주기에_다시_저장한다() {
+        AtomicInteger acks = new AtomicInteger();
+        releaser.release(expired("/a"), acks::incrementAndGet);
+
+        crawledUrlPort.failing = true;
+        releaser.flush();
+
+        assertTrue(crawledUrlPort.savedUrls().isEmpty());
+        assertNull(releasedSlots.get(WEBSITE_ID));
+        assertEquals(0, acks.get());
+
+        crawledUrlPort.failing = false;
+        releaser.flush();
+
+        assertEquals(List.of(HOST + "/a"), crawledUrlPort.savedUrls());
+        assertEquals(1, releasedSlots.get(WEBSITE_ID));
+        assertEquals(1, acks.get());
+    }
+
+    @Test
+    void 종료_시_저장하지_못한_이벤트는_ack하지_않아_재수신_후_다시_반납된다() {
+        AtomicInteger acks = new AtomicInteger();
+        UrlCrawlEvent event = expired("/a");
+        releaser.release(event, acks::incrementAndGet);
+
+        // 종료 직전 DB 장애: 커밋하지 않았으므로 Kafka가 같은 이벤트를 다시 전달
+        crawledUrlPort.failing = true;
+        releaser.shutdown();
+        assertEquals(0, acks.get());
+        assertNull(releasedSlots.get(WEBSITE_ID));
+
+        // 재시작한 노드가 재전달된 이벤트를 받음
+        crawledUrlPort.failing = false;
+        AtomicInteger redeliveredAcks = new AtomicInteger();
+        ExpiredCrawlReleaser restarted =
+                new ExpiredCrawlReleaser(crawledUrlPort, new RecordingProgressService(releasedSlots), 500);
+        restarted.release(event, redeliveredAcks::incrementAndGet);
+        restarted.flush();
+
+        assertEquals(List.of(HOST + "/a"), crawledUrlPort.savedUrls());
+        assertEquals(1, releasedSlots.get(WEBSITE_ID));
+        assertEquals(1, redeliveredAcks.get());
+    }
+
+    @Test
+    void 배치_크기만큼_나눠_저장한다() {
+        ExpiredCrawlReleaser small =
+                new ExpiredCrawlReleaser(crawledUrlPort, new RecordingProgressService(releasedSlots), 2);
+        AtomicInteger acks = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            small.release(expired("/" + i), acks::incrementAndGet);
+        }
+
+        small.flush();
+
+        assertEquals(3, crawledUrlPort.saveCalls);
+        assertEquals(5, releasedSlots.get(WEBSITE_ID));
+        assertEquals(5, acks.get());
+    }
+
+    private static UrlCrawlEvent expired(String path) {
+        return UrlCrawlEvent.createChildCrawl(WEBSITE_ID, HOST + path, HOST + "/", 1, EXPIRED);
+    }
+
+    private static final class FlakyCrawledUrlPort implements SaveCrawledUrlPort {
+        private final List<CrawledUrl> saved = new ArrayList<>();
+        private boolean failing;
+        private int saveCalls;
+
+        List<String> savedUrls() {
+            return saved.stream().map(CrawledUrl::getUrl).toList();
+        }
+
+        @Override
+        public CrawledUrl save(CrawledUrl crawledUrl) {
+            return saveAll(List.of(crawledUrl)).get(0);
+        }
+
+        @Override
+        public List<CrawledUrl> saveAll(List<CrawledUrl> crawledUrls) {
+            if (failing) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            saveCalls++;
+            saved.addAll(crawledUrls);
+            return crawledUrls;
+        }
+
+        @Override
+        public Set<String> findExistingUrls(WebsiteId websiteId, List<String> urls) {
+            return Set.of();
+        }
+
+        @Override
+        public boolean existsByWebsiteIdAndUrl(WebsiteId websiteId, String url) {
+            return false;
+        }
+
+        @Override
+        public List<CrawledUrl> findPendingUrls(WebsiteId websiteId, int maxDepth) {
+            return List.of();
+        }
+
+        @Override
+        public List<CrawledUrl> findByWebsiteId(WebsiteId websiteId) {
+            return List.copyOf(saved);
+        }
+
+        @Override
+        public long countByWebsiteId(WebsiteId websiteId) {
+            return saved.size();
+        }
+    }
+
+    /**
+     * 자리 반납 횟수만 기록 (반납 외의 협력 객체는 사용하지 않음)
+     */
+    private static final class RecordingProgressService extends AnalysisProgressService {
+        private final Map<WebsiteId, Integer> releasedSlots;
+
+        RecordingProgressService(Map<WebsiteId, Integer> releasedSlots) {
+            super(null, null, null, null, null, null, null, null, null, null, null);
+            this.releasedSlots = releasedSlots;
+        }
+
+        @Override
+        public void onExpiredSlotsReleased(WebsiteId websiteId, int count) {
+            releasedSlots.merge(websiteId, count, Integer::sum);
+        }
+    }
+}
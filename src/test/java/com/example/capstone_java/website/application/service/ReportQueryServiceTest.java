@@ -0,0 +1,135 @@
+package com.example.capstone_java.website.application.service;
+
+import com.example.capstone_java.website.adapter.in.dto.FinalReportContent;
+import com.example.capstone_java.website.adapter.in.dto.FinalReportDto;
+import com.example.capstone_java.website.adapter.in.dto.FinalReportSummaryDto;
+import com.example.capstone_java.website.adapter.in.dto.UrlDetailReportDto;
+import com.example.capstone_java.website.adapter.in.dto.UrlReportFilter;
+import com.example.capstone_java.website.adapter.in.dto.UrlReportPageDto;
+import com.example.capstone_java.website.application.port.out.GetAccessibilityReportPort;
+import com.example.capstone_java.website.application.port.out.GetFinalReportPort;
+import com.example.capstone_java.website.domain.entity.AccessibilityReport;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReportQueryService 커서 페이지 조회 테스트
+ */
+class ReportQueryServiceTest {
+
+    private static final WebsiteId WEBSITE_ID = WebsiteId.generate();
+
+    private final List<AccessibilityReport> reports = new ArrayList<>();
+    private final ReportQueryService service = new ReportQueryService(
+            new EmptyFinalReportPort(), new InMemoryReportPort(), new ReportGenerationService());
+
+    @Test
+    void 마지막_페이지가_정확히_가득_차면_다음_페이지가_없다() {
+        addReports(4, "High");
+
+        UrlReportPageDto page = service.getUrlReports(WEBSITE_ID, UrlReportFilter.none(), null, 4, false);
+
+        assertEquals(4, page.items().size());
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void 남은_보고서가_있으면_마지막_반환_항목이_다음_커서가_된다() {
+        addReports(5, "High");
+
+        UrlReportPageDto first = service.getUrlReports(WEBSITE_ID, UrlReportFilter.none(), null, 2, false);
+        assertEquals(List.of("/1", "/2"), urls(first));
+        assertTrue(first.hasNext());
+        assertEquals(2L, first.nextCursor());
+
+        UrlReportPageDto second = service.getUrlReports(WEBSITE_ID, UrlReportFilter.none(), first.nextCursor(), 2, false);
+        assertEquals(List.of("/3", "/4"), urls(second));
+        assertTrue(second.hasNext());
+
+        UrlReportPageDto last = service.getUrlReports(WEBSITE_ID, UrlReportFilter.none(), second.nextCursor(), 2, false);
+        assertEquals(List.of("/5"), urls(last));
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    void 항목_등급_필터로_걸러진_뒤_남은_일치_항목이_없으면_다음_페이지가_없다() {
+        addReports(2, "Low");
+        addReports(3, "High");
+        UrlReportFilter filter = new UrlReportFilter(null, UrlReportFilter.ReportCategory.FONT_SIZE, "Low");
+
+        UrlReportPageDto page = service.getUrlReports(WEBSITE_ID, filter, null, 2, false);
+
+        assertEquals(List.of("/1", "/2"), urls(page));
+        assertFalse(page.hasNext());
+    }
+
+    private void addReports(int count, String fontSizeLevel) {
+        for (int i = 0; i < count; i++) {
+            long id = reports.size() + 1;
+            UrlDetailReportDto detail = UrlDetailReportDto.builder()
+                    .url("/" + id)
+                    .finalScore(90.0)
+                    .fontSize(UrlDetailReportDto.DetailScoreDto.builder().level(fontSizeLevel).build())
+                    .build();
+            reports.add(AccessibilityReport.withId(id, WEBSITE_ID, "/" + id, null, LocalDateTime.now(), null,
+                    null, null, 90.0, null, detail));
+        }
+    }
+
+    private static List<String> urls(UrlReportPageDto page) {
+        return page.items().stream().map(UrlDetailReportDto::getUrl).toList();
+    }
+
+    private class InMemoryReportPort implements GetAccessibilityReportPort {
+
+        @Override
+        public long countByWebsiteId(WebsiteId websiteId) {
+            return reports.size();
+        }
+
+        @Override
+        public List<AccessibilityReport> findAllByWebsiteId(WebsiteId websiteId) {
+            return List.copyOf(reports);
+        }
+
+        @Override
+        public Optional<AccessibilityReport> findLatestByWebsiteIdAndUrl(WebsiteId websiteId, String url) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<AccessibilityReport> findPageByWebsiteId(WebsiteId websiteId, long afterId,
+                                                             Double minScore, Double maxScore, int limit) {
+            return reports.stream()
+                    .filter(report -> report.getId() > afterId)
+                    .limit(limit)
+                    .toList();
+        }
+    }
+
+    private static class EmptyFinalReportPort implements GetFinalReportPort {
+
+        @Override
+        public Optional<FinalReportDto> findByWebsiteId(WebsiteId websiteId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<FinalReportSummaryDto> findSummaryByWebsiteId(WebsiteId websiteId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<FinalReportContent> findContentByWebsiteId(WebsiteId websiteId) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.capstone_java.website.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SimHash 지문 / 밴드 색인 테스트
+ */
+class SimHashTest {
+
+    private static final String ARTICLE = "2025년 하반기 웹 접근성 품질인증 심사 일정을 안내합니다. "
+            + "신청 기관은 접수 기간 내에 신청서와 자체 점검 결과를 제출해야 하며, "
+            + "심사는 전문가 진단과 사용자 평가로 진행됩니다. 자세한 내용은 첨부 파일을 확인하시기 바랍니다. "
+            + "문의 사항은 담당 부서로 연락 주시기 바랍니다. "
+            + "올해부터는 모바일 애플리케이션도 심사 대상에 포함되며, 화면 낭독기 호환성과 키보드 접근성, "
+            + "대체 텍스트 제공 여부, 명도 대비, 자막 제공 여부를 중점적으로 확인합니다. "
+            + "인증을 받은 기관은 인증 마크를 누리집에 게시할 수 있으며 인증 기간은 1년입니다. "
+            + "기간 만료 전에 갱신 심사를 신청하지 않으면 인증이 자동으로 취소되므로 유의하시기 바랍니다. "
+            + "사전 설명회는 다음 달 첫째 주 화요일 오후 2시에 온라인으로 진행되며, "
+            + "참석을 원하는 기관은 신청 양식을 작성하여 전자우편으로 보내 주시기 바랍니다.";
+    private static final String OTHER_ARTICLE = "도서관 리모델링 공사로 인해 3월 한 달간 자료실 운영 시간이 단축됩니다. "
+            + "열람실은 정상 운영하며, 대출 반납은 무인 반납기를 이용해 주시기 바랍니다. "
+            + "이용에 불편을 드려 죄송합니다. 공사 일정은 사정에 따라 변경될 수 있습니다.";
+    private static final String LAYOUT = "html,body,header,nav,ul,li,a,li,a,li,a,main,article,h1,p,p,p,footer,p";
+
+    @Test
+    void 같은_입력은_같은_지문() {
+        assertEquals(SimHash.of(ARTICLE, LAYOUT), SimHash.of(ARTICLE, LAYOUT));
+    }
+
+    @Test
+    void 특징이_없으면_null() {
+        assertNull(SimHash.of(null, null));
+        assertNull(SimHash.of("", ""));
+        assertNull(SimHash.of(" .,!? ", null));
+        assertNotNull(SimHash.of("공지", null));
+        assertNotNull(SimHash.of(null, "html"));
+    }
+
+    @Test
+    void 본문은_대소문자와_구두점_차이를_무시한다() {
+        assertEquals(SimHash.of("Hello, World! Accessibility report", null),
+                SimHash.of("hello world accessibility   REPORT", null));
+    }
+
+    @Test
+    void 레이아웃만_다른_같은_글은_가깝다() {
+        // 인쇄용 보기: 헤더/내비게이션이 빠지고 본문은 같음
+        String printLayout = "html,body,main,article,h1,p,p,p";
+
+        int distance = SimHash.distance(SimHash.of(ARTICLE, LAYOUT), SimHash.of(ARTICLE, printLayout));
+
+        assertTrue(distance <= SimHash.MAX_INDEXED_DISTANCE, "거리: " + distance);
+    }
+
+    @Test
+    void 언어_토글_링크만_다른_같은_글은_가깝다() {
+        String toggledLayout = LAYOUT.replace("nav,ul,", "nav,ul,li,a,");
+
+        int distance = SimHash.distance(SimHash.of(ARTICLE, LAYOUT), SimHash.of(ARTICLE + " English", toggledLayout));
+
+        assertTrue(distance <= SimHash.MAX_INDEXED_DISTANCE, "거리: " + distance);
+    }
+
+    @Test
+    void 같은_템플릿의_다른_글은_멀다() {
+        int distance = SimHash.distance(SimHash.of(ARTICLE, LAYOUT), SimHash.of(OTHER_ARTICLE, LAYOUT));
+
+        assertTrue(distance > 10, "거리: " + distance);
+    }
+
+    @Test
+    void 거리는_다른_비트_수() {
+        assertEquals(0, SimHash.distance(0x1234L, 0x1234L));
+        assertEquals(1, SimHash.distance(0L, 1L << 63));
+        assertEquals(64, SimHash.distance(0L, -1L));
+    }
+
+    @Test
+    void 밴드_키는_16비트씩_나눈다() {
+        assertEquals(List.of("0:cdef", "1:89ab", "2:4567", "3:123"), SimHash.bandKeys(0x0123_4567_89ab_cdefL));
+        assertEquals(List.of("0:0", "1:0", "2:0", "3:0"), SimHash.bandKeys(0L));
+        assertEquals(SimHash.BANDS, SimHash.bandKeys(-1L).size());
+    }
+
+    @Test
+    void 색인_거리_이내면_최소_한_밴드가_겹친다() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 10_000; trial++) {
+            long fingerprint = random.nextLong();
+            long near = fingerprint;
+            int flips = 1 + random.nextInt(SimHash.MAX_INDEXED_DISTANCE);
+            Set<Integer> bits = new HashSet<>();
+            while (bits.size() < flips) {
+                bits.add(random.nextInt(64));
+            }
+            for (int bit : bits) {
+                near ^= 1L << bit;
+            }
+
+            assertTrue(sharesBand(fingerprint, near),
+                    Long.toHexString(fingerprint) + " / " + Long.toHexString(near));
+        }
+    }
+
+    @Test
+    void 밴드마다_한_비트씩_다르면_겹치지_않는다() {
+        long fingerprint = 0x0123_4567_89ab_cdefL;
+        long far = fingerprint ^ 1L ^ (1L << 16) ^ (1L << 32) ^ (1L << 48);
+
+        assertEquals(SimHash.BANDS, SimHash.distance(fingerprint, far));
+        assertFalse(sharesBand(fingerprint, far));
+    }
+
+    private static boolean sharesBand(long a, long b) {
+        List<String> keys = new ArrayList<>(SimHash.bandKeys(a));
+        keys.retainAll(SimHash.bandKeys(b));
+        return !keys.isEmpty();
+    }
+}
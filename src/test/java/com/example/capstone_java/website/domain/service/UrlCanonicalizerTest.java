@@ -0,0 +1,120 @@
+package com.example.capstone_java.website.domain.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UrlCanonicalizer 정규화 규칙 테스트 (입력 | 기대값)
+ */
+class UrlCanonicalizerTest {
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource(delimiter = '|', value = {
+            // scheme / host 대소문자
+            "HTTPS://WWW.Example.GO.KR/Board              | https://www.example.go.kr/Board",
+            "https://www.example.go.kr                    | https://www.example.go.kr/",
+            "'  https://www.example.go.kr/a '             | https://www.example.go.kr/a",
+            // 국제화 도메인 (유니코드 / punycode 표기 통일)
+            "https://한국.kr/소개                          | https://xn--3e0b707e.kr/소개",
+            "https://XN--3E0B707E.kr/                     | https://xn--3e0b707e.kr/",
+            "https://도메인.한국:443/                       | https://xn--hq1bm8jm9l.xn--3e0b707e/",
+            // 기본 포트
+            "http://example.com:80/a                      | http://example.com/a",
+            "https://example.com:443/a                    | https://example.com/a",
+            "https://example.com:/a                       | https://example.com/a",
+            "http://example.com:443/a                     | http://example.com:443/a",
+            "https://example.com:8443/a                   | https://example.com:8443/a",
+            "http://[2001:DB8::1]:80/a                    | http://[2001:db8::1]/a",
+            "http://[2001:db8::1]:8080/a                  | http://[2001:db8::1]:8080/a",
+            "https://User:Pw@Example.com/a                | https://User:Pw@example.com/a",
+            // dot segment / 중복 슬래시 / 끝 슬래시
+            "https://example.com/a/./b/../c               | https://example.com/a/c",
+            "https://example.com/../../a                  | https://example.com/a",
+            "https://example.com/a//b///c/                | https://example.com/a/b/c",
+            "https://example.com/a/b/..                   | https://example.com/a",
+            // index 파일명
+            "https://example.com/board/index.html         | https://example.com/board",
+            "https://example.com/INDEX.JSP                | https://example.com/",
+            "https://example.com/board/index.do           | https://example.com/board/index.do",
+            // 세션 경로 파라미터
+            "https://example.com/list.do;jsessionid=AB12  | https://example.com/list.do",
+            "https://example.com/a;type=b/c               | https://example.com/a;type=b/c",
+            // 퍼센트 인코딩 대소문자 (값은 디코딩하지 않음)
+            "https://example.com/a%2fb%c3%a9              | https://example.com/a%2Fb%C3%A9",
+            "https://example.com/a%2Fb                    | https://example.com/a%2Fb",
+            "https://example.com/s?q=%ec%95%88&x=%zz      | https://example.com/s?q=%EC%95%88&x=%zz",
+            "https://example.com/100%                     | https://example.com/100%",
+            // 쿼리: 추적/세션 파라미터 제거 + 이름순 정렬
+            "https://example.com/s?b=2&a=1                | https://example.com/s?a=1&b=2",
+            "https://example.com/s?utm_source=x&id=3      | https://example.com/s?id=3",
+            "https://example.com/s?UTM_Medium=x&JSESSIONID=y&gclid=z | https://example.com/s",
+            "https://example.com/s?tag=b&id=1&tag=a       | https://example.com/s?id=1&tag=b&tag=a",
+            "https://example.com/s?&&a=1&                 | https://example.com/s?a=1",
+            "https://example.com/s?                       | https://example.com/s",
+            // 프래그먼트 (SPA 라우트만 유지)
+            "https://example.com/a#section                | https://example.com/a",
+            "https://example.com/#/users/1                | https://example.com/#/users/1",
+            "https://example.com/#!/users?x=1             | https://example.com/#!/users?x=1",
+            "https://example.com/a?b=1#top                | https://example.com/a?b=1",
+            "https://example.com/a#top?b=1                | https://example.com/a",
+    })
+    void 기본_규칙으로_정규화한다(String input, String expected) {
+        assertEquals(expected, UrlCanonicalizer.defaults().canonicalize(input));
+    }
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource(delimiter = '|', value = {
+            "https://example.com/list?menuNo=1&id=7               | https://example.com/list?id=7",
+            "https://example.com/list?MENUNO=1&searchWrd=x&id=7   | https://example.com/list?id=7",
+            "https://example.com/list?menuNoX=1                   | https://example.com/list?menuNoX=1",
+            "https://example.com/list?menuNo                      | https://example.com/list",
+    })
+    void 사이트별_무시_파라미터를_제거한다(String input, String expected) {
+        UrlCanonicalizer canonicalizer = UrlCanonicalizer.withIgnoredParams(Set.of("menuNo", "SearchWrd"));
+
+        assertEquals(expected, canonicalizer.canonicalize(input));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "example.com/a",
+            "://example.com/a",
+            "https:///a",
+            "https://:8080/a",
+    })
+    void 파싱할_수_없는_URL은_null(String input) {
+        assertNull(UrlCanonicalizer.defaults().canonicalize(input));
+    }
+
+    @Test
+    void null_입력은_null() {
+        assertNull(UrlCanonicalizer.defaults().canonicalize(null));
+    }
+
+    @Test
+    void 빈_무시_목록은_기본_인스턴스를_재사용한다() {
+        assertSame(UrlCanonicalizer.defaults(), UrlCanonicalizer.withIgnoredParams(Set.of()));
+        assertSame(UrlCanonicalizer.defaults(), UrlCanonicalizer.withIgnoredParams(null));
+    }
+
+    @Test
+    void 정규화는_멱등이다() {
+        UrlCanonicalizer canonicalizer = UrlCanonicalizer.withIgnoredParams(new HashSet<>(Arrays.asList("menuNo")));
+        String[] urls = {
+                "HTTPS://한국.kr:443/a/./b/../index.html?z=1&menuNo=3&a=%2f#x",
+                "http://Example.com//list.do;jsessionid=1?utm_source=a&page=2",
+        };
+
+        for (String url : urls) {
+            String once = canonicalizer.canonicalize(url);
+            assertEquals(once, canonicalizer.canonicalize(once));
+        }
+    }
+}
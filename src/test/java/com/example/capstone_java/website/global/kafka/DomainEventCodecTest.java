@@ -0,0 +1,127 @@
+package com.example.capstone_java.website.global.kafka;
+
+import com.example.capstone_java.website.domain.event.AnalysisCompletedEvent;
+import com.example.capstone_java.website.domain.event.DiscoveredUrlsEvent;
+import com.example.capstone_java.website.domain.event.DomainEvent;
+import com.example.capstone_java.website.domain.event.ExtractionStartedEvent;
+import com.example.capstone_java.website.domain.event.UrlAnalysisRequestEvent;
+import com.example.capstone_java.website.domain.event.UrlCrawlEvent;
+import com.example.capstone_java.website.domain.vo.CrawlBudget;
+import com.example.capstone_java.website.domain.vo.WebsiteId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DomainEventCodec 왕복 테스트
+ */
+class DomainEventCodecTest {
+
+    private static final WebsiteId WEBSITE_ID = WebsiteId.generate();
+    private static final LocalDateTime OCCURRED_AT = LocalDateTime.of(2025, 5, 1, 12, 30, 15, 123_456_789);
+    private static final CrawlBudget BUDGET = new CrawlBudget(1_746_100_000_000L, 4, true);
+    private static final String PARENT_URL = "https://www.example.go.kr/portal/board/notice/list.do";
+
+    @Test
+    void 모든_이벤트_타입이_현재_버전으로_왕복된다() {
+        List<DomainEvent> events = List.of(
+                new ExtractionStartedEvent(WEBSITE_ID, "https://www.example.go.kr/", OCCURRED_AT),
+                new UrlCrawlEvent(WEBSITE_ID, PARENT_URL + "?page=2", PARENT_URL, 2, OCCURRED_AT, BUDGET),
+                new DiscoveredUrlsEvent(WEBSITE_ID, PARENT_URL, List.of(PARENT_URL + "?page=3"), 2, OCCURRED_AT, BUDGET),
+                new UrlAnalysisRequestEvent(WEBSITE_ID, PARENT_URL, "https://api.example.com/callback", 1, OCCURRED_AT),
+                new AnalysisCompletedEvent(WEBSITE_ID, OCCURRED_AT)
+        );
+
+        for (DomainEvent event : events) {
+            byte[] encoded = DomainEventCodec.encode(event);
+
+            assertTrue(DomainEventCodec.isBinary(encoded));
+            assertEquals(DomainEventCodec.VERSION, encoded[1]);
+            assertEquals(event, DomainEventCodec.decode(encoded));
+        }
+    }
+
+    @Test
+    void v1로_기록한_이벤트는_한도_없이_디코딩된다() {
+        UrlCrawlEvent crawl = new UrlCrawlEvent(WEBSITE_ID, PARENT_URL + "?page=2", PARENT_URL, 2, OCCURRED_AT, BUDGET);
+        DiscoveredUrlsEvent discovered = new DiscoveredUrlsEvent(
+                WEBSITE_ID, PARENT_URL, List.of(PARENT_URL + "?page=3"), 2, OCCURRED_AT, BUDGET);
+
+        byte[] crawlV1 = DomainEventCodec.encode(crawl, 1);
+        byte[] discoveredV1 = DomainEventCodec.encode(discovered, 1);
+
+        assertEquals(1, crawlV1[1]);
+        assertEquals(new UrlCrawlEvent(WEBSITE_ID, crawl.url(), PARENT_URL, 2, OCCURRED_AT, CrawlBudget.unbounded()),
+                DomainEventCodec.decode(crawlV1));
+        assertEquals(new DiscoveredUrlsEvent(WEBSITE_ID, PARENT_URL, discovered.discoveredUrls(), 2, OCCURRED_AT,
+                CrawlBudget.unbounded()), DomainEventCodec.decode(discoveredV1));
+        assertTrue(crawlV1.length < DomainEventCodec.encode(crawl).length);
+    }
+
+    @Test
+    void 지원하지_않는_버전은_거부한다() {
+        UrlCrawlEvent crawl = UrlCrawlEvent.createRootCrawl(WEBSITE_ID, PARENT_URL, BUDGET);
+
+        assertThrows(IllegalArgumentException.class, () -> DomainEventCodec.encode(crawl, 0));
+        assertThrows(IllegalArgumentException.class, () -> DomainEventCodec.encode(crawl, DomainEventCodec.VERSION + 1));
+
+        byte[] future = DomainEventCodec.encode(crawl);
+        future[1] = (byte) (DomainEventCodec.VERSION + 1);
+        assertThrows(IllegalArgumentException.class, () -> DomainEventCodec.decode(future));
+    }
+
+    @Test
+    void null_문자열과_타임스탬프가_보존된다() {
+        UrlCrawlEvent root = new UrlCrawlEvent(WEBSITE_ID, "https://www.example.go.kr/", null, 0, null, BUDGET);
+        UrlAnalysisRequestEvent analysis = new UrlAnalysisRequestEvent(WEBSITE_ID, PARENT_URL, null, 1, OCCURRED_AT);
+        DiscoveredUrlsEvent noParent = new DiscoveredUrlsEvent(
+                WEBSITE_ID, null, List.of("https://www.example.go.kr/a", ""), 1, OCCURRED_AT, BUDGET);
+
+        assertEquals(root, DomainEventCodec.decode(DomainEventCodec.encode(root)));
+        assertEquals(analysis, DomainEventCodec.decode(DomainEventCodec.encode(analysis)));
+        assertEquals(noParent, DomainEventCodec.decode(DomainEventCodec.encode(noParent)));
+    }
+
+    @Test
+    void URL_목록은_공통_접두사를_제거해_기록한다() {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            urls.add("https://www.example.go.kr/portal/board/notice/view.do?nttId=" + (12000 + i * 7));
+        }
+        DiscoveredUrlsEvent event = new DiscoveredUrlsEvent(WEBSITE_ID, PARENT_URL, urls, 2, OCCURRED_AT, BUDGET);
+
+        byte[] encoded = DomainEventCodec.encode(event);
+        int rawUrlBytes = urls.stream().mapToInt(url -> url.getBytes(StandardCharsets.UTF_8).length).sum();
+
+        assertEquals(event, DomainEventCodec.decode(encoded));
+        assertTrue(encoded.length < rawUrlBytes / 5, "접두사 압축 후 크기: " + encoded.length);
+    }
+
+    @Test
+    void 서로게이트_쌍과_한글_URL도_왕복된다() {
+        List<String> urls = List.of(
+                "https://www.example.go.kr/게시판/공지😀a",
+                "https://www.example.go.kr/게시판/공지😁b",
+                "https://www.example.go.kr/게시판/공지"
+        );
+        DiscoveredUrlsEvent event = new DiscoveredUrlsEvent(
+                WEBSITE_ID, "https://www.example.go.kr/게시판", urls, 1, OCCURRED_AT, BUDGET);
+
+        assertEquals(event, DomainEventCodec.decode(DomainEventCodec.encode(event)));
+    }
+
+    @Test
+    void 잘린_메시지는_거부한다() {
+        byte[] encoded = DomainEventCodec.encode(
+                new UrlCrawlEvent(WEBSITE_ID, PARENT_URL, null, 0, OCCURRED_AT, BUDGET));
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 3);
+
+        assertThrows(IllegalArgumentException.class, () -> DomainEventCodec.decode(truncated));
+    }
+}